@@ -3,11 +3,13 @@ package com.food.delivery;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableMethodSecurity
+@EnableScheduling
 public class FoodDeliveryApplication {
 
 	public static void main(String[] args) {
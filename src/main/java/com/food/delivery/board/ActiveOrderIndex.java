@@ -0,0 +1,210 @@
+package com.food.delivery.board;
+
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.dto.ActiveOrderResponse;
+import com.food.delivery.entity.Order;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.event.UserChangedEvent;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import com.food.delivery.util.OrderStatusUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of in-flight orders per restaurant for the owner order board.
+ * <p>
+ * Holds only active orders (not scheduled, not final), so memory follows the number of
+ * open orders rather than order history. Loaded once at startup and kept current from
+ * order change events after commit; each order is updated atomically, and a status change
+ * is applied only on top of the status it started from, so late events cannot resurrect
+ * a finished order.
+ */
+@Component
+@Slf4j
+public class ActiveOrderIndex {
+
+    private static final Comparator<ActiveOrderResponse> OLDEST_FIRST =
+            Comparator.comparing(ActiveOrderResponse::getOrderDate).thenComparing(ActiveOrderResponse::getId);
+
+    private record RestaurantBoard(UUID ownerId, Map<UUID, ActiveOrderResponse> orders) {
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    private final Map<UUID, RestaurantBoard> boards = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> restaurantIdsByOwner = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        boards.clear();
+        restaurantIdsByOwner.clear();
+        List<Order> orders = orderRepository.findWithItemsByStatusIn(OrderStatusUtil.getActiveStatuses());
+        for (Order order : orders) {
+            boardOf(order.getRestaurant().getId(), order.getRestaurant().getOwner().getId())
+                    .orders().put(order.getId(), toResponse(order));
+        }
+        log.info("Active order index loaded - restaurants: {}, orders: {}", boards.size(), orders.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        // Scheduled orders join the board when the dispatcher releases them
+        if (event.type() == ChangeType.CREATED || event.previousStatus() == OrderStatus.SCHEDULED) {
+            if (OrderStatusUtil.isActiveStatus(event.status())) {
+                boardOf(event.restaurantId(), event.restaurantOwnerId()).orders().put(event.orderId(), toResponse(event));
+            }
+            return;
+        }
+        RestaurantBoard board = boards.get(event.restaurantId());
+        if (board == null) {
+            return;
+        }
+        board.orders().computeIfPresent(event.orderId(), (orderId, current) -> {
+            if (current.getStatus() != event.previousStatus()) {
+                // Stale or out-of-order event; keep what is indexed
+                return current;
+            }
+            if (OrderStatusUtil.isFinalStatus(event.status())) {
+                return null;
+            }
+            return toResponse(event);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            // Orders are removed with their restaurant by cascade
+            RestaurantBoard board = boards.remove(event.restaurantId());
+            if (board != null) {
+                restaurantIdsByOwner.computeIfPresent(board.ownerId(), (ownerId, restaurantIds) -> {
+                    restaurantIds.remove(event.restaurantId());
+                    return restaurantIds.isEmpty() ? null : restaurantIds;
+                });
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            // A deleted owner's restaurants go with them, and a deleted customer's orders
+            Set<UUID> restaurantIds = restaurantIdsByOwner.remove(event.userId());
+            if (restaurantIds != null) {
+                restaurantIds.forEach(boards::remove);
+            }
+            boards.values().forEach(board ->
+                    board.orders().values().removeIf(order -> order.getCustomerId().equals(event.userId())));
+        }
+    }
+
+    /**
+     * Open orders of the owner's restaurants, oldest first. Served from memory only.
+     */
+    public List<ActiveOrderResponse> getActiveOrdersForOwner(UUID ownerId) {
+        Set<UUID> restaurantIds = restaurantIdsByOwner.get(ownerId);
+        if (restaurantIds == null) {
+            return List.of();
+        }
+        List<ActiveOrderResponse> result = new ArrayList<>();
+        for (UUID restaurantId : restaurantIds) {
+            RestaurantBoard board = boards.get(restaurantId);
+            if (board != null) {
+                result.addAll(board.orders().values());
+            }
+        }
+        result.sort(OLDEST_FIRST);
+        return result;
+    }
+
+    /**
+     * Open orders of one restaurant, oldest first. Ownership of a restaurant without open
+     * orders is not indexed, so it is checked against the database instead.
+     *
+     * @throws SecurityException when the restaurant does not exist or belongs to another owner
+     */
+    public List<ActiveOrderResponse> getActiveOrders(UUID restaurantId, UUID ownerId) {
+        RestaurantBoard board = boards.get(restaurantId);
+        boolean owned = board != null
+                ? board.ownerId().equals(ownerId)
+                : restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId);
+        if (!owned) {
+            throw new SecurityException(ErrorConstants.INSUFFICIENT_PERMISSIONS_MESSAGE);
+        }
+        if (board == null) {
+            return List.of();
+        }
+        List<ActiveOrderResponse> result = new ArrayList<>(board.orders().values());
+        result.sort(OLDEST_FIRST);
+        return result;
+    }
+
+    private RestaurantBoard boardOf(UUID restaurantId, UUID ownerId) {
+        return boards.computeIfAbsent(restaurantId, id -> {
+            restaurantIdsByOwner.computeIfAbsent(ownerId, owner -> ConcurrentHashMap.newKeySet()).add(id);
+            return new RestaurantBoard(ownerId, new ConcurrentHashMap<>());
+        });
+    }
+
+    private static ActiveOrderResponse toResponse(OrderChangedEvent event) {
+        return ActiveOrderResponse.builder()
+                .id(event.orderId())
+                .restaurantId(event.restaurantId())
+                .customerId(event.customerId())
+                .customerName(event.customerName())
+                .orderDate(event.orderDate())
+                .status(event.status())
+                .totalAmount(event.totalAmount())
+                .tipAmount(event.tipAmount())
+                .items(event.items().stream()
+                        .map(line -> ActiveOrderResponse.Item.builder()
+                                .mealId(line.mealId())
+                                .mealName(line.mealName())
+                                .quantity(line.quantity())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private static ActiveOrderResponse toResponse(Order order) {
+        return ActiveOrderResponse.builder()
+                .id(order.getId())
+                .restaurantId(order.getRestaurant().getId())
+                .customerId(order.getCustomer().getId())
+                .customerName(order.getCustomerName())
+                .orderDate(order.getOrderDate())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .tipAmount(order.getTipAmount())
+                .items(order.getOrderItems().stream()
+                        .map(item -> ActiveOrderResponse.Item.builder()
+                                .mealId(item.getMeal().getId())
+                                .mealName(item.getMealName())
+                                .quantity(item.getQuantity())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.food.delivery.cache;
+
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version counters for catalog reads, used to build ETags without querying.
+ * <p>
+ * The restaurant list version moves on every restaurant write; a restaurant's own version
+ * moves when it or any of its meals is written (meal responses embed the restaurant name).
+ * Versions are bumped after commit. A per-boot epoch is part of every tag so counters
+ * restarting at zero never reproduce a tag issued by an earlier process.
+ */
+@Component
+public class CatalogVersionTracker {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong restaurantListVersion = new AtomicLong();
+    private final Map<UUID, AtomicLong> restaurantVersions = new ConcurrentHashMap<>();
+
+    @Value("${http.cache.catalog.max-age-seconds:0}")
+    private long maxAgeSeconds;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        restaurantListVersion.incrementAndGet();
+        bump(event.restaurantId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMealChanged(MealChangedEvent event) {
+        bump(event.restaurantId());
+    }
+
+    public String restaurantListETag(int page, int size) {
+        return tag("rl", restaurantListVersion.get(), page, size);
+    }
+
+    public String restaurantETag(UUID restaurantId) {
+        return tag("r-" + restaurantId, version(restaurantId));
+    }
+
+    public String menuETag(UUID restaurantId, int page, int size) {
+        return tag("m-" + restaurantId, version(restaurantId), page, size);
+    }
+
+    public long menuVersion(UUID restaurantId) {
+        return version(restaurantId);
+    }
+
+    /**
+     * Catalog reads need a bearer token, so only the client's own cache may store them; it must
+     * revalidate once {@code max-age} has passed.
+     */
+    public CacheControl cacheControl() {
+        return CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePrivate().mustRevalidate();
+    }
+
+    private long version(UUID restaurantId) {
+        AtomicLong version = restaurantVersions.get(restaurantId);
+        return version != null ? version.get() : 0L;
+    }
+
+    private void bump(UUID restaurantId) {
+        if (restaurantId != null) {
+            restaurantVersions.computeIfAbsent(restaurantId, id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private String tag(String key, long version, Object... params) {
+        StringBuilder tag = new StringBuilder("\"").append(key).append('.').append(epoch).append('.').append(version);
+        for (Object param : params) {
+            tag.append('.').append(param);
+        }
+        return tag.append('"').toString();
+    }
+}
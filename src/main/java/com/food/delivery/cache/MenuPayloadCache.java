@@ -0,0 +1,139 @@
+package com.food.delivery.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.util.HttpCacheUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized menu pages, so a hit is a byte copy with no query and no Jackson pass.
+ * <p>
+ * Entries are keyed by restaurant/page/size and stamped with the menu version observed
+ * before loading; a stale stamp is treated as a miss. Writes to a restaurant or its meals
+ * also evict its pages after commit. The cache is LRU-bounded by {@code cache.menu.max-entries}.
+ */
+@Component
+@Slf4j
+public class MenuPayloadCache {
+
+    /**
+     * Serialized page: JSON bytes, optional gzip bytes and the ETag it was built for.
+     */
+    public record MenuPayload(byte[] json, byte[] gzip, String etag) {
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+
+        /**
+         * ETag of the variant sent; the gzip body carries its own.
+         */
+        public String etag(boolean gzipped) {
+            return gzipped ? HttpCacheUtil.gzipETag(etag) : etag;
+        }
+    }
+
+    private record Key(UUID restaurantId, int page, int size) {
+    }
+
+    private record Entry(long version, MenuPayload payload) {
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CatalogVersionTracker catalogVersionTracker;
+
+    @Value("${cache.menu.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.menu.gzip:true}")
+    private boolean gzipEnabled;
+
+    private final Map<Key, Entry> entries;
+
+    public MenuPayloadCache(@Value("${cache.menu.max-entries:1000}") int maxEntries) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public boolean isGzipEnabled() {
+        return gzipEnabled;
+    }
+
+    public MenuPayload get(UUID restaurantId, int page, int size, Supplier<?> loader) {
+        // Read the version before loading so a concurrent write can only make the entry stale, never wrong
+        long version = catalogVersionTracker.menuVersion(restaurantId);
+        String etag = catalogVersionTracker.menuETag(restaurantId, page, size);
+        Key key = new Key(restaurantId, page, size);
+
+        if (enabled) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version() == version) {
+                return entry.payload();
+            }
+        }
+
+        MenuPayload payload = serialize(loader.get(), etag);
+        if (enabled) {
+            entries.put(key, new Entry(version, payload));
+        }
+        return payload;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        evict(event.restaurantId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMealChanged(MealChangedEvent event) {
+        evict(event.restaurantId());
+    }
+
+    private void evict(UUID restaurantId) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.restaurantId().equals(restaurantId));
+        }
+    }
+
+    private MenuPayload serialize(Object value, String etag) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new MenuPayload(json, gzipEnabled ? gzip(json) : null, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu payload", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
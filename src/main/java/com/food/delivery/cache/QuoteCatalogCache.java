@@ -0,0 +1,162 @@
+package com.food.delivery.cache;
+
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.entity.Coupon;
+import com.food.delivery.entity.Meal;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.event.CouponChangedEvent;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.pricing.PricingEngine;
+import com.food.delivery.pricing.PricingPipeline;
+import com.food.delivery.pricing.PricingPipelineRegistry;
+import com.food.delivery.repository.CouponRepository;
+import com.food.delivery.repository.MealRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable restaurant menu and coupon snapshots for price quotes, so requoting a cart on
+ * every change reads no catalog rows.
+ * <p>
+ * Menus are stamped with the {@link CatalogVersionTracker} menu version observed before
+ * loading and coupons with a coupon version bumped after every coupon write; a stale stamp is
+ * a miss. Unknown coupon codes are not cached. Menus are LRU-bounded by
+ * {@code cache.quote.max-restaurants}.
+ */
+@Component
+public class QuoteCatalogCache {
+
+    public record QuoteMeal(UUID id, String name, BigDecimal price, long priceCents) {
+    }
+
+    public record QuoteMenu(UUID restaurantId, boolean blocked, PricingPipeline pipeline, Map<UUID, QuoteMeal> meals) {
+    }
+
+    public record QuoteCoupon(String code, int discountPercent, boolean active, LocalDateTime expiresAt) {
+
+        // Same rule as Coupon#isValid
+        public boolean isValid() {
+            return active && (expiresAt == null || LocalDateTime.now().isBefore(expiresAt));
+        }
+    }
+
+    private record MenuEntry(long version, QuoteMenu menu) {
+    }
+
+    private record CouponEntry(long version, QuoteCoupon coupon) {
+    }
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private PricingPipelineRegistry pricingPipelineRegistry;
+
+    @Autowired
+    private CatalogVersionTracker catalogVersionTracker;
+
+    @Value("${cache.quote.enabled:true}")
+    private boolean enabled;
+
+    private final Map<UUID, MenuEntry> menus;
+    private final Map<String, CouponEntry> coupons = new ConcurrentHashMap<>();
+    private final AtomicLong couponVersion = new AtomicLong();
+
+    public QuoteCatalogCache(@Value("${cache.quote.max-restaurants:1000}") int maxRestaurants) {
+        this.menus = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, MenuEntry> eldest) {
+                return size() > maxRestaurants;
+            }
+        });
+    }
+
+    /**
+     * @throws RuntimeException when the restaurant does not exist, as the restaurant service does
+     */
+    public QuoteMenu menu(UUID restaurantId) {
+        // Read the version before loading so a concurrent write can only make the entry stale, never wrong
+        long version = catalogVersionTracker.menuVersion(restaurantId);
+        if (enabled) {
+            MenuEntry entry = menus.get(restaurantId);
+            if (entry != null && entry.version() == version) {
+                return entry.menu();
+            }
+        }
+
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new RuntimeException(ErrorConstants.RESTAURANT_NOT_FOUND_MESSAGE + ": " + restaurantId));
+        Map<UUID, QuoteMeal> meals = new HashMap<>();
+        for (Meal meal : mealRepository.findByRestaurantId(restaurantId)) {
+            meals.put(meal.getId(), new QuoteMeal(meal.getId(), meal.getName(), meal.getPrice(),
+                    PricingEngine.toCents(meal.getPrice())));
+        }
+        QuoteMenu menu = new QuoteMenu(restaurantId, Boolean.TRUE.equals(restaurant.getBlocked()),
+                pricingPipelineRegistry.pipelineFor(restaurant), Map.copyOf(meals));
+        if (enabled) {
+            menus.put(restaurantId, new MenuEntry(version, menu));
+        }
+        return menu;
+    }
+
+    public Optional<QuoteCoupon> coupon(String code) {
+        long version = couponVersion.get();
+        if (enabled) {
+            CouponEntry entry = coupons.get(code);
+            if (entry != null && entry.version() == version) {
+                return Optional.of(entry.coupon());
+            }
+        }
+
+        Optional<Coupon> coupon = couponRepository.findByCode(code);
+        if (coupon.isEmpty()) {
+            return Optional.empty();
+        }
+        QuoteCoupon snapshot = new QuoteCoupon(coupon.get().getCode(), coupon.get().getDiscountPercent(),
+                Boolean.TRUE.equals(coupon.get().getActive()), coupon.get().getExpiresAt());
+        if (enabled) {
+            coupons.put(code, new CouponEntry(version, snapshot));
+        }
+        return Optional.of(snapshot);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        menus.remove(event.restaurantId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMealChanged(MealChangedEvent event) {
+        if (event.restaurantId() != null) {
+            menus.remove(event.restaurantId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponChanged(CouponChangedEvent event) {
+        // Coupon writes are rare; retire every snapshot, including loads still in flight
+        couponVersion.incrementAndGet();
+        coupons.clear();
+    }
+}
@@ -0,0 +1,240 @@
+package com.food.delivery.capacity;
+
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.exception.RestaurantAtCapacityException;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import com.food.delivery.util.OrderStatusUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for order placement: each restaurant takes at most its limit of active
+ * orders, counted in memory so a full restaurant is turned away before any database work.
+ * <p>
+ * Only restaurants with a limit are counted. Placement checks the count before touching the
+ * database and takes a slot with a compare-and-set once the restaurant is known to exist,
+ * giving it back if the placing transaction rolls back. Scheduled orders take theirs when they
+ * are released, past the limit since they were already accepted. Slots are returned by order
+ * change events after commit when an order reaches a final status, and by
+ * {@link #releaseCustomerOrders} when a customer is deleted with their orders. Counts and
+ * limits are loaded at startup; limits follow restaurant change events, and a restaurant
+ * that gains a limit has its count read from the database then.
+ */
+@Component
+@Slf4j
+public class RestaurantCapacityGate {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${order.capacity.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.capacity.default-max-active-orders:0}")
+    private int defaultMaxActiveOrders;
+
+    @Value("${order.capacity.retry-after-seconds:60}")
+    private long retryAfterSeconds;
+
+    private final Map<UUID, AtomicInteger> activeOrders = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> limits = new ConcurrentHashMap<>();
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        rejectedCounter = Counter.builder("fooddelivery.orders.capacity_rejected")
+                .description("Orders turned away because the restaurant was at capacity")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        limits.clear();
+        for (Object[] row : restaurantRepository.findIdAndMaxActiveOrders()) {
+            limits.put((UUID) row[0], (Integer) row[1]);
+        }
+        // Before traffic, so nothing is acquired between the count and the set
+        activeOrders.clear();
+        for (Object[] row : orderRepository.countByStatusInGroupByRestaurantId(OrderStatusUtil.getActiveStatuses())) {
+            UUID restaurantId = (UUID) row[0];
+            if (isLimited(restaurantId)) {
+                activeOrders.put(restaurantId, new AtomicInteger(((Long) row[1]).intValue()));
+            }
+        }
+        log.info("Restaurant capacity gate loaded - restaurants counted: {}, custom limits: {}",
+                activeOrders.size(), limits.size());
+    }
+
+    /**
+     * Turns the order away early when the restaurant is already at its limit. Reads only; the
+     * slot is taken by {@link #acquire} once the restaurant has been looked up.
+     *
+     * @throws RestaurantAtCapacityException when the restaurant is at its limit
+     */
+    public void checkCapacity(UUID restaurantId) {
+        AtomicInteger active = activeOrders.get(restaurantId);
+        int limit = limitOf(restaurantId);
+        if (active != null && isLimited(restaurantId) && active.get() >= limit) {
+            reject(restaurantId, active.get(), limit);
+        }
+    }
+
+    /**
+     * Takes an active order slot for an existing restaurant, released again if the current
+     * transaction rolls back. Restaurants without a limit are not counted.
+     *
+     * @throws RestaurantAtCapacityException when the restaurant is at its limit
+     */
+    public void acquire(UUID restaurantId) {
+        if (!isLimited(restaurantId)) {
+            return;
+        }
+        int limit = limitOf(restaurantId);
+        AtomicInteger active = activeOrders.computeIfAbsent(restaurantId, id -> new AtomicInteger());
+        int current;
+        do {
+            current = active.get();
+            if (current >= limit) {
+                reject(restaurantId, current, limit);
+            }
+        } while (!active.compareAndSet(current, current + 1));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(restaurantId, 1);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Gives back the slots of the customer's active orders after the current transaction
+     * commits. Called before the customer is deleted, since their orders go with them.
+     */
+    public void releaseCustomerOrders(UUID customerId) {
+        List<Object[]> counts = orderRepository.countByCustomerIdAndStatusInGroupByRestaurantId(
+                customerId, OrderStatusUtil.getActiveStatuses());
+        Runnable releaseAll = () -> counts.forEach(row -> release((UUID) row[0], ((Long) row[1]).intValue()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseAll.run();
+                }
+            });
+        } else {
+            releaseAll.run();
+        }
+    }
+
+    /**
+     * Active orders of the restaurant; from memory when it has a limit, otherwise counted in
+     * the database.
+     */
+    public int activeOrders(UUID restaurantId) {
+        AtomicInteger active = activeOrders.get(restaurantId);
+        if (active != null) {
+            return active.get();
+        }
+        return isLimited(restaurantId)
+                ? 0 : (int) orderRepository.countByRestaurantIdAndStatusIn(restaurantId, OrderStatusUtil.getActiveStatuses());
+    }
+
+    /**
+     * Effective limit; 0 means none.
+     */
+    public int limitOf(UUID restaurantId) {
+        return limits.getOrDefault(restaurantId, defaultMaxActiveOrders);
+    }
+
+    public int defaultLimit() {
+        return defaultMaxActiveOrders;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (!event.isStatusChange()) {
+            // Placed orders took their slot in acquire
+            return;
+        }
+        if (event.previousStatus() == OrderStatus.SCHEDULED) {
+            if (OrderStatusUtil.isActiveStatus(event.status()) && isLimited(event.restaurantId())) {
+                activeOrders.computeIfAbsent(event.restaurantId(), id -> new AtomicInteger()).incrementAndGet();
+            }
+        } else if (OrderStatusUtil.isActiveStatus(event.previousStatus()) && OrderStatusUtil.isFinalStatus(event.status())) {
+            release(event.restaurantId(), 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        UUID restaurantId = event.restaurantId();
+        if (event.type() == ChangeType.DELETED) {
+            activeOrders.remove(restaurantId);
+            limits.remove(restaurantId);
+            return;
+        }
+        boolean wasLimited = isLimited(restaurantId);
+        boolean limited = enabled && (event.maxActiveOrders() != null ? event.maxActiveOrders() : defaultMaxActiveOrders) > 0;
+        if (limited && !wasLimited && event.type() != ChangeType.CREATED) {
+            // Seeded before the limit applies, so the first acquire under it starts from the real count
+            long count = orderRepository.countByRestaurantIdAndStatusIn(restaurantId, OrderStatusUtil.getActiveStatuses());
+            activeOrders.putIfAbsent(restaurantId, new AtomicInteger((int) count));
+        }
+        if (event.maxActiveOrders() != null) {
+            limits.put(restaurantId, event.maxActiveOrders());
+        } else {
+            limits.remove(restaurantId);
+        }
+        if (!limited) {
+            activeOrders.remove(restaurantId);
+        }
+    }
+
+    private boolean isLimited(UUID restaurantId) {
+        return enabled && limitOf(restaurantId) > 0;
+    }
+
+    private void reject(UUID restaurantId, int current, int limit) {
+        rejectedCounter.increment();
+        log.info("Order rejected for restaurant: {} at capacity {}/{}", restaurantId, current, limit);
+        throw new RestaurantAtCapacityException(retryAfterSeconds);
+    }
+
+    private void release(UUID restaurantId, int slots) {
+        AtomicInteger active = activeOrders.get(restaurantId);
+        if (active != null) {
+            active.updateAndGet(count -> Math.max(count - slots, 0));
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.food.delivery.config;
 
 import com.food.delivery.repository.UserRepository;
+import com.food.delivery.security.BoundedPasswordEncoder;
 import com.food.delivery.security.JwtAuthenticationFilter;
+import com.food.delivery.security.RateLimitFilter;
 import com.food.delivery.constants.ErrorConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,9 +18,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -34,6 +38,7 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
                                                    JwtAuthenticationFilter jwtAuthFilter,
+                                                   RateLimitFilter rateLimitFilter,
                                                    AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -51,6 +56,7 @@ public class SecurityConfig {
                 )
                 .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
                 .headers(headers -> headers.frameOptions().disable());
 
         return http.build();
@@ -67,12 +73,25 @@ public class SecurityConfig {
         };
     }
 
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService(UserRepository userRepository) {
+        return (userDetails, newPasswordHash) -> {
+            userRepository.updatePasswordHashByEmail(userDetails.getUsername(), newPasswordHash);
+            ((User) userDetails).setPasswordHash(newPasswordHash);
+            log.info("Password rehashed at the configured strength for user: {}", userDetails.getUsername());
+            return userDetails;
+        };
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         UserDetailsPasswordService userDetailsPasswordService,
                                                          PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        // Hashes made at another strength are replaced after a successful login
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -82,7 +101,12 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength,
+                                           @Value("${auth.password.hashing-threads:4}") int threads,
+                                           @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                                           @Value("${auth.password.timeout-ms:5000}") long timeoutMillis,
+                                           @Value("${auth.password.retry-after-seconds:1}") long retryAfterSeconds,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity, timeoutMillis, retryAfterSeconds, meterRegistry);
     }
 }
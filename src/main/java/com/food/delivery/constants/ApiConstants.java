@@ -17,6 +17,8 @@ public final class ApiConstants {
     public static final String AUTH_PATH = "/auth";
     public static final String AUTH_CREATE_PATH = "/create";
     public static final String AUTH_GET_PATH = "/get";
+    public static final String AUTH_REFRESH_PATH = "/refresh";
+    public static final String AUTH_LOGOUT_PATH = "/logout";
 
     // Admin paths
     public static final String ADMIN_PATH = "/admin";
@@ -32,6 +34,8 @@ public final class ApiConstants {
     public static final String RESTAURANTS_DELETE_PATH = "/delete";
     public static final String RESTAURANTS_SEARCH_PATH = "/search";
     public static final String RESTAURANTS_OWNER_PATH = "/owner";
+    public static final String RESTAURANTS_AUTOCOMPLETE_PATH = "/autocomplete";
+    public static final String RESTAURANTS_CAPACITY_PATH = "/capacity";
 
     // Meal paths
     public static final String MEALS_PATH = "/meals";
@@ -41,6 +45,7 @@ public final class ApiConstants {
     public static final String MEALS_DELETE_PATH = "/delete";
     public static final String MEALS_SEARCH_PATH = "/search";
     public static final String MEALS_PRICE_RANGE_PATH = "/price-range";
+    public static final String MEALS_POPULAR_PATH = "/popular";
     public static final String MEALS_RESTAURANT_PATH = "/restaurant";
 
     // Order paths
@@ -50,6 +55,13 @@ public final class ApiConstants {
     public static final String ORDERS_EDIT_PATH = "/edit";
     public static final String ORDERS_DELETE_PATH = "/delete";
     public static final String ORDERS_STATUS_PATH = "/status";
+    public static final String ORDERS_EXPORT_PATH = "/export";
+    public static final String ORDERS_QUOTE_PATH = "/quote";
+
+    // Group order paths
+    public static final String GROUP_ORDERS_PATH = "/group-orders";
+    public static final String GROUP_ORDERS_ITEMS_PATH = "/items";
+    public static final String GROUP_ORDERS_CHECKOUT_PATH = "/checkout";
 
     // Coupon paths
     public static final String COUPONS_PATH = "/coupons";
@@ -116,6 +128,8 @@ public final class ApiConstants {
     // Complete API endpoints
     public static final String AUTH_CREATE_ENDPOINT = API_BASE_PATH + AUTH_PATH + AUTH_CREATE_PATH;
     public static final String AUTH_GET_ENDPOINT = API_BASE_PATH + AUTH_PATH + AUTH_GET_PATH;
+    public static final String AUTH_REFRESH_ENDPOINT = API_BASE_PATH + AUTH_PATH + AUTH_REFRESH_PATH;
+    public static final String AUTH_LOGOUT_ENDPOINT = API_BASE_PATH + AUTH_PATH + AUTH_LOGOUT_PATH;
     
     public static final String RESTAURANTS_CREATE_ENDPOINT = API_BASE_PATH + RESTAURANTS_PATH + RESTAURANTS_CREATE_PATH;
     public static final String RESTAURANTS_GET_ENDPOINT = API_BASE_PATH + RESTAURANTS_PATH + RESTAURANTS_GET_PATH;
@@ -124,12 +138,17 @@ public final class ApiConstants {
     public static final String RESTAURANTS_DELETE_ENDPOINT = API_BASE_PATH + RESTAURANTS_PATH + RESTAURANTS_DELETE_PATH + ID_PATH_VARIABLE;
     public static final String RESTAURANTS_SEARCH_ENDPOINT = API_BASE_PATH + RESTAURANTS_PATH + RESTAURANTS_SEARCH_PATH;
     public static final String RESTAURANTS_OWNER_ENDPOINT = API_BASE_PATH + RESTAURANTS_PATH + RESTAURANTS_OWNER_PATH;
+    public static final String RESTAURANTS_AUTOCOMPLETE_ENDPOINT = API_BASE_PATH + RESTAURANTS_PATH + RESTAURANTS_AUTOCOMPLETE_PATH;
+    public static final String RESTAURANTS_GET_CAPACITY_ENDPOINT = API_BASE_PATH + RESTAURANTS_PATH + RESTAURANTS_GET_PATH + ID_PATH_VARIABLE + RESTAURANTS_CAPACITY_PATH;
+    public static final String RESTAURANTS_EDIT_CAPACITY_ENDPOINT = API_BASE_PATH + RESTAURANTS_PATH + RESTAURANTS_EDIT_PATH + ID_PATH_VARIABLE + RESTAURANTS_CAPACITY_PATH;
 
     public static final String MEALS_CREATE_ENDPOINT = API_BASE_PATH + MEALS_PATH + MEALS_CREATE_PATH + MEALS_RESTAURANT_PATH + RESTAURANT_ID_PATH_VARIABLE;
     public static final String MEALS_GET_BY_ID_ENDPOINT = API_BASE_PATH + MEALS_PATH + MEALS_GET_PATH + ID_PATH_VARIABLE;
     public static final String MEALS_GET_BY_RESTAURANT_ENDPOINT = API_BASE_PATH + MEALS_PATH + MEALS_GET_PATH + MEALS_RESTAURANT_PATH + RESTAURANT_ID_PATH_VARIABLE;
+    public static final String MEALS_GLOBAL_SEARCH_ENDPOINT = API_BASE_PATH + MEALS_PATH + MEALS_SEARCH_PATH;
     public static final String MEALS_SEARCH_ENDPOINT = API_BASE_PATH + MEALS_PATH + MEALS_SEARCH_PATH + MEALS_RESTAURANT_PATH + RESTAURANT_ID_PATH_VARIABLE;
     public static final String MEALS_PRICE_RANGE_ENDPOINT = API_BASE_PATH + MEALS_PATH + MEALS_PRICE_RANGE_PATH + MEALS_RESTAURANT_PATH + RESTAURANT_ID_PATH_VARIABLE;
+    public static final String MEALS_POPULAR_ENDPOINT = API_BASE_PATH + MEALS_PATH + MEALS_POPULAR_PATH + MEALS_RESTAURANT_PATH + RESTAURANT_ID_PATH_VARIABLE;
     public static final String MEALS_EDIT_ENDPOINT = API_BASE_PATH + MEALS_PATH + MEALS_EDIT_PATH + ID_PATH_VARIABLE;
     public static final String MEALS_DELETE_ENDPOINT = API_BASE_PATH + MEALS_PATH + MEALS_DELETE_PATH + ID_PATH_VARIABLE;
 
@@ -139,6 +158,14 @@ public final class ApiConstants {
     public static final String ORDERS_EDIT_ENDPOINT = API_BASE_PATH + ORDERS_PATH + ORDERS_EDIT_PATH + ID_PATH_VARIABLE;
     public static final String ORDERS_EDIT_STATUS_ENDPOINT = API_BASE_PATH + ORDERS_PATH + ORDERS_EDIT_PATH + ORDERS_STATUS_PATH + ID_PATH_VARIABLE;
     public static final String ORDERS_DELETE_ENDPOINT = API_BASE_PATH + ORDERS_PATH + ORDERS_DELETE_PATH + ID_PATH_VARIABLE;
+    public static final String ORDERS_EXPORT_ENDPOINT = API_BASE_PATH + ORDERS_PATH + ORDERS_EXPORT_PATH;
+    public static final String ORDERS_QUOTE_ENDPOINT = API_BASE_PATH + ORDERS_PATH + ORDERS_GET_PATH + ORDERS_QUOTE_PATH;
+
+    public static final String GROUP_ORDERS_CREATE_ENDPOINT = API_BASE_PATH + GROUP_ORDERS_PATH + ORDERS_CREATE_PATH;
+    public static final String GROUP_ORDERS_GET_BY_ID_ENDPOINT = API_BASE_PATH + GROUP_ORDERS_PATH + ORDERS_GET_PATH + ID_PATH_VARIABLE;
+    public static final String GROUP_ORDERS_EDIT_ITEMS_ENDPOINT = API_BASE_PATH + GROUP_ORDERS_PATH + ORDERS_EDIT_PATH + ID_PATH_VARIABLE + GROUP_ORDERS_ITEMS_PATH;
+    public static final String GROUP_ORDERS_DELETE_ENDPOINT = API_BASE_PATH + GROUP_ORDERS_PATH + ORDERS_DELETE_PATH + ID_PATH_VARIABLE;
+    public static final String GROUP_ORDERS_CHECKOUT_ENDPOINT = API_BASE_PATH + GROUP_ORDERS_PATH + ORDERS_CREATE_PATH + ID_PATH_VARIABLE + GROUP_ORDERS_CHECKOUT_PATH;
 
     public static final String ADMIN_USERS_GET_ENDPOINT = API_BASE_PATH + ADMIN_PATH + ADMIN_USERS_PATH + USERS_GET_PATH;
     public static final String ADMIN_USERS_GET_BY_ID_ENDPOINT = API_BASE_PATH + ADMIN_PATH + ADMIN_USERS_PATH + USERS_GET_PATH + ID_PATH_VARIABLE;
@@ -17,7 +17,9 @@ public final class ErrorConstants {
     public static final int NOT_FOUND = 404;
     public static final int CONFLICT = 409;
     public static final int UNPROCESSABLE_ENTITY = 422;
+    public static final int TOO_MANY_REQUESTS = 429;
     public static final int INTERNAL_SERVER_ERROR = 500;
+    public static final int SERVICE_UNAVAILABLE = 503;
 
     // Error Codes
     public static final String VALIDATION_ERROR_CODE = "VALIDATION_ERROR";
@@ -26,7 +28,10 @@ public final class ErrorConstants {
     public static final String RESOURCE_NOT_FOUND_CODE = "RESOURCE_NOT_FOUND";
     public static final String CONFLICT_ERROR_CODE = "CONFLICT_ERROR";
     public static final String BUSINESS_LOGIC_ERROR_CODE = "BUSINESS_LOGIC_ERROR";
+    public static final String CAPACITY_ERROR_CODE = "CAPACITY_ERROR";
+    public static final String RATE_LIMIT_ERROR_CODE = "RATE_LIMIT_ERROR";
     public static final String SYSTEM_ERROR_CODE = "SYSTEM_ERROR";
+    public static final String SERVICE_UNAVAILABLE_ERROR_CODE = "SERVICE_UNAVAILABLE";
 
     // Common Error Messages
     public static final String VALIDATION_ERROR_MESSAGE = "Validation error occurred";
@@ -37,12 +42,16 @@ public final class ErrorConstants {
     public static final String BUSINESS_LOGIC_ERROR_MESSAGE = "Business logic error";
     public static final String SYSTEM_ERROR_MESSAGE = "Internal server error";
     public static final String UNEXPECTED_ERROR_MESSAGE = "Unexpected error occurred";
+    public static final String RATE_LIMIT_EXCEEDED_MESSAGE = "Too many requests, please slow down";
 
     // User-related Error Messages
     public static final String USER_NOT_FOUND_MESSAGE = "User not found";
     public static final String USER_ALREADY_EXISTS_MESSAGE = "User already exists";
     public static final String USER_BLOCKED_MESSAGE = "User is blocked";
     public static final String INVALID_CREDENTIALS_MESSAGE = "Invalid credentials";
+    public static final String INVALID_REFRESH_TOKEN_MESSAGE = "Invalid or expired refresh token";
+    public static final String PASSWORD_HASHING_BUSY_MESSAGE = "Too many sign-ins in progress, please try again shortly";
+    public static final String LOGIN_LOCKED_MESSAGE = "Too many failed login attempts, please try again later";
     public static final String INSUFFICIENT_PERMISSIONS_MESSAGE = "Insufficient permissions";
     public static final String USER_EMAIL_EXISTS_MESSAGE = "User with this email already exists";
 
@@ -52,12 +61,14 @@ public final class ErrorConstants {
     public static final String RESTAURANT_BLOCKED_MESSAGE = "Restaurant is blocked";
     public static final String RESTAURANT_OWNER_MISMATCH_MESSAGE = "Restaurant owner mismatch";
     public static final String RESTAURANT_NAME_EXISTS_MESSAGE = "Restaurant with this name already exists";
+    public static final String RESTAURANT_AT_CAPACITY_MESSAGE = "Restaurant is at capacity, please try again shortly";
 
     // Meal-related Error Messages
     public static final String MEAL_NOT_FOUND_MESSAGE = "Meal not found";
     public static final String MEAL_ALREADY_EXISTS_MESSAGE = "Meal already exists";
     public static final String MEAL_NAME_EXISTS_MESSAGE = "Meal with this name already exists in the restaurant";
     public static final String INVALID_MEAL_PRICE_MESSAGE = "Invalid meal price";
+    public static final String INVALID_MEAL_PRICE_FILTER_MESSAGE = "Minimum price must not exceed maximum price";
 
     // Order-related Error Messages
     public static final String ORDER_NOT_FOUND_MESSAGE = "Order not found";
@@ -67,6 +78,12 @@ public final class ErrorConstants {
     public static final String ORDER_ACCESS_DENIED_MESSAGE = "Access denied to this order";
     public static final String EMPTY_ORDER_ITEMS_MESSAGE = "Order must contain at least one item";
     public static final String INVALID_ORDER_QUANTITY_MESSAGE = "Invalid order quantity";
+    public static final String INVALID_DATE_RANGE_MESSAGE = "From date must not be after to date";
+    public static final String UNSUPPORTED_HISTORY_SORT_MESSAGE = "Order history can only be sorted by orderDate";
+    public static final String SCHEDULE_TOO_SOON_MESSAGE = "Scheduled time is too soon for the restaurant to prepare the order";
+    public static final String SCHEDULE_TOO_FAR_MESSAGE = "Scheduled time is too far ahead";
+    public static final String SCHEDULED_ORDER_NOT_RELEASED_MESSAGE = "Scheduled orders can only be canceled until they are released";
+    public static final String ANALYTICS_RANGE_TOO_LARGE_MESSAGE = "Analytics range must not exceed 366 days";
 
     // Coupon-related Error Messages
     public static final String COUPON_NOT_FOUND_MESSAGE = "Coupon not found";
@@ -76,6 +93,16 @@ public final class ErrorConstants {
     public static final String COUPON_CODE_EXISTS_MESSAGE = "Coupon with this code already exists";
     public static final String INVALID_COUPON_DISCOUNT_MESSAGE = "Invalid coupon discount percentage";
 
+    // Group order Error Messages
+    public static final String GROUP_CART_NOT_FOUND_MESSAGE = "Group cart not found";
+    public static final String GROUP_CART_NOT_OPEN_MESSAGE = "Group cart is being checked out";
+    public static final String GROUP_CART_HOST_ONLY_MESSAGE = "Only the host can do this";
+    public static final String GROUP_CART_NOT_PARTICIPANT_MESSAGE = "Not a participant of this group cart";
+    public static final String GROUP_CART_FULL_MESSAGE = "Group cart has reached its participant limit";
+    public static final String GROUP_CART_TOO_MANY_ITEMS_MESSAGE = "Group cart has reached its item limit";
+    public static final String GROUP_CART_HOST_LIMIT_MESSAGE = "Too many open group carts; check out or close one first";
+    public static final String GROUP_CART_CAPACITY_REACHED_MESSAGE = "No more group carts can be opened right now";
+
     // Block-related Error Messages
     public static final String USER_ALREADY_BLOCKED_MESSAGE = "User is already blocked";
     public static final String USER_NOT_BLOCKED_MESSAGE = "User is not blocked";
@@ -122,5 +149,6 @@ public final class ErrorConstants {
     public static final String USER_UNBLOCKED_FOR_RESTAURANT_SUCCESS_MESSAGE = "User unblocked for restaurant successfully";
 
     public static final String LOGIN_SUCCESS_MESSAGE = "Login successful";
+    public static final String TOKEN_REFRESH_SUCCESS_MESSAGE = "Token refreshed successfully";
     public static final String REGISTRATION_SUCCESS_MESSAGE = "Registration successful";
 }
@@ -45,6 +45,19 @@ public final class ValidationConstants {
     public static final String DEFAULT_SORT_FIELD = "createdAt";
     public static final String DEFAULT_SORT_DIRECTION = "desc";
 
+    // Autocomplete limits
+    public static final int DEFAULT_AUTOCOMPLETE_LIMIT = 10;
+    public static final int MAX_AUTOCOMPLETE_LIMIT = 20;
+
+    // Sales analytics limits
+    public static final int MAX_ANALYTICS_RANGE_DAYS = 366;
+    public static final int DEFAULT_TOP_MEALS_LIMIT = 5;
+    public static final int MAX_TOP_MEALS_LIMIT = 20;
+
+    // Popular meals limits
+    public static final int DEFAULT_POPULAR_MEALS_LIMIT = 10;
+    public static final int MAX_POPULAR_MEALS_LIMIT = 20;
+
     // Email pattern
     public static final String EMAIL_PATTERN = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
 
@@ -76,7 +89,6 @@ public final class ValidationConstants {
     public static final String ADMIN_EMAIL = "admin@fooddelivery.com";
 
     // Database constants
-    public static final String UUID_COLUMN_DEFINITION = "VARCHAR(36)";
     public static final String TEXT_COLUMN_DEFINITION = "TEXT";
     public static final String DECIMAL_PRECISION_SCALE = "10,2";
 
@@ -0,0 +1,67 @@
+package com.food.delivery.controller;
+
+import com.food.delivery.dto.PlatformDashboard;
+import com.food.delivery.service.PlatformMetricsService;
+import com.food.delivery.service.SalesAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@PreAuthorize("hasRole('ADMIN')")
+@Slf4j
+public class AdminAnalyticsController {
+
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Autowired
+    private PlatformMetricsService platformMetricsService;
+
+    @GetMapping("/get/dashboard")
+    public ResponseEntity<PlatformDashboard> getDashboard() {
+        log.info("Admin dashboard request received");
+        try {
+            PlatformDashboard response = platformMetricsService.getDashboard();
+            log.info("Admin dashboard retrieved - orders: {}, users: {}", response.getTotalOrders(), response.getTotalUsers());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to retrieve admin dashboard - Error: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @PostMapping("/create/dashboard/reconcile")
+    public ResponseEntity<PlatformDashboard> reconcileDashboard() {
+        log.info("Admin dashboard reconciliation request received");
+        try {
+            PlatformDashboard response = platformMetricsService.reconcile();
+            log.info("Admin dashboard reconciled - orders: {}, users: {}", response.getTotalOrders(), response.getTotalUsers());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Admin dashboard reconciliation failed - Error: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @PostMapping("/create/rebuild")
+    public ResponseEntity<Integer> rebuildSalesRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Admin sales rollup rebuild request received - from: {}, to: {}", from, to);
+        try {
+            int restaurantDays = salesAnalyticsService.rebuildDailySales(from, to);
+            log.info("Admin sales rollup rebuild completed - from: {}, to: {}, restaurant days: {}", from, to, restaurantDays);
+            return ResponseEntity.ok(restaurantDays);
+        } catch (Exception e) {
+            log.error("Admin sales rollup rebuild failed - from: {}, to: {} - Error: {}", from, to, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.food.delivery.controller;
 import com.food.delivery.dto.AuthRequest;
 import com.food.delivery.dto.AuthResponse;
 import com.food.delivery.dto.LoginRequest;
+import com.food.delivery.dto.RefreshTokenRequest;
 import com.food.delivery.service.AuthService;
 import com.food.delivery.constants.ApiConstants;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,8 +12,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
@@ -59,12 +62,13 @@ public class AuthController {
         @ApiResponse(responseCode = "200", description = "Login successful",
             content = @Content(schema = @Schema(implementation = AuthResponse.class))),
         @ApiResponse(responseCode = "401", description = "Invalid credentials"),
-        @ApiResponse(responseCode = "403", description = "User is blocked")
+        @ApiResponse(responseCode = "403", description = "User is blocked"),
+        @ApiResponse(responseCode = "429", description = "Too many failed attempts for this email or address")
     })
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         log.info("User login request received for email: {}", request.getEmail());
         try {
-            AuthResponse response = authService.login(request);
+            AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
             log.info("User login successful for email: {}", request.getEmail());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -73,6 +77,44 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh access token", description = "Exchanges a refresh token for a new access token and a new refresh token")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Token refreshed successfully",
+            content = @Content(schema = @Schema(implementation = AuthResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Refresh token invalid, expired or reused, or user is blocked")
+    })
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        log.info("Token refresh request received");
+        try {
+            AuthResponse response = authService.refresh(request);
+            log.info("Token refreshed successfully for email: {}", response.getEmail());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Token refresh failed - Error: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Logout user", description = "Revokes the refresh token and the access token sent with it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Logged out")
+    })
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader) {
+        log.info("Logout request received");
+        try {
+            String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+            authService.logout(request, accessToken);
+            log.info("Logout completed");
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("Logout failed - Error: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @GetMapping("/debug/password")
     @Operation(summary = "Debug password encoding", description = "Test password encoding and matching")
     public ResponseEntity<Map<String, Object>> debugPassword() {
@@ -0,0 +1,109 @@
+package com.food.delivery.controller;
+
+import com.food.delivery.dto.GroupCartItemRequest;
+import com.food.delivery.dto.GroupCartRequest;
+import com.food.delivery.dto.GroupCartResponse;
+import com.food.delivery.dto.GroupCheckoutRequest;
+import com.food.delivery.dto.OrderResponse;
+import com.food.delivery.service.GroupOrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/group-orders")
+@Slf4j
+public class GroupOrderController {
+
+    @Autowired
+    private GroupOrderService groupOrderService;
+
+    @PostMapping("/create")
+    public ResponseEntity<GroupCartResponse> createCart(@Valid @RequestBody GroupCartRequest request,
+                                                        Authentication authentication) {
+        UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Group cart creation request received for user: {} at restaurant: {}",
+                currentUserId, request.getRestaurantId());
+        try {
+            GroupCartResponse response = groupOrderService.createCart(request, currentUserId);
+            log.info("Group cart created with ID: {} for user: {}", response.getId(), currentUserId);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Group cart creation failed for user: {} at restaurant: {} - Error: {}",
+                    currentUserId, request.getRestaurantId(), e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @GetMapping("/get/{id}")
+    public ResponseEntity<GroupCartResponse> getCart(@PathVariable UUID id, Authentication authentication) {
+        UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Group cart retrieval request received for ID: {} by user: {}", id, currentUserId);
+        try {
+            GroupCartResponse response = groupOrderService.getCart(id, currentUserId);
+            log.info("Group cart retrieved for ID: {} with {} participants", id, response.getParticipants().size());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Group cart retrieval failed for ID: {} by user: {} - Error: {}",
+                    id, currentUserId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @PutMapping("/edit/{id}/items")
+    public ResponseEntity<GroupCartResponse> setItem(@PathVariable UUID id,
+                                                     @Valid @RequestBody GroupCartItemRequest request,
+                                                     Authentication authentication) {
+        UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Group cart item update received for ID: {} by user: {} - meal: {} quantity: {}",
+                id, currentUserId, request.getMealId(), request.getQuantity());
+        try {
+            GroupCartResponse response = groupOrderService.setItem(id, request, currentUserId);
+            log.info("Group cart item updated for ID: {} by user: {} - items total: {}",
+                    id, currentUserId, response.getItemsTotal());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Group cart item update failed for ID: {} by user: {} - Error: {}",
+                    id, currentUserId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @DeleteMapping("/delete/{id}")
+    public ResponseEntity<Void> leaveCart(@PathVariable UUID id, Authentication authentication) {
+        UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Group cart leave request received for ID: {} by user: {}", id, currentUserId);
+        try {
+            groupOrderService.leaveCart(id, currentUserId);
+            log.info("User: {} left group cart: {}", currentUserId, id);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("Group cart leave failed for ID: {} by user: {} - Error: {}",
+                    id, currentUserId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @PostMapping("/create/{id}/checkout")
+    public ResponseEntity<OrderResponse> checkout(@PathVariable UUID id,
+                                                  @Valid @RequestBody GroupCheckoutRequest request,
+                                                  Authentication authentication) {
+        UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Group cart checkout request received for ID: {} by user: {}", id, currentUserId);
+        try {
+            OrderResponse response = groupOrderService.checkout(id, request, currentUserId);
+            log.info("Group cart {} checked out as order: {} - total: {}",
+                    id, response.getId(), response.getTotalAmount());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Group cart checkout failed for ID: {} by user: {} - Error: {}",
+                    id, currentUserId, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
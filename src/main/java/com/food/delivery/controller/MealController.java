@@ -1,20 +1,30 @@
 package com.food.delivery.controller;
 
+import com.food.delivery.cache.CatalogVersionTracker;
+import com.food.delivery.cache.MenuPayloadCache;
 import com.food.delivery.dto.MealRequest;
 import com.food.delivery.dto.MealResponse;
+import com.food.delivery.dto.MealSearchResponse;
+import com.food.delivery.dto.PopularMealResponse;
 import com.food.delivery.service.MealService;
 import com.food.delivery.constants.ApiConstants;
+import com.food.delivery.constants.ValidationConstants;
+import com.food.delivery.util.HttpCacheUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -25,6 +35,12 @@ public class MealController {
     @Autowired
     private MealService mealService;
 
+    @Autowired
+    private CatalogVersionTracker catalogVersionTracker;
+
+    @Autowired
+    private MenuPayloadCache menuPayloadCache;
+
     @PostMapping("/create/restaurant/{restaurantId}")
     public ResponseEntity<MealResponse> createMeal(@PathVariable UUID restaurantId,
                                                   @Valid @RequestBody MealRequest request,
@@ -45,16 +61,43 @@ public class MealController {
     }
 
     @GetMapping("/get/restaurant/{restaurantId}")
-    public ResponseEntity<Page<MealResponse>> getMealsByRestaurant(
+    public ResponseEntity<byte[]> getMealsByRestaurant(
             @PathVariable UUID restaurantId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        log.info("Get meals request received for restaurant: {} - page: {}, size: {}", restaurantId, page, size);
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // Each size is its own cache entry, so keep it within the usual page bounds
+        int pageSize = Math.min(Math.max(size, 1), ValidationConstants.MAX_PAGE_SIZE);
+        log.info("Get meals request received for restaurant: {} - page: {}, size: {}", restaurantId, page, pageSize);
         try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<MealResponse> response = mealService.getMealsByRestaurant(restaurantId, pageable);
-            log.info("Retrieved {} meals for restaurant: {}", response.getContent().size(), restaurantId);
-            return ResponseEntity.ok(response);
+            boolean gzip = menuPayloadCache.isGzipEnabled() && HttpCacheUtil.acceptsGzip(acceptEncoding);
+            String etag = catalogVersionTracker.menuETag(restaurantId, page, pageSize);
+            // Compared against the tag of the coding this request would get
+            String variantETag = gzip ? HttpCacheUtil.gzipETag(etag) : etag;
+            if (HttpCacheUtil.isNotModified(ifNoneMatch, variantETag)) {
+                log.info("Meals not modified for restaurant: {}", restaurantId);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(variantETag).cacheControl(catalogVersionTracker.cacheControl())
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+            }
+
+            // Served as pre-serialized bytes; the service is only called on a cache miss
+            MenuPayloadCache.MenuPayload payload = menuPayloadCache.get(restaurantId, page, pageSize,
+                    () -> mealService.getMealsByRestaurant(restaurantId, PageRequest.of(page, pageSize)));
+            gzip = gzip && payload.hasGzip();
+            log.info("Retrieved meals for restaurant: {} - {} bytes{}",
+                    restaurantId, gzip ? payload.gzip().length : payload.json().length, gzip ? " (gzip)" : "");
+
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(payload.etag(gzip))
+                    .cacheControl(catalogVersionTracker.cacheControl())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+            }
+            return builder.body(payload.json());
         } catch (Exception e) {
             log.error("Failed to retrieve meals for restaurant: {} - Error: {}", restaurantId, e.getMessage(), e);
             throw e;
@@ -82,6 +125,42 @@ public class MealController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<MealSearchResponse> searchMeals(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Meal search request received - query: {}, min: {}, max: {}, page: {}, size: {}",
+                q, minPrice, maxPrice, page, size);
+        try {
+            Pageable pageable = PageRequest.of(page, size);
+            MealSearchResponse response = mealService.searchMeals(q, minPrice, maxPrice, pageable);
+            log.info("Meal search completed for query: {} - found {} meals",
+                    q, response.getMeals().getTotalElements());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Meal search failed for query: {} - Error: {}", q, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @GetMapping("/popular/restaurant/{restaurantId}")
+    public ResponseEntity<List<PopularMealResponse>> getPopularMeals(
+            @PathVariable UUID restaurantId,
+            @RequestParam(defaultValue = "" + ValidationConstants.DEFAULT_POPULAR_MEALS_LIMIT) int limit) {
+        log.info("Popular meals request received for restaurant: {} - limit: {}", restaurantId, limit);
+        try {
+            List<PopularMealResponse> response = mealService.getPopularMeals(restaurantId, limit);
+            log.info("Popular meals retrieved for restaurant: {} - {} meals", restaurantId, response.size());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to retrieve popular meals for restaurant: {} - Error: {}", restaurantId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @GetMapping("/price-range/restaurant/{restaurantId}")
     public ResponseEntity<Page<MealResponse>> getMealsByPriceRange(
             @PathVariable UUID restaurantId,
@@ -4,6 +4,9 @@ import com.food.delivery.dto.OrderRequest;
 import com.food.delivery.dto.OrderResponse;
 import com.food.delivery.dto.OrderStatusUpdateRequest;
 import com.food.delivery.dto.OrderUpdateRequest;
+import com.food.delivery.dto.PriceQuoteResponse;
+import com.food.delivery.enums.ExportFormat;
+import com.food.delivery.service.OrderExportService;
 import com.food.delivery.service.OrderService;
 import com.food.delivery.constants.ApiConstants;
 import lombok.extern.slf4j.Slf4j;
@@ -12,12 +15,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +36,9 @@ public class OrderController {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private OrderExportService orderExportService;
+
     @PostMapping("/create")
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderRequest request,
                                                    Authentication authentication) {
@@ -47,6 +57,24 @@ public class OrderController {
         }
     }
 
+    @PostMapping("/get/quote")
+    public ResponseEntity<PriceQuoteResponse> quoteOrder(@Valid @RequestBody OrderRequest request,
+                                                         Authentication authentication) {
+        UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Order quote request received for user: {} at restaurant: {} with {} items",
+                currentUserId, request.getRestaurantId(), request.getItems().size());
+        try {
+            PriceQuoteResponse response = orderService.quoteOrder(request, currentUserId);
+            log.info("Order quoted for user: {} at restaurant: {} - total: {}",
+                    currentUserId, request.getRestaurantId(), response.getTotalAmount());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Order quote failed for user: {} at restaurant: {} - Error: {}",
+                    currentUserId, request.getRestaurantId(), e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @GetMapping("/get")
     public ResponseEntity<Page<OrderResponse>> getMyOrders(
             @RequestParam(defaultValue = "0") int page,
@@ -74,6 +102,33 @@ public class OrderController {
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "csv") String format,
+            Authentication authentication) {
+        UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Order export request received for user: {} - from: {}, to: {}, format: {}",
+                currentUserId, from, to, format);
+        try {
+            ExportFormat exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+            orderExportService.validateExport(currentUserId, from, to);
+            StreamingResponseBody body = out -> {
+                long rows = orderExportService.exportOrders(currentUserId, from, to, exportFormat, out);
+                log.info("Order export completed for user: {} - rows: {}", currentUserId, rows);
+            };
+            String filename = "orders-" + from.toLocalDate() + "-" + to.toLocalDate() + "." + exportFormat.name().toLowerCase(Locale.ROOT);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .body(body);
+        } catch (Exception e) {
+            log.error("Order export failed for user: {} - Error: {}", currentUserId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @GetMapping("/get/{id}")
     public ResponseEntity<OrderResponse> getOrder(@PathVariable UUID id, Authentication authentication) {
         UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
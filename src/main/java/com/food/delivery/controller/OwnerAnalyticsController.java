@@ -0,0 +1,45 @@
+package com.food.delivery.controller;
+
+import com.food.delivery.constants.ValidationConstants;
+import com.food.delivery.dto.RestaurantSalesReport;
+import com.food.delivery.service.SalesAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/owner/analytics")
+@Slf4j
+public class OwnerAnalyticsController {
+
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @GetMapping("/get/restaurant/{restaurantId}/sales")
+    public ResponseEntity<RestaurantSalesReport> getRestaurantSales(
+            @PathVariable UUID restaurantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "" + ValidationConstants.DEFAULT_TOP_MEALS_LIMIT) int topMeals,
+            Authentication authentication) {
+        UUID ownerId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Sales analytics request received for restaurant: {} by owner: {} - from: {}, to: {}",
+                restaurantId, ownerId, from, to);
+        try {
+            RestaurantSalesReport response = salesAnalyticsService.getRestaurantSales(restaurantId, from, to, topMeals, ownerId);
+            log.info("Sales analytics retrieved for restaurant: {} - days: {}, orders: {}",
+                    restaurantId, response.getDays().size(), response.getOrderCount());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Sales analytics failed for restaurant: {} by owner: {} - Error: {}",
+                    restaurantId, ownerId, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.food.delivery.controller;
+
+import com.food.delivery.dto.ActiveOrderResponse;
+import com.food.delivery.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/owner/orders")
+@Slf4j
+public class OwnerOrderController {
+
+    @Autowired
+    private OrderService orderService;
+
+    @GetMapping("/get/active")
+    public ResponseEntity<List<ActiveOrderResponse>> getActiveOrders(
+            @RequestParam(required = false) UUID restaurantId,
+            Authentication authentication) {
+        UUID ownerId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Active orders request received by owner: {} - restaurant: {}", ownerId, restaurantId);
+        try {
+            List<ActiveOrderResponse> response = orderService.getActiveOrders(ownerId, Optional.ofNullable(restaurantId));
+            log.info("Active orders retrieved for owner: {} - {} orders", ownerId, response.size());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to retrieve active orders for owner: {} - Error: {}", ownerId, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.food.delivery.controller;
 
+import com.food.delivery.cache.CatalogVersionTracker;
+import com.food.delivery.constants.ValidationConstants;
+import com.food.delivery.dto.AutocompleteSuggestion;
+import com.food.delivery.dto.RestaurantCapacityRequest;
+import com.food.delivery.dto.RestaurantCapacityResponse;
 import com.food.delivery.dto.RestaurantRequest;
 import com.food.delivery.dto.RestaurantResponse;
 import com.food.delivery.entity.User;
 import com.food.delivery.service.RestaurantService;
 import com.food.delivery.constants.ApiConstants;
+import com.food.delivery.util.HttpCacheUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -17,11 +23,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -34,6 +43,9 @@ public class RestaurantController {
     @Autowired
     private RestaurantService restaurantService;
 
+    @Autowired
+    private CatalogVersionTracker catalogVersionTracker;
+
     @PostMapping("/create")
     @Operation(summary = "Create a new restaurant", description = "Creates a new restaurant for the authenticated owner")
     @ApiResponses(value = {
@@ -61,17 +73,27 @@ public class RestaurantController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Restaurants retrieved successfully",
             content = @Content(schema = @Schema(implementation = RestaurantResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Restaurants not modified since the given ETag"),
         @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
     })
     public ResponseEntity<Page<RestaurantResponse>> getAllRestaurants(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Get all restaurants request received - page: {}, size: {}", page, size);
         try {
+            String etag = catalogVersionTracker.restaurantListETag(page, size);
+            if (HttpCacheUtil.isNotModified(ifNoneMatch, etag)) {
+                log.info("Restaurants not modified for page: {}", page);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag).cacheControl(catalogVersionTracker.cacheControl()).build();
+            }
+
             Pageable pageable = PageRequest.of(page, size);
             Page<RestaurantResponse> response = restaurantService.getAllRestaurants(pageable);
             log.info("Retrieved {} restaurants for page: {}", response.getContent().size(), page);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                    .eTag(etag).cacheControl(catalogVersionTracker.cacheControl()).body(response);
         } catch (Exception e) {
             log.error("Failed to retrieve restaurants - Error: {}", e.getMessage(), e);
             throw e;
@@ -83,14 +105,26 @@ public class RestaurantController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Restaurant retrieved successfully",
             content = @Content(schema = @Schema(implementation = RestaurantResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Restaurant not modified since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Restaurant not found")
     })
-    public ResponseEntity<RestaurantResponse> getRestaurant(@PathVariable UUID id) {
+    public ResponseEntity<RestaurantResponse> getRestaurant(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Get restaurant request received for ID: {}", id);
         try {
+            String etag = catalogVersionTracker.restaurantETag(id);
+            // The tag alone does not prove the restaurant exists; a removed one must still 404
+            if (HttpCacheUtil.isNotModified(ifNoneMatch, etag) && restaurantService.restaurantExists(id)) {
+                log.info("Restaurant not modified with ID: {}", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag).cacheControl(catalogVersionTracker.cacheControl()).build();
+            }
+
             RestaurantResponse response = restaurantService.getRestaurantById(id);
             log.info("Restaurant retrieved successfully with ID: {}", id);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                    .eTag(etag).cacheControl(catalogVersionTracker.cacheControl()).body(response);
         } catch (Exception e) {
             log.error("Failed to retrieve restaurant with ID: {} - Error: {}", id, e.getMessage(), e);
             throw e;
@@ -120,6 +154,27 @@ public class RestaurantController {
         }
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete restaurant and meal names",
+            description = "Returns restaurant and meal names with a word starting with the given prefix, served from memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully",
+            content = @Content(schema = @Schema(implementation = AutocompleteSuggestion.class)))
+    })
+    public ResponseEntity<List<AutocompleteSuggestion>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + ValidationConstants.DEFAULT_AUTOCOMPLETE_LIMIT) int limit) {
+        log.debug("Autocomplete request received - prefix: {}, limit: {}", q, limit);
+        try {
+            List<AutocompleteSuggestion> response = restaurantService.autocomplete(q, limit);
+            log.debug("Autocomplete completed for prefix: {} - {} suggestions", q, response.size());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Autocomplete failed for prefix: {} - Error: {}", q, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @GetMapping("/owner")
     @Operation(summary = "Get owner's restaurants", description = "Retrieves all restaurants owned by the authenticated user")
     @ApiResponses(value = {
@@ -187,4 +242,52 @@ public class RestaurantController {
             throw e;
         }
     }
+
+    @GetMapping("/get/{id}/capacity")
+    @Operation(summary = "Get restaurant capacity", description = "Returns the active order limit and current active orders (owner or admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Capacity retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RestaurantCapacityResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Insufficient permissions"),
+        @ApiResponse(responseCode = "404", description = "Restaurant not found")
+    })
+    public ResponseEntity<RestaurantCapacityResponse> getCapacity(@PathVariable UUID id, Authentication authentication) {
+        UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Restaurant capacity request received for ID: {} by user: {}", id, currentUserId);
+        try {
+            RestaurantCapacityResponse response = restaurantService.getCapacity(id, currentUserId);
+            log.info("Restaurant capacity retrieved for ID: {} - {}/{} active orders",
+                    id, response.getActiveOrders(), response.getEffectiveMaxActiveOrders());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to retrieve capacity for restaurant ID: {} by user: {} - Error: {}", id, currentUserId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @PutMapping("/edit/{id}/capacity")
+    @Operation(summary = "Update restaurant capacity",
+            description = "Sets the limit on concurrently active orders; null returns to the platform default, 0 removes the limit (owner or admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Capacity updated successfully",
+            content = @Content(schema = @Schema(implementation = RestaurantCapacityResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "403", description = "Insufficient permissions"),
+        @ApiResponse(responseCode = "404", description = "Restaurant not found")
+    })
+    public ResponseEntity<RestaurantCapacityResponse> updateCapacity(@PathVariable UUID id,
+                                                                     @Valid @RequestBody RestaurantCapacityRequest request,
+                                                                     Authentication authentication) {
+        UUID currentUserId = UUID.nameUUIDFromBytes(authentication.getName().getBytes());
+        log.info("Restaurant capacity update request received for ID: {} by user: {} - limit: {}",
+                id, currentUserId, request.getMaxActiveOrders());
+        try {
+            RestaurantCapacityResponse response = restaurantService.updateCapacity(id, request, currentUserId);
+            log.info("Restaurant capacity updated for ID: {} by user: {}", id, currentUserId);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Restaurant capacity update failed for ID: {} by user: {} - Error: {}", id, currentUserId, e.getMessage(), e);
+            throw e;
+        }
+    }
 }
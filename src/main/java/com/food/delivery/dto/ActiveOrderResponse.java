@@ -0,0 +1,32 @@
+package com.food.delivery.dto;
+
+import com.food.delivery.enums.OrderStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Value
+@Builder
+public class ActiveOrderResponse {
+    UUID id;
+    UUID restaurantId;
+    UUID customerId;
+    String customerName;
+    LocalDateTime orderDate;
+    OrderStatus status;
+    BigDecimal totalAmount;
+    BigDecimal tipAmount;
+    List<Item> items;
+
+    @Value
+    @Builder
+    public static class Item {
+        UUID mealId;
+        String mealName;
+        Integer quantity;
+    }
+}
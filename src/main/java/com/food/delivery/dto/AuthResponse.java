@@ -10,6 +10,9 @@ import lombok.NoArgsConstructor;
 public class AuthResponse {
 
     private String token;
+    private String refreshToken;
+    // Access token lifetime in seconds
+    private long expiresIn;
     private String email;
     private String name;
     private String role;
@@ -0,0 +1,16 @@
+package com.food.delivery.dto;
+
+import com.food.delivery.enums.SuggestionType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+@Value
+@Builder
+public class AutocompleteSuggestion {
+    UUID id;
+    String name;
+    SuggestionType type;
+    UUID restaurantId;
+}
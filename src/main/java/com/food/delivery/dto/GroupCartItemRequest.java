@@ -0,0 +1,20 @@
+package com.food.delivery.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class GroupCartItemRequest {
+    @NotNull(message = "Meal ID is required")
+    private UUID mealId;
+
+    // 0 removes the meal from the caller's items
+    @NotNull(message = "Quantity is required")
+    @Min(value = 0, message = "Quantity cannot be negative")
+    @Max(value = 100, message = "Maximum quantity is 100")
+    private Integer quantity;
+}
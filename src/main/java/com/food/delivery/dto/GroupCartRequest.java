@@ -0,0 +1,12 @@
+package com.food.delivery.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class GroupCartRequest {
+    @NotNull(message = "Restaurant ID is required")
+    private UUID restaurantId;
+}
@@ -0,0 +1,41 @@
+package com.food.delivery.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Value
+@Builder
+public class GroupCartResponse {
+    UUID id;
+    UUID hostId;
+    UUID restaurantId;
+    String status;
+    List<Participant> participants;
+    BigDecimal itemsTotal;
+    LocalDateTime createdAt;
+    LocalDateTime lastActivityAt;
+
+    @Value
+    @Builder
+    public static class Participant {
+        UUID userId;
+        String name;
+        List<Item> items;
+        BigDecimal subtotal;
+    }
+
+    @Value
+    @Builder
+    public static class Item {
+        UUID mealId;
+        String mealName;
+        Integer quantity;
+        BigDecimal unitPrice;
+        BigDecimal lineTotal;
+    }
+}
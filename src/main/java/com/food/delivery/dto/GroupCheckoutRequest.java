@@ -0,0 +1,14 @@
+package com.food.delivery.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class GroupCheckoutRequest {
+    @DecimalMin(value = "0.00", message = "Tip amount cannot be negative")
+    private BigDecimal tipAmount;
+
+    private String couponCode;
+}
@@ -0,0 +1,14 @@
+package com.food.delivery.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Value
+@Builder
+public class MealSearchResponse {
+    Page<MealResponse> meals;
+    List<PriceBucket> priceBuckets;
+}
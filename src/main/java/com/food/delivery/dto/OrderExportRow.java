@@ -0,0 +1,28 @@
+package com.food.delivery.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.food.delivery.enums.OrderStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Value
+@Builder
+@JsonPropertyOrder({"id", "orderDate", "status", "customerId", "customerName", "restaurantId", "restaurantName",
+        "couponCode", "discountPercent", "tipAmount", "totalAmount"})
+public class OrderExportRow {
+    UUID id;
+    LocalDateTime orderDate;
+    OrderStatus status;
+    UUID customerId;
+    String customerName;
+    UUID restaurantId;
+    String restaurantName;
+    String couponCode;
+    Integer discountPercent;
+    BigDecimal tipAmount;
+    BigDecimal totalAmount;
+}
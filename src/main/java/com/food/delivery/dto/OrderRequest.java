@@ -2,6 +2,7 @@ package com.food.delivery.dto;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -9,6 +10,7 @@ import lombok.Builder;
 import lombok.Data;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,6 +30,10 @@ public class OrderRequest {
 
     private String couponCode;
 
+    // Omit to order for now; otherwise the slot the order should arrive for
+    @Future(message = "Scheduled time must be in the future")
+    private LocalDateTime scheduledFor;
+
     @Data
     @Builder
     public static class OrderItemRequest {
@@ -19,6 +19,7 @@ public class OrderResponse {
     UUID restaurantId;
     String restaurantName;
     LocalDateTime orderDate;
+    LocalDateTime scheduledFor;
     BigDecimal totalAmount;
     BigDecimal tipAmount;
     String couponCode;
@@ -35,5 +36,7 @@ public class OrderResponse {
         String mealName;
         Integer quantity;
         BigDecimal priceAtOrder;
+        UUID participantId;
+        String participantName;
     }
 }
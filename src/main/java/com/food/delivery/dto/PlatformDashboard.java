@@ -0,0 +1,24 @@
+package com.food.delivery.dto;
+
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.enums.UserRole;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Value
+@Builder
+public class PlatformDashboard {
+    // Live and archived orders
+    Map<OrderStatus, Long> ordersByStatus;
+    long totalOrders;
+    // Total amount of all orders that are not canceled
+    BigDecimal grossMerchandiseValue;
+    Map<UserRole, Long> usersByRole;
+    long totalUsers;
+    long blockedUsers;
+    LocalDateTime reconciledAt;
+}
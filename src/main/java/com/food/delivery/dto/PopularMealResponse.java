@@ -0,0 +1,18 @@
+package com.food.delivery.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+@Value
+@Builder
+public class PopularMealResponse {
+    int rank;
+    UUID mealId;
+    String mealName;
+    // Estimated units ordered; never below the true total
+    long orderedQuantity;
+    // Units guaranteed to have been ordered (estimate minus its maximum error)
+    long guaranteedQuantity;
+}
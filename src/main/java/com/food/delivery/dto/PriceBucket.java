@@ -0,0 +1,14 @@
+package com.food.delivery.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+@Builder
+public class PriceBucket {
+    BigDecimal minPrice;  // inclusive, null = no lower bound
+    BigDecimal maxPrice;  // exclusive, null = no upper bound
+    long count;
+}
@@ -0,0 +1,33 @@
+package com.food.delivery.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Value
+@Builder
+public class PriceQuoteResponse {
+    UUID restaurantId;
+    List<Line> items;
+    BigDecimal itemsTotal;
+    String couponCode;
+    Integer discountPercent;
+    BigDecimal discountAmount;
+    BigDecimal taxAmount;
+    BigDecimal deliveryFee;
+    BigDecimal tipAmount;
+    BigDecimal totalAmount;
+
+    @Value
+    @Builder
+    public static class Line {
+        UUID mealId;
+        String mealName;
+        Integer quantity;
+        BigDecimal unitPrice;
+        BigDecimal lineTotal;
+    }
+}
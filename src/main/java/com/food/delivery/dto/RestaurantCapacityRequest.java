@@ -0,0 +1,13 @@
+package com.food.delivery.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class RestaurantCapacityRequest {
+    // Null returns to the platform default; 0 removes the limit
+    @Min(value = 0, message = "Active order limit cannot be negative")
+    @Max(value = 10000, message = "Active order limit cannot exceed 10000")
+    private Integer maxActiveOrders;
+}
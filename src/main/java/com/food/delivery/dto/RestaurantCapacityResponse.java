@@ -0,0 +1,17 @@
+package com.food.delivery.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+@Value
+@Builder
+public class RestaurantCapacityResponse {
+    UUID restaurantId;
+    // Restaurant's own limit; null when the platform default applies
+    Integer maxActiveOrders;
+    // Limit in force; 0 means none
+    int effectiveMaxActiveOrders;
+    int activeOrders;
+}
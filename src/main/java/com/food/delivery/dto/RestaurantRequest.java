@@ -1,8 +1,14 @@
 package com.food.delivery.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 
+import java.math.BigDecimal;
+
 @Data
 public class RestaurantRequest {
 
@@ -10,4 +16,21 @@ public class RestaurantRequest {
     private String name;
 
     private String description;
+
+    // Minutes to accept a placed order before it is canceled; null keeps the current value
+    @Min(1)
+    @Max(1440)
+    private Integer acceptTimeoutMinutes;
+
+    // Pricing rules; null keeps the current value
+    @DecimalMin(value = "0.00", message = "Tax rate cannot be negative")
+    @DecimalMax(value = "100.00", message = "Tax rate cannot exceed 100%")
+    private BigDecimal taxRatePercent;
+
+    @DecimalMin(value = "0.00", message = "Delivery fee cannot be negative")
+    @DecimalMax(value = "1000.00", message = "Delivery fee cannot exceed 1000")
+    private BigDecimal deliveryFee;
+
+    @DecimalMin(value = "0.00", message = "Free delivery threshold cannot be negative")
+    private BigDecimal freeDeliveryThreshold;
 }
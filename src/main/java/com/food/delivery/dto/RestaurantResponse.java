@@ -3,6 +3,7 @@ package com.food.delivery.dto;
 import lombok.Builder;
 import lombok.Value;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -13,6 +14,11 @@ public class RestaurantResponse {
     String name;
     String description;
     Boolean blocked;
+    Integer acceptTimeoutMinutes;
+    BigDecimal taxRatePercent;
+    BigDecimal deliveryFee;
+    BigDecimal freeDeliveryThreshold;
+    Integer maxActiveOrders;
     UUID ownerId;
     String ownerName;
     LocalDateTime createdAt;
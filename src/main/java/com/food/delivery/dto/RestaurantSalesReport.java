@@ -0,0 +1,45 @@
+package com.food.delivery.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Value
+@Builder
+public class RestaurantSalesReport {
+    UUID restaurantId;
+    LocalDate from;
+    LocalDate to;
+    long orderCount;
+    long canceledCount;
+    BigDecimal revenue;       // totals of non-canceled orders, tips included
+    BigDecimal tipTotal;
+    BigDecimal averageTicket; // revenue per non-canceled order
+    List<MealSales> topMeals;
+    List<DailySales> days;    // days without orders are omitted
+
+    @Value
+    @Builder
+    public static class DailySales {
+        LocalDate date;
+        long orderCount;
+        long canceledCount;
+        BigDecimal revenue;
+        BigDecimal tipTotal;
+        BigDecimal averageTicket;
+        List<MealSales> topMeals;
+    }
+
+    @Value
+    @Builder
+    public static class MealSales {
+        UUID mealId;
+        String mealName;
+        long quantity;
+        BigDecimal revenue;
+    }
+}
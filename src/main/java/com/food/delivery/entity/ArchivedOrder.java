@@ -0,0 +1,116 @@
+package com.food.delivery.entity;
+
+import com.food.delivery.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A final-state order moved out of {@code orders} by the order archiver. Read-only.
+ */
+@Data
+@Entity
+@Immutable
+@Table(name = "orders_archive")
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+public class ArchivedOrder extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private User customer;
+
+    @Column(name = "customer_name", nullable = false)
+    private String customerName;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id", nullable = false)
+    private Restaurant restaurant;
+
+    @Column(name = "restaurant_name", nullable = false)
+    private String restaurantName;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    @Column(name = "scheduled_for")
+    private LocalDateTime scheduledFor;
+
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "tip_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal tipAmount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "coupon_id")
+    private Coupon coupon;
+
+    @Column(name = "coupon_code", length = 50)
+    private String couponCode;
+
+    @Column(name = "discount_percent")
+    private Integer discountPercent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @OneToMany(mappedBy = "order", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    private List<ArchivedOrderItem> orderItems;
+
+    /**
+     * Detached {@link Order} view of this archived order, so read paths can treat live and
+     * archived orders alike. The result is never attached to the persistence context.
+     */
+    public Order toOrder() {
+        Order order = new Order();
+        order.setId(getId());
+        order.setCreatedAt(getCreatedAt());
+        order.setUpdatedAt(getUpdatedAt());
+        order.setCustomer(customer);
+        order.setCustomerName(customerName);
+        order.setRestaurant(restaurant);
+        order.setRestaurantName(restaurantName);
+        order.setOrderDate(orderDate);
+        order.setScheduledFor(scheduledFor);
+        order.setTotalAmount(totalAmount);
+        order.setTipAmount(tipAmount);
+        order.setCoupon(coupon);
+        order.setCouponCode(couponCode);
+        order.setDiscountPercent(discountPercent);
+        order.setStatus(status);
+
+        List<OrderItem> items = new ArrayList<>();
+        if (orderItems != null) {
+            for (ArchivedOrderItem archivedItem : orderItems) {
+                OrderItem item = new OrderItem();
+                item.setId(archivedItem.getId());
+                item.setCreatedAt(archivedItem.getCreatedAt());
+                item.setUpdatedAt(archivedItem.getUpdatedAt());
+                item.setOrder(order);
+                item.setMeal(archivedItem.getMeal());
+                item.setMealName(archivedItem.getMealName());
+                item.setQuantity(archivedItem.getQuantity());
+                item.setPriceAtOrder(archivedItem.getPriceAtOrder());
+                item.setParticipantId(archivedItem.getParticipantId());
+                item.setParticipantName(archivedItem.getParticipantName());
+                items.add(item);
+            }
+        }
+        order.setOrderItems(items);
+        return order;
+    }
+}
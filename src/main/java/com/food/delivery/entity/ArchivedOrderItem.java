@@ -0,0 +1,47 @@
+package com.food.delivery.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * A line of an {@link ArchivedOrder}. Read-only.
+ */
+@Data
+@Entity
+@Immutable
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Table(name = "order_items_archive")
+public class ArchivedOrderItem extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    @ToString.Exclude
+    private ArchivedOrder order;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "meal_id", nullable = false)
+    @ToString.Exclude
+    private Meal meal;
+
+    @Column(name = "meal_name", nullable = false)
+    private String mealName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "price_at_order", nullable = false, precision = 10, scale = 2)
+    private BigDecimal priceAtOrder;
+
+    // Group orders only: who added the item
+    @Column(name = "participant_id")
+    private UUID participantId;
+
+    @Column(name = "participant_name")
+    private String participantName;
+}
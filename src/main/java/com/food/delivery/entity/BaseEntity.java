@@ -1,11 +1,12 @@
 package com.food.delivery.entity;
 
+import com.food.delivery.util.UuidUtil;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -15,12 +16,11 @@ import java.util.UUID;
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-public abstract class BaseEntity {
+public abstract class BaseEntity implements Persistable<UUID> {
 
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
-    @Column(columnDefinition = "VARCHAR(36)")
+    @TimeOrderedUuid
+    // Mapped to the dialect's 16-byte UUID type (UUID on H2, BINARY(16) on MySQL)
     @EqualsAndHashCode.Include
     private UUID id;
 
@@ -32,6 +32,25 @@ public abstract class BaseEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * New until first persisted, so ids assigned up front (see {@link #assignId()})
+     * still go through persist rather than a select-then-merge.
+     */
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+
+    /**
+     * Assigns a time-ordered id now instead of at flush time, if none is set yet.
+     */
+    public UUID assignId() {
+        if (id == null) {
+            id = UuidUtil.timeOrderedUuid();
+        }
+        return id;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
@@ -0,0 +1,32 @@
+package com.food.delivery.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.UUID;
+
+/**
+ * Checkpointed popularity counter of one meal at one restaurant.
+ */
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Table(name = "meal_popularity")
+public class MealPopularity extends BaseEntity {
+
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "meal_id", nullable = false)
+    private UUID mealId;
+
+    @Column(name = "meal_name", nullable = false)
+    private String mealName;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "count_error", nullable = false)
+    private long countError;
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -21,13 +22,23 @@ public class Order extends BaseEntity {
     @JoinColumn(name = "customer_id", nullable = false)
     private User customer;
 
+    @Column(name = "customer_name", nullable = false)
+    private String customerName;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurant_id", nullable = false)
     private Restaurant restaurant;
 
+    @Column(name = "restaurant_name", nullable = false)
+    private String restaurantName;
+
     @Column(name = "order_date", nullable = false)
     private LocalDateTime orderDate;
 
+    // Requested delivery slot; null for orders placed for now
+    @Column(name = "scheduled_for")
+    private LocalDateTime scheduledFor;
+
     @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
     private BigDecimal totalAmount;
 
@@ -38,11 +49,18 @@ public class Order extends BaseEntity {
     @JoinColumn(name = "coupon_id")
     private Coupon coupon;
 
+    @Column(name = "coupon_code", length = 50)
+    private String couponCode;
+
+    @Column(name = "discount_percent")
+    private Integer discountPercent;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OrderStatus status = OrderStatus.PLACED;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @ToString.Exclude
     private List<OrderItem> orderItems;
 
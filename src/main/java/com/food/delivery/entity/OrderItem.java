@@ -7,6 +7,7 @@ import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.util.Objects;
+import java.util.UUID;
 
 @Data
 @Entity
@@ -24,12 +25,22 @@ public class OrderItem extends BaseEntity {
     @ToString.Exclude
     private Meal meal;
 
+    @Column(name = "meal_name", nullable = false)
+    private String mealName;
+
     @Column(nullable = false)
     private Integer quantity;
 
     @Column(name = "price_at_order", nullable = false, precision = 10, scale = 2)
     private BigDecimal priceAtOrder;
 
+    // Group orders only: who added the item
+    @Column(name = "participant_id")
+    private UUID participantId;
+
+    @Column(name = "participant_name")
+    private String participantName;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -39,7 +50,8 @@ public class OrderItem extends BaseEntity {
         }
         return order != null && that.order != null && meal != null && that.meal != null &&
                Objects.equals(order.getId(), that.order.getId()) &&
-               Objects.equals(meal.getId(), that.meal.getId());
+               Objects.equals(meal.getId(), that.meal.getId()) &&
+               Objects.equals(participantId, that.participantId);
     }
 
     @Override
@@ -0,0 +1,33 @@
+package com.food.delivery.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One refresh token, kept only as its SHA-256 hash. Tokens rotated from one login share a family.
+ */
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Table(name = "refresh_tokens")
+public class RefreshToken extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+}
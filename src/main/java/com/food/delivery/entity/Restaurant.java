@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
 
@@ -27,6 +28,24 @@ public class Restaurant extends BaseEntity {
     @Column(nullable = false)
     private Boolean blocked = false;
 
+    // Null means the platform default
+    @Column(name = "accept_timeout_minutes")
+    private Integer acceptTimeoutMinutes;
+
+    // Limit on concurrently active orders; null means the platform default, 0 no limit
+    @Column(name = "max_active_orders")
+    private Integer maxActiveOrders;
+
+    // Pricing rules; null means the platform default
+    @Column(name = "tax_rate_percent", precision = 5, scale = 2)
+    private BigDecimal taxRatePercent;
+
+    @Column(name = "delivery_fee", precision = 10, scale = 2)
+    private BigDecimal deliveryFee;
+
+    @Column(name = "free_delivery_threshold", precision = 10, scale = 2)
+    private BigDecimal freeDeliveryThreshold;
+
     // Relationships
     @OneToMany(mappedBy = "restaurant", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @ToString.Exclude
@@ -0,0 +1,37 @@
+package com.food.delivery.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Quantity and revenue of one meal at one restaurant on one day, excluding canceled orders.
+ */
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Table(name = "restaurant_daily_meal_sales")
+public class RestaurantDailyMealSales extends BaseEntity {
+
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "meal_id", nullable = false)
+    private UUID mealId;
+
+    @Column(name = "meal_name", nullable = false)
+    private String mealName;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+}
@@ -0,0 +1,37 @@
+package com.food.delivery.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Sales of one restaurant on one day. Revenue and tips exclude canceled orders.
+ */
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Table(name = "restaurant_daily_sales")
+public class RestaurantDailySales extends BaseEntity {
+
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "order_count", nullable = false)
+    private int orderCount;
+
+    @Column(name = "canceled_count", nullable = false)
+    private int canceledCount;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "tip_total", nullable = false, precision = 12, scale = 2)
+    private BigDecimal tipTotal = BigDecimal.ZERO;
+}
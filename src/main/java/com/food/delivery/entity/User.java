@@ -24,7 +24,6 @@ import java.util.UUID;
 public class User  implements UserDetails {
 
     @Id
-    @Column(columnDefinition = "VARCHAR(36)")
     private UUID id;
 
     @CreatedDate
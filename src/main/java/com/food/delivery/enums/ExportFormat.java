@@ -0,0 +1,26 @@
+package com.food.delivery.enums;
+
+/**
+ * Output formats for streamed exports
+ */
+public enum ExportFormat {
+    /**
+     * Comma-separated values with a header row
+     */
+    CSV("text/csv"),
+
+    /**
+     * One JSON object per line
+     */
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -4,6 +4,11 @@ package com.food.delivery.enums;
  * Order status values in the food delivery system
  */
 public enum OrderStatus {
+    /**
+     * Order is waiting for its scheduled slot; released to PLACED ahead of it
+     */
+    SCHEDULED,
+
     /**
      * Order has been placed by customer
      */
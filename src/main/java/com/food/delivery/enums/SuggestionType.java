@@ -0,0 +1,16 @@
+package com.food.delivery.enums;
+
+/**
+ * Kind of entity an autocomplete suggestion points to
+ */
+public enum SuggestionType {
+    /**
+     * Suggestion is a restaurant name
+     */
+    RESTAURANT,
+
+    /**
+     * Suggestion is a meal name
+     */
+    MEAL
+}
@@ -0,0 +1,21 @@
+package com.food.delivery.event;
+
+/**
+ * Kind of write that produced a change event
+ */
+public enum ChangeType {
+    /**
+     * Entity was created
+     */
+    CREATED,
+
+    /**
+     * Entity was updated (including block/unblock)
+     */
+    UPDATED,
+
+    /**
+     * Entity was deleted
+     */
+    DELETED
+}
@@ -0,0 +1,18 @@
+package com.food.delivery.event;
+
+import com.food.delivery.entity.Coupon;
+
+import java.util.UUID;
+
+/**
+ * Published by the coupon service after a coupon is written.
+ * Carries the code only; listeners reload what they need.
+ */
+public record CouponChangedEvent(UUID couponId,
+                                 String code,
+                                 ChangeType type) {
+
+    public static CouponChangedEvent of(Coupon coupon, ChangeType type) {
+        return new CouponChangedEvent(coupon.getId(), coupon.getCode(), type);
+    }
+}
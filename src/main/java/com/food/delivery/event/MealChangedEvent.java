@@ -0,0 +1,29 @@
+package com.food.delivery.event;
+
+import com.food.delivery.entity.Meal;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Published by the meal service after a meal is written.
+ * Carries a detached snapshot so listeners never touch the persistence context.
+ */
+public record MealChangedEvent(UUID mealId,
+                               UUID restaurantId,
+                               String name,
+                               String description,
+                               BigDecimal price,
+                               ChangeType type) {
+
+    public static MealChangedEvent of(Meal meal, ChangeType type) {
+        return new MealChangedEvent(
+                meal.getId(),
+                meal.getRestaurant() != null ? meal.getRestaurant().getId() : null,
+                meal.getName(),
+                meal.getDescription(),
+                meal.getPrice(),
+                type
+        );
+    }
+}
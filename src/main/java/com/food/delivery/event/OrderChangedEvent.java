@@ -0,0 +1,86 @@
+package com.food.delivery.event;
+
+import com.food.delivery.entity.Order;
+import com.food.delivery.entity.OrderItem;
+import com.food.delivery.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by the order service inside the writing transaction when an order is placed
+ * or its status or amounts change. Plain listeners commit or roll back with the order;
+ * after-commit listeners only see orders that were actually written.
+ * Carries a detached snapshot, with the previous values for updates.
+ */
+public record OrderChangedEvent(UUID orderId,
+                                UUID restaurantId,
+                                UUID restaurantOwnerId,
+                                UUID customerId,
+                                String customerName,
+                                LocalDateTime orderDate,
+                                OrderStatus previousStatus,
+                                OrderStatus status,
+                                BigDecimal previousTotalAmount,
+                                BigDecimal totalAmount,
+                                BigDecimal previousTipAmount,
+                                BigDecimal tipAmount,
+                                List<Line> items,
+                                ChangeType type) {
+
+    public record Line(UUID mealId, String mealName, int quantity, BigDecimal lineTotal) {
+
+        static Line of(OrderItem item) {
+            return new Line(
+                    item.getMeal().getId(),
+                    item.getMealName(),
+                    item.getQuantity(),
+                    item.getPriceAtOrder().multiply(BigDecimal.valueOf(item.getQuantity()))
+            );
+        }
+    }
+
+    public static OrderChangedEvent placed(Order order) {
+        return of(order, null, order.getStatus(), null, null, ChangeType.CREATED);
+    }
+
+    public static OrderChangedEvent updated(Order order, OrderStatus previousStatus,
+                                            BigDecimal previousTotalAmount, BigDecimal previousTipAmount) {
+        return of(order, previousStatus, order.getStatus(), previousTotalAmount, previousTipAmount, ChangeType.UPDATED);
+    }
+
+    /**
+     * For set-based status updates, where the loaded order still holds its previous status.
+     */
+    public static OrderChangedEvent statusChanged(Order order, OrderStatus status) {
+        return of(order, order.getStatus(), status, order.getTotalAmount(), order.getTipAmount(), ChangeType.UPDATED);
+    }
+
+    public boolean isStatusChange() {
+        return type == ChangeType.UPDATED && previousStatus != status;
+    }
+
+    private static OrderChangedEvent of(Order order, OrderStatus previousStatus, OrderStatus status,
+                                        BigDecimal previousTotalAmount, BigDecimal previousTipAmount, ChangeType type) {
+        List<Line> items = order.getOrderItems() == null ? List.of()
+                : order.getOrderItems().stream().map(Line::of).toList();
+        return new OrderChangedEvent(
+                order.getId(),
+                order.getRestaurant().getId(),
+                order.getRestaurant().getOwner().getId(),
+                order.getCustomer().getId(),
+                order.getCustomerName(),
+                order.getOrderDate(),
+                previousStatus,
+                status,
+                previousTotalAmount,
+                order.getTotalAmount(),
+                previousTipAmount,
+                order.getTipAmount(),
+                items,
+                type
+        );
+    }
+}
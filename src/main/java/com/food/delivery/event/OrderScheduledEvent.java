@@ -0,0 +1,17 @@
+package com.food.delivery.event;
+
+import com.food.delivery.entity.Order;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published with the {@link OrderChangedEvent} of an order placed for a later slot, so the
+ * dispatcher can arm its release timer once the order is committed.
+ */
+public record OrderScheduledEvent(UUID orderId, LocalDateTime scheduledFor) {
+
+    public static OrderScheduledEvent of(Order order) {
+        return new OrderScheduledEvent(order.getId(), order.getScheduledFor());
+    }
+}
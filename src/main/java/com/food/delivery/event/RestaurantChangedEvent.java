@@ -0,0 +1,28 @@
+package com.food.delivery.event;
+
+import com.food.delivery.entity.Restaurant;
+
+import java.util.UUID;
+
+/**
+ * Published by the restaurant service after a restaurant is written.
+ * Carries a detached snapshot so listeners never touch the persistence context.
+ */
+public record RestaurantChangedEvent(UUID restaurantId,
+                                     String name,
+                                     String description,
+                                     boolean blocked,
+                                     Integer maxActiveOrders,
+                                     ChangeType type) {
+
+    public static RestaurantChangedEvent of(Restaurant restaurant, ChangeType type) {
+        return new RestaurantChangedEvent(
+                restaurant.getId(),
+                restaurant.getName(),
+                restaurant.getDescription(),
+                Boolean.TRUE.equals(restaurant.getBlocked()),
+                restaurant.getMaxActiveOrders(),
+                type
+        );
+    }
+}
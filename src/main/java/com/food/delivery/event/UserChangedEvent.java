@@ -0,0 +1,34 @@
+package com.food.delivery.event;
+
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.UserRole;
+
+import java.util.UUID;
+
+/**
+ * Published by the user service when a user is created, updated or deleted.
+ * Carries the role and blocked flag before and after the write; a created user has no
+ * previous role and a deleted user has no current role.
+ */
+public record UserChangedEvent(UUID userId,
+                               UserRole previousRole,
+                               UserRole role,
+                               boolean previousBlocked,
+                               boolean blocked,
+                               ChangeType type) {
+
+    public static UserChangedEvent created(User user) {
+        return new UserChangedEvent(user.getId(), null, user.getRole(),
+                false, Boolean.TRUE.equals(user.getBlocked()), ChangeType.CREATED);
+    }
+
+    public static UserChangedEvent updated(User user, UserRole previousRole, boolean previousBlocked) {
+        return new UserChangedEvent(user.getId(), previousRole, user.getRole(),
+                previousBlocked, Boolean.TRUE.equals(user.getBlocked()), ChangeType.UPDATED);
+    }
+
+    public static UserChangedEvent deleted(User user) {
+        return new UserChangedEvent(user.getId(), user.getRole(), null,
+                Boolean.TRUE.equals(user.getBlocked()), false, ChangeType.DELETED);
+    }
+}
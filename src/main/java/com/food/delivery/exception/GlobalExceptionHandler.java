@@ -3,6 +3,7 @@ package com.food.delivery.exception;
 import com.food.delivery.constants.ErrorConstants;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -38,6 +39,21 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.FORBIDDEN, ErrorConstants.AUTHORIZATION_ERROR_CODE, ex.getMessage(), req.getRequestURI());
     }
 
+    @ExceptionHandler(RestaurantAtCapacityException.class)
+    public ResponseEntity<ApiError> handleCapacity(RestaurantAtCapacityException ex, HttpServletRequest req) {
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, ErrorConstants.CAPACITY_ERROR_CODE, ex.getMessage(), ex.getRetryAfterSeconds(), req.getRequestURI());
+    }
+
+    @ExceptionHandler(LoginLockedException.class)
+    public ResponseEntity<ApiError> handleLoginLocked(LoginLockedException ex, HttpServletRequest req) {
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, ErrorConstants.AUTHENTICATION_ERROR_CODE, ex.getMessage(), ex.getRetryAfterSeconds(), req.getRequestURI());
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ApiError> handleHashingBusy(PasswordHashingBusyException ex, HttpServletRequest req) {
+        return retryLater(HttpStatus.SERVICE_UNAVAILABLE, ErrorConstants.SERVICE_UNAVAILABLE_ERROR_CODE, ex.getMessage(), ex.getRetryAfterSeconds(), req.getRequestURI());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiError> handleRuntime(RuntimeException ex, HttpServletRequest req) {
         return build(HttpStatus.BAD_REQUEST, ErrorConstants.BUSINESS_LOGIC_ERROR_CODE, ex.getMessage(), req.getRequestURI());
@@ -48,6 +64,12 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.INTERNAL_SERVER_ERROR, ErrorConstants.SYSTEM_ERROR_CODE, ErrorConstants.UNEXPECTED_ERROR_MESSAGE, req.getRequestURI());
     }
 
+    private ResponseEntity<ApiError> retryLater(HttpStatus status, String errorCode, String message, long retryAfterSeconds, String path) {
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ApiError(LocalDateTime.now(), status.value(), errorCode, message, path));
+    }
+
     private ResponseEntity<ApiError> build(HttpStatus status, String errorCode, String message, String path) {
         return ResponseEntity.status(status).body(new ApiError(
                 LocalDateTime.now(), status.value(), errorCode, message, path
@@ -0,0 +1,19 @@
+package com.food.delivery.exception;
+
+import com.food.delivery.constants.ErrorConstants;
+import lombok.Getter;
+
+/**
+ * Thrown for a login attempt while its email or address is locked out after repeated
+ * failures. Answered with 429 and a Retry-After header.
+ */
+@Getter
+public class LoginLockedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginLockedException(long retryAfterSeconds) {
+        super(ErrorConstants.LOGIN_LOCKED_MESSAGE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
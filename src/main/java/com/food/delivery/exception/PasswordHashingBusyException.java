@@ -0,0 +1,19 @@
+package com.food.delivery.exception;
+
+import com.food.delivery.constants.ErrorConstants;
+import lombok.Getter;
+
+/**
+ * Thrown when the password hashing pool cannot take more work. Answered with 503 and a
+ * Retry-After header.
+ */
+@Getter
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super(ErrorConstants.PASSWORD_HASHING_BUSY_MESSAGE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.food.delivery.exception;
+
+import com.food.delivery.constants.ErrorConstants;
+import lombok.Getter;
+
+/**
+ * Thrown when a restaurant already has its limit of active orders. Answered with 429 and a
+ * Retry-After header.
+ */
+@Getter
+public class RestaurantAtCapacityException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RestaurantAtCapacityException(long retryAfterSeconds) {
+        super(ErrorConstants.RESTAURANT_AT_CAPACITY_MESSAGE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
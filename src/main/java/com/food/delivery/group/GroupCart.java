@@ -0,0 +1,145 @@
+package com.food.delivery.group;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A shared cart for one restaurant. Mutable and not thread-safe: every access goes through
+ * {@link GroupCartStore#withCart}, which holds the cart's lock stripe.
+ */
+public final class GroupCart {
+
+    public enum Status {
+        OPEN,
+        CHECKING_OUT
+    }
+
+    private static final class Participant {
+        private final String name;
+        private final Map<UUID, Integer> quantities = new LinkedHashMap<>();
+
+        private Participant(String name) {
+            this.name = name;
+        }
+    }
+
+    private final UUID id;
+    private final UUID hostId;
+    private final UUID restaurantId;
+    private final LocalDateTime createdAt;
+    private final Map<UUID, Participant> participants = new LinkedHashMap<>();
+    private Status status = Status.OPEN;
+    private LocalDateTime lastActivityAt;
+    private int lineCount;
+
+    GroupCart(UUID id, UUID hostId, String hostName, UUID restaurantId, LocalDateTime now) {
+        this.id = id;
+        this.hostId = hostId;
+        this.restaurantId = restaurantId;
+        this.createdAt = now;
+        this.lastActivityAt = now;
+        participants.put(hostId, new Participant(hostName));
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getHostId() {
+        return hostId;
+    }
+
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public boolean isParticipant(UUID userId) {
+        return participants.containsKey(userId);
+    }
+
+    public int getParticipantCount() {
+        return participants.size();
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public boolean hasLine(UUID participantId, UUID mealId) {
+        Participant participant = participants.get(participantId);
+        return participant != null && participant.quantities.containsKey(mealId);
+    }
+
+    public void addParticipant(UUID userId, String name) {
+        participants.putIfAbsent(userId, new Participant(name));
+    }
+
+    /**
+     * Sets the participant's quantity of a meal; zero removes the line.
+     */
+    public void setQuantity(UUID participantId, UUID mealId, int quantity) {
+        Participant participant = participants.get(participantId);
+        if (participant == null) {
+            throw new IllegalStateException("Not a participant: " + participantId);
+        }
+        Integer previous = quantity > 0
+                ? participant.quantities.put(mealId, quantity)
+                : participant.quantities.remove(mealId);
+        if (previous == null && quantity > 0) {
+            lineCount++;
+        } else if (previous != null && quantity <= 0) {
+            lineCount--;
+        }
+    }
+
+    public void removeParticipant(UUID participantId) {
+        Participant removed = participants.remove(participantId);
+        if (removed != null) {
+            lineCount -= removed.quantities.size();
+        }
+    }
+
+    public void touch(LocalDateTime now) {
+        lastActivityAt = now;
+    }
+
+    /**
+     * Current lines, participants in join order.
+     */
+    public List<GroupCartLine> lines() {
+        List<GroupCartLine> lines = new ArrayList<>(lineCount);
+        participants.forEach((participantId, participant) ->
+                participant.quantities.forEach((mealId, quantity) ->
+                        lines.add(new GroupCartLine(participantId, participant.name, mealId, quantity))));
+        return lines;
+    }
+
+    /**
+     * Participant ids and names in join order, including those without items.
+     */
+    public Map<UUID, String> participantNames() {
+        Map<UUID, String> names = new LinkedHashMap<>();
+        participants.forEach((participantId, participant) -> names.put(participantId, participant.name));
+        return names;
+    }
+}
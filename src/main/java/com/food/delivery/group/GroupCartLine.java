@@ -0,0 +1,9 @@
+package com.food.delivery.group;
+
+import java.util.UUID;
+
+/**
+ * One participant's quantity of one meal in a group cart.
+ */
+public record GroupCartLine(UUID participantId, String participantName, UUID mealId, int quantity) {
+}
@@ -0,0 +1,155 @@
+package com.food.delivery.group;
+
+import com.food.delivery.constants.ErrorConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-memory group carts guarded by lock striping.
+ * <p>
+ * Each cart maps to one of {@code group.cart.lock-stripes} locks by its id, so edits to the
+ * same cart are serialized while different carts rarely contend, without a lock object per
+ * cart. Carts live until checkout, until the host closes them, or until they have been idle
+ * for {@code group.cart.ttl-minutes}; they do not survive a restart.
+ * <p>
+ * Since carts hold memory until they expire, a host may keep at most
+ * {@code group.cart.max-open-per-host} carts and the store at most {@code group.cart.max-open}.
+ */
+@Component
+@Slf4j
+public class GroupCartStore {
+
+    private final Map<UUID, GroupCart> carts = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> openCartsByHost = new ConcurrentHashMap<>();
+    private final AtomicInteger openCarts = new AtomicInteger();
+    private final ReentrantLock[] stripes;
+
+    @Value("${group.cart.ttl-minutes:120}")
+    private long ttlMinutes;
+
+    @Value("${group.cart.max-open-per-host:3}")
+    private int maxOpenPerHost;
+
+    @Value("${group.cart.max-open:10000}")
+    private int maxOpen;
+
+    public GroupCartStore(@Value("${group.cart.lock-stripes:64}") int lockStripes) {
+        if (lockStripes <= 0) {
+            throw new IllegalArgumentException("Lock stripes must be positive");
+        }
+        stripes = new ReentrantLock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Opens a cart for the host.
+     *
+     * @throws IllegalArgumentException when the host or the store has reached its open cart limit
+     */
+    public GroupCart create(UUID hostId, String hostName, UUID restaurantId) {
+        if (openCarts.incrementAndGet() > maxOpen) {
+            openCarts.decrementAndGet();
+            throw new IllegalArgumentException(ErrorConstants.GROUP_CART_CAPACITY_REACHED_MESSAGE);
+        }
+        try {
+            openCartsByHost.merge(hostId, 1, (open, one) -> {
+                if (open >= maxOpenPerHost) {
+                    throw new IllegalArgumentException(ErrorConstants.GROUP_CART_HOST_LIMIT_MESSAGE);
+                }
+                return open + one;
+            });
+        } catch (IllegalArgumentException e) {
+            openCarts.decrementAndGet();
+            throw e;
+        }
+        // Random, not time-ordered: the cart id is the invite and must not be guessable
+        GroupCart cart = new GroupCart(UUID.randomUUID(), hostId, hostName, restaurantId, LocalDateTime.now());
+        carts.put(cart.getId(), cart);
+        return cart;
+    }
+
+    /**
+     * Runs {@code action} on the cart while holding its stripe.
+     *
+     * @throws IllegalArgumentException when the cart does not exist (or was just removed)
+     */
+    public <T> T withCart(UUID cartId, Function<GroupCart, T> action) {
+        ReentrantLock lock = stripeOf(cartId);
+        lock.lock();
+        try {
+            GroupCart cart = carts.get(cartId);
+            if (cart == null) {
+                throw new IllegalArgumentException(ErrorConstants.GROUP_CART_NOT_FOUND_MESSAGE);
+            }
+            return action.apply(cart);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the cart; callers already inside {@link #withCart} for it may call this.
+     */
+    public void remove(UUID cartId) {
+        ReentrantLock lock = stripeOf(cartId);
+        lock.lock();
+        try {
+            release(carts.remove(cartId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return carts.size();
+    }
+
+    @Scheduled(fixedDelayString = "${group.cart.sweep-interval-ms:60000}",
+            initialDelayString = "${group.cart.sweep-interval-ms:60000}")
+    public void expireIdleCarts() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(ttlMinutes);
+        int expired = 0;
+        for (UUID cartId : carts.keySet()) {
+            ReentrantLock lock = stripeOf(cartId);
+            lock.lock();
+            try {
+                GroupCart cart = carts.get(cartId);
+                // A cart being checked out is left to finish
+                if (cart != null && cart.getStatus() == GroupCart.Status.OPEN && cart.getLastActivityAt().isBefore(cutoff)) {
+                    release(carts.remove(cartId));
+                    expired++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (expired > 0) {
+            log.info("Expired {} idle group carts", expired);
+        }
+    }
+
+    private void release(GroupCart removed) {
+        if (removed != null) {
+            openCarts.decrementAndGet();
+            openCartsByHost.computeIfPresent(removed.getHostId(), (hostId, open) -> open > 1 ? open - 1 : null);
+        }
+    }
+
+    private ReentrantLock stripeOf(UUID cartId) {
+        int hash = cartId.hashCode();
+        // Spread the high bits so neighbouring ids land on different stripes
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+}
@@ -40,6 +40,11 @@ public final class DtoMapper {
                 .name(restaurant.getName())
                 .description(restaurant.getDescription())
                 .blocked(restaurant.getBlocked())
+                .acceptTimeoutMinutes(restaurant.getAcceptTimeoutMinutes())
+                .taxRatePercent(restaurant.getTaxRatePercent())
+                .deliveryFee(restaurant.getDeliveryFee())
+                .freeDeliveryThreshold(restaurant.getFreeDeliveryThreshold())
+                .maxActiveOrders(restaurant.getMaxActiveOrders())
                 .ownerId(restaurant.getOwner() != null ? restaurant.getOwner().getId() : null)
                 .ownerName(restaurant.getOwner() != null ? restaurant.getOwner().getName() : null)
                 .createdAt(restaurant.getCreatedAt())
@@ -81,14 +86,15 @@ public final class DtoMapper {
         return OrderResponse.builder()
                 .id(order.getId())
                 .customerId(order.getCustomer() != null ? order.getCustomer().getId() : null)
-                .customerName(order.getCustomer() != null ? order.getCustomer().getName() : null)
+                .customerName(order.getCustomerName())
                 .restaurantId(order.getRestaurant() != null ? order.getRestaurant().getId() : null)
-                .restaurantName(order.getRestaurant() != null ? order.getRestaurant().getName() : null)
+                .restaurantName(order.getRestaurantName())
                 .orderDate(order.getOrderDate())
+                .scheduledFor(order.getScheduledFor())
                 .totalAmount(order.getTotalAmount())
                 .tipAmount(order.getTipAmount())
-                .couponCode(order.getCoupon() != null ? order.getCoupon().getCode() : null)
-                .discountPercent(order.getCoupon() != null ? order.getCoupon().getDiscountPercent() : null)
+                .couponCode(order.getCouponCode())
+                .discountPercent(order.getDiscountPercent())
                 .status(order.getStatus())
                 .items(itemResponses)
                 .createdAt(order.getCreatedAt())
@@ -104,9 +110,44 @@ public final class DtoMapper {
         
         return OrderResponse.OrderItemResponse.builder()
                 .mealId(orderItem.getMeal() != null ? orderItem.getMeal().getId() : null)
-                .mealName(orderItem.getMeal() != null ? orderItem.getMeal().getName() : null)
+                .mealName(orderItem.getMealName())
                 .quantity(orderItem.getQuantity())
                 .priceAtOrder(orderItem.getPriceAtOrder())
+                .participantId(orderItem.getParticipantId())
+                .participantName(orderItem.getParticipantName())
+                .build();
+    }
+
+    // Order export mapping (snapshot columns only, no associations are loaded)
+    public static OrderExportRow mapToOrderExportRow(Order order) {
+        return OrderExportRow.builder()
+                .id(order.getId())
+                .orderDate(order.getOrderDate())
+                .status(order.getStatus())
+                .customerId(order.getCustomer().getId())
+                .customerName(order.getCustomerName())
+                .restaurantId(order.getRestaurant().getId())
+                .restaurantName(order.getRestaurantName())
+                .couponCode(order.getCouponCode())
+                .discountPercent(order.getDiscountPercent())
+                .tipAmount(order.getTipAmount())
+                .totalAmount(order.getTotalAmount())
+                .build();
+    }
+
+    public static OrderExportRow mapToOrderExportRow(ArchivedOrder order) {
+        return OrderExportRow.builder()
+                .id(order.getId())
+                .orderDate(order.getOrderDate())
+                .status(order.getStatus())
+                .customerId(order.getCustomer().getId())
+                .customerName(order.getCustomerName())
+                .restaurantId(order.getRestaurant().getId())
+                .restaurantName(order.getRestaurantName())
+                .couponCode(order.getCouponCode())
+                .discountPercent(order.getDiscountPercent())
+                .tipAmount(order.getTipAmount())
+                .totalAmount(order.getTotalAmount())
                 .build();
     }
 
@@ -0,0 +1,216 @@
+package com.food.delivery.popularity;
+
+import com.food.delivery.dto.PopularMealResponse;
+import com.food.delivery.entity.MealPopularity;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.repository.MealPopularityRepository;
+import com.food.delivery.repository.RestaurantDailyMealSalesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-restaurant "popular dishes" ranking kept in memory.
+ * <p>
+ * Each restaurant has a {@link SpaceSaving} summary fed with item quantities of committed
+ * orders, so the ranking is available without aggregating order items. After every change the
+ * ranking is rebuilt into an immutable list, making reads lock-free. Summaries are checkpointed
+ * to {@code meal_popularity} periodically and restored at startup; a first start without a
+ * checkpoint is seeded from the daily meal sales rollups.
+ */
+@Component
+@Slf4j
+public class PopularMealTracker {
+
+    private static final class RestaurantSummary {
+        private final SpaceSaving<UUID> counts;
+        private final Map<UUID, String> mealNames = new HashMap<>();
+        private volatile List<PopularMealResponse> ranking = List.of();
+
+        private RestaurantSummary(int capacity) {
+            this.counts = new SpaceSaving<>(capacity);
+        }
+
+        // Callers hold the summary's monitor
+        private void publishRanking() {
+            List<SpaceSaving.Counter<UUID>> top = counts.top(counts.capacity());
+            mealNames.keySet().retainAll(top.stream().map(SpaceSaving.Counter::key).toList());
+            List<PopularMealResponse> result = new ArrayList<>(top.size());
+            for (SpaceSaving.Counter<UUID> counter : top) {
+                result.add(PopularMealResponse.builder()
+                        .rank(result.size() + 1)
+                        .mealId(counter.key())
+                        .mealName(mealNames.get(counter.key()))
+                        .orderedQuantity(counter.count())
+                        .guaranteedQuantity(counter.count() - counter.error())
+                        .build());
+            }
+            ranking = List.copyOf(result);
+        }
+    }
+
+    @Autowired
+    private MealPopularityRepository mealPopularityRepository;
+
+    @Autowired
+    private RestaurantDailyMealSalesRepository dailyMealSalesRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${popularity.meals.capacity:50}")
+    private int capacity;
+
+    private final Map<UUID, RestaurantSummary> summaries = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyRestaurantIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        summaries.clear();
+        List<MealPopularity> checkpoint = mealPopularityRepository.findAllOfExistingMeals();
+        if (!checkpoint.isEmpty()) {
+            // Rows arrive highest count first per restaurant, so a smaller capacity keeps the leaders
+            for (MealPopularity row : checkpoint) {
+                RestaurantSummary summary = summaryOf(row.getRestaurantId());
+                summary.counts.restore(row.getMealId(), row.getOrderCount(), row.getCountError());
+                summary.mealNames.put(row.getMealId(), row.getMealName());
+            }
+            summaries.values().forEach(RestaurantSummary::publishRanking);
+            log.info("Popular meals restored from checkpoint - restaurants: {}, meals: {}",
+                    summaries.size(), checkpoint.size());
+            return;
+        }
+        List<Object[]> totals = dailyMealSalesRepository.sumQuantityByMeal();
+        for (Object[] row : totals) {
+            UUID restaurantId = (UUID) row[0];
+            UUID mealId = (UUID) row[1];
+            RestaurantSummary summary = summaryOf(restaurantId);
+            summary.counts.offer(mealId, ((Number) row[3]).longValue());
+            summary.mealNames.put(mealId, (String) row[2]);
+            dirtyRestaurantIds.add(restaurantId);
+        }
+        summaries.values().forEach(RestaurantSummary::publishRanking);
+        log.info("Popular meals seeded from sales rollups - restaurants: {}, meals: {}",
+                summaries.size(), totals.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        // Popularity counts what was ordered; later cancellations are not subtracted
+        if (event.type() != ChangeType.CREATED || event.items().isEmpty()) {
+            return;
+        }
+        RestaurantSummary summary = summaryOf(event.restaurantId());
+        synchronized (summary) {
+            for (OrderChangedEvent.Line line : event.items()) {
+                summary.counts.offer(line.mealId(), line.quantity());
+                summary.mealNames.put(line.mealId(), line.mealName());
+            }
+            summary.publishRanking();
+        }
+        dirtyRestaurantIds.add(event.restaurantId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMealChanged(MealChangedEvent event) {
+        RestaurantSummary summary = event.restaurantId() != null ? summaries.get(event.restaurantId()) : null;
+        if (summary == null) {
+            return;
+        }
+        synchronized (summary) {
+            if (event.type() == ChangeType.DELETED) {
+                summary.counts.remove(event.mealId());
+            } else if (summary.mealNames.containsKey(event.mealId())) {
+                summary.mealNames.put(event.mealId(), event.name());
+            } else {
+                return;
+            }
+            summary.publishRanking();
+        }
+        dirtyRestaurantIds.add(event.restaurantId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            // Checkpoint rows are removed with the restaurant by cascade
+            summaries.remove(event.restaurantId());
+            dirtyRestaurantIds.remove(event.restaurantId());
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} meals of the restaurant, most ordered first.
+     */
+    public List<PopularMealResponse> getPopularMeals(UUID restaurantId, int limit) {
+        RestaurantSummary summary = summaries.get(restaurantId);
+        if (summary == null || limit <= 0) {
+            return List.of();
+        }
+        List<PopularMealResponse> ranking = summary.ranking;
+        return ranking.size() <= limit ? ranking : ranking.subList(0, limit);
+    }
+
+    @Scheduled(fixedDelayString = "${popularity.meals.checkpoint-interval-ms:60000}",
+            initialDelayString = "${popularity.meals.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        int written = 0;
+        for (UUID restaurantId : List.copyOf(dirtyRestaurantIds)) {
+            dirtyRestaurantIds.remove(restaurantId);
+            RestaurantSummary summary = summaries.get(restaurantId);
+            if (summary == null) {
+                continue;
+            }
+            List<PopularMealResponse> ranking = summary.ranking;
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    mealPopularityRepository.deleteByRestaurantId(restaurantId);
+                    mealPopularityRepository.saveAll(ranking.stream().map(entry -> toRow(restaurantId, entry)).toList());
+                });
+                written++;
+            } catch (DataAccessException e) {
+                // Typically the restaurant was deleted meanwhile; retry on the next run if it still exists
+                if (summaries.containsKey(restaurantId)) {
+                    dirtyRestaurantIds.add(restaurantId);
+                }
+                log.warn("Popular meals checkpoint failed for restaurant: {} - Error: {}", restaurantId, e.getMessage());
+            }
+        }
+        if (written > 0) {
+            log.debug("Popular meals checkpointed for {} restaurants", written);
+        }
+    }
+
+    private RestaurantSummary summaryOf(UUID restaurantId) {
+        return summaries.computeIfAbsent(restaurantId, id -> new RestaurantSummary(capacity));
+    }
+
+    private static MealPopularity toRow(UUID restaurantId, PopularMealResponse entry) {
+        MealPopularity row = new MealPopularity();
+        row.setRestaurantId(restaurantId);
+        row.setMealId(entry.getMealId());
+        row.setMealName(entry.getMealName());
+        row.setOrderCount(entry.getOrderedQuantity());
+        row.setCountError(entry.getOrderedQuantity() - entry.getGuaranteedQuantity());
+        return row;
+    }
+}
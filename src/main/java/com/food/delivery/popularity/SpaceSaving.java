@@ -0,0 +1,128 @@
+package com.food.delivery.popularity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving heavy-hitter summary (Metwally et al.) over a weighted stream of keys.
+ * <p>
+ * Keeps at most {@code capacity} counters. When an untracked key arrives and the summary is
+ * full, the smallest counter is taken over: the new key inherits its count as {@code error}.
+ * Estimates never undercount, overcount by at most {@code error}, and any key whose true
+ * total exceeds {@code streamTotal / capacity} is guaranteed to be tracked.
+ * Not thread-safe; callers serialize access.
+ */
+public final class SpaceSaving<K> {
+
+    /**
+     * One tracked key. {@code count - error} is a guaranteed lower bound of its true total.
+     */
+    public record Counter<K>(K key, long count, long error) {
+    }
+
+    private static final class Slot<K> {
+        private final K key;
+        private final long sequence;
+        private long count;
+        private long error;
+
+        private Slot(K key, long sequence, long count, long error) {
+            this.key = key;
+            this.sequence = sequence;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    // Ascending by count; the sequence makes slots with equal counts distinct
+    private static final Comparator<Slot<?>> BY_COUNT = Comparator
+            .<Slot<?>>comparingLong(slot -> slot.count)
+            .thenComparingLong(slot -> slot.sequence);
+
+    private final int capacity;
+    private final Map<K, Slot<K>> slots = new HashMap<>();
+    private final TreeSet<Slot<K>> byCount = new TreeSet<>(BY_COUNT);
+    private long nextSequence;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds {@code weight} occurrences of {@code key} in O(log capacity).
+     */
+    public void offer(K key, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+        Slot<K> slot = slots.get(key);
+        if (slot != null) {
+            byCount.remove(slot);
+            slot.count += weight;
+            byCount.add(slot);
+            return;
+        }
+        long inherited = 0;
+        if (slots.size() >= capacity) {
+            Slot<K> min = byCount.pollFirst();
+            slots.remove(min.key);
+            inherited = min.count;
+        }
+        insert(key, inherited + weight, inherited);
+    }
+
+    /**
+     * Restores a counter from a checkpoint. Ignored once the summary is full.
+     */
+    public void restore(K key, long count, long error) {
+        if (slots.containsKey(key) || slots.size() >= capacity || count <= 0) {
+            return;
+        }
+        insert(key, count, Math.min(Math.max(error, 0), count));
+    }
+
+    /**
+     * Stops tracking {@code key}, freeing its counter.
+     */
+    public void remove(K key) {
+        Slot<K> slot = slots.remove(key);
+        if (slot != null) {
+            byCount.remove(slot);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} counters, highest count first.
+     */
+    public List<Counter<K>> top(int limit) {
+        List<Counter<K>> result = new ArrayList<>(Math.min(Math.max(limit, 0), slots.size()));
+        for (Slot<K> slot : byCount.descendingSet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(new Counter<>(slot.key, slot.count, slot.error));
+        }
+        return result;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private void insert(K key, long count, long error) {
+        Slot<K> slot = new Slot<>(key, nextSequence++, count, error);
+        slots.put(key, slot);
+        byCount.add(slot);
+    }
+}
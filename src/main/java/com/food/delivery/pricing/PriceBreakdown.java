@@ -0,0 +1,38 @@
+package com.food.delivery.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * Priced order, in cents. The amount accessors convert at the boundary.
+ */
+public record PriceBreakdown(long itemsTotalCents,
+                             long discountCents,
+                             long taxCents,
+                             long deliveryFeeCents,
+                             long tipCents,
+                             long totalCents) {
+
+    public BigDecimal itemsTotal() {
+        return PricingEngine.toAmount(itemsTotalCents);
+    }
+
+    public BigDecimal discount() {
+        return PricingEngine.toAmount(discountCents);
+    }
+
+    public BigDecimal tax() {
+        return PricingEngine.toAmount(taxCents);
+    }
+
+    public BigDecimal deliveryFee() {
+        return PricingEngine.toAmount(deliveryFeeCents);
+    }
+
+    public BigDecimal tip() {
+        return PricingEngine.toAmount(tipCents);
+    }
+
+    public BigDecimal total() {
+        return PricingEngine.toAmount(totalCents);
+    }
+}
@@ -0,0 +1,98 @@
+package com.food.delivery.pricing;
+
+/**
+ * Mutable per-request state a {@link PricingPipeline} runs over, in cents.
+ * <p>
+ * Callers add the order lines, coupon and tip; stages then move amounts into the running
+ * total through the {@code add*} methods. Not thread-safe; one context prices one order.
+ */
+public final class PricingContext {
+
+    private final Integer discountPercent;
+    private final long requestedTipCents;
+
+    private long linesTotalCents;
+    private long itemsTotalCents;
+    private long discountCents;
+    private long taxCents;
+    private long deliveryFeeCents;
+    private long tipCents;
+    private long totalCents;
+
+    /**
+     * @param discountPercent coupon percentage, or {@code null} without a coupon
+     */
+    public PricingContext(Integer discountPercent, long tipCents) {
+        this.discountPercent = discountPercent;
+        this.requestedTipCents = tipCents;
+    }
+
+    /**
+     * Adds one order line and returns its total.
+     */
+    public long addLine(long unitPriceCents, int quantity) {
+        long lineTotal = PricingEngine.lineTotal(unitPriceCents, quantity);
+        linesTotalCents = Math.addExact(linesTotalCents, lineTotal);
+        return lineTotal;
+    }
+
+    public Integer discountPercent() {
+        return discountPercent;
+    }
+
+    public long requestedTipCents() {
+        return requestedTipCents;
+    }
+
+    public long linesTotalCents() {
+        return linesTotalCents;
+    }
+
+    public long itemsTotalCents() {
+        return itemsTotalCents;
+    }
+
+    /**
+     * Items total after discount; the base for tax and free delivery.
+     */
+    public long subtotalCents() {
+        return itemsTotalCents - discountCents;
+    }
+
+    public long totalCents() {
+        return totalCents;
+    }
+
+    public void addItems(long cents) {
+        itemsTotalCents = Math.addExact(itemsTotalCents, cents);
+        totalCents = Math.addExact(totalCents, cents);
+    }
+
+    public void addDiscount(long cents) {
+        discountCents = Math.addExact(discountCents, cents);
+        totalCents = Math.subtractExact(totalCents, cents);
+    }
+
+    public void addTax(long cents) {
+        taxCents = Math.addExact(taxCents, cents);
+        totalCents = Math.addExact(totalCents, cents);
+    }
+
+    public void addDeliveryFee(long cents) {
+        deliveryFeeCents = Math.addExact(deliveryFeeCents, cents);
+        totalCents = Math.addExact(totalCents, cents);
+    }
+
+    public void addTip(long cents) {
+        tipCents = Math.addExact(tipCents, cents);
+        totalCents = Math.addExact(totalCents, cents);
+    }
+
+    public void floorTotal(long minimumCents) {
+        totalCents = Math.max(totalCents, minimumCents);
+    }
+
+    public PriceBreakdown toBreakdown() {
+        return new PriceBreakdown(itemsTotalCents, discountCents, taxCents, deliveryFeeCents, tipCents, totalCents);
+    }
+}
@@ -0,0 +1,88 @@
+package com.food.delivery.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Order pricing in fixed-point {@code long} cents.
+ * <p>
+ * Rounding policy: amounts enter with {@link #toCents(BigDecimal)}, rounded HALF_UP to the
+ * cent, the same scale the DECIMAL(10,2) columns keep. Percentage discounts are rounded HALF_UP
+ * to the cent and capped at the items total; the final total never goes below zero. All
+ * arithmetic is exact and throws {@link ArithmeticException} on overflow. {@link BigDecimal}
+ * appears only at the entity/DTO boundary.
+ */
+public final class PricingEngine {
+
+    private static final int CENTS_SCALE = 2;
+
+    private PricingEngine() {
+        // Utility class - prevent instantiation
+    }
+
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(CENTS_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE);
+    }
+
+    public static long lineTotal(long unitPriceCents, int quantity) {
+        return Math.multiplyExact(unitPriceCents, quantity);
+    }
+
+    /**
+     * Converts a percentage with up to two decimals (e.g. 8.25) to basis points (825), HALF_UP.
+     */
+    public static long toBasisPoints(BigDecimal percent) {
+        return toCents(percent);
+    }
+
+    /**
+     * {@code percent}% of {@code cents}, rounded HALF_UP (away from zero on a tie).
+     */
+    public static long percentOf(long cents, int percent) {
+        return divideHalfUp(Math.multiplyExact(cents, percent), 100);
+    }
+
+    /**
+     * {@code basisPoints}/10000 of {@code cents}, rounded HALF_UP.
+     */
+    public static long basisPointsOf(long cents, long basisPoints) {
+        return divideHalfUp(Math.multiplyExact(cents, basisPoints), 10_000);
+    }
+
+    public static long discount(long itemsTotalCents, Integer discountPercent) {
+        if (discountPercent == null) {
+            return 0L;
+        }
+        return Math.min(percentOf(itemsTotalCents, discountPercent), itemsTotalCents);
+    }
+
+    public static long total(long itemsTotalCents, long discountCents, long tipCents) {
+        long total = Math.addExact(Math.subtractExact(itemsTotalCents, discountCents), tipCents);
+        return Math.max(total, 0L);
+    }
+
+    /**
+     * Prices an order whose line totals are already summed into {@code itemsTotalCents}.
+     *
+     * @param discountPercent coupon percentage, or {@code null} without a coupon
+     */
+    public static PriceBreakdown price(long itemsTotalCents, Integer discountPercent, long tipCents) {
+        long discount = discount(itemsTotalCents, discountPercent);
+        return new PriceBreakdown(itemsTotalCents, discount, 0L, 0L, tipCents, total(itemsTotalCents, discount, tipCents));
+    }
+
+    private static long divideHalfUp(long value, long divisor) {
+        long result = value / divisor;
+        if (Math.abs(value % divisor) * 2 >= divisor) {
+            result += Long.signum(value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.food.delivery.pricing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable chain of {@link PricingStage}s. Built once per set of {@link PricingRules} and
+ * reused for every order, so pricing a request only runs the stages.
+ */
+public final class PricingPipeline {
+
+    private final PricingStage[] stages;
+
+    private PricingPipeline(List<PricingStage> stages) {
+        this.stages = stages.toArray(PricingStage[]::new);
+    }
+
+    public static PricingPipeline of(List<PricingStage> stages) {
+        return new PricingPipeline(stages);
+    }
+
+    /**
+     * Items, discount, tax, delivery fee, tip, floor at zero. Stages whose rule is zero are left out.
+     */
+    public static PricingPipeline compile(PricingRules rules) {
+        List<PricingStage> stages = new ArrayList<>(6);
+        stages.add(PricingStages.items());
+        stages.add(PricingStages.discount());
+        if (rules.taxRateBasisPoints() > 0) {
+            stages.add(PricingStages.tax(rules.taxRateBasisPoints()));
+        }
+        if (rules.deliveryFeeCents() > 0) {
+            stages.add(PricingStages.deliveryFee(rules.deliveryFeeCents(), rules.freeDeliveryThresholdCents()));
+        }
+        stages.add(PricingStages.tip());
+        stages.add(PricingStages.floorAtZero());
+        return new PricingPipeline(stages);
+    }
+
+    public PriceBreakdown price(PricingContext context) {
+        for (PricingStage stage : stages) {
+            stage.apply(context);
+        }
+        return context.toBreakdown();
+    }
+
+    public int size() {
+        return stages.length;
+    }
+}
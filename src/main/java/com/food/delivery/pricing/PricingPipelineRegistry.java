@@ -0,0 +1,69 @@
+package com.food.delivery.pricing;
+
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.RestaurantChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled {@link PricingPipeline} per restaurant.
+ * <p>
+ * A restaurant's rules fall back to the {@code pricing.*} defaults field by field. The cached
+ * pipeline is reused while the restaurant's resolved rules stay equal to the ones it was
+ * compiled from, so an edit is picked up on the next order without relying on event timing.
+ */
+@Component
+@Slf4j
+public class PricingPipelineRegistry {
+
+    private record Compiled(PricingRules rules, PricingPipeline pipeline) {
+    }
+
+    @Value("${pricing.tax-rate-percent:0}")
+    private BigDecimal defaultTaxRatePercent;
+
+    @Value("${pricing.delivery-fee:0}")
+    private BigDecimal defaultDeliveryFee;
+
+    @Value("${pricing.free-delivery-threshold:#{null}}")
+    private BigDecimal defaultFreeDeliveryThreshold;
+
+    private final Map<UUID, Compiled> pipelines = new ConcurrentHashMap<>();
+
+    public PricingPipeline pipelineFor(Restaurant restaurant) {
+        PricingRules rules = rulesOf(restaurant);
+        Compiled compiled = pipelines.get(restaurant.getId());
+        if (compiled == null || !compiled.rules().equals(rules)) {
+            compiled = new Compiled(rules, PricingPipeline.compile(rules));
+            pipelines.put(restaurant.getId(), compiled);
+            log.debug("Pricing pipeline compiled for restaurant: {} - rules: {}", restaurant.getId(), rules);
+        }
+        return compiled.pipeline();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            pipelines.remove(event.restaurantId());
+        }
+    }
+
+    PricingRules rulesOf(Restaurant restaurant) {
+        BigDecimal threshold = restaurant.getFreeDeliveryThreshold() != null
+                ? restaurant.getFreeDeliveryThreshold() : defaultFreeDeliveryThreshold;
+        return new PricingRules(
+                PricingEngine.toBasisPoints(restaurant.getTaxRatePercent() != null
+                        ? restaurant.getTaxRatePercent() : defaultTaxRatePercent),
+                PricingEngine.toCents(restaurant.getDeliveryFee() != null
+                        ? restaurant.getDeliveryFee() : defaultDeliveryFee),
+                threshold != null ? PricingEngine.toCents(threshold) : null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.food.delivery.pricing;
+
+/**
+ * A restaurant's effective pricing configuration, already resolved against platform defaults.
+ *
+ * @param freeDeliveryThresholdCents subtotal from which delivery is free, or {@code null} for never
+ */
+public record PricingRules(long taxRateBasisPoints, long deliveryFeeCents, Long freeDeliveryThresholdCents) {
+}
@@ -0,0 +1,11 @@
+package com.food.delivery.pricing;
+
+/**
+ * One step of a {@link PricingPipeline}. Stages hold their configuration already converted
+ * to cents or basis points, so applying one is plain long arithmetic.
+ */
+@FunctionalInterface
+public interface PricingStage {
+
+    void apply(PricingContext context);
+}
@@ -0,0 +1,61 @@
+package com.food.delivery.pricing;
+
+/**
+ * The built-in {@link PricingStage}s, in the order {@link PricingPipeline#compile} chains them.
+ */
+public final class PricingStages {
+
+    private static final PricingStage ITEMS = context -> context.addItems(context.linesTotalCents());
+
+    private static final PricingStage DISCOUNT = context ->
+            context.addDiscount(PricingEngine.discount(context.itemsTotalCents(), context.discountPercent()));
+
+    private static final PricingStage TIP = context -> context.addTip(context.requestedTipCents());
+
+    private static final PricingStage FLOOR_AT_ZERO = context -> context.floorTotal(0L);
+
+    private PricingStages() {
+        // Utility class - prevent instantiation
+    }
+
+    public static PricingStage items() {
+        return ITEMS;
+    }
+
+    /**
+     * Coupon percentage of the items total, HALF_UP to the cent, capped at the items total.
+     */
+    public static PricingStage discount() {
+        return DISCOUNT;
+    }
+
+    /**
+     * Tax on the discounted subtotal, HALF_UP to the cent.
+     */
+    public static PricingStage tax(long rateBasisPoints) {
+        return context -> context.addTax(PricingEngine.basisPointsOf(Math.max(context.subtotalCents(), 0L), rateBasisPoints));
+    }
+
+    /**
+     * Flat fee, waived once the discounted subtotal reaches {@code freeThresholdCents} (if set).
+     */
+    public static PricingStage deliveryFee(long feeCents, Long freeThresholdCents) {
+        if (freeThresholdCents == null) {
+            return context -> context.addDeliveryFee(feeCents);
+        }
+        long threshold = freeThresholdCents;
+        return context -> {
+            if (context.subtotalCents() < threshold) {
+                context.addDeliveryFee(feeCents);
+            }
+        };
+    }
+
+    public static PricingStage tip() {
+        return TIP;
+    }
+
+    public static PricingStage floorAtZero() {
+        return FLOOR_AT_ZERO;
+    }
+}
@@ -0,0 +1,36 @@
+package com.food.delivery.ratelimit;
+
+/**
+ * Request classes with separate rate limit budgets, so a burst of reads cannot use up a
+ * client's order placements or logins. Sensitive budgets stay limited for clients the
+ * limiter has no room to track.
+ */
+public enum RateLimitBudget {
+    AUTH(true),
+    ORDER_CREATE(true),
+    READ(false),
+    WRITE(false);
+
+    private final boolean sensitive;
+
+    RateLimitBudget(boolean sensitive) {
+        this.sensitive = sensitive;
+    }
+
+    public boolean isSensitive() {
+        return sensitive;
+    }
+
+    public static RateLimitBudget of(String method, String path) {
+        if (path.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return READ;
+        }
+        if (path.startsWith("/api/orders/create") || path.startsWith("/api/group-orders/create/")) {
+            return ORDER_CREATE;
+        }
+        return WRITE;
+    }
+}
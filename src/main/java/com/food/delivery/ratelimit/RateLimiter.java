@@ -0,0 +1,168 @@
+package com.food.delivery.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client token buckets, one per client and {@link RateLimitBudget}.
+ * <p>
+ * Buckets are spread over {@code ratelimit.stripes} maps by key hash, each holding at most its
+ * share of {@code ratelimit.max-clients}. Full buckets are swept on an interval, and a stripe
+ * at its bound sweeps itself before taking a new client. A client that still finds no room does
+ * not evict others: for reads and writes it is let through untracked, while for
+ * {@linkplain RateLimitBudget#isSensitive() sensitive} budgets it draws from a bucket the stripe
+ * shares among all such clients, so rotating client keys cannot bypass login or order limits.
+ * Both cases are counted.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${ratelimit.stripes:16}")
+    private int stripeCount;
+
+    @Value("${ratelimit.max-clients:100000}")
+    private int maxClients;
+
+    @Value("${ratelimit.auth.capacity:10}")
+    private int authCapacity;
+
+    @Value("${ratelimit.auth.per-minute:10}")
+    private int authPerMinute;
+
+    @Value("${ratelimit.order-create.capacity:10}")
+    private int orderCreateCapacity;
+
+    @Value("${ratelimit.order-create.per-minute:30}")
+    private int orderCreatePerMinute;
+
+    @Value("${ratelimit.read.capacity:100}")
+    private int readCapacity;
+
+    @Value("${ratelimit.read.per-minute:600}")
+    private int readPerMinute;
+
+    @Value("${ratelimit.write.capacity:30}")
+    private int writeCapacity;
+
+    @Value("${ratelimit.write.per-minute:120}")
+    private int writePerMinute;
+
+    private final Map<RateLimitBudget, TokenBucket.Rate> rates = new EnumMap<>(RateLimitBudget.class);
+    private final Map<RateLimitBudget, Counter> rejectedCounters = new EnumMap<>(RateLimitBudget.class);
+    private ConcurrentHashMap<String, TokenBucket>[] stripes;
+    // [stripe][budget] bucket shared by clients that found their stripe full
+    private TokenBucket[][] overflowBuckets;
+    private int maxPerStripe;
+    private Counter untrackedCounter;
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    void init() {
+        rates.put(RateLimitBudget.AUTH, TokenBucket.Rate.perMinute(authCapacity, authPerMinute));
+        rates.put(RateLimitBudget.ORDER_CREATE, TokenBucket.Rate.perMinute(orderCreateCapacity, orderCreatePerMinute));
+        rates.put(RateLimitBudget.READ, TokenBucket.Rate.perMinute(readCapacity, readPerMinute));
+        rates.put(RateLimitBudget.WRITE, TokenBucket.Rate.perMinute(writeCapacity, writePerMinute));
+
+        stripes = new ConcurrentHashMap[stripeCount];
+        overflowBuckets = new TokenBucket[stripeCount][RateLimitBudget.values().length];
+        long now = System.nanoTime();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+            for (RateLimitBudget budget : RateLimitBudget.values()) {
+                overflowBuckets[i][budget.ordinal()] = new TokenBucket(now);
+            }
+        }
+        maxPerStripe = Math.max(1, maxClients / stripeCount);
+
+        for (RateLimitBudget budget : RateLimitBudget.values()) {
+            rejectedCounters.put(budget, Counter.builder("fooddelivery.ratelimit.rejected")
+                    .description("Requests refused by the rate limiter")
+                    .tag("budget", budget.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        untrackedCounter = Counter.builder("fooddelivery.ratelimit.untracked")
+                .description("Requests from clients beyond the rate limiter's client bound")
+                .register(meterRegistry);
+        Gauge.builder("fooddelivery.ratelimit.clients", this, RateLimiter::size)
+                .description("Clients with a rate limit bucket in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the client's bucket for the budget. Returns 0 when the request may
+     * proceed, otherwise the seconds to wait before retrying.
+     */
+    public long tryAcquire(RateLimitBudget budget, String clientKey) {
+        long now = System.nanoTime();
+        String key = budget.ordinal() + ":" + clientKey;
+        int stripeIndex = (key.hashCode() & Integer.MAX_VALUE) % stripes.length;
+        ConcurrentHashMap<String, TokenBucket> stripe = stripes[stripeIndex];
+        TokenBucket bucket = stripe.get(key);
+        if (bucket == null) {
+            if (stripe.size() >= maxPerStripe) {
+                sweep(stripe, now);
+            }
+            if (stripe.size() >= maxPerStripe) {
+                untrackedCounter.increment();
+                if (!budget.isSensitive()) {
+                    return 0;
+                }
+                bucket = overflowBuckets[stripeIndex][budget.ordinal()];
+            } else {
+                bucket = stripe.computeIfAbsent(key, k -> new TokenBucket(now));
+            }
+        }
+
+        long waitNanos = bucket.tryConsume(rates.get(budget), now);
+        if (waitNanos == 0) {
+            return 0;
+        }
+        rejectedCounters.get(budget).increment();
+        // Round up so a client retrying on time finds a token
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    @Scheduled(fixedDelayString = "${ratelimit.sweep-interval-ms:60000}",
+            initialDelayString = "${ratelimit.sweep-interval-ms:60000}")
+    public void sweepFullBuckets() {
+        long now = System.nanoTime();
+        int before = size();
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            sweep(stripe, now);
+        }
+        int swept = before - size();
+        if (swept > 0) {
+            log.debug("Swept {} idle rate limit buckets", swept);
+        }
+    }
+
+    private static void sweep(ConcurrentHashMap<String, TokenBucket> stripe, long now) {
+        // A full bucket behaves like a new one, so removing it cannot let a client through early
+        stripe.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
@@ -0,0 +1,54 @@
+package com.food.delivery.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket held in a single long: the time at which the bucket would be full
+ * again. Taking a token pushes that time one refill interval further; the request is refused
+ * when it would lie more than the bucket's capacity ahead of now. A bucket whose time has
+ * passed is full, so dropping it loses nothing.
+ */
+public final class TokenBucket {
+
+    /**
+     * @param capacity     tokens a client may spend in a burst
+     * @param refillNanos  time to earn back one token
+     */
+    public record Rate(int capacity, long refillNanos) {
+
+        public static Rate perMinute(int capacity, int tokensPerMinute) {
+            if (capacity <= 0 || tokensPerMinute <= 0) {
+                throw new IllegalArgumentException("Rate limit capacity and refill must be positive");
+            }
+            return new Rate(capacity, 60_000_000_000L / tokensPerMinute);
+        }
+    }
+
+    private final AtomicLong fullAtNanos;
+
+    public TokenBucket(long nowNanos) {
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token. Returns 0 when granted, otherwise the nanoseconds until one is available.
+     */
+    public long tryConsume(Rate rate, long nowNanos) {
+        long burstNanos = rate.capacity() * rate.refillNanos();
+        while (true) {
+            long fullAt = fullAtNanos.get();
+            long next = Math.max(fullAt, nowNanos) + rate.refillNanos();
+            long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isFull(long nowNanos) {
+        return fullAtNanos.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.food.delivery.repository;
+
+import com.food.delivery.entity.ArchivedOrder;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, UUID> {
+
+    // Streaming export, same as OrderRepository (MySQL needs useCursorFetch=true for the fetch size)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select o from ArchivedOrder o where o.orderDate between :from and :to order by o.orderDate")
+    Stream<ArchivedOrder> streamByOrderDateBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select o from ArchivedOrder o where o.restaurant.owner.id = :ownerId and o.orderDate between :from and :to order by o.orderDate")
+    Stream<ArchivedOrder> streamByRestaurantOwnerIdAndOrderDateBetween(@Param("ownerId") UUID ownerId,
+                                                                       @Param("from") LocalDateTime from,
+                                                                       @Param("to") LocalDateTime to);
+
+    @Query("select o.status, count(o), sum(o.totalAmount) from ArchivedOrder o group by o.status")
+    List<Object[]> countAndSumByStatus();
+}
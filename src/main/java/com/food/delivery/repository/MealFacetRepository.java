@@ -0,0 +1,20 @@
+package com.food.delivery.repository;
+
+import com.food.delivery.entity.Meal;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Aggregate queries over meals that Spring Data cannot derive.
+ */
+public interface MealFacetRepository {
+
+    /**
+     * Counts meals matching the specification per price bucket in a single query.
+     * Bucket {@code i} covers {@code [boundaries[i-1], boundaries[i])}; the first bucket is open
+     * below and the last is open above, so the result has {@code boundaries.size() + 1} entries.
+     */
+    long[] countByPriceBuckets(Specification<Meal> specification, List<BigDecimal> boundaries);
+}
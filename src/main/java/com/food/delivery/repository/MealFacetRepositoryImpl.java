@@ -0,0 +1,59 @@
+package com.food.delivery.repository;
+
+import com.food.delivery.entity.Meal;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+class MealFacetRepositoryImpl implements MealFacetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long[] countByPriceBuckets(Specification<Meal> specification, List<BigDecimal> boundaries) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Meal> root = query.from(Meal.class);
+        Expression<BigDecimal> price = root.get("price");
+
+        // SUM(CASE WHEN <bucket> THEN 1 ELSE 0 END) per bucket
+        List<Selection<?>> selections = new ArrayList<>(boundaries.size() + 1);
+        for (int i = 0; i <= boundaries.size(); i++) {
+            List<Predicate> bounds = new ArrayList<>(2);
+            if (i > 0) {
+                bounds.add(cb.greaterThanOrEqualTo(price, boundaries.get(i - 1)));
+            }
+            if (i < boundaries.size()) {
+                bounds.add(cb.lessThan(price, boundaries.get(i)));
+            }
+            Expression<Long> hit = cb.<Long>selectCase()
+                    .when(cb.and(bounds.toArray(Predicate[]::new)), 1L)
+                    .otherwise(0L);
+            selections.add(cb.sum(hit));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = specification != null ? specification.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Object[] row = entityManager.createQuery(query).getSingleResult();
+        long[] counts = new long[row.length];
+        for (int i = 0; i < row.length; i++) {
+            counts[i] = row[i] != null ? ((Number) row[i]).longValue() : 0L;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,24 @@
+package com.food.delivery.repository;
+
+import com.food.delivery.entity.MealPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MealPopularityRepository extends JpaRepository<MealPopularity, UUID> {
+
+    // Skips meals deleted after the last checkpoint
+    @Query("select p from MealPopularity p where exists (select m.id from Meal m where m.id = p.mealId) " +
+            "order by p.restaurantId, p.orderCount desc")
+    List<MealPopularity> findAllOfExistingMeals();
+
+    @Modifying
+    @Query("delete from MealPopularity p where p.restaurantId = :restaurantId")
+    int deleteByRestaurantId(@Param("restaurantId") UUID restaurantId);
+}
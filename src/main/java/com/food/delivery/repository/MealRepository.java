@@ -3,6 +3,8 @@ package com.food.delivery.repository;
 import com.food.delivery.entity.Meal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -12,7 +14,12 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface MealRepository extends JpaRepository<Meal, UUID>, JpaSpecificationExecutor<Meal> {
+public interface MealRepository extends JpaRepository<Meal, UUID>, JpaSpecificationExecutor<Meal>, MealFacetRepository {
+
+    // Fetch the restaurant with each page so mapping restaurant names does not issue one query per meal
+    @Override
+    @EntityGraph(attributePaths = "restaurant")
+    Page<Meal> findAll(Specification<Meal> spec, Pageable pageable);
 
     // Basic finder methods using Spring Data JPA naming conventions
     Page<Meal> findByRestaurantId(UUID restaurantId, Pageable pageable);
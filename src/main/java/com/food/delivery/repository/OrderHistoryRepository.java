@@ -0,0 +1,40 @@
+package com.food.delivery.repository;
+
+import com.food.delivery.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Order reads that span live and archived orders.
+ * <p>
+ * The archive is only queried when the requested range starts at or before the newest
+ * archived order date, so recent-history reads never touch it. Live and archived orders
+ * are merged by order date, newest first unless the pageable asks for {@code orderDate}
+ * ascending; other sorts are rejected with an {@link IllegalArgumentException}, which the
+ * repository proxy translates to an {@code InvalidDataAccessApiUsageException}. Archived
+ * orders come back as detached, read-only {@link Order} instances.
+ */
+public interface OrderHistoryRepository {
+
+    Page<Order> findHistoryByCustomerId(UUID customerId, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    Page<Order> findHistoryByRestaurantOwnerId(UUID ownerId, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    Page<Order> findHistory(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    Optional<Order> findByIdIncludingArchive(UUID orderId);
+
+    /**
+     * Newest archived order date, or empty while the archive is empty.
+     */
+    Optional<LocalDateTime> findArchivedThrough();
+
+    /**
+     * Drops the cached archive watermark; called after orders are archived.
+     */
+    void refreshArchiveWatermark();
+}
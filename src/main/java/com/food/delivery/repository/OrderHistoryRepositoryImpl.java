@@ -0,0 +1,205 @@
+package com.food.delivery.repository;
+
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.entity.ArchivedOrder;
+import com.food.delivery.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+class OrderHistoryRepositoryImpl implements OrderHistoryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Cached MAX(order_date) of the archive; null until loaded, reset whenever orders are archived
+    private volatile Optional<LocalDateTime> archivedThrough;
+
+    @Override
+    public Page<Order> findHistoryByCustomerId(UUID customerId, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return findHistory((root, cb) -> cb.equal(root.get("customer").get("id"), customerId), from, to, pageable);
+    }
+
+    @Override
+    public Page<Order> findHistoryByRestaurantOwnerId(UUID ownerId, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return findHistory((root, cb) -> cb.equal(root.get("restaurant").get("owner").get("id"), ownerId), from, to, pageable);
+    }
+
+    @Override
+    public Page<Order> findHistory(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return findHistory(null, from, to, pageable);
+    }
+
+    @Override
+    public Optional<Order> findByIdIncludingArchive(UUID orderId) {
+        Order order = entityManager.find(Order.class, orderId);
+        if (order != null) {
+            return Optional.of(order);
+        }
+        if (findArchivedThrough().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entityManager.find(ArchivedOrder.class, orderId)).map(ArchivedOrder::toOrder);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findArchivedThrough() {
+        Optional<LocalDateTime> watermark = archivedThrough;
+        if (watermark == null) {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<LocalDateTime> query = cb.createQuery(LocalDateTime.class);
+            Root<ArchivedOrder> root = query.from(ArchivedOrder.class);
+            query.select(cb.greatest(root.<LocalDateTime>get("orderDate")));
+            watermark = Optional.ofNullable(entityManager.createQuery(query).getSingleResult());
+            archivedThrough = watermark;
+        }
+        return watermark;
+    }
+
+    @Override
+    public void refreshArchiveWatermark() {
+        archivedThrough = null;
+    }
+
+    private Page<Order> findHistory(BiFunction<Root<?>, CriteriaBuilder, Predicate> scope,
+                                    LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        boolean ascending = isAscending(pageable.getSort());
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+
+        long liveTotal = count(Order.class, scope, from, to);
+        Optional<LocalDateTime> watermark = findArchivedThrough();
+        if (watermark.isEmpty() || from.isAfter(watermark.get())) {
+            List<Order> content = offset < liveTotal
+                    ? select(Order.class, scope, from, to, offset, size, ascending) : List.of();
+            return new PageImpl<>(content, pageable, liveTotal);
+        }
+
+        long total = liveTotal + count(ArchivedOrder.class, scope, from, to);
+        if (offset >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        // Non-final orders are never archived, so old ones stay live and both tables interleave
+        // by order date. Merge their leading keys the way UNION ALL ... ORDER BY ... OFFSET would,
+        // then load only the rows of the page.
+        int window = Math.toIntExact(Math.min(offset + size, total));
+        List<Object[]> liveKeys = selectKeys(Order.class, scope, from, to, window, ascending);
+        List<Object[]> archivedKeys = selectKeys(ArchivedOrder.class, scope, from, to, window, ascending);
+
+        List<UUID> pageIds = new ArrayList<>(size);
+        List<UUID> liveIds = new ArrayList<>();
+        List<UUID> archivedIds = new ArrayList<>();
+        int live = 0;
+        int archived = 0;
+        for (long position = 0; position < window; position++) {
+            boolean takeLive = archived >= archivedKeys.size()
+                    || (live < liveKeys.size() && comesFirst(liveKeys.get(live), archivedKeys.get(archived), ascending));
+            Object[] key = takeLive ? liveKeys.get(live++) : archivedKeys.get(archived++);
+            if (position >= offset) {
+                UUID id = (UUID) key[0];
+                pageIds.add(id);
+                (takeLive ? liveIds : archivedIds).add(id);
+            }
+        }
+
+        Map<UUID, Order> rows = new HashMap<>();
+        selectByIds(Order.class, liveIds).forEach(order -> rows.put(order.getId(), order));
+        selectByIds(ArchivedOrder.class, archivedIds).forEach(order -> rows.put(order.getId(), order.toOrder()));
+        List<Order> content = new ArrayList<>(pageIds.size());
+        for (UUID id : pageIds) {
+            content.add(rows.get(id));
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // Ties go to the live order, matching the order of live rows before archived ones in a union
+    private static boolean comesFirst(Object[] liveKey, Object[] archivedKey, boolean ascending) {
+        LocalDateTime liveDate = (LocalDateTime) liveKey[1];
+        LocalDateTime archivedDate = (LocalDateTime) archivedKey[1];
+        return ascending ? !liveDate.isAfter(archivedDate) : !liveDate.isBefore(archivedDate);
+    }
+
+    /**
+     * History pages can only be ordered by order date; any other sort is refused rather than ignored.
+     */
+    private static boolean isAscending(Sort sort) {
+        if (sort.isUnsorted()) {
+            return false;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1 || !orders.get(0).getProperty().equals("orderDate")) {
+            throw new IllegalArgumentException(ErrorConstants.UNSUPPORTED_HISTORY_SORT_MESSAGE);
+        }
+        return orders.get(0).isAscending();
+    }
+
+    private <T> long count(Class<T> type, BiFunction<Root<?>, CriteriaBuilder, Predicate> scope,
+                           LocalDateTime from, LocalDateTime to) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(type);
+        query.select(cb.count(root)).where(predicates(root, cb, scope, from, to));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private <T> List<T> select(Class<T> type, BiFunction<Root<?>, CriteriaBuilder, Predicate> scope,
+                               LocalDateTime from, LocalDateTime to, long offset, int limit, boolean ascending) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        query.select(root)
+                .where(predicates(root, cb, scope, from, to))
+                .orderBy(ascending ? cb.asc(root.get("orderDate")) : cb.desc(root.get("orderDate")));
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private <T> List<Object[]> selectKeys(Class<T> type, BiFunction<Root<?>, CriteriaBuilder, Predicate> scope,
+                                          LocalDateTime from, LocalDateTime to, int limit, boolean ascending) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<T> root = query.from(type);
+        query.multiselect(root.get("id"), root.get("orderDate"))
+                .where(predicates(root, cb, scope, from, to))
+                .orderBy(ascending ? cb.asc(root.get("orderDate")) : cb.desc(root.get("orderDate")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private <T> List<T> selectByIds(Class<T> type, List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        query.select(root).where(root.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static Predicate[] predicates(Root<?> root, CriteriaBuilder cb,
+                                          BiFunction<Root<?>, CriteriaBuilder, Predicate> scope,
+                                          LocalDateTime from, LocalDateTime to) {
+        Predicate inRange = cb.between(root.<LocalDateTime>get("orderDate"), from, to);
+        return scope == null ? new Predicate[]{inRange} : new Predicate[]{inRange, scope.apply(root, cb)};
+    }
+}
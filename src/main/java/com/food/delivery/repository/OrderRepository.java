@@ -2,18 +2,29 @@ package com.food.delivery.repository;
 
 import com.food.delivery.entity.Order;
 import com.food.delivery.enums.OrderStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order>, OrderHistoryRepository {
 
     // Basic finder methods using Spring Data JPA naming conventions
     Page<Order> findByCustomerId(UUID customerId, Pageable pageable);
@@ -56,4 +67,95 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
     long countByStatus(OrderStatus status);
     
     long countByRestaurantOwnerId(UUID ownerId);
+
+    // Active order board: in-flight orders with their restaurant and items in one query
+    @Query("select distinct o from Order o join fetch o.restaurant left join fetch o.orderItems where o.status in :statuses")
+    List<Order> findWithItemsByStatusIn(@Param("statuses") List<OrderStatus> statuses);
+
+    // Stale order timeout: oldest first within one SLA, a range scan on idx_orders_status_date.
+    // A released scheduled order's timeout runs from its slot, not from when it was placed.
+    @Query("select o.id from Order o where o.status = :status and o.orderDate < :cutoff " +
+            "and (o.scheduledFor is null or o.scheduledFor < :cutoff) " +
+            "and o.restaurant.acceptTimeoutMinutes = :timeoutMinutes order by o.orderDate")
+    List<UUID> findIdsByStatusAndOrderDateBeforeAndAcceptTimeout(@Param("status") OrderStatus status,
+                                                                 @Param("cutoff") LocalDateTime cutoff,
+                                                                 @Param("timeoutMinutes") Integer timeoutMinutes,
+                                                                 Pageable pageable);
+
+    @Query("select o.id from Order o where o.status = :status and o.orderDate < :cutoff " +
+            "and (o.scheduledFor is null or o.scheduledFor < :cutoff) " +
+            "and o.restaurant.acceptTimeoutMinutes is null order by o.orderDate")
+    List<UUID> findIdsByStatusAndOrderDateBeforeAndDefaultAcceptTimeout(@Param("status") OrderStatus status,
+                                                                        @Param("cutoff") LocalDateTime cutoff,
+                                                                        Pageable pageable);
+
+    // Scheduled order recovery: [id, scheduledFor] of pending orders, a range scan on idx_orders_status_scheduled_for
+    @Query("select o.id, o.scheduledFor from Order o where o.status = :status order by o.scheduledFor")
+    List<Object[]> findIdAndScheduledForByStatus(@Param("status") OrderStatus status);
+
+    @Query("select o.restaurant.id, count(o) from Order o where o.status in :statuses group by o.restaurant.id")
+    List<Object[]> countByStatusInGroupByRestaurantId(@Param("statuses") List<OrderStatus> statuses);
+
+    @Query("select o.restaurant.id, count(o) from Order o where o.customer.id = :customerId and o.status in :statuses group by o.restaurant.id")
+    List<Object[]> countByCustomerIdAndStatusInGroupByRestaurantId(@Param("customerId") UUID customerId,
+                                                                    @Param("statuses") List<OrderStatus> statuses);
+
+    long countByRestaurantIdAndStatusIn(UUID restaurantId, List<OrderStatus> statuses);
+
+    // Locks the rows still in the given status so a concurrent transition cannot interleave
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o join fetch o.restaurant where o.id in :ids and o.status = :status")
+    List<Order> findAndLockByIdInAndStatus(@Param("ids") List<UUID> ids, @Param("status") OrderStatus status);
+
+    @Modifying
+    @Query("update Order o set o.status = :to, o.updatedAt = :now where o.id in :ids and o.status = :from")
+    int updateStatusByIdIn(@Param("ids") List<UUID> ids,
+                           @Param("from") OrderStatus from,
+                           @Param("to") OrderStatus to,
+                           @Param("now") LocalDateTime now);
+
+    // Dashboard reconciliation: [status, count, totalAmount] in one pass
+    @Query("select o.status, count(o), sum(o.totalAmount) from Order o group by o.status")
+    List<Object[]> countAndSumByStatus();
+    
+    // Streaming export: rows are fetched from a cursor in chunks instead of materialized as a list
+    // (MySQL honours the fetch size only with useCursorFetch=true on the JDBC URL)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select o from Order o where o.orderDate between :from and :to order by o.orderDate")
+    Stream<Order> streamByOrderDateBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select o from Order o where o.restaurant.owner.id = :ownerId and o.orderDate between :from and :to order by o.orderDate")
+    Stream<Order> streamByRestaurantOwnerIdAndOrderDateBetween(@Param("ownerId") UUID ownerId,
+                                                               @Param("from") LocalDateTime from,
+                                                               @Param("to") LocalDateTime to);
+    
+    // Archival: move orders by id into orders_archive / order_items_archive
+    @Query("select o.id from Order o where o.status in :statuses and o.orderDate < :cutoff order by o.orderDate")
+    List<UUID> findIdsByStatusInAndOrderDateBefore(@Param("statuses") List<OrderStatus> statuses,
+                                                   @Param("cutoff") LocalDateTime cutoff,
+                                                   Pageable pageable);
+    
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive (id, customer_id, customer_name, restaurant_id, restaurant_name, " +
+            "order_date, scheduled_for, total_amount, tip_amount, coupon_id, coupon_code, discount_percent, status, created_at, updated_at) " +
+            "SELECT id, customer_id, customer_name, restaurant_id, restaurant_name, " +
+            "order_date, scheduled_for, total_amount, tip_amount, coupon_id, coupon_code, discount_percent, status, created_at, updated_at " +
+            "FROM orders WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") List<UUID> ids);
+    
+    @Modifying
+    @Query(value = "INSERT INTO order_items_archive (id, order_id, meal_id, meal_name, quantity, price_at_order, " +
+            "participant_id, participant_name, created_at, updated_at) " +
+            "SELECT id, order_id, meal_id, meal_name, quantity, price_at_order, participant_id, participant_name, created_at, updated_at " +
+            "FROM order_items WHERE order_id IN (:ids)", nativeQuery = true)
+    int copyItemsToArchive(@Param("ids") List<UUID> ids);
+    
+    @Modifying
+    @Query("delete from OrderItem oi where oi.order.id in :ids")
+    int deleteItemsByOrderIdIn(@Param("ids") List<UUID> ids);
+    
+    @Modifying
+    @Query("delete from Order o where o.id in :ids")
+    int deleteByIdIn(@Param("ids") List<UUID> ids);
 }
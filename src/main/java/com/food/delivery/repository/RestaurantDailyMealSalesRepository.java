@@ -0,0 +1,60 @@
+package com.food.delivery.repository;
+
+import com.food.delivery.entity.RestaurantDailyMealSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RestaurantDailyMealSalesRepository extends JpaRepository<RestaurantDailyMealSales, UUID> {
+
+    List<RestaurantDailyMealSales> findByRestaurantIdAndSalesDateBetween(UUID restaurantId, LocalDate from, LocalDate to);
+
+    boolean existsByRestaurantIdAndSalesDateAndMealId(UUID restaurantId, LocalDate salesDate, UUID mealId);
+
+    // Atomic in-place increment; returns 0 when the row does not exist yet
+    @Modifying
+    @Query("update RestaurantDailyMealSales s set s.quantity = s.quantity + :quantity, " +
+            "s.revenue = s.revenue + :revenue, s.mealName = :mealName, s.updatedAt = :now " +
+            "where s.restaurantId = :restaurantId and s.salesDate = :salesDate and s.mealId = :mealId")
+    int addSales(@Param("restaurantId") UUID restaurantId,
+                 @Param("salesDate") LocalDate salesDate,
+                 @Param("mealId") UUID mealId,
+                 @Param("mealName") String mealName,
+                 @Param("quantity") int quantity,
+                 @Param("revenue") BigDecimal revenue,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RestaurantDailyMealSales s where s.salesDate between :from and :to")
+    int deleteBySalesDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Rebuild sources: [restaurantId, day, mealId, mealName, quantity, revenue] of non-canceled orders
+    @Query("select oi.order.restaurant.id, cast(oi.order.orderDate as LocalDate), oi.meal.id, max(oi.mealName), " +
+            "sum(oi.quantity), sum(oi.priceAtOrder * oi.quantity) " +
+            "from OrderItem oi where oi.order.status <> com.food.delivery.enums.OrderStatus.CANCELED " +
+            "and oi.order.orderDate >= :from and oi.order.orderDate < :to " +
+            "group by oi.order.restaurant.id, cast(oi.order.orderDate as LocalDate), oi.meal.id")
+    List<Object[]> aggregateOrderItems(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select oi.order.restaurant.id, cast(oi.order.orderDate as LocalDate), oi.meal.id, max(oi.mealName), " +
+            "sum(oi.quantity), sum(oi.priceAtOrder * oi.quantity) " +
+            "from ArchivedOrderItem oi where oi.order.status <> com.food.delivery.enums.OrderStatus.CANCELED " +
+            "and oi.order.orderDate >= :from and oi.order.orderDate < :to " +
+            "group by oi.order.restaurant.id, cast(oi.order.orderDate as LocalDate), oi.meal.id")
+    List<Object[]> aggregateArchivedOrderItems(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // All-time [restaurantId, mealId, mealName, quantity] of meals that still exist
+    @Query("select s.restaurantId, s.mealId, max(s.mealName), sum(s.quantity) from RestaurantDailyMealSales s " +
+            "where exists (select m.id from Meal m where m.id = s.mealId) " +
+            "group by s.restaurantId, s.mealId")
+    List<Object[]> sumQuantityByMeal();
+}
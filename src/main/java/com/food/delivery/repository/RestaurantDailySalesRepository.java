@@ -0,0 +1,57 @@
+package com.food.delivery.repository;
+
+import com.food.delivery.entity.RestaurantDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RestaurantDailySalesRepository extends JpaRepository<RestaurantDailySales, UUID> {
+
+    List<RestaurantDailySales> findByRestaurantIdAndSalesDateBetweenOrderBySalesDate(UUID restaurantId, LocalDate from, LocalDate to);
+
+    boolean existsByRestaurantIdAndSalesDate(UUID restaurantId, LocalDate salesDate);
+
+    // Atomic in-place increment; returns 0 when the day's row does not exist yet
+    @Modifying
+    @Query("update RestaurantDailySales s set s.orderCount = s.orderCount + :orders, " +
+            "s.canceledCount = s.canceledCount + :canceled, s.revenue = s.revenue + :revenue, " +
+            "s.tipTotal = s.tipTotal + :tips, s.updatedAt = :now " +
+            "where s.restaurantId = :restaurantId and s.salesDate = :salesDate")
+    int addSales(@Param("restaurantId") UUID restaurantId,
+                 @Param("salesDate") LocalDate salesDate,
+                 @Param("orders") int orders,
+                 @Param("canceled") int canceled,
+                 @Param("revenue") BigDecimal revenue,
+                 @Param("tips") BigDecimal tips,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RestaurantDailySales s where s.salesDate between :from and :to")
+    int deleteBySalesDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Rebuild sources: [restaurantId, day, orders, canceled, revenue, tips] per restaurant and day
+    @Query("select o.restaurant.id, cast(o.orderDate as LocalDate), count(o), " +
+            "sum(case when o.status = com.food.delivery.enums.OrderStatus.CANCELED then 1 else 0 end), " +
+            "sum(case when o.status <> com.food.delivery.enums.OrderStatus.CANCELED then o.totalAmount else 0 end), " +
+            "sum(case when o.status <> com.food.delivery.enums.OrderStatus.CANCELED then o.tipAmount else 0 end) " +
+            "from Order o where o.orderDate >= :from and o.orderDate < :to " +
+            "group by o.restaurant.id, cast(o.orderDate as LocalDate)")
+    List<Object[]> aggregateOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select o.restaurant.id, cast(o.orderDate as LocalDate), count(o), " +
+            "sum(case when o.status = com.food.delivery.enums.OrderStatus.CANCELED then 1 else 0 end), " +
+            "sum(case when o.status <> com.food.delivery.enums.OrderStatus.CANCELED then o.totalAmount else 0 end), " +
+            "sum(case when o.status <> com.food.delivery.enums.OrderStatus.CANCELED then o.tipAmount else 0 end) " +
+            "from ArchivedOrder o where o.orderDate >= :from and o.orderDate < :to " +
+            "group by o.restaurant.id, cast(o.orderDate as LocalDate)")
+    List<Object[]> aggregateArchivedOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
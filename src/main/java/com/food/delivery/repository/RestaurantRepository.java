@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -31,4 +32,12 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, UUID>, J
     boolean existsByName(String name);
     
     boolean existsByOwnerId(UUID ownerId);
+
+    boolean existsByIdAndOwnerId(UUID id, UUID ownerId);
+
+    @Query("select distinct r.acceptTimeoutMinutes from Restaurant r where r.acceptTimeoutMinutes is not null")
+    List<Integer> findDistinctAcceptTimeoutMinutes();
+
+    @Query("select r.id, r.maxActiveOrders from Restaurant r where r.maxActiveOrders is not null")
+    List<Object[]> findIdAndMaxActiveOrders();
 }
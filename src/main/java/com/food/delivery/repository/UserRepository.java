@@ -6,7 +6,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -40,4 +44,14 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
     long countByRole(UserRole role);
     
     long countByBlocked(Boolean blocked);
+
+    // Dashboard reconciliation: [role, blocked, count] in one pass
+    @Query("select u.role, u.blocked, count(u) from User u group by u.role, u.blocked")
+    List<Object[]> countByRoleAndBlocked();
+
+    // Rehash on login: only the hash changes, so a concurrent profile edit is not overwritten
+    @Modifying
+    @Transactional
+    @Query("update User u set u.passwordHash = :passwordHash where u.email = :email")
+    int updatePasswordHashByEmail(@Param("email") String email, @Param("passwordHash") String passwordHash);
 }
@@ -22,6 +22,14 @@ public class MealSpecification {
         };
     }
 
+    /**
+     * Specification to find meals whose restaurant is not blocked
+     */
+    public static Specification<Meal> hasActiveRestaurant() {
+        return (root, query, criteriaBuilder) ->
+            criteriaBuilder.isFalse(root.get("restaurant").get("blocked"));
+    }
+
     /**
      * Specification to find meals within a price range
      */
@@ -80,4 +88,13 @@ public class MealSpecification {
                 .and(isInPriceRange(minPrice, maxPrice))
                 .and(searchByNameOrDescription(searchTerm));
     }
+
+    /**
+     * Specification to search meals across all active restaurants by price range and search term
+     */
+    public static Specification<Meal> searchActiveMeals(String searchTerm, BigDecimal minPrice, BigDecimal maxPrice) {
+        return hasActiveRestaurant()
+                .and(isInPriceRange(minPrice, maxPrice))
+                .and(searchByNameOrDescription(searchTerm));
+    }
 }
@@ -0,0 +1,182 @@
+package com.food.delivery.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: timers are hashed by deadline tick into a fixed ring of buckets, and a
+ * single worker thread visits one bucket per tick, firing the timers whose rounds ran out.
+ * <p>
+ * Scheduling and canceling are O(1) and never touch the ring from the caller's thread; they go
+ * through a queue the worker drains at each tick. Each tick costs one bucket, however far ahead
+ * timers are, so pending timers days out only cost memory. Timers fire at most one tick late.
+ * Scheduling a key again replaces its timer. Expired keys are handed to the callback in one
+ * batch per tick, on the worker thread.
+ *
+ * @param <K> timer key
+ */
+@Slf4j
+public class HashedTimingWheel<K> {
+
+    private static final class Timer<K> {
+        private final K key;
+        private final long deadlineTick;
+        private long remainingRounds;
+        private volatile boolean canceled;
+
+        private Timer(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final List<LinkedList<Timer<K>>> buckets;
+    private final int mask;
+    private final Map<K, Timer<K>> timers = new ConcurrentHashMap<>();
+    private final Queue<Timer<K>> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<List<K>> onExpired;
+    private long currentTick;
+    private volatile Thread worker;
+
+    /**
+     * @param wheelSize rounded up to a power of two
+     */
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis, Consumer<List<K>> onExpired) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        size = Math.max(size, 1);
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new LinkedList<>());
+        }
+        this.onExpired = onExpired;
+    }
+
+    public void schedule(K key, long deadlineMillis) {
+        // Ceiling, so a timer never fires before its deadline
+        long deadlineTick = Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis);
+        Timer<K> timer = new Timer<>(key, deadlineTick);
+        Timer<K> previous = timers.put(key, timer);
+        if (previous != null) {
+            previous.canceled = true;
+        }
+        pending.add(timer);
+    }
+
+    public void cancel(K key) {
+        Timer<K> timer = timers.remove(key);
+        if (timer != null) {
+            timer.canceled = true;
+        }
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    /**
+     * Runs every tick up to {@code nowMillis}. Called by the worker; exposed for deterministic tests.
+     */
+    synchronized void advanceTo(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        while (currentTick <= targetTick) {
+            transferPending();
+            List<K> expired = expireBucket(buckets.get((int) (currentTick & mask)));
+            currentTick++;
+            if (!expired.isEmpty()) {
+                try {
+                    onExpired.accept(expired);
+                } catch (RuntimeException e) {
+                    log.error("Timing wheel callback failed for {} timers - Error: {}", expired.size(), e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    public synchronized void start(String threadName) {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::run, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            long nextTickMillis = startMillis + currentTickSnapshot() * tickMillis;
+            long sleepMillis = nextTickMillis - System.currentTimeMillis();
+            if (sleepMillis > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            advanceTo(System.currentTimeMillis());
+        }
+    }
+
+    private synchronized long currentTickSnapshot() {
+        return currentTick;
+    }
+
+    private void transferPending() {
+        Timer<K> timer;
+        while ((timer = pending.poll()) != null) {
+            if (timer.canceled) {
+                continue;
+            }
+            // Deadlines already passed go in the bucket about to be visited
+            long tick = Math.max(timer.deadlineTick, currentTick);
+            timer.remainingRounds = (tick - currentTick) >> Integer.bitCount(mask);
+            buckets.get((int) (tick & mask)).add(timer);
+        }
+    }
+
+    private List<K> expireBucket(LinkedList<Timer<K>> bucket) {
+        List<K> expired = new ArrayList<>();
+        Iterator<Timer<K>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timer<K> timer = iterator.next();
+            if (timer.canceled) {
+                iterator.remove();
+            } else if (timer.remainingRounds <= 0) {
+                iterator.remove();
+                // Only the timer still registered for its key fires
+                if (timers.remove(timer.key, timer)) {
+                    expired.add(timer.key);
+                }
+            } else {
+                timer.remainingRounds--;
+            }
+        }
+        return expired;
+    }
+}
@@ -0,0 +1,169 @@
+package com.food.delivery.schedule;
+
+import com.food.delivery.entity.Order;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.OrderScheduledEvent;
+import com.food.delivery.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Releases SCHEDULED orders to PLACED {@code order.schedule.release-lead-minutes} before their
+ * slot, so they reach the restaurant's queue in time to be prepared.
+ * <p>
+ * Each pending order holds one timer in a {@link HashedTimingWheel}; nothing polls the orders
+ * table. Timers are armed after the placing transaction commits and recovered at startup from
+ * one query on (status, scheduled_for); slots missed while the application was down are
+ * released on the first tick. A release locks the orders still SCHEDULED, so an order canceled
+ * in the meantime is skipped, and announces the transition through order change events like a
+ * manual status change. A failed release is retried after {@code order.schedule.retry-delay-ms}.
+ */
+@Component
+@Slf4j
+public class ScheduledOrderDispatcher {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${order.schedule.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.schedule.release-lead-minutes:30}")
+    private long releaseLeadMinutes;
+
+    @Value("${order.schedule.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${order.schedule.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${order.schedule.retry-delay-ms:30000}")
+    private long retryDelayMillis;
+
+    @Value("${order.schedule.batch-size:200}")
+    private int batchSize;
+
+    private HashedTimingWheel<UUID> wheel;
+    private Counter releasedCounter;
+
+    @PostConstruct
+    void init() {
+        wheel = new HashedTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis(),
+                ids -> release(ids, LocalDateTime.now()));
+        releasedCounter = Counter.builder("fooddelivery.orders.scheduled_released")
+                .description("Scheduled orders released to their restaurant")
+                .register(meterRegistry);
+        Gauge.builder("fooddelivery.orders.scheduled_pending", wheel, HashedTimingWheel::size)
+                .description("Scheduled orders waiting for release")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!enabled) {
+            return;
+        }
+        List<Object[]> pending = orderRepository.findIdAndScheduledForByStatus(OrderStatus.SCHEDULED);
+        for (Object[] row : pending) {
+            schedule((UUID) row[0], (LocalDateTime) row[1]);
+        }
+        wheel.start("scheduled-order-dispatcher");
+        log.info("Scheduled order dispatcher started - pending orders recovered: {}", pending.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        wheel.stop();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderScheduled(OrderScheduledEvent event) {
+        schedule(event.orderId(), event.scheduledFor());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        // Canceled before release; the timer would find nothing to release anyway
+        if (event.previousStatus() == OrderStatus.SCHEDULED && event.status() != OrderStatus.SCHEDULED) {
+            wheel.cancel(event.orderId());
+        }
+    }
+
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Moves the given orders that are still SCHEDULED to PLACED. Returns the number released.
+     */
+    public int release(List<UUID> ids, LocalDateTime now) {
+        int released = 0;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<UUID> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            try {
+                Integer count = transactionTemplate.execute(status -> releaseBatch(batch, now));
+                released += count != null ? count : 0;
+            } catch (RuntimeException e) {
+                log.error("Scheduled order release failed for {} orders, retrying in {} ms - Error: {}",
+                        batch.size(), retryDelayMillis, e.getMessage(), e);
+                long retryAt = System.currentTimeMillis() + retryDelayMillis;
+                batch.forEach(id -> wheel.schedule(id, retryAt));
+            }
+        }
+        releasedCounter.increment(released);
+        if (released > 0) {
+            log.info("Scheduled orders released: {}", released);
+        }
+        return released;
+    }
+
+    private int releaseBatch(List<UUID> ids, LocalDateTime now) {
+        List<Order> orders = orderRepository.findAndLockByIdInAndStatus(ids, OrderStatus.SCHEDULED);
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        List<OrderChangedEvent> events = orders.stream()
+                .map(order -> OrderChangedEvent.statusChanged(order, OrderStatus.PLACED))
+                .toList();
+        int updated = orderRepository.updateStatusByIdIn(
+                orders.stream().map(Order::getId).toList(), OrderStatus.SCHEDULED, OrderStatus.PLACED, now);
+        events.forEach(eventPublisher::publishEvent);
+        return updated;
+    }
+
+    private void schedule(UUID orderId, LocalDateTime scheduledFor) {
+        if (!enabled || scheduledFor == null) {
+            return;
+        }
+        long releaseAt = scheduledFor.minusMinutes(releaseLeadMinutes)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        wheel.schedule(orderId, releaseAt);
+    }
+}
@@ -0,0 +1,191 @@
+package com.food.delivery.search;
+
+import com.food.delivery.dto.AutocompleteSuggestion;
+import com.food.delivery.entity.Meal;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.enums.SuggestionType;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.repository.MealRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index of restaurant and meal names for typeahead.
+ * <p>
+ * Every word start of a name is a key in a sorted map, so "pal" finds "Burger Palace".
+ * Lookups are a range scan over the map and never touch the database. Writes arrive
+ * through catalog change events after commit and are serialized; reads are lock-free.
+ * Blocked restaurants and their meals are not suggested.
+ */
+@Component
+@Slf4j
+public class AutocompleteIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    private final ConcurrentSkipListMap<String, AutocompleteSuggestion> entries = new ConcurrentSkipListMap<>();
+    private final Map<UUID, List<String>> keysById = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> mealIdsByRestaurant = new ConcurrentHashMap<>();
+    private final Set<UUID> blockedRestaurantIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        entries.clear();
+        keysById.clear();
+        mealIdsByRestaurant.clear();
+        blockedRestaurantIds.clear();
+
+        List<Restaurant> restaurants = restaurantRepository.findAll();
+        for (Restaurant restaurant : restaurants) {
+            putRestaurant(restaurant.getId(), restaurant.getName(), Boolean.TRUE.equals(restaurant.getBlocked()));
+        }
+        List<Meal> meals = mealRepository.findAll();
+        for (Meal meal : meals) {
+            putMeal(meal.getId(), meal.getRestaurant().getId(), meal.getName());
+        }
+        log.info("Autocomplete index built - restaurants: {}, meals: {}, keys: {}",
+                restaurants.size(), meals.size(), entries.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            remove(event.restaurantId());
+            blockedRestaurantIds.remove(event.restaurantId());
+            // Meals are removed with their restaurant by cascade
+            Set<UUID> mealIds = mealIdsByRestaurant.remove(event.restaurantId());
+            if (mealIds != null) {
+                mealIds.forEach(this::remove);
+            }
+        } else {
+            putRestaurant(event.restaurantId(), event.name(), event.blocked());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMealChanged(MealChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            remove(event.mealId());
+            Set<UUID> mealIds = event.restaurantId() != null ? mealIdsByRestaurant.get(event.restaurantId()) : null;
+            if (mealIds != null) {
+                mealIds.remove(event.mealId());
+            }
+        } else {
+            putMeal(event.mealId(), event.restaurantId(), event.name());
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} suggestions whose name has a word starting with {@code prefix},
+     * in alphabetical order of the matched text.
+     */
+    public List<AutocompleteSuggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<UUID, AutocompleteSuggestion> matches = new LinkedHashMap<>();
+        for (AutocompleteSuggestion suggestion : entries.subMap(normalized, normalized + Character.MAX_VALUE).values()) {
+            if (suggestion.getType() == SuggestionType.MEAL && blockedRestaurantIds.contains(suggestion.getRestaurantId())) {
+                continue;
+            }
+            matches.putIfAbsent(suggestion.getId(), suggestion);
+            if (matches.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    private void putRestaurant(UUID restaurantId, String name, boolean blocked) {
+        if (blocked) {
+            blockedRestaurantIds.add(restaurantId);
+            remove(restaurantId);
+            return;
+        }
+        blockedRestaurantIds.remove(restaurantId);
+        put(AutocompleteSuggestion.builder()
+                .id(restaurantId)
+                .name(name)
+                .type(SuggestionType.RESTAURANT)
+                .restaurantId(restaurantId)
+                .build());
+    }
+
+    private void putMeal(UUID mealId, UUID restaurantId, String name) {
+        mealIdsByRestaurant.computeIfAbsent(restaurantId, id -> ConcurrentHashMap.newKeySet()).add(mealId);
+        put(AutocompleteSuggestion.builder()
+                .id(mealId)
+                .name(name)
+                .type(SuggestionType.MEAL)
+                .restaurantId(restaurantId)
+                .build());
+    }
+
+    private void put(AutocompleteSuggestion suggestion) {
+        remove(suggestion.getId());
+        List<String> keys = keysFor(suggestion.getId(), suggestion.getName());
+        for (String key : keys) {
+            entries.put(key, suggestion);
+        }
+        keysById.put(suggestion.getId(), keys);
+    }
+
+    private void remove(UUID id) {
+        List<String> keys = keysById.remove(id);
+        if (keys != null) {
+            keys.forEach(entries::remove);
+        }
+    }
+
+    /**
+     * One key per word start: "burger palace\0id" and "palace\0id".
+     * The id suffix keeps keys unique when names collide.
+     */
+    private static List<String> keysFor(UUID id, String name) {
+        String normalized = normalize(name);
+        List<String> keys = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        String suffix = KEY_SEPARATOR + id.toString();
+        keys.add(normalized + suffix);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1) + suffix);
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        if (!StringUtils.hasText(text)) {
+            return "";
+        }
+        return text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,309 @@
+package com.food.delivery.search;
+
+import com.food.delivery.entity.Meal;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.repository.MealRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-process Lucene index over restaurant and meal names/descriptions.
+ * <p>
+ * Rebuilt from the database once the application is ready and kept current from
+ * {@link RestaurantChangedEvent} / {@link MealChangedEvent} after each commit.
+ * Queries rank name matches above description matches and accept prefixes and small typos.
+ * While disabled or not yet built, {@link #isEnabled()} returns false and callers use the SQL path.
+ */
+@Component
+@Slf4j
+public class CatalogSearchIndex {
+
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_RESTAURANT_ID = "restaurantId";
+    private static final String FIELD_BLOCKED = "blocked";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_DESCRIPTION = "description";
+
+    private static final String TYPE_RESTAURANT = "restaurant";
+    private static final String TYPE_MEAL = "meal";
+
+    private static final int MAX_QUERY_TERMS = 8;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile boolean ready;
+
+    public CatalogSearchIndex() {
+        try {
+            this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open in-memory search index", e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            log.info("Catalog search index disabled - restaurant and meal search will use SQL");
+            return;
+        }
+        try {
+            writer.deleteAll();
+            List<Restaurant> restaurants = restaurantRepository.findAll();
+            for (Restaurant restaurant : restaurants) {
+                writer.addDocument(restaurantDocument(restaurant.getId(), restaurant.getName(),
+                        restaurant.getDescription(), Boolean.TRUE.equals(restaurant.getBlocked())));
+            }
+            List<Meal> meals = mealRepository.findAll();
+            for (Meal meal : meals) {
+                writer.addDocument(mealDocument(meal.getId(), meal.getRestaurant().getId(),
+                        meal.getName(), meal.getDescription()));
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+            log.info("Catalog search index built - restaurants: {}, meals: {}", restaurants.size(), meals.size());
+        } catch (IOException e) {
+            ready = false;
+            log.error("Failed to build catalog search index, falling back to SQL search - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (event.type() == ChangeType.DELETED) {
+                writer.deleteDocuments(new Term(FIELD_KEY, key(TYPE_RESTAURANT, event.restaurantId())));
+                // Meals are removed with their restaurant by cascade
+                writer.deleteDocuments(new Term(FIELD_RESTAURANT_ID, event.restaurantId().toString()));
+            } else {
+                writer.updateDocument(new Term(FIELD_KEY, key(TYPE_RESTAURANT, event.restaurantId())),
+                        restaurantDocument(event.restaurantId(), event.name(), event.description(), event.blocked()));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("Failed to index restaurant: {} - Error: {}", event.restaurantId(), e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMealChanged(MealChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Term key = new Term(FIELD_KEY, key(TYPE_MEAL, event.mealId()));
+            if (event.type() == ChangeType.DELETED) {
+                writer.deleteDocuments(key);
+            } else {
+                writer.updateDocument(key, mealDocument(event.mealId(), event.restaurantId(), event.name(), event.description()));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("Failed to index meal: {} - Error: {}", event.mealId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ranked search over active (non-blocked) restaurants.
+     */
+    public SearchHits searchRestaurants(String searchTerm, Pageable pageable) {
+        Query textQuery = buildTextQuery(searchTerm);
+        if (textQuery == null) {
+            return SearchHits.empty();
+        }
+        Query query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_TYPE, TYPE_RESTAURANT)), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(FIELD_BLOCKED, "false")), BooleanClause.Occur.FILTER)
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .build();
+        return search(query, pageable);
+    }
+
+    /**
+     * Ranked search over the meals of a single restaurant.
+     */
+    public SearchHits searchMeals(UUID restaurantId, String searchTerm, Pageable pageable) {
+        Query textQuery = buildTextQuery(searchTerm);
+        if (textQuery == null) {
+            return SearchHits.empty();
+        }
+        Query query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_TYPE, TYPE_MEAL)), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(FIELD_RESTAURANT_ID, restaurantId.toString())), BooleanClause.Occur.FILTER)
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .build();
+        return search(query, pageable);
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            searcherManager.close();
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Failed to close catalog search index - Error: {}", e.getMessage());
+        }
+    }
+
+    private SearchHits search(Query query, Pageable pageable) {
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE - pageable.getPageSize());
+        int limit = offset + pageable.getPageSize();
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query, limit);
+            long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? topDocs.totalHits.value
+                    : searcher.count(query);
+
+            List<UUID> ids = new ArrayList<>(pageable.getPageSize());
+            StoredFields storedFields = searcher.storedFields();
+            for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                ids.add(UUID.fromString(storedFields.document(topDocs.scoreDocs[i].doc).get(FIELD_ID)));
+            }
+            return new SearchHits(ids, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Catalog search failed", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("Failed to release index searcher - Error: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Every query term must match name or description, either exactly, as a prefix
+     * or within a small edit distance. Exact name matches score highest.
+     */
+    private Query buildTextQuery(String searchTerm) {
+        List<String> terms = analyze(searchTerm);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder termQuery = new BooleanQuery.Builder();
+            addTermVariants(termQuery, FIELD_NAME, term, 4f);
+            addTermVariants(termQuery, FIELD_DESCRIPTION, term, 1f);
+            builder.add(termQuery.build(), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    private void addTermVariants(BooleanQuery.Builder builder, String field, String term, float boost) {
+        Term t = new Term(field, term);
+        builder.add(new BoostQuery(new TermQuery(t), boost), BooleanClause.Occur.SHOULD);
+        builder.add(new BoostQuery(new PrefixQuery(t), boost * 0.5f), BooleanClause.Occur.SHOULD);
+        int maxEdits = term.length() >= 8 ? 2 : term.length() >= 4 ? 1 : 0;
+        if (maxEdits > 0) {
+            builder.add(new BoostQuery(new FuzzyQuery(t, maxEdits, 1), boost * 0.25f), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (!StringUtils.hasText(text)) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(FIELD_NAME, text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to analyze search term", e);
+        }
+        return terms;
+    }
+
+    private Document restaurantDocument(UUID id, String name, String description, boolean blocked) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_KEY, key(TYPE_RESTAURANT, id), Field.Store.NO));
+        doc.add(new StringField(FIELD_ID, id.toString(), Field.Store.YES));
+        doc.add(new StringField(FIELD_TYPE, TYPE_RESTAURANT, Field.Store.NO));
+        doc.add(new StringField(FIELD_BLOCKED, Boolean.toString(blocked), Field.Store.NO));
+        doc.add(new TextField(FIELD_NAME, nullToEmpty(name), Field.Store.NO));
+        doc.add(new TextField(FIELD_DESCRIPTION, nullToEmpty(description), Field.Store.NO));
+        return doc;
+    }
+
+    private Document mealDocument(UUID id, UUID restaurantId, String name, String description) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_KEY, key(TYPE_MEAL, id), Field.Store.NO));
+        doc.add(new StringField(FIELD_ID, id.toString(), Field.Store.YES));
+        doc.add(new StringField(FIELD_TYPE, TYPE_MEAL, Field.Store.NO));
+        doc.add(new StringField(FIELD_RESTAURANT_ID, restaurantId.toString(), Field.Store.NO));
+        doc.add(new TextField(FIELD_NAME, nullToEmpty(name), Field.Store.NO));
+        doc.add(new TextField(FIELD_DESCRIPTION, nullToEmpty(description), Field.Store.NO));
+        return doc;
+    }
+
+    private static String key(String type, UUID id) {
+        return type + ":" + id;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
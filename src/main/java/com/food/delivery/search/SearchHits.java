@@ -0,0 +1,14 @@
+package com.food.delivery.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of ranked entity ids returned by the search index, plus the total match count.
+ */
+public record SearchHits(List<UUID> ids, long totalHits) {
+
+    public static SearchHits empty() {
+        return new SearchHits(List.of(), 0);
+    }
+}
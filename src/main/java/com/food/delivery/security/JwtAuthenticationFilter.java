@@ -1,5 +1,6 @@
 package com.food.delivery.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +8,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,6 +18,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -25,6 +31,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
 
+    private final TokenRevocationList tokenRevocationList;
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
@@ -50,19 +58,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         jwt = authHeader.substring(7);
         try {
-            userEmail = jwtUtil.extractUsername(jwt);
+            // Signature and expiry are checked while parsing
+            Claims claims = jwtUtil.extractAllClaims(jwt);
+            userEmail = claims.getSubject();
+            String userId = claims.get(JwtUtil.USER_ID_CLAIM, String.class);
+            String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-
-                if (jwtUtil.validateToken(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                if (userId != null && role != null) {
+                    // Memory-only: a revoked user or token is refused without loading the user
+                    UUID tokenId = claims.getId() != null ? UUID.fromString(claims.getId()) : null;
+                    if (tokenRevocationList.isRevoked(tokenId, UUID.fromString(userId), claims.getIssuedAt().getTime())) {
+                        log.warn("Rejected revoked token for user: {}", userEmail);
+                    } else {
+                        authenticate(request, userEmail, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+                    }
+                } else {
+                    // Tokens issued before user claims were added
+                    UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                    if (jwtUtil.validateToken(jwt, userDetails) && userDetails.isEnabled()) {
+                        authenticate(request, userDetails, userDetails.getAuthorities());
+                    }
                 }
             }
         } catch (Exception e) {
@@ -71,4 +87,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private static void authenticate(HttpServletRequest request, Object principal,
+                                     Collection<? extends GrantedAuthority> authorities) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(principal, null, authorities);
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -0,0 +1,197 @@
+package com.food.delivery.security;
+
+import com.food.delivery.exception.LoginLockedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts failed logins per email and per client address and locks a key out once it fails
+ * too often, so locked-out attempts are refused before the password hash is checked.
+ * <p>
+ * Failures are counted in a sliding window approximated from two fixed windows: the previous
+ * window's count, weighted by how much of it still overlaps, plus the current one. A lockout
+ * lasts {@code auth.lockout.duration-minutes}; a successful login clears the email's failures.
+ * Entries are bounded by {@code auth.lockout.max-entries} and dropped once idle; at the bound
+ * a new key is not tracked rather than evicting a key that may be under attack.
+ */
+@Component
+@Slf4j
+public class LoginAttemptTracker {
+
+    private static final class FailureWindow {
+        private long windowStart;
+        private int previous;
+        private int current;
+        private long lockedUntil;
+
+        private FailureWindow(long now) {
+            this.windowStart = now;
+        }
+
+        private void slide(long now, long windowMillis) {
+            long elapsedWindows = (now - windowStart) / windowMillis;
+            if (elapsedWindows >= 1) {
+                previous = elapsedWindows == 1 ? current : 0;
+                current = 0;
+                windowStart += elapsedWindows * windowMillis;
+            }
+        }
+
+        private double estimate(long now, long windowMillis) {
+            double overlap = 1.0 - (double) (now - windowStart) / windowMillis;
+            return previous * overlap + current;
+        }
+    }
+
+    private enum Scope {
+        EMAIL, ADDRESS
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.lockout.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.lockout.window-minutes:15}")
+    private long windowMinutes;
+
+    @Value("${auth.lockout.duration-minutes:15}")
+    private long durationMinutes;
+
+    @Value("${auth.lockout.email-max-failures:5}")
+    private int emailMaxFailures;
+
+    @Value("${auth.lockout.address-max-failures:50}")
+    private int addressMaxFailures;
+
+    @Value("${auth.lockout.max-entries:100000}")
+    private int maxEntries;
+
+    private final Map<String, FailureWindow> windows = new ConcurrentHashMap<>();
+    private Counter emailLockouts;
+    private Counter addressLockouts;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        emailLockouts = lockoutCounter(Scope.EMAIL);
+        addressLockouts = lockoutCounter(Scope.ADDRESS);
+        rejectedCounter = Counter.builder("fooddelivery.auth.login_rejected_locked")
+                .description("Login attempts refused without a password check because of a lockout")
+                .register(meterRegistry);
+        Gauge.builder("fooddelivery.auth.login_failure_entries", windows, Map::size)
+                .description("Emails and addresses with recent login failures")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws LoginLockedException when the email or the address is locked out
+     */
+    public void checkAllowed(String email, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long lockedUntil = Math.max(lockedUntil(key(Scope.EMAIL, email), now), lockedUntil(key(Scope.ADDRESS, clientAddress), now));
+        if (lockedUntil > now) {
+            rejectedCounter.increment();
+            throw new LoginLockedException(TimeUnit.MILLISECONDS.toSeconds(lockedUntil - now + 999));
+        }
+    }
+
+    public void recordFailure(String email, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        recordFailure(Scope.EMAIL, email, emailMaxFailures, emailLockouts, now);
+        recordFailure(Scope.ADDRESS, clientAddress, addressMaxFailures, addressLockouts, now);
+    }
+
+    public void recordSuccess(String email) {
+        if (email != null) {
+            windows.remove(key(Scope.EMAIL, email));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.lockout.sweep-interval-ms:60000}",
+            initialDelayString = "${auth.lockout.sweep-interval-ms:60000}")
+    public void sweepIdleEntries() {
+        sweep(System.currentTimeMillis());
+    }
+
+    private void recordFailure(Scope scope, String value, int maxFailures, Counter lockouts, long now) {
+        String key = key(scope, value);
+        if (key == null) {
+            return;
+        }
+        FailureWindow window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxEntries) {
+                sweep(now);
+                if (windows.size() >= maxEntries) {
+                    return;
+                }
+            }
+            window = windows.computeIfAbsent(key, k -> new FailureWindow(now));
+        }
+
+        long windowMillis = TimeUnit.MINUTES.toMillis(windowMinutes);
+        synchronized (window) {
+            window.slide(now, windowMillis);
+            window.current++;
+            if (window.lockedUntil <= now && window.estimate(now, windowMillis) >= maxFailures) {
+                window.lockedUntil = now + TimeUnit.MINUTES.toMillis(durationMinutes);
+                lockouts.increment();
+                log.warn("Login locked out for {} {} until {} ms from now", scope, value, window.lockedUntil - now);
+            }
+        }
+    }
+
+    private long lockedUntil(String key, long now) {
+        FailureWindow window = key != null ? windows.get(key) : null;
+        if (window == null) {
+            return 0;
+        }
+        synchronized (window) {
+            return window.lockedUntil;
+        }
+    }
+
+    private void sweep(long now) {
+        // Idle: unlocked and nothing left in either window
+        long windowMillis = TimeUnit.MINUTES.toMillis(windowMinutes);
+        windows.values().removeIf(window -> {
+            synchronized (window) {
+                return window.lockedUntil <= now && now - window.windowStart >= 2 * windowMillis;
+            }
+        });
+    }
+
+    private Counter lockoutCounter(Scope scope) {
+        return Counter.builder("fooddelivery.auth.lockouts")
+                .description("Emails and addresses locked out after repeated login failures")
+                .tag("scope", scope.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+
+    private static String key(Scope scope, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return scope == Scope.EMAIL ? "e:" + value.trim().toLowerCase(Locale.ROOT) : "a:" + value;
+    }
+}
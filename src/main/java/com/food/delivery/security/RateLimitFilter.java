@@ -0,0 +1,83 @@
+package com.food.delivery.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.exception.ApiError;
+import com.food.delivery.ratelimit.RateLimitBudget;
+import com.food.delivery.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Rate limits API requests per client before authentication, so an abusive client is turned
+ * away before it reaches the user lookup or a database connection.
+ * <p>
+ * Clients with a validly signed token are limited per user, everyone else per remote address;
+ * login and registration are always limited per address.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    private final JwtUtil jwtUtil;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitBudget budget = RateLimitBudget.of(request.getMethod(), request.getRequestURI());
+        String clientKey = budget == RateLimitBudget.AUTH ? "ip:" + request.getRemoteAddr() : clientKeyOf(request);
+
+        long retryAfterSeconds = rateLimiter.tryAcquire(budget, clientKey);
+        if (retryAfterSeconds > 0) {
+            log.warn("Rate limit exceeded for client: {} - budget: {}, path: {}", clientKey, budget, request.getRequestURI());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new ApiError(LocalDateTime.now(),
+                    HttpStatus.TOO_MANY_REQUESTS.value(), ErrorConstants.RATE_LIMIT_ERROR_CODE,
+                    ErrorConstants.RATE_LIMIT_EXCEEDED_MESSAGE, request.getRequestURI()));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String clientKeyOf(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                // Signature is checked, so a forged subject cannot borrow another user's budget
+                return "user:" + jwtUtil.extractUsername(authHeader.substring(7));
+            } catch (Exception e) {
+                // Invalid token; limited by address and rejected by authentication later
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
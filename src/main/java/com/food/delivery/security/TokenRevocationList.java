@@ -0,0 +1,108 @@
+package com.food.delivery.security;
+
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.UserChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access tokens revoked before they expire, checked on every request without touching the database.
+ * <p>
+ * Single tokens are revoked by jti (logout); a user is revoked as a whole (blocked, deleted or
+ * role changed) by rejecting every token issued before that moment, to the second since token
+ * issue times are whole seconds. Entries are only needed until the tokens they cover have
+ * expired, so both maps are swept once {@code jwt.expiration} has passed and stay as small as
+ * the number of revocations within one access token lifetime.
+ * <p>
+ * The list lives in this instance only; with several instances a revocation holds where it was
+ * made and tokens elsewhere lapse at their expiry.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.expiration}")
+    private long accessTokenMillis;
+
+    // jti -> token expiry
+    private final Map<UUID, Long> revokedTokens = new ConcurrentHashMap<>();
+    // user id -> revocation time
+    private final Map<UUID, Long> revokedUsers = new ConcurrentHashMap<>();
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        rejectedCounter = Counter.builder("fooddelivery.auth.revoked_token_rejected")
+                .description("Requests refused because their access token was revoked")
+                .register(meterRegistry);
+        Gauge.builder("fooddelivery.auth.revocations", this, TokenRevocationList::size)
+                .description("Token and user revocations held in memory")
+                .register(meterRegistry);
+    }
+
+    public void revokeToken(UUID tokenId, long expiresAtMillis) {
+        if (tokenId != null && expiresAtMillis > System.currentTimeMillis()) {
+            revokedTokens.put(tokenId, expiresAtMillis);
+        }
+    }
+
+    public void revokeUser(UUID userId) {
+        revokedUsers.put(userId, System.currentTimeMillis());
+        log.info("Revoked access tokens of user: {}", userId);
+    }
+
+    public boolean isRevoked(UUID tokenId, UUID userId, long issuedAtMillis) {
+        boolean revoked = (tokenId != null && revokedTokens.containsKey(tokenId)) || issuedBeforeRevocation(userId, issuedAtMillis);
+        if (revoked) {
+            rejectedCounter.increment();
+        }
+        return revoked;
+    }
+
+    public int size() {
+        return revokedTokens.size() + revokedUsers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        // A role change revokes too, since the role travels in the token
+        boolean newlyBlocked = event.blocked() && !event.previousBlocked();
+        boolean roleChanged = event.type() == ChangeType.UPDATED && event.previousRole() != event.role();
+        if (event.type() == ChangeType.DELETED || newlyBlocked || roleChanged) {
+            revokeUser(event.userId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-sweep-interval-ms:60000}",
+            initialDelayString = "${jwt.revocation-sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        sweep(System.currentTimeMillis());
+    }
+
+    void sweep(long now) {
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedUsers.values().removeIf(revokedAt -> revokedAt + accessTokenMillis + TimeUnit.SECONDS.toMillis(1) <= now);
+    }
+
+    private boolean issuedBeforeRevocation(UUID userId, long issuedAtMillis) {
+        Long revokedAt = userId != null ? revokedUsers.get(userId) : null;
+        // Issue times are truncated to the second, so the whole second of the revocation counts as before
+        return revokedAt != null && issuedAtMillis <= revokedAt;
+    }
+}
@@ -3,10 +3,18 @@ package com.food.delivery.service;
 import com.food.delivery.dto.AuthRequest;
 import com.food.delivery.dto.AuthResponse;
 import com.food.delivery.dto.LoginRequest;
+import com.food.delivery.dto.RefreshTokenRequest;
 
 public interface AuthService {
 
     AuthResponse register(AuthRequest request);
 
-    AuthResponse login(LoginRequest request);
+    AuthResponse login(LoginRequest request, String clientAddress);
+
+    AuthResponse refresh(RefreshTokenRequest request);
+
+    /**
+     * Revokes the refresh token's family and, when given, the access token presented with it.
+     */
+    void logout(RefreshTokenRequest request, String accessToken);
 }
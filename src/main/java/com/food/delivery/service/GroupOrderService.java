@@ -0,0 +1,27 @@
+package com.food.delivery.service;
+
+import com.food.delivery.dto.GroupCartItemRequest;
+import com.food.delivery.dto.GroupCartRequest;
+import com.food.delivery.dto.GroupCartResponse;
+import com.food.delivery.dto.GroupCheckoutRequest;
+import com.food.delivery.dto.OrderResponse;
+
+import java.util.UUID;
+
+public interface GroupOrderService {
+
+
+    GroupCartResponse createCart(GroupCartRequest request, UUID currentUserId);
+
+
+    GroupCartResponse getCart(UUID cartId, UUID currentUserId);
+
+
+    GroupCartResponse setItem(UUID cartId, GroupCartItemRequest request, UUID currentUserId);
+
+
+    void leaveCart(UUID cartId, UUID currentUserId);
+
+
+    OrderResponse checkout(UUID cartId, GroupCheckoutRequest request, UUID currentUserId);
+}
@@ -2,6 +2,8 @@ package com.food.delivery.service;
 
 import com.food.delivery.dto.MealRequest;
 import com.food.delivery.dto.MealResponse;
+import com.food.delivery.dto.MealSearchResponse;
+import com.food.delivery.dto.PopularMealResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -24,9 +26,15 @@ public interface MealService {
     Page<MealResponse> searchMealsByRestaurant(UUID restaurantId, String search, Pageable pageable);
 
 
+    MealSearchResponse searchMeals(String search, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
+
+
     Page<MealResponse> getMealsByPriceRange(UUID restaurantId, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
 
 
+    java.util.List<PopularMealResponse> getPopularMeals(UUID restaurantId, int limit);
+
+
     MealResponse updateMeal(UUID mealId, MealRequest request, UUID currentUserId);
 
 
@@ -0,0 +1,12 @@
+package com.food.delivery.service;
+
+import java.time.LocalDateTime;
+
+public interface OrderArchiveService {
+
+    /**
+     * Moves final-state orders placed before {@code cutoff}, with their items, into the
+     * archive tables. Runs one transaction per batch and returns the number of orders moved.
+     */
+    int archiveOrdersPlacedBefore(LocalDateTime cutoff);
+}
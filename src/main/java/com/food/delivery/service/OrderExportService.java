@@ -0,0 +1,24 @@
+package com.food.delivery.service;
+
+import com.food.delivery.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface OrderExportService {
+
+    /**
+     * Checks that the user may export and the range is valid. Call before the response
+     * is committed, since errors raised while streaming can no longer change the status.
+     */
+    void validateExport(UUID currentUserId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Streams the orders placed in the range to {@code out}, oldest first: all orders for
+     * admins, orders of their restaurants for owners. Returns the number of rows written.
+     */
+    long exportOrders(UUID currentUserId, LocalDateTime from, LocalDateTime to, ExportFormat format,
+                      OutputStream out) throws IOException;
+}
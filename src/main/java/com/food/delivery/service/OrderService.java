@@ -1,14 +1,19 @@
 package com.food.delivery.service;
 
+import com.food.delivery.dto.ActiveOrderResponse;
 import com.food.delivery.dto.OrderRequest;
 import com.food.delivery.dto.OrderResponse;
 import com.food.delivery.dto.OrderStatusUpdateRequest;
 import com.food.delivery.dto.OrderUpdateRequest;
+import com.food.delivery.dto.PriceQuoteResponse;
 import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.group.GroupCartLine;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,6 +23,13 @@ public interface OrderService {
     OrderResponse placeOrder(OrderRequest request, UUID currentUserId);
 
 
+    PriceQuoteResponse quoteOrder(OrderRequest request, UUID currentUserId);
+
+
+    OrderResponse placeGroupOrder(UUID hostId, UUID restaurantId, List<GroupCartLine> lines,
+                                  BigDecimal tipAmount, String couponCode);
+
+
     Page<OrderResponse> findOrdersForCurrentUser(Pageable pageable, UUID currentUserId, 
                                                 Optional<OrderStatus> status,
                                                 Optional<LocalDateTime> from, Optional<LocalDateTime> to);
@@ -33,4 +45,7 @@ public interface OrderService {
 
 
     void cancelOrder(UUID orderId, UUID currentUserId);
+
+
+    List<ActiveOrderResponse> getActiveOrders(UUID ownerId, Optional<UUID> restaurantId);
 }
@@ -0,0 +1,12 @@
+package com.food.delivery.service;
+
+import java.time.LocalDateTime;
+
+public interface OrderTimeoutService {
+
+    /**
+     * Cancels PLACED orders that their restaurant did not accept within its timeout,
+     * measured back from {@code now}. Returns the number of orders canceled.
+     */
+    int cancelStaleOrders(LocalDateTime now);
+}
@@ -0,0 +1,16 @@
+package com.food.delivery.service;
+
+import com.food.delivery.dto.PlatformDashboard;
+
+public interface PlatformMetricsService {
+
+    /**
+     * Platform-wide order, user and revenue counters, served from memory.
+     */
+    PlatformDashboard getDashboard();
+
+    /**
+     * Resets the counters from the database and returns the refreshed dashboard.
+     */
+    PlatformDashboard reconcile();
+}
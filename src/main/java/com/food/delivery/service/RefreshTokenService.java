@@ -0,0 +1,30 @@
+package com.food.delivery.service;
+
+import com.food.delivery.entity.User;
+
+public interface RefreshTokenService {
+
+    /**
+     * Result of a refresh: the token owner and the refresh token that replaces the presented one.
+     */
+    record Rotation(User user, String refreshToken) {
+    }
+
+    /**
+     * Starts a new token family for the user and returns its first refresh token.
+     */
+    String issue(User user);
+
+    /**
+     * Revokes the presented refresh token and returns its successor. Presenting a token that was
+     * already rotated revokes its whole family, since one of the two holders is not the user.
+     */
+    Rotation rotate(String refreshToken);
+
+    /**
+     * Revokes the family of the presented refresh token. Unknown tokens are ignored.
+     */
+    void revoke(String refreshToken);
+
+    long getExpirationSeconds();
+}
@@ -1,11 +1,15 @@
 package com.food.delivery.service;
 
+import com.food.delivery.dto.AutocompleteSuggestion;
+import com.food.delivery.dto.RestaurantCapacityRequest;
+import com.food.delivery.dto.RestaurantCapacityResponse;
 import com.food.delivery.dto.RestaurantRequest;
 import com.food.delivery.dto.RestaurantResponse;
 import com.food.delivery.entity.Restaurant;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface RestaurantService {
@@ -20,12 +24,18 @@ public interface RestaurantService {
     Restaurant getRestaurantEntityById(UUID restaurantId);
 
 
+    boolean restaurantExists(UUID restaurantId);
+
+
     Page<RestaurantResponse> getAllRestaurants(Pageable pageable);
 
 
     Page<RestaurantResponse> searchRestaurants(String searchTerm, Pageable pageable);
 
 
+    List<AutocompleteSuggestion> autocomplete(String prefix, int limit);
+
+
     Page<RestaurantResponse> getRestaurantsByOwner(UUID ownerId, Pageable pageable);
 
 
@@ -35,6 +45,12 @@ public interface RestaurantService {
     void deleteRestaurant(UUID restaurantId, UUID currentUserId);
 
 
+    RestaurantCapacityResponse getCapacity(UUID restaurantId, UUID currentUserId);
+
+
+    RestaurantCapacityResponse updateCapacity(UUID restaurantId, RestaurantCapacityRequest request, UUID currentUserId);
+
+
     void blockRestaurant(UUID restaurantId, UUID adminId);
 
     void unblockRestaurant(UUID restaurantId, UUID adminId);
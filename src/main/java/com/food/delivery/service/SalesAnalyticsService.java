@@ -0,0 +1,21 @@
+package com.food.delivery.service;
+
+import com.food.delivery.dto.RestaurantSalesReport;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface SalesAnalyticsService {
+
+    /**
+     * Daily sales of the owner's restaurant between {@code from} and {@code to} inclusive,
+     * read from the rollup tables only.
+     */
+    RestaurantSalesReport getRestaurantSales(UUID restaurantId, LocalDate from, LocalDate to, int topMeals, UUID currentUserId);
+
+    /**
+     * Recomputes the rollups of every restaurant for the given days from live and archived
+     * orders. Returns the number of restaurant-days written.
+     */
+    int rebuildDailySales(LocalDate from, LocalDate to);
+}
@@ -3,18 +3,26 @@ package com.food.delivery.service.impl;
 import com.food.delivery.dto.AuthRequest;
 import com.food.delivery.dto.AuthResponse;
 import com.food.delivery.dto.LoginRequest;
+import com.food.delivery.dto.RefreshTokenRequest;
 import com.food.delivery.entity.User;
 import com.food.delivery.security.JwtUtil;
+import com.food.delivery.security.LoginAttemptTracker;
+import com.food.delivery.security.TokenRevocationList;
 import com.food.delivery.service.AuthService;
+import com.food.delivery.service.RefreshTokenService;
 import com.food.delivery.service.UserService;
 import com.food.delivery.constants.ErrorConstants;
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 @Slf4j
 public class AuthServiceImpl implements AuthService {
@@ -28,6 +36,15 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private LoginAttemptTracker loginAttemptTracker;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     @Override
     public AuthResponse register(AuthRequest request) {
         User user = userService.createUser(
@@ -37,15 +54,17 @@ public class AuthServiceImpl implements AuthService {
                 request.getRole()
         );
 
-        String token = jwtUtil.generateToken(user);
+        AuthResponse response = buildResponse(user, refreshTokenService.issue(user), ErrorConstants.REGISTRATION_SUCCESS_MESSAGE);
         log.info("User registered successfully: {}", user.getEmail());
 
-        return new AuthResponse(token, user.getEmail(), user.getName(), user.getRole().name(), ErrorConstants.REGISTRATION_SUCCESS_MESSAGE);
+        return response;
     }
 
     @Override
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientAddress) {
         log.info("Attempting to authenticate user: {}", request.getEmail());
+        // Refused before the password hash is checked, so lockouts cost no hashing
+        loginAttemptTracker.checkAllowed(request.getEmail(), clientAddress);
 
         try {
             Authentication authentication = authenticationManager.authenticate(
@@ -53,13 +72,47 @@ public class AuthServiceImpl implements AuthService {
             );
 
             User user = (User) authentication.getPrincipal();
-            String token = jwtUtil.generateToken(user);
+            loginAttemptTracker.recordSuccess(request.getEmail());
+            AuthResponse response = buildResponse(user, refreshTokenService.issue(user), ErrorConstants.LOGIN_SUCCESS_MESSAGE);
             log.info("User logged in successfully: {} with role: {}", user.getEmail(), user.getRole());
 
-            return new AuthResponse(token, user.getEmail(), user.getName(), user.getRole().name(), ErrorConstants.LOGIN_SUCCESS_MESSAGE);
+            return response;
+        } catch (BadCredentialsException e) {
+            // Unknown emails surface as bad credentials too
+            loginAttemptTracker.recordFailure(request.getEmail(), clientAddress);
+            log.error("Authentication failed for user: {} - Error: {}", request.getEmail(), e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Authentication failed for user: {} - Error: {}", request.getEmail(), e.getMessage());
             throw e;
         }
     }
+
+    @Override
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        log.info("Access token refreshed for user: {}", rotation.user().getEmail());
+        return buildResponse(rotation.user(), rotation.refreshToken(), ErrorConstants.TOKEN_REFRESH_SUCCESS_MESSAGE);
+    }
+
+    @Override
+    public void logout(RefreshTokenRequest request, String accessToken) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtUtil.extractAllClaims(accessToken);
+                tokenRevocationList.revokeToken(UUID.fromString(claims.getId()), claims.getExpiration().getTime());
+            } catch (Exception e) {
+                // Invalid or expired access token; nothing left to revoke
+                log.debug("Access token not revoked on logout: {}", e.getMessage());
+            }
+        }
+        log.info("User logged out");
+    }
+
+    private AuthResponse buildResponse(User user, String refreshToken, String message) {
+        String token = jwtUtil.generateToken(user);
+        return new AuthResponse(token, refreshToken, jwtUtil.getExpirationMillis() / 1000,
+                user.getEmail(), user.getName(), user.getRole().name(), message);
+    }
 }
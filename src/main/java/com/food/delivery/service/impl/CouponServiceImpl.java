@@ -5,12 +5,15 @@ import com.food.delivery.dto.CouponResponse;
 import com.food.delivery.entity.Coupon;
 import com.food.delivery.entity.User;
 import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.CouponChangedEvent;
 import com.food.delivery.repository.CouponRepository;
 import com.food.delivery.service.CouponService;
 import com.food.delivery.service.UserService;
 import com.food.delivery.constants.ErrorConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,6 +35,9 @@ public class CouponServiceImpl implements CouponService {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public CouponResponse createCoupon(CouponRequest request, UUID adminId) {
         User admin = userService.getUserEntityById(adminId);
@@ -52,6 +58,7 @@ public class CouponServiceImpl implements CouponService {
         coupon.setActive(request.getActive() != null ? request.getActive() : Boolean.TRUE);
 
         Coupon savedCoupon = couponRepository.save(coupon);
+        eventPublisher.publishEvent(CouponChangedEvent.of(savedCoupon, ChangeType.CREATED));
         log.info("Created coupon: {} by admin: {}", savedCoupon.getCode(), admin.getEmail());
 
         return mapToCouponResponse(savedCoupon);
@@ -123,6 +130,7 @@ public class CouponServiceImpl implements CouponService {
         }
 
         Coupon updatedCoupon = couponRepository.save(coupon);
+        eventPublisher.publishEvent(CouponChangedEvent.of(updatedCoupon, ChangeType.UPDATED));
         log.info("Updated coupon: {} by admin: {}", updatedCoupon.getCode(), admin.getEmail());
 
         return mapToCouponResponse(updatedCoupon);
@@ -141,6 +149,7 @@ public class CouponServiceImpl implements CouponService {
                 .orElseThrow(() -> new RuntimeException("Coupon not found with id: " + couponId));
 
         couponRepository.delete(coupon);
+        eventPublisher.publishEvent(CouponChangedEvent.of(coupon, ChangeType.DELETED));
         log.info("Deleted coupon: {} by admin: {}", coupon.getCode(), admin.getEmail());
     }
 
@@ -158,6 +167,7 @@ public class CouponServiceImpl implements CouponService {
 
         coupon.setActive(true);
         couponRepository.save(coupon);
+        eventPublisher.publishEvent(CouponChangedEvent.of(coupon, ChangeType.UPDATED));
         log.info("Activated coupon: {} by admin: {}", coupon.getCode(), admin.getEmail());
     }
 
@@ -175,6 +185,7 @@ public class CouponServiceImpl implements CouponService {
 
         coupon.setActive(false);
         couponRepository.save(coupon);
+        eventPublisher.publishEvent(CouponChangedEvent.of(coupon, ChangeType.UPDATED));
         log.info("Deactivated coupon: {} by admin: {}", coupon.getCode(), admin.getEmail());
     }
 
@@ -0,0 +1,248 @@
+package com.food.delivery.service.impl;
+
+import com.food.delivery.cache.QuoteCatalogCache;
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.dto.GroupCartItemRequest;
+import com.food.delivery.dto.GroupCartRequest;
+import com.food.delivery.dto.GroupCartResponse;
+import com.food.delivery.dto.GroupCheckoutRequest;
+import com.food.delivery.dto.OrderResponse;
+import com.food.delivery.entity.User;
+import com.food.delivery.group.GroupCart;
+import com.food.delivery.group.GroupCartLine;
+import com.food.delivery.group.GroupCartStore;
+import com.food.delivery.pricing.PricingEngine;
+import com.food.delivery.repository.UserRestaurantBlockRepository;
+import com.food.delivery.service.GroupOrderService;
+import com.food.delivery.service.OrderService;
+import com.food.delivery.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Shared carts that several customers fill and the host checks out as one order.
+ * <p>
+ * Carts live in {@link GroupCartStore}; every read and edit runs under the cart's lock stripe,
+ * while catalog and user lookups happen before taking it. Checkout marks the cart
+ * CHECKING_OUT under the lock, which freezes edits, and places the order outside it through
+ * {@link OrderService#placeGroupOrder} in that service's own transaction. The cart is dropped
+ * only after the order committed and reopened if placing it failed. No transaction is opened
+ * here.
+ */
+@Service
+@Slf4j
+public class GroupOrderServiceImpl implements GroupOrderService {
+
+    private record Membership(UUID restaurantId, boolean participant) {
+    }
+
+    private record Checkout(UUID restaurantId, int participantCount, List<GroupCartLine> lines) {
+    }
+
+    @Autowired
+    private GroupCartStore groupCartStore;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRestaurantBlockRepository userRestaurantBlockRepository;
+
+    @Autowired
+    private QuoteCatalogCache quoteCatalogCache;
+
+    @Value("${group.cart.max-participants:20}")
+    private int maxParticipants;
+
+    @Value("${group.cart.max-lines:100}")
+    private int maxLines;
+
+    @Override
+    public GroupCartResponse createCart(GroupCartRequest request, UUID currentUserId) {
+        User host = userService.getUserEntityById(currentUserId);
+        QuoteCatalogCache.QuoteMenu menu = quoteCatalogCache.menu(request.getRestaurantId());
+        checkCanJoin(host, menu);
+
+        GroupCart cart = groupCartStore.create(host.getId(), host.getName(), menu.restaurantId());
+        log.info("Group cart {} opened by {} at restaurant {}", cart.getId(), host.getId(), menu.restaurantId());
+        return groupCartStore.withCart(cart.getId(), c -> mapToResponse(c, menu));
+    }
+
+    @Override
+    public GroupCartResponse getCart(UUID cartId, UUID currentUserId) {
+        // The cart id is the invite, so anyone holding it may look before joining
+        UUID restaurantId = groupCartStore.withCart(cartId, GroupCart::getRestaurantId);
+        QuoteCatalogCache.QuoteMenu menu = quoteCatalogCache.menu(restaurantId);
+        return groupCartStore.withCart(cartId, cart -> mapToResponse(cart, menu));
+    }
+
+    /**
+     * Sets the caller's quantity of a meal, joining the cart on the first item.
+     */
+    @Override
+    public GroupCartResponse setItem(UUID cartId, GroupCartItemRequest request, UUID currentUserId) {
+        Membership membership = groupCartStore.withCart(cartId,
+                cart -> new Membership(cart.getRestaurantId(), cart.isParticipant(currentUserId)));
+        QuoteCatalogCache.QuoteMenu menu = quoteCatalogCache.menu(membership.restaurantId());
+        if (request.getQuantity() > 0 && !menu.meals().containsKey(request.getMealId())) {
+            throw new IllegalArgumentException(ErrorConstants.MEAL_NOT_FOUND_MESSAGE);
+        }
+        User user = null;
+        if (!membership.participant()) {
+            user = userService.getUserEntityById(currentUserId);
+            checkCanJoin(user, menu);
+        }
+        String joiningName = user != null ? user.getName() : null;
+
+        return groupCartStore.withCart(cartId, cart -> {
+            requireOpen(cart);
+            if (!cart.isParticipant(currentUserId)) {
+                if (joiningName == null) {
+                    // Left between the membership read and now; join again through a fresh request
+                    throw new SecurityException(ErrorConstants.GROUP_CART_NOT_PARTICIPANT_MESSAGE);
+                }
+                if (cart.getParticipantCount() >= maxParticipants) {
+                    throw new IllegalArgumentException(ErrorConstants.GROUP_CART_FULL_MESSAGE);
+                }
+                cart.addParticipant(currentUserId, joiningName);
+            }
+            if (request.getQuantity() > 0 && cart.getLineCount() >= maxLines
+                    && !cart.hasLine(currentUserId, request.getMealId())) {
+                throw new IllegalArgumentException(ErrorConstants.GROUP_CART_TOO_MANY_ITEMS_MESSAGE);
+            }
+            cart.setQuantity(currentUserId, request.getMealId(), request.getQuantity());
+            cart.touch(LocalDateTime.now());
+            return mapToResponse(cart, menu);
+        });
+    }
+
+    /**
+     * A participant leaves with their items; the host leaving closes the cart.
+     */
+    @Override
+    public void leaveCart(UUID cartId, UUID currentUserId) {
+        groupCartStore.withCart(cartId, cart -> {
+            requireOpen(cart);
+            if (cart.getHostId().equals(currentUserId)) {
+                groupCartStore.remove(cartId);
+                log.info("Group cart {} closed by host {}", cartId, currentUserId);
+            } else if (cart.isParticipant(currentUserId)) {
+                cart.removeParticipant(currentUserId);
+                cart.touch(LocalDateTime.now());
+            } else {
+                throw new SecurityException(ErrorConstants.GROUP_CART_NOT_PARTICIPANT_MESSAGE);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public OrderResponse checkout(UUID cartId, GroupCheckoutRequest request, UUID currentUserId) {
+        Checkout checkout = groupCartStore.withCart(cartId, cart -> {
+            if (!cart.getHostId().equals(currentUserId)) {
+                throw new SecurityException(ErrorConstants.GROUP_CART_HOST_ONLY_MESSAGE);
+            }
+            requireOpen(cart);
+            List<GroupCartLine> lines = cart.lines();
+            if (lines.isEmpty()) {
+                throw new IllegalArgumentException(ErrorConstants.EMPTY_ORDER_ITEMS_MESSAGE);
+            }
+            cart.setStatus(GroupCart.Status.CHECKING_OUT);
+            return new Checkout(cart.getRestaurantId(), cart.getParticipantCount(), lines);
+        });
+
+        OrderResponse response;
+        try {
+            response = orderService.placeGroupOrder(currentUserId, checkout.restaurantId(), checkout.lines(),
+                    request.getTipAmount(), request.getCouponCode());
+        } catch (RuntimeException e) {
+            groupCartStore.withCart(cartId, cart -> {
+                cart.setStatus(GroupCart.Status.OPEN);
+                return null;
+            });
+            throw e;
+        }
+        groupCartStore.remove(cartId);
+        log.info("Group cart {} checked out as order {} with {} participants", cartId, response.getId(),
+                checkout.participantCount());
+        return response;
+    }
+
+    private void checkCanJoin(User user, QuoteCatalogCache.QuoteMenu menu) {
+        if (Boolean.TRUE.equals(user.getBlocked())) {
+            throw new SecurityException(ErrorConstants.USER_BLOCKED_MESSAGE);
+        }
+        if (menu.blocked()) {
+            throw new IllegalArgumentException(ErrorConstants.RESTAURANT_BLOCKED_MESSAGE);
+        }
+        if (userRestaurantBlockRepository.existsByUserIdAndRestaurantId(user.getId(), menu.restaurantId())) {
+            throw new SecurityException(ErrorConstants.USER_BLOCKED_MESSAGE);
+        }
+    }
+
+    private void requireOpen(GroupCart cart) {
+        if (cart.getStatus() != GroupCart.Status.OPEN) {
+            throw new IllegalArgumentException(ErrorConstants.GROUP_CART_NOT_OPEN_MESSAGE);
+        }
+    }
+
+    /**
+     * Prices lines from the menu snapshot; a meal since removed from the menu shows without a
+     * price and fails at checkout.
+     */
+    private GroupCartResponse mapToResponse(GroupCart cart, QuoteCatalogCache.QuoteMenu menu) {
+        Map<UUID, List<GroupCartResponse.Item>> itemsByParticipant = new LinkedHashMap<>();
+        Map<UUID, Long> subtotals = new LinkedHashMap<>();
+        cart.participantNames().keySet().forEach(id -> {
+            itemsByParticipant.put(id, new ArrayList<>());
+            subtotals.put(id, 0L);
+        });
+        long itemsTotal = 0L;
+        for (GroupCartLine line : cart.lines()) {
+            QuoteCatalogCache.QuoteMeal meal = menu.meals().get(line.mealId());
+            Long lineTotal = meal != null ? PricingEngine.lineTotal(meal.priceCents(), line.quantity()) : null;
+            if (lineTotal != null) {
+                subtotals.merge(line.participantId(), lineTotal, Long::sum);
+                itemsTotal += lineTotal;
+            }
+            itemsByParticipant.get(line.participantId()).add(GroupCartResponse.Item.builder()
+                    .mealId(line.mealId())
+                    .mealName(meal != null ? meal.name() : null)
+                    .quantity(line.quantity())
+                    .unitPrice(meal != null ? meal.price() : null)
+                    .lineTotal(lineTotal != null ? PricingEngine.toAmount(lineTotal) : null)
+                    .build());
+        }
+
+        List<GroupCartResponse.Participant> participants = new ArrayList<>(itemsByParticipant.size());
+        cart.participantNames().forEach((id, name) -> participants.add(GroupCartResponse.Participant.builder()
+                .userId(id)
+                .name(name)
+                .items(itemsByParticipant.get(id))
+                .subtotal(PricingEngine.toAmount(subtotals.get(id)))
+                .build()));
+
+        return GroupCartResponse.builder()
+                .id(cart.getId())
+                .hostId(cart.getHostId())
+                .restaurantId(cart.getRestaurantId())
+                .status(cart.getStatus().name())
+                .participants(participants)
+                .itemsTotal(PricingEngine.toAmount(itemsTotal))
+                .createdAt(cart.getCreatedAt())
+                .lastActivityAt(cart.getLastActivityAt())
+                .build();
+    }
+}
@@ -2,32 +2,53 @@ package com.food.delivery.service.impl;
 
 import com.food.delivery.dto.MealRequest;
 import com.food.delivery.dto.MealResponse;
+import com.food.delivery.dto.MealSearchResponse;
+import com.food.delivery.dto.PopularMealResponse;
+import com.food.delivery.dto.PriceBucket;
 import com.food.delivery.entity.Meal;
 import com.food.delivery.entity.Restaurant;
 import com.food.delivery.entity.User;
 import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.popularity.PopularMealTracker;
 import com.food.delivery.repository.MealRepository;
 import com.food.delivery.repository.spec.MealSpecification;
+import com.food.delivery.search.CatalogSearchIndex;
+import com.food.delivery.search.SearchHits;
 import com.food.delivery.service.MealService;
 import com.food.delivery.service.RestaurantService;
 import com.food.delivery.service.UserService;
 import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.constants.ValidationConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @Transactional
 public class MealServiceImpl implements MealService {
 
+    // Upper bounds of the price facet buckets: <5, 5-10, 10-20, 20-50, 50+
+    private static final List<BigDecimal> PRICE_BUCKET_BOUNDARIES = List.of(
+            new BigDecimal("5"), new BigDecimal("10"), new BigDecimal("20"), new BigDecimal("50"));
+
     @Autowired
     private MealRepository mealRepository;
 
@@ -37,6 +58,15 @@ public class MealServiceImpl implements MealService {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Autowired
+    private PopularMealTracker popularMealTracker;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public MealResponse createMeal(UUID restaurantId, MealRequest request, UUID currentUserId) {
         Restaurant restaurant = restaurantService.getRestaurantEntityById(restaurantId);
@@ -55,6 +85,7 @@ public class MealServiceImpl implements MealService {
         meal.setRestaurant(restaurant);
 
         Meal savedMeal = mealRepository.save(meal);
+        eventPublisher.publishEvent(MealChangedEvent.of(savedMeal, ChangeType.CREATED));
         log.info("Created meal: {} in restaurant: {} by user: {}", 
                 savedMeal.getName(), restaurant.getName(), currentUser.getEmail());
 
@@ -83,11 +114,53 @@ public class MealServiceImpl implements MealService {
 
     @Override
     public Page<MealResponse> searchMealsByRestaurant(UUID restaurantId, String search, Pageable pageable) {
+        if (catalogSearchIndex.isEnabled() && StringUtils.hasText(search)) {
+            // Ranked full-text search; results are ordered by relevance
+            SearchHits hits = catalogSearchIndex.searchMeals(restaurantId, search, pageable);
+            Map<UUID, Meal> mealsById = mealRepository.findAllById(hits.ids()).stream()
+                    .collect(Collectors.toMap(Meal::getId, Function.identity()));
+            List<MealResponse> content = hits.ids().stream()
+                    .map(mealsById::get)
+                    .filter(Objects::nonNull)
+                    .map(this::mapToMealResponse)
+                    .toList();
+            return new PageImpl<>(content, pageable, hits.totalHits());
+        }
+
         Page<Meal> meals = mealRepository.findAll(
             MealSpecification.hasRestaurantAndSearch(restaurantId, search), pageable);
         return meals.map(this::mapToMealResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MealSearchResponse searchMeals(String search, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException(ErrorConstants.INVALID_MEAL_PRICE_FILTER_MESSAGE);
+        }
+
+        Page<MealResponse> meals = mealRepository.findAll(
+            MealSpecification.searchActiveMeals(search, minPrice, maxPrice), pageable)
+                .map(this::mapToMealResponse);
+
+        // Facets ignore the price filter so clients can show counts for every bucket
+        long[] counts = mealRepository.countByPriceBuckets(
+            MealSpecification.searchActiveMeals(search, null, null), PRICE_BUCKET_BOUNDARIES);
+        List<PriceBucket> priceBuckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            priceBuckets.add(PriceBucket.builder()
+                    .minPrice(i > 0 ? PRICE_BUCKET_BOUNDARIES.get(i - 1) : null)
+                    .maxPrice(i < PRICE_BUCKET_BOUNDARIES.size() ? PRICE_BUCKET_BOUNDARIES.get(i) : null)
+                    .count(counts[i])
+                    .build());
+        }
+
+        return MealSearchResponse.builder()
+                .meals(meals)
+                .priceBuckets(priceBuckets)
+                .build();
+    }
+
     @Override
     public Page<MealResponse> getMealsByPriceRange(UUID restaurantId, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
         Page<Meal> meals = mealRepository.findAll(
@@ -95,6 +168,13 @@ public class MealServiceImpl implements MealService {
         return meals.map(this::mapToMealResponse);
     }
 
+    @Override
+    public List<PopularMealResponse> getPopularMeals(UUID restaurantId, int limit) {
+        // Served from memory only; no aggregate over order items
+        int boundedLimit = Math.min(Math.max(limit, 1), ValidationConstants.MAX_POPULAR_MEALS_LIMIT);
+        return popularMealTracker.getPopularMeals(restaurantId, boundedLimit);
+    }
+
     @Override
     public MealResponse updateMeal(UUID mealId, MealRequest request, UUID currentUserId) {
         Meal meal = mealRepository.findById(mealId)
@@ -119,6 +199,7 @@ public class MealServiceImpl implements MealService {
         }
 
         Meal updatedMeal = mealRepository.save(meal);
+        eventPublisher.publishEvent(MealChangedEvent.of(updatedMeal, ChangeType.UPDATED));
         log.info("Updated meal: {} by user: {}", updatedMeal.getName(), currentUser.getEmail());
 
         return mapToMealResponse(updatedMeal);
@@ -138,6 +219,7 @@ public class MealServiceImpl implements MealService {
         }
 
         mealRepository.delete(meal);
+        eventPublisher.publishEvent(MealChangedEvent.of(meal, ChangeType.DELETED));
         log.info("Deleted meal: {} by user: {}", meal.getName(), currentUser.getEmail());
     }
 
@@ -0,0 +1,76 @@
+package com.food.delivery.service.impl;
+
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.service.OrderArchiveService;
+import com.food.delivery.util.OrderStatusUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${order.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.archive.horizon-days:90}")
+    private int horizonDays;
+
+    @Value("${order.archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * *}")
+    public void archiveExpiredOrders() {
+        if (!enabled) {
+            return;
+        }
+        archiveOrdersPlacedBefore(LocalDateTime.now().minusDays(horizonDays));
+    }
+
+    @Override
+    public int archiveOrdersPlacedBefore(LocalDateTime cutoff) {
+        int archived = 0;
+        int moved;
+        do {
+            // Short transactions keep row locks and undo size bounded by the batch
+            Integer batch = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            moved = batch != null ? batch : 0;
+            if (moved > 0) {
+                orderRepository.refreshArchiveWatermark();
+            }
+            archived += moved;
+        } while (moved == batchSize);
+
+        log.info("Order archival finished - cutoff: {}, orders archived: {}", cutoff, archived);
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<UUID> ids = orderRepository.findIdsByStatusInAndOrderDateBefore(
+                OrderStatusUtil.getFinalStatuses(), cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        orderRepository.copyToArchive(ids);
+        orderRepository.copyItemsToArchive(ids);
+        orderRepository.deleteItemsByOrderIdIn(ids);
+        orderRepository.deleteByIdIn(ids);
+        log.debug("Archived batch of {} orders placed before {}", ids.size(), cutoff);
+        return ids.size();
+    }
+}
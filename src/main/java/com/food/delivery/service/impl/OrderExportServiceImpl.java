@@ -0,0 +1,155 @@
+package com.food.delivery.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.dto.OrderExportRow;
+import com.food.delivery.entity.ArchivedOrder;
+import com.food.delivery.entity.Order;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.ExportFormat;
+import com.food.delivery.enums.UserRole;
+import com.food.delivery.helper.DtoMapper;
+import com.food.delivery.repository.ArchivedOrderRepository;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.service.OrderExportService;
+import com.food.delivery.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class OrderExportServiceImpl implements OrderExportService {
+
+    // Matches the repository fetch size: one cursor round trip per cleared chunk
+    private static final int CLEAR_INTERVAL = 500;
+
+    private static final String CSV_HEADER = "id,orderDate,status,customerId,customerName,restaurantId,"
+            + "restaurantName,couponCode,discountPercent,tipAmount,totalAmount";
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void validateExport(UUID currentUserId, LocalDateTime from, LocalDateTime to) {
+        resolveExporter(currentUserId, from, to);
+    }
+
+    @Override
+    public long exportOrders(UUID currentUserId, LocalDateTime from, LocalDateTime to, ExportFormat format,
+                             OutputStream out) throws IOException {
+        User user = resolveExporter(currentUserId, from, to);
+        boolean ownerScoped = user.getRole() == UserRole.OWNER;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        boolean includeArchive = orderRepository.findArchivedThrough()
+                .map(archivedThrough -> !from.isAfter(archivedThrough))
+                .orElse(false);
+        if (includeArchive) {
+            try (Stream<ArchivedOrder> archived = ownerScoped
+                    ? archivedOrderRepository.streamByRestaurantOwnerIdAndOrderDateBetween(user.getId(), from, to)
+                    : archivedOrderRepository.streamByOrderDateBetween(from, to)) {
+                rows = writeRows(archived.map(DtoMapper::mapToOrderExportRow), format, writer, rows);
+            }
+        }
+        try (Stream<Order> live = ownerScoped
+                ? orderRepository.streamByRestaurantOwnerIdAndOrderDateBetween(user.getId(), from, to)
+                : orderRepository.streamByOrderDateBetween(from, to)) {
+            rows = writeRows(live.map(DtoMapper::mapToOrderExportRow), format, writer, rows);
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private User resolveExporter(UUID currentUserId, LocalDateTime from, LocalDateTime to) {
+        User user = userService.getUserEntityById(currentUserId);
+        if (user.getRole() != UserRole.ADMIN && user.getRole() != UserRole.OWNER) {
+            throw new SecurityException(ErrorConstants.INSUFFICIENT_PERMISSIONS_MESSAGE);
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException(ErrorConstants.INVALID_DATE_RANGE_MESSAGE);
+        }
+        return user;
+    }
+
+    private long writeRows(Stream<OrderExportRow> rows, ExportFormat format, Writer writer, long written) throws IOException {
+        Iterator<OrderExportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            OrderExportRow row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(row, writer);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+            if (++written % CLEAR_INTERVAL == 0) {
+                // Scrolled entities stay managed until cleared; keep memory flat and push bytes out
+                entityManager.clear();
+                writer.flush();
+            }
+        }
+        return written;
+    }
+
+    private static void writeCsvRow(OrderExportRow row, Writer writer) throws IOException {
+        writer.write(String.join(",",
+                csv(row.getId()),
+                csv(row.getOrderDate()),
+                csv(row.getStatus()),
+                csv(row.getCustomerId()),
+                csv(row.getCustomerName()),
+                csv(row.getRestaurantId()),
+                csv(row.getRestaurantName()),
+                csv(row.getCouponCode()),
+                csv(row.getDiscountPercent()),
+                csv(row.getTipAmount() != null ? row.getTipAmount().toPlainString() : null),
+                csv(row.getTotalAmount() != null ? row.getTotalAmount().toPlainString() : null)));
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Names are user input: keep spreadsheets from evaluating them as formulas
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -1,23 +1,39 @@
 package com.food.delivery.service.impl;
 
+import com.food.delivery.board.ActiveOrderIndex;
+import com.food.delivery.cache.QuoteCatalogCache;
+import com.food.delivery.capacity.RestaurantCapacityGate;
+import com.food.delivery.dto.ActiveOrderResponse;
 import com.food.delivery.dto.OrderRequest;
 import com.food.delivery.dto.OrderResponse;
 import com.food.delivery.dto.OrderStatusUpdateRequest;
 import com.food.delivery.dto.OrderUpdateRequest;
+import com.food.delivery.dto.PriceQuoteResponse;
 import com.food.delivery.entity.*;
 import com.food.delivery.enums.OrderStatus;
 import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.OrderScheduledEvent;
+import com.food.delivery.group.GroupCartLine;
+import com.food.delivery.pricing.PriceBreakdown;
+import com.food.delivery.pricing.PricingContext;
+import com.food.delivery.pricing.PricingEngine;
+import com.food.delivery.pricing.PricingPipelineRegistry;
 import com.food.delivery.repository.*;
 import com.food.delivery.repository.spec.OrderSpecification;
 import com.food.delivery.service.OrderService;
 import com.food.delivery.service.RestaurantService;
 import com.food.delivery.service.UserService;
 import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.util.OrderStatusUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -30,6 +46,9 @@ import java.util.stream.Collectors;
 @Transactional
 public class OrderServiceImpl implements OrderService {
 
+    private record PricedOrder(List<Meal> meals, Map<UUID, Integer> quantities, Coupon coupon, PriceBreakdown price) {
+    }
+
     @Autowired
     private OrderRepository orderRepository;
 
@@ -48,32 +67,215 @@ public class OrderServiceImpl implements OrderService {
     @Autowired
     private UserRestaurantBlockRepository userRestaurantBlockRepository;
 
+    @Autowired
+    private ActiveOrderIndex activeOrderIndex;
+
+    @Autowired
+    private PricingPipelineRegistry pricingPipelineRegistry;
+
+    @Autowired
+    private QuoteCatalogCache quoteCatalogCache;
+
+    @Autowired
+    private RestaurantCapacityGate restaurantCapacityGate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${order.schedule.release-lead-minutes:30}")
+    private long scheduleReleaseLeadMinutes;
+
+    @Value("${order.schedule.max-days-ahead:7}")
+    private long scheduleMaxDaysAhead;
+
     @Override
     public OrderResponse placeOrder(OrderRequest request, UUID currentUserId) {
+        // Scheduled orders take their slot on release
+        if (request.getScheduledFor() == null) {
+            restaurantCapacityGate.checkCapacity(request.getRestaurantId());
+        }
         User customer = userService.getUserEntityById(currentUserId);
         Restaurant restaurant = restaurantService.getRestaurantEntityById(request.getRestaurantId());
+        if (request.getScheduledFor() == null) {
+            restaurantCapacityGate.acquire(request.getRestaurantId());
+        }
+        PricedOrder priced = priceOrder(request, customer, restaurant);
+        PriceBreakdown price = priced.price();
+        LocalDateTime now = LocalDateTime.now();
+        if (request.getScheduledFor() != null) {
+            checkScheduleSlot(request.getScheduledFor(), now);
+        }
+        List<OrderItem> orderItems = new ArrayList<>(priced.meals().size());
+        for (Meal meal : priced.meals()) {
+            OrderItem oi = new OrderItem();
+            oi.setMeal(meal);
+            oi.setMealName(meal.getName());
+            oi.setQuantity(priced.quantities().get(meal.getId()));
+            oi.setPriceAtOrder(meal.getPrice());
+            orderItems.add(oi);
+        }
 
-        if (Boolean.TRUE.equals(customer.getBlocked())) {
-            throw new SecurityException(ErrorConstants.USER_BLOCKED_MESSAGE);
+        Order order = new Order();
+        order.setCustomer(customer);
+        order.setCustomerName(customer.getName());
+        order.setRestaurant(restaurant);
+        order.setRestaurantName(restaurant.getName());
+        order.setOrderDate(now);
+        order.setScheduledFor(request.getScheduledFor());
+        order.setTipAmount(price.tip());
+        applyCoupon(order, priced.coupon());
+        order.setTotalAmount(price.total());
+        order.setStatus(request.getScheduledFor() != null ? OrderStatus.SCHEDULED : OrderStatus.PLACED);
+
+        Order saved = orderRepository.save(order);
+        for (OrderItem oi : orderItems) {
+            oi.setOrder(saved);
         }
-        if (Boolean.TRUE.equals(restaurant.getBlocked())) {
-            throw new IllegalArgumentException(ErrorConstants.RESTAURANT_BLOCKED_MESSAGE);
+        // Persist items
+        // Use mealRepository save? We need OrderItemRepository; instead map through order.getOrderItems
+        saved.setOrderItems(orderItems);
+        Order savedWithItems = orderRepository.save(saved);
+        eventPublisher.publishEvent(OrderChangedEvent.placed(savedWithItems));
+        if (savedWithItems.getScheduledFor() != null) {
+            eventPublisher.publishEvent(OrderScheduledEvent.of(savedWithItems));
         }
-        if (userRestaurantBlockRepository.existsByUserIdAndRestaurantId(customer.getId(), restaurant.getId())) {
-            throw new SecurityException(ErrorConstants.USER_BLOCKED_MESSAGE);
+
+        log.info("Order placed: {} by {} at {}", savedWithItems.getId(), customer.getEmail(), restaurant.getName());
+        return mapToOrderResponse(savedWithItems);
+    }
+
+    /**
+     * Places one order for the host covering every participant's lines. Participants' lines for
+     * the same meal are priced together and kept as separate attributed items; the order and
+     * all its items go out in one save, so the item inserts are batched.
+     */
+    @Override
+    public OrderResponse placeGroupOrder(UUID hostId, UUID restaurantId, List<GroupCartLine> lines,
+                                         BigDecimal tipAmount, String couponCode) {
+        restaurantCapacityGate.checkCapacity(restaurantId);
+        User host = userService.getUserEntityById(hostId);
+        Restaurant restaurant = restaurantService.getRestaurantEntityById(restaurantId);
+        restaurantCapacityGate.acquire(restaurantId);
+        OrderRequest request = OrderRequest.builder()
+                .restaurantId(restaurantId)
+                .items(lines.stream()
+                        .map(line -> OrderRequest.OrderItemRequest.builder()
+                                .mealId(line.mealId())
+                                .quantity(line.quantity())
+                                .build())
+                        .toList())
+                .tipAmount(tipAmount)
+                .couponCode(couponCode)
+                .build();
+        PricedOrder priced = priceOrder(request, host, restaurant);
+        PriceBreakdown price = priced.price();
+
+        Order order = new Order();
+        order.setCustomer(host);
+        order.setCustomerName(host.getName());
+        order.setRestaurant(restaurant);
+        order.setRestaurantName(restaurant.getName());
+        order.setOrderDate(LocalDateTime.now());
+        order.setTipAmount(price.tip());
+        applyCoupon(order, priced.coupon());
+        order.setTotalAmount(price.total());
+        order.setStatus(OrderStatus.PLACED);
+
+        Map<UUID, Meal> mealsById = new HashMap<>();
+        for (Meal meal : priced.meals()) {
+            mealsById.put(meal.getId(), meal);
         }
+        List<OrderItem> orderItems = new ArrayList<>(lines.size());
+        for (GroupCartLine line : lines) {
+            Meal meal = mealsById.get(line.mealId());
+            OrderItem oi = new OrderItem();
+            oi.setOrder(order);
+            oi.setMeal(meal);
+            oi.setMealName(meal.getName());
+            oi.setQuantity(line.quantity());
+            oi.setPriceAtOrder(meal.getPrice());
+            oi.setParticipantId(line.participantId());
+            oi.setParticipantName(line.participantName());
+            orderItems.add(oi);
+        }
+        order.setOrderItems(orderItems);
 
-        // Validate items and ensure they all belong to the same restaurant
-        if (request.getItems() == null || request.getItems().isEmpty()) {
-            throw new IllegalArgumentException(ErrorConstants.EMPTY_ORDER_ITEMS_MESSAGE);
+        Order saved = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderChangedEvent.placed(saved));
+
+        log.info("Group order placed: {} by {} at {} with {} items", saved.getId(), host.getEmail(),
+                restaurant.getName(), orderItems.size());
+        return mapToOrderResponse(saved);
+    }
+
+    /**
+     * Same checks and pricing as {@link #placeOrder}, read from {@link QuoteCatalogCache}
+     * snapshots; no transaction is held and nothing is written.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PriceQuoteResponse quoteOrder(OrderRequest request, UUID currentUserId) {
+        User customer = userService.getUserEntityById(currentUserId);
+        QuoteCatalogCache.QuoteMenu menu = quoteCatalogCache.menu(request.getRestaurantId());
+        checkCustomerCanOrder(customer);
+        checkRestaurantAcceptsOrder(customer, menu.restaurantId(), menu.blocked());
+        Map<UUID, Integer> mealIdToQty = collectQuantities(request);
+
+        List<UUID> missing = mealIdToQty.keySet().stream().filter(id -> !menu.meals().containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            // Rare path: tell unknown meals apart from another restaurant's, as checkout does
+            if (mealRepository.findAllById(missing).size() != missing.size()) {
+                throw new IllegalArgumentException(ErrorConstants.MEAL_NOT_FOUND_MESSAGE);
+            }
+            throw new IllegalArgumentException("All items must be from the same restaurant");
         }
 
-        Map<UUID, Integer> mealIdToQty = new HashMap<>();
-        for (OrderRequest.OrderItemRequest item : request.getItems()) {
-            UUID mealId = item.getMealId();
-            mealIdToQty.merge(mealId, item.getQuantity(), Integer::sum);
+        QuoteCatalogCache.QuoteCoupon coupon = null;
+        if (request.getCouponCode() != null && !request.getCouponCode().isBlank()) {
+            coupon = quoteCatalogCache.coupon(request.getCouponCode()).orElse(null);
+            if (coupon == null || !coupon.isValid()) {
+                throw new IllegalArgumentException(ErrorConstants.COUPON_EXPIRED_MESSAGE);
+            }
         }
 
+        PricingContext context = new PricingContext(coupon != null ? coupon.discountPercent() : null,
+                PricingEngine.toCents(request.getTipAmount()));
+        List<PriceQuoteResponse.Line> lines = new ArrayList<>(mealIdToQty.size());
+        for (Map.Entry<UUID, Integer> item : mealIdToQty.entrySet()) {
+            QuoteCatalogCache.QuoteMeal meal = menu.meals().get(item.getKey());
+            long lineTotal = context.addLine(meal.priceCents(), item.getValue());
+            lines.add(PriceQuoteResponse.Line.builder()
+                    .mealId(meal.id())
+                    .mealName(meal.name())
+                    .quantity(item.getValue())
+                    .unitPrice(meal.price())
+                    .lineTotal(PricingEngine.toAmount(lineTotal))
+                    .build());
+        }
+        PriceBreakdown price = menu.pipeline().price(context);
+
+        return PriceQuoteResponse.builder()
+                .restaurantId(menu.restaurantId())
+                .items(lines)
+                .itemsTotal(price.itemsTotal())
+                .couponCode(coupon != null ? coupon.code() : null)
+                .discountPercent(coupon != null ? coupon.discountPercent() : null)
+                .discountAmount(price.discount())
+                .taxAmount(price.tax())
+                .deliveryFee(price.deliveryFee())
+                .tipAmount(price.tip())
+                .totalAmount(price.total())
+                .build();
+    }
+
+    /**
+     * Validates an order request and runs it through the restaurant's pricing pipeline.
+     */
+    private PricedOrder priceOrder(OrderRequest request, User customer, Restaurant restaurant) {
+        checkCustomerCanOrder(customer);
+        checkRestaurantAcceptsOrder(customer, restaurant.getId(), Boolean.TRUE.equals(restaurant.getBlocked()));
+        Map<UUID, Integer> mealIdToQty = collectQuantities(request);
+
         List<Meal> meals = mealRepository.findAllById(mealIdToQty.keySet());
         if (meals.size() != mealIdToQty.size()) {
             throw new IllegalArgumentException(ErrorConstants.MEAL_NOT_FOUND_MESSAGE);
@@ -84,56 +286,62 @@ public class OrderServiceImpl implements OrderService {
             }
         }
 
-        BigDecimal itemsTotal = BigDecimal.ZERO;
-        List<OrderItem> orderItems = new ArrayList<>();
-        for (Meal meal : meals) {
-            int qty = mealIdToQty.get(meal.getId());
-            BigDecimal line = meal.getPrice().multiply(BigDecimal.valueOf(qty));
-            itemsTotal = itemsTotal.add(line);
-
-            OrderItem oi = new OrderItem();
-            oi.setMeal(meal);
-            oi.setQuantity(qty);
-            oi.setPriceAtOrder(meal.getPrice());
-            orderItems.add(oi);
-        }
-
-        BigDecimal tip = request.getTipAmount() == null ? BigDecimal.ZERO : request.getTipAmount();
-        BigDecimal discount = BigDecimal.ZERO;
-        Coupon appliedCoupon = null;
+        Coupon coupon = null;
         if (request.getCouponCode() != null && !request.getCouponCode().isBlank()) {
-            appliedCoupon = couponRepository.findByCode(request.getCouponCode()).orElse(null);
-            if (appliedCoupon == null || !appliedCoupon.isValid()) {
+            coupon = couponRepository.findByCode(request.getCouponCode()).orElse(null);
+            if (coupon == null || !coupon.isValid()) {
                 throw new IllegalArgumentException(ErrorConstants.COUPON_EXPIRED_MESSAGE);
             }
-            discount = itemsTotal.multiply(BigDecimal.valueOf(appliedCoupon.getDiscountPercent()).divide(BigDecimal.valueOf(100)));
         }
 
-        BigDecimal total = itemsTotal.subtract(discount).add(tip);
-        if (total.compareTo(BigDecimal.ZERO) < 0) {
-            total = BigDecimal.ZERO;
+        PricingContext context = new PricingContext(coupon != null ? coupon.getDiscountPercent() : null,
+                PricingEngine.toCents(request.getTipAmount()));
+        for (Meal meal : meals) {
+            context.addLine(PricingEngine.toCents(meal.getPrice()), mealIdToQty.get(meal.getId()));
         }
+        PriceBreakdown price = pricingPipelineRegistry.pipelineFor(restaurant).price(context);
+        return new PricedOrder(meals, mealIdToQty, coupon, price);
+    }
 
-        Order order = new Order();
-        order.setCustomer(customer);
-        order.setRestaurant(restaurant);
-        order.setOrderDate(LocalDateTime.now());
-        order.setTipAmount(tip);
-        order.setCoupon(appliedCoupon);
-        order.setTotalAmount(total);
-        order.setStatus(OrderStatus.PLACED);
+    /**
+     * The slot must leave the restaurant its release lead time and lie within the booking horizon.
+     */
+    private void checkScheduleSlot(LocalDateTime scheduledFor, LocalDateTime now) {
+        if (scheduledFor.isBefore(now.plusMinutes(scheduleReleaseLeadMinutes))) {
+            throw new IllegalArgumentException(ErrorConstants.SCHEDULE_TOO_SOON_MESSAGE);
+        }
+        if (scheduledFor.isAfter(now.plusDays(scheduleMaxDaysAhead))) {
+            throw new IllegalArgumentException(ErrorConstants.SCHEDULE_TOO_FAR_MESSAGE);
+        }
+    }
 
-        Order saved = orderRepository.save(order);
-        for (OrderItem oi : orderItems) {
-            oi.setOrder(saved);
+    private void checkCustomerCanOrder(User customer) {
+        if (Boolean.TRUE.equals(customer.getBlocked())) {
+            throw new SecurityException(ErrorConstants.USER_BLOCKED_MESSAGE);
         }
-        // Persist items
-        // Use mealRepository save? We need OrderItemRepository; instead map through order.getOrderItems
-        saved.setOrderItems(orderItems);
-        Order savedWithItems = orderRepository.save(saved);
+    }
 
-        log.info("Order placed: {} by {} at {}", savedWithItems.getId(), customer.getEmail(), restaurant.getName());
-        return mapToOrderResponse(savedWithItems);
+    private void checkRestaurantAcceptsOrder(User customer, UUID restaurantId, boolean restaurantBlocked) {
+        if (restaurantBlocked) {
+            throw new IllegalArgumentException(ErrorConstants.RESTAURANT_BLOCKED_MESSAGE);
+        }
+        if (userRestaurantBlockRepository.existsByUserIdAndRestaurantId(customer.getId(), restaurantId)) {
+            throw new SecurityException(ErrorConstants.USER_BLOCKED_MESSAGE);
+        }
+    }
+
+    private Map<UUID, Integer> collectQuantities(OrderRequest request) {
+        // Validate items; repeated meals are merged into one line
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException(ErrorConstants.EMPTY_ORDER_ITEMS_MESSAGE);
+        }
+
+        Map<UUID, Integer> mealIdToQty = new HashMap<>();
+        for (OrderRequest.OrderItemRequest item : request.getItems()) {
+            UUID mealId = item.getMealId();
+            mealIdToQty.merge(mealId, item.getQuantity(), Integer::sum);
+        }
+        return mealIdToQty;
     }
 
     @Override
@@ -143,7 +351,7 @@ public class OrderServiceImpl implements OrderService {
         if (user.getRole() == UserRole.CUSTOMER) {
             Page<Order> page;
             if (from.isPresent() && to.isPresent()) {
-                page = orderRepository.findByCustomerIdAndOrderDateBetween(user.getId(), from.get(), to.get(), pageable);
+                page = orderRepository.findHistoryByCustomerId(user.getId(), from.get(), to.get(), pageable);
             } else if (status.isPresent()) {
                 page = orderRepository.findByCustomerIdAndStatus(user.getId(), status.get(), pageable);
             } else {
@@ -154,7 +362,7 @@ public class OrderServiceImpl implements OrderService {
         if (user.getRole() == UserRole.OWNER) {
             Page<Order> page;
             if (from.isPresent() && to.isPresent()) {
-                page = orderRepository.findByRestaurantOwnerIdAndOrderDateBetween(user.getId(), from.get(), to.get(), pageable);
+                page = orderRepository.findHistoryByRestaurantOwnerId(user.getId(), from.get(), to.get(), pageable);
             } else if (status.isPresent()) {
                 page = orderRepository.findByRestaurantOwnerIdAndStatus(user.getId(), status.get(), pageable);
             } else {
@@ -165,7 +373,7 @@ public class OrderServiceImpl implements OrderService {
         // ADMIN
         Page<Order> page;
         if (from.isPresent() && to.isPresent()) {
-            page = orderRepository.findByOrderDateBetween(from.get(), to.get(), pageable);
+            page = orderRepository.findHistory(from.get(), to.get(), pageable);
         } else if (status.isPresent()) {
             page = orderRepository.findByStatus(status.get(), pageable);
         } else {
@@ -177,7 +385,7 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public OrderResponse getOrderById(UUID orderId, UUID currentUserId) {
         User user = userService.getUserEntityById(currentUserId);
-        Order order = orderRepository.findById(orderId).orElseThrow(() -> new IllegalArgumentException("Order not found"));
+        Order order = orderRepository.findByIdIncludingArchive(orderId).orElseThrow(() -> new IllegalArgumentException("Order not found"));
         if (user.getRole() == UserRole.CUSTOMER && !order.getCustomer().getId().equals(user.getId())) {
             throw new SecurityException("Not allowed");
         }
@@ -196,15 +404,19 @@ public class OrderServiceImpl implements OrderService {
         OrderStatus to = req.getStatus();
 
         if (to == OrderStatus.CANCELED) {
-            if (user.getRole() == UserRole.CUSTOMER && from == OrderStatus.PLACED) {
+            if (user.getRole() == UserRole.CUSTOMER && (from == OrderStatus.SCHEDULED || from == OrderStatus.PLACED)) {
                 order.setStatus(OrderStatus.CANCELED);
-            } else if (user.getRole() == UserRole.OWNER && (from == OrderStatus.PLACED || from == OrderStatus.PROCESSING)) {
+            } else if (user.getRole() == UserRole.OWNER
+                    && (from == OrderStatus.SCHEDULED || from == OrderStatus.PLACED || from == OrderStatus.PROCESSING)) {
                 order.setStatus(OrderStatus.CANCELED);
             } else if (user.getRole() == UserRole.ADMIN) {
                 order.setStatus(OrderStatus.CANCELED);
             } else {
                 throw new SecurityException("Cannot cancel at this stage");
             }
+        } else if (from == OrderStatus.SCHEDULED) {
+            // Released to PLACED by the dispatcher only
+            throw new IllegalArgumentException(ErrorConstants.SCHEDULED_ORDER_NOT_RELEASED_MESSAGE);
         } else {
             // forward-only progression
             List<OrderStatus> sequence = Arrays.asList(
@@ -240,6 +452,7 @@ public class OrderServiceImpl implements OrderService {
             order.setStatus(to);
         }
         Order saved = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderChangedEvent.updated(saved, from, saved.getTotalAmount(), saved.getTipAmount()));
         return mapToOrderResponse(saved);
     }
 
@@ -250,10 +463,12 @@ public class OrderServiceImpl implements OrderService {
         if (!order.getCustomer().getId().equals(user.getId()) && user.getRole() != UserRole.ADMIN) {
             throw new SecurityException("Only customer or admin can update order");
         }
-        if (order.getStatus() != OrderStatus.PLACED) {
-            throw new IllegalArgumentException("Only orders in PLACED status can be updated");
+        if (!OrderStatusUtil.isEditableStatus(order.getStatus())) {
+            throw new IllegalArgumentException("Only orders in SCHEDULED or PLACED status can be updated");
         }
 
+        BigDecimal previousTotal = order.getTotalAmount();
+        BigDecimal previousTip = order.getTipAmount();
         BigDecimal tip = req.getTipAmount() != null ? req.getTipAmount() : order.getTipAmount();
         Coupon coupon = order.getCoupon();
         if (req.getCouponCode() != null) {
@@ -268,18 +483,20 @@ public class OrderServiceImpl implements OrderService {
             }
         }
 
-        BigDecimal itemsTotal = order.getOrderItems().stream()
-                .map(oi -> oi.getPriceAtOrder().multiply(BigDecimal.valueOf(oi.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal discount = coupon == null ? BigDecimal.ZERO : itemsTotal.multiply(BigDecimal.valueOf(coupon.getDiscountPercent()).divide(BigDecimal.valueOf(100)));
-        BigDecimal total = itemsTotal.subtract(discount).add(tip);
-        if (total.compareTo(BigDecimal.ZERO) < 0) total = BigDecimal.ZERO;
+        PricingContext context = new PricingContext(coupon != null ? coupon.getDiscountPercent() : null,
+                PricingEngine.toCents(tip));
+        for (OrderItem item : order.getOrderItems()) {
+            context.addLine(PricingEngine.toCents(item.getPriceAtOrder()), item.getQuantity());
+        }
+        PriceBreakdown price = pricingPipelineRegistry.pipelineFor(order.getRestaurant()).price(context);
 
-        order.setTipAmount(tip);
-        order.setCoupon(coupon);
-        order.setTotalAmount(total);
+        order.setTipAmount(price.tip());
+        applyCoupon(order, coupon);
+        order.setTotalAmount(price.total());
 
-        return mapToOrderResponse(orderRepository.save(order));
+        Order saved = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderChangedEvent.updated(saved, saved.getStatus(), previousTotal, previousTip));
+        return mapToOrderResponse(saved);
     }
 
     @Override
@@ -287,31 +504,54 @@ public class OrderServiceImpl implements OrderService {
         updateStatus(orderId, wrapStatus(OrderStatus.CANCELED), currentUserId);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ActiveOrderResponse> getActiveOrders(UUID ownerId, Optional<UUID> restaurantId) {
+        // Served from the in-memory board; only an ownership check for a restaurant without open orders reads the database
+        return restaurantId
+                .map(id -> activeOrderIndex.getActiveOrders(id, ownerId))
+                .orElseGet(() -> activeOrderIndex.getActiveOrdersForOwner(ownerId));
+    }
+
     private OrderStatusUpdateRequest wrapStatus(OrderStatus s) {
         OrderStatusUpdateRequest r = new OrderStatusUpdateRequest();
         r.setStatus(s);
         return r;
     }
 
+    // The coupon's code and percent are snapshotted with it, like the names
+    private void applyCoupon(Order order, Coupon coupon) {
+        order.setCoupon(coupon);
+        order.setCouponCode(coupon != null ? coupon.getCode() : null);
+        order.setDiscountPercent(coupon != null ? coupon.getDiscountPercent() : null);
+    }
+
+    /**
+     * Reads only snapshot columns and foreign key ids, so mapping a page of orders loads
+     * no users, restaurants, coupons or meals; items come in one batch per page.
+     */
     private OrderResponse mapToOrderResponse(Order order) {
         return OrderResponse.builder()
                 .id(order.getId())
                 .customerId(order.getCustomer().getId())
-                .customerName(order.getCustomer().getName())
+                .customerName(order.getCustomerName())
                 .restaurantId(order.getRestaurant().getId())
-                .restaurantName(order.getRestaurant().getName())
+                .restaurantName(order.getRestaurantName())
                 .orderDate(order.getOrderDate())
+                .scheduledFor(order.getScheduledFor())
                 .totalAmount(order.getTotalAmount())
                 .tipAmount(order.getTipAmount())
-                .couponCode(order.getCoupon() != null ? order.getCoupon().getCode() : null)
-                .discountPercent(order.getCoupon() != null ? order.getCoupon().getDiscountPercent() : null)
+                .couponCode(order.getCouponCode())
+                .discountPercent(order.getDiscountPercent())
                 .status(order.getStatus())
                 .items(order.getOrderItems() == null ? List.of() : order.getOrderItems().stream().map(oi -> 
                     OrderResponse.OrderItemResponse.builder()
                         .mealId(oi.getMeal().getId())
-                        .mealName(oi.getMeal().getName())
+                        .mealName(oi.getMealName())
                         .quantity(oi.getQuantity())
                         .priceAtOrder(oi.getPriceAtOrder())
+                        .participantId(oi.getParticipantId())
+                        .participantName(oi.getParticipantName())
                         .build()
                 ).collect(Collectors.toList()))
                 .createdAt(order.getCreatedAt())
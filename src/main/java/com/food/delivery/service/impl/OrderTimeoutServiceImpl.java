@@ -0,0 +1,138 @@
+package com.food.delivery.service.impl;
+
+import com.food.delivery.entity.Order;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import com.food.delivery.service.OrderTimeoutService;
+import com.food.delivery.util.OrderStatusUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cancels orders that stay PLACED longer than their restaurant's accept timeout.
+ * <p>
+ * Restaurants without their own timeout use the platform default. Candidates are read per
+ * timeout value through the (status, order_date) index, then each batch is locked, canceled
+ * with one set-based update and announced through order change events, so rollups, counters
+ * and the order board see the same transition as a manual cancel.
+ */
+@Service
+@Slf4j
+public class OrderTimeoutServiceImpl implements OrderTimeoutService {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${order.timeout.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.timeout.default-minutes:30}")
+    private int defaultMinutes;
+
+    @Value("${order.timeout.batch-size:200}")
+    private int batchSize;
+
+    private Counter canceledCounter;
+    private DistributionSummary canceledPerRun;
+
+    @PostConstruct
+    void registerMeters() {
+        canceledCounter = Counter.builder("fooddelivery.orders.auto_canceled")
+                .description("Orders canceled because the restaurant did not accept them in time")
+                .register(meterRegistry);
+        canceledPerRun = DistributionSummary.builder("fooddelivery.orders.auto_canceled.per_run")
+                .description("Orders auto-canceled by one timeout run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.timeout.interval-ms:60000}",
+            initialDelayString = "${order.timeout.interval-ms:60000}")
+    public void cancelTimedOutOrders() {
+        if (!enabled) {
+            return;
+        }
+        cancelStaleOrders(LocalDateTime.now());
+    }
+
+    @Override
+    public int cancelStaleOrders(LocalDateTime now) {
+        if (!OrderStatusUtil.isValidTransition(OrderStatus.PLACED, OrderStatus.CANCELED)) {
+            log.warn("Stale order timeout skipped - PLACED orders can no longer be canceled");
+            return 0;
+        }
+        int canceled = cancelInBatches(now, pageable -> orderRepository.findIdsByStatusAndOrderDateBeforeAndDefaultAcceptTimeout(
+                OrderStatus.PLACED, now.minusMinutes(defaultMinutes), pageable));
+        for (Integer minutes : restaurantRepository.findDistinctAcceptTimeoutMinutes()) {
+            canceled += cancelInBatches(now, pageable -> orderRepository.findIdsByStatusAndOrderDateBeforeAndAcceptTimeout(
+                    OrderStatus.PLACED, now.minusMinutes(minutes), minutes, pageable));
+        }
+
+        canceledCounter.increment(canceled);
+        canceledPerRun.record(canceled);
+        if (canceled > 0) {
+            log.info("Stale order timeout finished - orders auto-canceled: {}", canceled);
+        }
+        return canceled;
+    }
+
+    private int cancelInBatches(LocalDateTime now, Function<PageRequest, List<UUID>> candidates) {
+        int canceled = 0;
+        int found;
+        do {
+            // One short transaction per batch keeps row locks brief
+            int[] batch = transactionTemplate.execute(status -> cancelBatch(now, candidates.apply(PageRequest.of(0, batchSize))));
+            found = batch != null ? batch[0] : 0;
+            canceled += batch != null ? batch[1] : 0;
+        } while (found == batchSize);
+        return canceled;
+    }
+
+    // Returns {candidates found, orders canceled}
+    private int[] cancelBatch(LocalDateTime now, List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new int[]{0, 0};
+        }
+        // Orders accepted or canceled since the candidate read drop out here
+        List<Order> orders = orderRepository.findAndLockByIdInAndStatus(ids, OrderStatus.PLACED);
+        if (orders.isEmpty()) {
+            return new int[]{ids.size(), 0};
+        }
+        List<OrderChangedEvent> events = orders.stream()
+                .map(order -> OrderChangedEvent.statusChanged(order, OrderStatus.CANCELED))
+                .toList();
+        int updated = orderRepository.updateStatusByIdIn(
+                orders.stream().map(Order::getId).toList(), OrderStatus.PLACED, OrderStatus.CANCELED, now);
+        events.forEach(eventPublisher::publishEvent);
+        log.debug("Auto-canceled batch of {} stale orders", updated);
+        return new int[]{ids.size(), updated};
+    }
+}
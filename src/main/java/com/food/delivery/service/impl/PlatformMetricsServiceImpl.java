@@ -0,0 +1,202 @@
+package com.food.delivery.service.impl;
+
+import com.food.delivery.dto.PlatformDashboard;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.UserChangedEvent;
+import com.food.delivery.repository.ArchivedOrderRepository;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.repository.UserRepository;
+import com.food.delivery.service.PlatformMetricsService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the admin dashboard counters in memory instead of running COUNT queries per request.
+ * <p>
+ * Order and user writes adjust the counters after commit. Writes that bypass the services
+ * (cascaded deletes, startup data) and changes racing a reconciliation are corrected by the
+ * periodic reconciliation, which resets every counter from three grouped queries.
+ * Amounts are held in cents so all counters are lock-free, and event handlers never open a
+ * transaction.
+ */
+@Service
+@Slf4j
+public class PlatformMetricsServiceImpl implements PlatformMetricsService {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<OrderStatus, AtomicLong> ordersByStatus = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, AtomicLong> amountCentsByStatus = new EnumMap<>(OrderStatus.class);
+    private final Map<UserRole, AtomicLong> usersByRole = new EnumMap<>(UserRole.class);
+    private final AtomicLong blockedUsers = new AtomicLong();
+    private volatile LocalDateTime reconciledAt;
+
+    public PlatformMetricsServiceImpl() {
+        for (OrderStatus status : OrderStatus.values()) {
+            ordersByStatus.put(status, new AtomicLong());
+            amountCentsByStatus.put(status, new AtomicLong());
+        }
+        for (UserRole role : UserRole.values()) {
+            usersByRole.put(role, new AtomicLong());
+        }
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        ordersByStatus.forEach((status, count) -> Gauge.builder("fooddelivery.orders", count, AtomicLong::get)
+                .description("Orders by status, including archived orders")
+                .tag("status", status.name())
+                .register(meterRegistry));
+        usersByRole.forEach((role, count) -> Gauge.builder("fooddelivery.users", count, AtomicLong::get)
+                .description("Users by role")
+                .tag("role", role.name())
+                .register(meterRegistry));
+        Gauge.builder("fooddelivery.users.blocked", blockedUsers, AtomicLong::get)
+                .description("Blocked users")
+                .register(meterRegistry);
+        Gauge.builder("fooddelivery.orders.gmv", this, service -> service.grossMerchandiseValue().doubleValue())
+                .description("Total amount of orders that are not canceled")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PlatformDashboard getDashboard() {
+        Map<OrderStatus, Long> orders = snapshot(ordersByStatus, OrderStatus.class);
+        Map<UserRole, Long> users = snapshot(usersByRole, UserRole.class);
+        return PlatformDashboard.builder()
+                .ordersByStatus(orders)
+                .totalOrders(orders.values().stream().mapToLong(Long::longValue).sum())
+                .grossMerchandiseValue(grossMerchandiseValue())
+                .usersByRole(users)
+                .totalUsers(users.values().stream().mapToLong(Long::longValue).sum())
+                .blockedUsers(blockedUsers.get())
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${dashboard.reconcile-interval-ms:300000}",
+            initialDelayString = "${dashboard.reconcile-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void reconcileCounters() {
+        reconcile();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PlatformDashboard reconcile() {
+        Map<OrderStatus, long[]> orders = new EnumMap<>(OrderStatus.class);
+        accumulate(orders, orderRepository.countAndSumByStatus());
+        accumulate(orders, archivedOrderRepository.countAndSumByStatus());
+        Map<UserRole, Long> users = new EnumMap<>(UserRole.class);
+        long blocked = 0;
+        for (Object[] row : userRepository.countByRoleAndBlocked()) {
+            long count = ((Number) row[2]).longValue();
+            users.merge((UserRole) row[0], count, Long::sum);
+            if (Boolean.TRUE.equals(row[1])) {
+                blocked += count;
+            }
+        }
+
+        long drift = 0;
+        for (OrderStatus status : OrderStatus.values()) {
+            long[] totals = orders.getOrDefault(status, new long[2]);
+            drift += Math.abs(ordersByStatus.get(status).getAndSet(totals[0]) - totals[0]);
+            amountCentsByStatus.get(status).set(totals[1]);
+        }
+        for (UserRole role : UserRole.values()) {
+            long count = users.getOrDefault(role, 0L);
+            drift += Math.abs(usersByRole.get(role).getAndSet(count) - count);
+        }
+        drift += Math.abs(blockedUsers.getAndSet(blocked) - blocked);
+        boolean firstRun = reconciledAt == null;
+        reconciledAt = LocalDateTime.now();
+
+        if (drift > 0 && !firstRun) {
+            log.warn("Dashboard counters corrected by reconciliation - total drift: {}", drift);
+        } else {
+            log.debug("Dashboard counters reconciled - drift: {}", drift);
+        }
+        return getDashboard();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.previousStatus() != null) {
+            ordersByStatus.get(event.previousStatus()).decrementAndGet();
+            amountCentsByStatus.get(event.previousStatus()).addAndGet(-toCents(event.previousTotalAmount()));
+        }
+        ordersByStatus.get(event.status()).incrementAndGet();
+        amountCentsByStatus.get(event.status()).addAndGet(toCents(event.totalAmount()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.previousRole() != null) {
+            usersByRole.get(event.previousRole()).decrementAndGet();
+        }
+        if (event.role() != null) {
+            usersByRole.get(event.role()).incrementAndGet();
+        }
+        if (event.blocked() != event.previousBlocked()) {
+            blockedUsers.addAndGet(event.blocked() ? 1 : -1);
+        }
+    }
+
+    private BigDecimal grossMerchandiseValue() {
+        long cents = 0;
+        for (Map.Entry<OrderStatus, AtomicLong> entry : amountCentsByStatus.entrySet()) {
+            if (entry.getKey() != OrderStatus.CANCELED) {
+                cents += entry.getValue().get();
+            }
+        }
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static void accumulate(Map<OrderStatus, long[]> totals, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            long[] total = totals.computeIfAbsent((OrderStatus) row[0], status -> new long[2]);
+            total[0] += ((Number) row[1]).longValue();
+            total[1] += toCents((BigDecimal) row[2]);
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static <K extends Enum<K>> Map<K, Long> snapshot(Map<K, AtomicLong> counters, Class<K> type) {
+        Map<K, Long> result = new EnumMap<>(type);
+        counters.forEach((key, count) -> result.put(key, count.get()));
+        return result;
+    }
+}
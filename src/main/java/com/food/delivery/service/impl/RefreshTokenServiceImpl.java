@@ -0,0 +1,148 @@
+package com.food.delivery.service.impl;
+
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.entity.RefreshToken;
+import com.food.delivery.entity.User;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.UserChangedEvent;
+import com.food.delivery.repository.RefreshTokenRepository;
+import com.food.delivery.repository.UserRepository;
+import com.food.delivery.service.RefreshTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque refresh tokens: 256 random bits handed to the client, only their SHA-256 stored.
+ * A plain hash is enough here because the tokens are random, unlike passwords.
+ */
+@Service
+@Slf4j
+@Transactional
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpirationMillis;
+
+    private Counter reuseCounter;
+
+    @PostConstruct
+    void registerMeters() {
+        reuseCounter = Counter.builder("fooddelivery.auth.refresh_token_reuse")
+                .description("Rotated refresh tokens presented again, revoking their family")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String issue(User user) {
+        return save(user.getId(), UUID.randomUUID(), LocalDateTime.now());
+    }
+
+    // No rollback on rejection, so a detected reuse stays revoked
+    @Override
+    @Transactional(noRollbackFor = SecurityException.class)
+    public Rotation rotate(String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new SecurityException(ErrorConstants.INVALID_REFRESH_TOKEN_MESSAGE));
+
+        if (current.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            reuseCounter.increment();
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token reused for user: {} - revoked family: {}", current.getUserId(), current.getFamilyId());
+            throw new SecurityException(ErrorConstants.INVALID_REFRESH_TOKEN_MESSAGE);
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new SecurityException(ErrorConstants.INVALID_REFRESH_TOKEN_MESSAGE);
+        }
+
+        User user = userRepository.findById(current.getUserId())
+                .orElseThrow(() -> new SecurityException(ErrorConstants.INVALID_REFRESH_TOKEN_MESSAGE));
+        if (Boolean.TRUE.equals(user.getBlocked())) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw new SecurityException(ErrorConstants.USER_BLOCKED_MESSAGE);
+        }
+
+        return new Rotation(user, save(user.getId(), current.getFamilyId(), now));
+    }
+
+    @Override
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    @Override
+    public long getExpirationSeconds() {
+        return refreshExpirationMillis / 1000;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        // Deleted users lose their rows through the foreign key
+        if (event.type() == ChangeType.UPDATED && event.blocked() && !event.previousBlocked()) {
+            int revoked = refreshTokenRepository.revokeAllForUser(event.userId(), LocalDateTime.now());
+            log.info("Revoked {} refresh tokens of blocked user: {}", revoked, event.userId());
+        }
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 45 3 * * *}")
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String save(UUID userId, UUID familyId, LocalDateTime now) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setUserId(userId);
+        token.setFamilyId(familyId);
+        token.setTokenHash(hash(rawToken));
+        token.setExpiresAt(now.plusNanos(refreshExpirationMillis * 1_000_000L));
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,23 +1,42 @@
 package com.food.delivery.service.impl;
 
+import com.food.delivery.capacity.RestaurantCapacityGate;
+import com.food.delivery.constants.ValidationConstants;
+import com.food.delivery.dto.AutocompleteSuggestion;
+import com.food.delivery.dto.RestaurantCapacityRequest;
+import com.food.delivery.dto.RestaurantCapacityResponse;
 import com.food.delivery.dto.RestaurantRequest;
 import com.food.delivery.dto.RestaurantResponse;
 import com.food.delivery.entity.Restaurant;
 import com.food.delivery.entity.User;
 import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.RestaurantChangedEvent;
 import com.food.delivery.repository.RestaurantRepository;
 import com.food.delivery.repository.spec.RestaurantSpecification;
+import com.food.delivery.search.AutocompleteIndex;
+import com.food.delivery.search.CatalogSearchIndex;
+import com.food.delivery.search.SearchHits;
 import com.food.delivery.service.RestaurantService;
 import com.food.delivery.service.UserService;
 import com.food.delivery.constants.ErrorConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -30,6 +49,18 @@ public class RestaurantServiceImpl implements RestaurantService {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Autowired
+    private AutocompleteIndex autocompleteIndex;
+
+    @Autowired
+    private RestaurantCapacityGate restaurantCapacityGate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public RestaurantResponse createRestaurant(RestaurantRequest request, UUID ownerId) {
         User owner = userService.getUserEntityById(ownerId);
@@ -41,10 +72,15 @@ public class RestaurantServiceImpl implements RestaurantService {
         Restaurant restaurant = new Restaurant();
         restaurant.setName(request.getName());
         restaurant.setDescription(request.getDescription());
+        restaurant.setAcceptTimeoutMinutes(request.getAcceptTimeoutMinutes());
+        restaurant.setTaxRatePercent(request.getTaxRatePercent());
+        restaurant.setDeliveryFee(request.getDeliveryFee());
+        restaurant.setFreeDeliveryThreshold(request.getFreeDeliveryThreshold());
         restaurant.setOwner(owner);
         restaurant.setBlocked(false);
 
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(RestaurantChangedEvent.of(savedRestaurant, ChangeType.CREATED));
         log.info("Created restaurant: {} by owner: {}", savedRestaurant.getName(), owner.getEmail());
         
         return mapToRestaurantResponse(savedRestaurant);
@@ -62,6 +98,12 @@ public class RestaurantServiceImpl implements RestaurantService {
         return mapToRestaurantResponse(restaurant);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean restaurantExists(UUID restaurantId) {
+        return restaurantRepository.existsById(restaurantId);
+    }
+
     @Override
     public Page<RestaurantResponse> getAllRestaurants(Pageable pageable) {
         Page<Restaurant> restaurants = restaurantRepository.findByBlockedFalse(pageable);
@@ -70,12 +112,33 @@ public class RestaurantServiceImpl implements RestaurantService {
 
     @Override
     public Page<RestaurantResponse> searchRestaurants(String searchTerm, Pageable pageable) {
+        if (catalogSearchIndex.isEnabled() && StringUtils.hasText(searchTerm)) {
+            // Ranked full-text search; results are ordered by relevance
+            SearchHits hits = catalogSearchIndex.searchRestaurants(searchTerm, pageable);
+            Map<UUID, Restaurant> restaurantsById = restaurantRepository.findAllById(hits.ids()).stream()
+                    .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+            List<RestaurantResponse> content = hits.ids().stream()
+                    .map(restaurantsById::get)
+                    .filter(Objects::nonNull)
+                    .map(this::mapToRestaurantResponse)
+                    .toList();
+            return new PageImpl<>(content, pageable, hits.totalHits());
+        }
+
         // Using specification for search functionality
         Page<Restaurant> restaurants = restaurantRepository.findAll(
             RestaurantSpecification.searchActiveRestaurants(searchTerm), pageable);
         return restaurants.map(this::mapToRestaurantResponse);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<AutocompleteSuggestion> autocomplete(String prefix, int limit) {
+        // Served from memory only; no transaction or connection needed
+        int boundedLimit = Math.min(Math.max(limit, 1), ValidationConstants.MAX_AUTOCOMPLETE_LIMIT);
+        return autocompleteIndex.suggest(prefix, boundedLimit);
+    }
+
     @Override
     public Page<RestaurantResponse> getRestaurantsByOwner(UUID ownerId, Pageable pageable) {
         Page<Restaurant> restaurants = restaurantRepository.findByOwnerId(ownerId, pageable);
@@ -100,8 +163,21 @@ public class RestaurantServiceImpl implements RestaurantService {
         if (request.getDescription() != null) {
             restaurant.setDescription(request.getDescription());
         }
+        if (request.getAcceptTimeoutMinutes() != null) {
+            restaurant.setAcceptTimeoutMinutes(request.getAcceptTimeoutMinutes());
+        }
+        if (request.getTaxRatePercent() != null) {
+            restaurant.setTaxRatePercent(request.getTaxRatePercent());
+        }
+        if (request.getDeliveryFee() != null) {
+            restaurant.setDeliveryFee(request.getDeliveryFee());
+        }
+        if (request.getFreeDeliveryThreshold() != null) {
+            restaurant.setFreeDeliveryThreshold(request.getFreeDeliveryThreshold());
+        }
 
         Restaurant updatedRestaurant = restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(RestaurantChangedEvent.of(updatedRestaurant, ChangeType.UPDATED));
         log.info("Updated restaurant: {} by user: {}", updatedRestaurant.getName(), currentUser.getEmail());
         
         return mapToRestaurantResponse(updatedRestaurant);
@@ -120,9 +196,33 @@ public class RestaurantServiceImpl implements RestaurantService {
         }
 
         restaurantRepository.delete(restaurant);
+        eventPublisher.publishEvent(RestaurantChangedEvent.of(restaurant, ChangeType.DELETED));
         log.info("Deleted restaurant: {} by user: {}", restaurant.getName(), currentUser.getEmail());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public RestaurantCapacityResponse getCapacity(UUID restaurantId, UUID currentUserId) {
+        Restaurant restaurant = getRestaurantEntityById(restaurantId);
+        checkOwnerOrAdmin(restaurant, currentUserId);
+        return mapToCapacityResponse(restaurant);
+    }
+
+    @Override
+    public RestaurantCapacityResponse updateCapacity(UUID restaurantId, RestaurantCapacityRequest request, UUID currentUserId) {
+        Restaurant restaurant = getRestaurantEntityById(restaurantId);
+        User currentUser = checkOwnerOrAdmin(restaurant, currentUserId);
+
+        restaurant.setMaxActiveOrders(request.getMaxActiveOrders());
+        Restaurant updatedRestaurant = restaurantRepository.save(restaurant);
+        // The gate picks the new limit up after commit
+        eventPublisher.publishEvent(RestaurantChangedEvent.of(updatedRestaurant, ChangeType.UPDATED));
+        log.info("Updated active order limit of restaurant: {} to {} by user: {}",
+                updatedRestaurant.getName(), request.getMaxActiveOrders(), currentUser.getEmail());
+
+        return mapToCapacityResponse(updatedRestaurant);
+    }
+
     @Override
     public void blockRestaurant(UUID restaurantId, UUID adminId) {
         Restaurant restaurant = getRestaurantEntityById(restaurantId);
@@ -134,6 +234,7 @@ public class RestaurantServiceImpl implements RestaurantService {
 
         restaurant.setBlocked(true);
         restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(RestaurantChangedEvent.of(restaurant, ChangeType.UPDATED));
         log.info("Blocked restaurant: {} by admin: {}", restaurant.getName(), admin.getEmail());
     }
 
@@ -148,9 +249,31 @@ public class RestaurantServiceImpl implements RestaurantService {
 
         restaurant.setBlocked(false);
         restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(RestaurantChangedEvent.of(restaurant, ChangeType.UPDATED));
         log.info("Unblocked restaurant: {} by admin: {}", restaurant.getName(), admin.getEmail());
     }
 
+    private User checkOwnerOrAdmin(Restaurant restaurant, UUID currentUserId) {
+        User currentUser = userService.getUserEntityById(currentUserId);
+        if (currentUser.getRole() != UserRole.ADMIN &&
+            !restaurant.getOwner().getId().equals(currentUserId)) {
+            throw new RuntimeException(ErrorConstants.INSUFFICIENT_PERMISSIONS_MESSAGE);
+        }
+        return currentUser;
+    }
+
+    private RestaurantCapacityResponse mapToCapacityResponse(Restaurant restaurant) {
+        // The configured limit is read from the entity, since the gate only sees it after commit
+        int effectiveLimit = restaurant.getMaxActiveOrders() != null
+                ? restaurant.getMaxActiveOrders() : restaurantCapacityGate.defaultLimit();
+        return RestaurantCapacityResponse.builder()
+                .restaurantId(restaurant.getId())
+                .maxActiveOrders(restaurant.getMaxActiveOrders())
+                .effectiveMaxActiveOrders(effectiveLimit)
+                .activeOrders(restaurantCapacityGate.activeOrders(restaurant.getId()))
+                .build();
+    }
+
     private RestaurantResponse mapToRestaurantResponse(Restaurant restaurant) {
         return RestaurantResponse.builder()
                 .id(restaurant.getId())
@@ -159,6 +282,11 @@ public class RestaurantServiceImpl implements RestaurantService {
                 .ownerId(restaurant.getOwner().getId())
                 .ownerName(restaurant.getOwner().getName())
                 .blocked(restaurant.getBlocked())
+                .acceptTimeoutMinutes(restaurant.getAcceptTimeoutMinutes())
+                .taxRatePercent(restaurant.getTaxRatePercent())
+                .deliveryFee(restaurant.getDeliveryFee())
+                .freeDeliveryThreshold(restaurant.getFreeDeliveryThreshold())
+                .maxActiveOrders(restaurant.getMaxActiveOrders())
                 .createdAt(restaurant.getCreatedAt())
                 .updatedAt(restaurant.getUpdatedAt())
                 .build();
@@ -0,0 +1,307 @@
+package com.food.delivery.service.impl;
+
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.constants.ValidationConstants;
+import com.food.delivery.dto.RestaurantSalesReport;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.entity.RestaurantDailyMealSales;
+import com.food.delivery.entity.RestaurantDailySales;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.repository.RestaurantDailyMealSalesRepository;
+import com.food.delivery.repository.RestaurantDailySalesRepository;
+import com.food.delivery.service.RestaurantService;
+import com.food.delivery.service.SalesAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@Transactional
+public class SalesAnalyticsServiceImpl implements SalesAnalyticsService {
+
+    @Autowired
+    private RestaurantDailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private RestaurantDailyMealSalesRepository mealSalesRepository;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Applies an order change to the rollups in the order's own transaction, so the
+     * rollups commit or roll back together with the order.
+     */
+    @EventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        LocalDate day = event.orderDate().toLocalDate();
+        if (event.type() == ChangeType.CREATED) {
+            addSales(event.restaurantId(), day, 1, 0, event.totalAmount(), event.tipAmount());
+            addMealSales(event, day, 1);
+            return;
+        }
+
+        boolean wasCanceled = event.previousStatus() == OrderStatus.CANCELED;
+        boolean isCanceled = event.status() == OrderStatus.CANCELED;
+        if (!wasCanceled && isCanceled) {
+            addSales(event.restaurantId(), day, 0, 1, event.previousTotalAmount().negate(), event.previousTipAmount().negate());
+            addMealSales(event, day, -1);
+        } else if (wasCanceled && !isCanceled) {
+            addSales(event.restaurantId(), day, 0, -1, event.totalAmount(), event.tipAmount());
+            addMealSales(event, day, 1);
+        } else if (!isCanceled) {
+            BigDecimal revenueDelta = event.totalAmount().subtract(event.previousTotalAmount());
+            BigDecimal tipDelta = event.tipAmount().subtract(event.previousTipAmount());
+            if (revenueDelta.signum() != 0 || tipDelta.signum() != 0) {
+                addSales(event.restaurantId(), day, 0, 0, revenueDelta, tipDelta);
+            }
+        }
+    }
+
+    // Nightly reconciliation of the previous day, which also picks up late status changes
+    @Scheduled(cron = "${analytics.rollup.rebuild-cron:0 15 3 * * *}")
+    public void rebuildPreviousDay() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rebuildDailySales(yesterday, yesterday);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RestaurantSalesReport getRestaurantSales(UUID restaurantId, LocalDate from, LocalDate to, int topMeals, UUID currentUserId) {
+        validateRange(from, to);
+        Restaurant restaurant = restaurantService.getRestaurantEntityById(restaurantId);
+        if (!restaurant.getOwner().getId().equals(currentUserId)) {
+            throw new SecurityException(ErrorConstants.INSUFFICIENT_PERMISSIONS_MESSAGE);
+        }
+        int limit = Math.max(1, Math.min(topMeals, ValidationConstants.MAX_TOP_MEALS_LIMIT));
+
+        List<RestaurantDailySales> dailySales =
+                dailySalesRepository.findByRestaurantIdAndSalesDateBetweenOrderBySalesDate(restaurantId, from, to);
+        Map<LocalDate, List<RestaurantDailyMealSales>> mealSalesByDay =
+                mealSalesRepository.findByRestaurantIdAndSalesDateBetween(restaurantId, from, to).stream()
+                        .collect(Collectors.groupingBy(RestaurantDailyMealSales::getSalesDate));
+
+        List<RestaurantSalesReport.DailySales> days = new ArrayList<>(dailySales.size());
+        Map<UUID, RestaurantSalesReport.MealSales> mealTotals = new LinkedHashMap<>();
+        long orderCount = 0;
+        long canceledCount = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        BigDecimal tipTotal = BigDecimal.ZERO;
+        for (RestaurantDailySales day : dailySales) {
+            List<RestaurantDailyMealSales> meals = mealSalesByDay.getOrDefault(day.getSalesDate(), List.of());
+            days.add(RestaurantSalesReport.DailySales.builder()
+                    .date(day.getSalesDate())
+                    .orderCount(day.getOrderCount())
+                    .canceledCount(day.getCanceledCount())
+                    .revenue(day.getRevenue())
+                    .tipTotal(day.getTipTotal())
+                    .averageTicket(averageTicket(day.getRevenue(), day.getOrderCount() - day.getCanceledCount()))
+                    .topMeals(topMeals(meals.stream().map(this::toMealSales).toList(), limit))
+                    .build());
+            for (RestaurantDailyMealSales meal : meals) {
+                mealTotals.merge(meal.getMealId(), toMealSales(meal), SalesAnalyticsServiceImpl::sum);
+            }
+            orderCount += day.getOrderCount();
+            canceledCount += day.getCanceledCount();
+            revenue = revenue.add(day.getRevenue());
+            tipTotal = tipTotal.add(day.getTipTotal());
+        }
+
+        return RestaurantSalesReport.builder()
+                .restaurantId(restaurantId)
+                .from(from)
+                .to(to)
+                .orderCount(orderCount)
+                .canceledCount(canceledCount)
+                .revenue(revenue)
+                .tipTotal(tipTotal)
+                .averageTicket(averageTicket(revenue, orderCount - canceledCount))
+                .topMeals(topMeals(mealTotals.values(), limit))
+                .days(days)
+                .build();
+    }
+
+    @Override
+    public int rebuildDailySales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        dailySalesRepository.deleteBySalesDateBetween(from, to);
+        mealSalesRepository.deleteBySalesDateBetween(from, to);
+
+        Map<List<Object>, RestaurantDailySales> days = new LinkedHashMap<>();
+        List<Object[]> orderRows = new ArrayList<>(dailySalesRepository.aggregateOrders(start, end));
+        orderRows.addAll(dailySalesRepository.aggregateArchivedOrders(start, end));
+        for (Object[] row : orderRows) {
+            UUID restaurantId = (UUID) row[0];
+            LocalDate day = toLocalDate(row[1]);
+            RestaurantDailySales sales = days.computeIfAbsent(List.of(restaurantId, day), key -> {
+                RestaurantDailySales created = new RestaurantDailySales();
+                created.setRestaurantId(restaurantId);
+                created.setSalesDate(day);
+                return created;
+            });
+            sales.setOrderCount(sales.getOrderCount() + ((Number) row[2]).intValue());
+            sales.setCanceledCount(sales.getCanceledCount() + ((Number) row[3]).intValue());
+            sales.setRevenue(sales.getRevenue().add(toBigDecimal(row[4])));
+            sales.setTipTotal(sales.getTipTotal().add(toBigDecimal(row[5])));
+        }
+
+        Map<List<Object>, RestaurantDailyMealSales> meals = new LinkedHashMap<>();
+        List<Object[]> itemRows = new ArrayList<>(mealSalesRepository.aggregateOrderItems(start, end));
+        itemRows.addAll(mealSalesRepository.aggregateArchivedOrderItems(start, end));
+        for (Object[] row : itemRows) {
+            UUID restaurantId = (UUID) row[0];
+            LocalDate day = toLocalDate(row[1]);
+            UUID mealId = (UUID) row[2];
+            RestaurantDailyMealSales sales = meals.computeIfAbsent(List.of(restaurantId, day, mealId), key -> {
+                RestaurantDailyMealSales created = new RestaurantDailyMealSales();
+                created.setRestaurantId(restaurantId);
+                created.setSalesDate(day);
+                created.setMealId(mealId);
+                return created;
+            });
+            sales.setMealName((String) row[3]);
+            sales.setQuantity(sales.getQuantity() + ((Number) row[4]).intValue());
+            sales.setRevenue(sales.getRevenue().add(toBigDecimal(row[5])));
+        }
+
+        dailySalesRepository.saveAll(days.values());
+        mealSalesRepository.saveAll(meals.values());
+        log.info("Sales rollups rebuilt - from: {}, to: {}, restaurant days: {}, meal rows: {}",
+                from, to, days.size(), meals.size());
+        return days.size();
+    }
+
+    private void addSales(UUID restaurantId, LocalDate day, int orders, int canceled, BigDecimal revenue, BigDecimal tips) {
+        if (dailySalesRepository.addSales(restaurantId, day, orders, canceled, revenue, tips, LocalDateTime.now()) == 0) {
+            ensureRow(() -> {
+                if (!dailySalesRepository.existsByRestaurantIdAndSalesDate(restaurantId, day)) {
+                    RestaurantDailySales sales = new RestaurantDailySales();
+                    sales.setRestaurantId(restaurantId);
+                    sales.setSalesDate(day);
+                    dailySalesRepository.save(sales);
+                }
+            });
+            dailySalesRepository.addSales(restaurantId, day, orders, canceled, revenue, tips, LocalDateTime.now());
+        }
+    }
+
+    private void addMealSales(OrderChangedEvent event, LocalDate day, int sign) {
+        for (OrderChangedEvent.Line line : event.items()) {
+            int quantity = sign * line.quantity();
+            BigDecimal revenue = sign < 0 ? line.lineTotal().negate() : line.lineTotal();
+            if (mealSalesRepository.addSales(event.restaurantId(), day, line.mealId(), line.mealName(),
+                    quantity, revenue, LocalDateTime.now()) == 0) {
+                ensureRow(() -> {
+                    if (!mealSalesRepository.existsByRestaurantIdAndSalesDateAndMealId(event.restaurantId(), day, line.mealId())) {
+                        RestaurantDailyMealSales sales = new RestaurantDailyMealSales();
+                        sales.setRestaurantId(event.restaurantId());
+                        sales.setSalesDate(day);
+                        sales.setMealId(line.mealId());
+                        sales.setMealName(line.mealName());
+                        mealSalesRepository.save(sales);
+                    }
+                });
+                mealSalesRepository.addSales(event.restaurantId(), day, line.mealId(), line.mealName(),
+                        quantity, revenue, LocalDateTime.now());
+            }
+        }
+    }
+
+    /**
+     * Creates a zeroed rollup row in its own short transaction, so it is visible to the
+     * caller's increment right away. Losing the race to a concurrent insert is fine.
+     */
+    private void ensureRow(Runnable insert) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            requiresNew.executeWithoutResult(status -> insert.run());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Sales rollup row created concurrently: {}", e.getMessage());
+        }
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException(ErrorConstants.INVALID_DATE_RANGE_MESSAGE);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= ValidationConstants.MAX_ANALYTICS_RANGE_DAYS) {
+            throw new IllegalArgumentException(ErrorConstants.ANALYTICS_RANGE_TOO_LARGE_MESSAGE);
+        }
+    }
+
+    private RestaurantSalesReport.MealSales toMealSales(RestaurantDailyMealSales meal) {
+        return RestaurantSalesReport.MealSales.builder()
+                .mealId(meal.getMealId())
+                .mealName(meal.getMealName())
+                .quantity(meal.getQuantity())
+                .revenue(meal.getRevenue())
+                .build();
+    }
+
+    private static RestaurantSalesReport.MealSales sum(RestaurantSalesReport.MealSales a, RestaurantSalesReport.MealSales b) {
+        return RestaurantSalesReport.MealSales.builder()
+                .mealId(a.getMealId())
+                .mealName(b.getMealName())
+                .quantity(a.getQuantity() + b.getQuantity())
+                .revenue(a.getRevenue().add(b.getRevenue()))
+                .build();
+    }
+
+    private static List<RestaurantSalesReport.MealSales> topMeals(Collection<RestaurantSalesReport.MealSales> meals, int limit) {
+        return meals.stream()
+                .filter(meal -> meal.getQuantity() > 0)
+                .sorted(Comparator.comparingLong(RestaurantSalesReport.MealSales::getQuantity).reversed()
+                        .thenComparing(RestaurantSalesReport.MealSales::getRevenue, Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    private static BigDecimal averageTicket(BigDecimal revenue, long orders) {
+        if (orders <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return revenue.divide(BigDecimal.valueOf(orders), 2, RoundingMode.HALF_UP);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+}
@@ -2,19 +2,27 @@ package com.food.delivery.service.impl;
 
 import com.food.delivery.dto.UserResponse;
 import com.food.delivery.dto.UserUpdateRequest;
+import com.food.delivery.entity.Restaurant;
 import com.food.delivery.entity.User;
 import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.event.UserChangedEvent;
+import com.food.delivery.repository.RestaurantRepository;
 import com.food.delivery.repository.UserRepository;
 import com.food.delivery.service.UserService;
+import com.food.delivery.capacity.RestaurantCapacityGate;
 import com.food.delivery.constants.ErrorConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -25,9 +33,18 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RestaurantCapacityGate restaurantCapacityGate;
+
     @Override
     public User createUser(String email, String password, String name, UserRole role) {
         if (userRepository.existsByEmail(email)) {
@@ -43,6 +60,7 @@ public class UserServiceImpl implements UserService {
         user.setBlocked(false);
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
         log.info("Created user: {}", savedUser.getEmail());
         return savedUser;
     }
@@ -80,6 +98,8 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserResponse updateUser(UUID userId, UserUpdateRequest request) {
         User user = getUserEntityById(userId);
+        UserRole previousRole = user.getRole();
+        boolean previousBlocked = Boolean.TRUE.equals(user.getBlocked());
 
         if (request.getName() != null) {
             user.setName(request.getName());
@@ -92,6 +112,7 @@ public class UserServiceImpl implements UserService {
         }
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser, previousRole, previousBlocked));
         log.info("Updated user: {}", savedUser.getEmail());
         return mapToUserResponse(savedUser);
     }
@@ -99,23 +120,34 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteUser(UUID userId) {
         User user = getUserEntityById(userId);
+        // Their orders go with them, so free the capacity slots those held
+        restaurantCapacityGate.releaseCustomerOrders(userId);
+        // An owner's restaurants, meals and orders are deleted by cascade; announce them like a restaurant delete
+        List<Restaurant> ownedRestaurants = restaurantRepository.findByOwnerId(userId);
         userRepository.deleteById(userId);
+        ownedRestaurants.forEach(restaurant ->
+                eventPublisher.publishEvent(RestaurantChangedEvent.of(restaurant, ChangeType.DELETED)));
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user));
         log.info("Deleted user: {}", user.getEmail());
     }
 
     @Override
     public void blockUser(UUID userId) {
         User user = getUserEntityById(userId);
+        boolean previousBlocked = Boolean.TRUE.equals(user.getBlocked());
         user.setBlocked(true);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(user, user.getRole(), previousBlocked));
         log.info("Blocked user: {}", user.getEmail());
     }
 
     @Override
     public void unblockUser(UUID userId) {
         User user = getUserEntityById(userId);
+        boolean previousBlocked = Boolean.TRUE.equals(user.getBlocked());
         user.setBlocked(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(user, user.getRole(), previousBlocked));
         log.info("Unblocked user: {}", user.getEmail());
     }
 
@@ -0,0 +1,83 @@
+package com.food.delivery.util;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+public final class HttpCacheUtil {
+
+    private HttpCacheUtil() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * True when an If-None-Match header value matches the given quoted ETag.
+     * Handles lists, "*" and weak ("W/") validators as GET requires (weak comparison).
+     */
+    public static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (!StringUtils.hasText(ifNoneMatch) || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Strong ETag of the gzip-coded variant of the representation tagged {@code etag}; a strong
+     * validator has to differ per content-coding, so a cache holding one coding cannot have it
+     * revalidated by the other's tag.
+     */
+    public static String gzipETag(String etag) {
+        if (etag == null || etag.length() < 2 || !etag.endsWith("\"")) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    /**
+     * True when an Accept-Encoding header value allows gzip: listed (or covered by "*") with a
+     * q-value above zero. An explicit "gzip;q=0" refuses it even when "*" is accepted.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double effective = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return effective != null && effective > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // Malformed weight; treated as not acceptable
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
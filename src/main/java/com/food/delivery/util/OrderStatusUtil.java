@@ -22,14 +22,31 @@ public final class OrderStatusUtil {
             OrderStatus.RECEIVED
     );
 
+    private static final List<OrderStatus> FINAL_STATUSES = List.of(
+            OrderStatus.RECEIVED,
+            OrderStatus.CANCELED
+    );
+
+    private static final List<OrderStatus> ACTIVE_STATUSES = List.of(
+            OrderStatus.PLACED,
+            OrderStatus.PROCESSING,
+            OrderStatus.IN_ROUTE,
+            OrderStatus.DELIVERED
+    );
+
     public static boolean isValidTransition(OrderStatus from, OrderStatus to) {
         if (from == to) {
             return false; // No change
         }
 
         if (to == OrderStatus.CANCELED) {
-            // Cancel can happen from PLACED or PROCESSING
-            return from == OrderStatus.PLACED || from == OrderStatus.PROCESSING;
+            // Cancel can happen from SCHEDULED, PLACED or PROCESSING
+            return from == OrderStatus.SCHEDULED || from == OrderStatus.PLACED || from == OrderStatus.PROCESSING;
+        }
+
+        if (from == OrderStatus.SCHEDULED) {
+            // Only the dispatcher moves a scheduled order on, and only to PLACED
+            return to == OrderStatus.PLACED;
         }
 
         // Check forward progression
@@ -65,6 +82,8 @@ public final class OrderStatusUtil {
 
             // Owner allowed transitions
             switch (currentStatus) {
+                case SCHEDULED:
+                    return newStatus == OrderStatus.CANCELED;
                 case PLACED:
                     return newStatus == OrderStatus.PROCESSING || 
                            newStatus == OrderStatus.CANCELED;
@@ -103,15 +122,29 @@ public final class OrderStatusUtil {
     }
 
     public static boolean isFinalStatus(OrderStatus status) {
-        return status == OrderStatus.RECEIVED || status == OrderStatus.CANCELED;
+        return FINAL_STATUSES.contains(status);
+    }
+
+    public static List<OrderStatus> getFinalStatuses() {
+        return FINAL_STATUSES;
+    }
+
+    public static List<OrderStatus> getActiveStatuses() {
+        return ACTIVE_STATUSES;
+    }
+
+    public static boolean isActiveStatus(OrderStatus status) {
+        return ACTIVE_STATUSES.contains(status);
     }
 
     public static boolean isEditableStatus(OrderStatus status) {
-        return status == OrderStatus.PLACED;
+        return status == OrderStatus.SCHEDULED || status == OrderStatus.PLACED;
     }
 
     public static List<OrderStatus> getNextPossibleStatuses(OrderStatus currentStatus) {
         switch (currentStatus) {
+            case SCHEDULED:
+                return Arrays.asList(OrderStatus.PLACED, OrderStatus.CANCELED);
             case PLACED:
                 return Arrays.asList(OrderStatus.PROCESSING, OrderStatus.CANCELED);
             case PROCESSING:
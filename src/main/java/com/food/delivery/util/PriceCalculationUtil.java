@@ -2,6 +2,7 @@ package com.food.delivery.util;
 
 import com.food.delivery.entity.Coupon;
 import com.food.delivery.entity.OrderItem;
+import com.food.delivery.pricing.PricingEngine;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -14,13 +15,20 @@ public final class PriceCalculationUtil {
     }
 
     public static BigDecimal calculateItemsTotal(List<OrderItem> items) {
+        return PricingEngine.toAmount(itemsTotalCents(items));
+    }
+
+    public static long itemsTotalCents(List<OrderItem> items) {
         if (items == null || items.isEmpty()) {
-            return BigDecimal.ZERO;
+            return 0L;
         }
 
-        return items.stream()
-                .map(item -> item.getPriceAtOrder().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long total = 0L;
+        for (OrderItem item : items) {
+            total = Math.addExact(total,
+                    PricingEngine.lineTotal(PricingEngine.toCents(item.getPriceAtOrder()), item.getQuantity()));
+        }
+        return total;
     }
 
     public static BigDecimal calculateDiscount(BigDecimal itemsTotal, Coupon coupon) {
@@ -28,26 +36,19 @@ public final class PriceCalculationUtil {
             return BigDecimal.ZERO;
         }
 
-        BigDecimal discountAmount = itemsTotal
-                .multiply(BigDecimal.valueOf(coupon.getDiscountPercent()))
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-
-        // Ensure discount doesn't exceed items total
-        return discountAmount.compareTo(itemsTotal) > 0 ? itemsTotal : discountAmount;
+        // Capped at the items total by the engine
+        return PricingEngine.toAmount(PricingEngine.discount(PricingEngine.toCents(itemsTotal), coupon.getDiscountPercent()));
     }
 
     public static BigDecimal calculateFinalTotal(BigDecimal itemsTotal, BigDecimal discount, BigDecimal tip) {
-        BigDecimal tipAmount = tip != null ? tip : BigDecimal.ZERO;
-        BigDecimal total = itemsTotal.subtract(discount).add(tipAmount);
-        
-        // Ensure total is not negative
-        return total.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : total;
+        // Never negative
+        return PricingEngine.toAmount(PricingEngine.total(
+                PricingEngine.toCents(itemsTotal), PricingEngine.toCents(discount), PricingEngine.toCents(tip)));
     }
 
     public static BigDecimal calculateOrderTotal(List<OrderItem> items, Coupon coupon, BigDecimal tip) {
-        BigDecimal itemsTotal = calculateItemsTotal(items);
-        BigDecimal discount = calculateDiscount(itemsTotal, coupon);
-        return calculateFinalTotal(itemsTotal, discount, tip);
+        Integer discountPercent = coupon != null && coupon.isValid() ? coupon.getDiscountPercent() : null;
+        return PricingEngine.price(itemsTotalCents(items), discountPercent, PricingEngine.toCents(tip)).total();
     }
 
     public static BigDecimal roundToTwoDecimals(BigDecimal amount) {
@@ -0,0 +1,36 @@
+package com.food.delivery.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidUtil {
+
+    private UuidUtil() {
+        // Utility class - prevent instantiation
+    }
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Unix millis in the high bits, 12-bit sequence in the low bits
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    /**
+     * Returns a version 7 (RFC 9562) UUID: 48-bit Unix millisecond timestamp, a 12-bit
+     * sequence (rand_a used as a counter) and 62 random bits.
+     * <p>
+     * Values are strictly increasing within this JVM, even for calls in the same millisecond
+     * or when the clock steps back; once a millisecond's 4096 sequence values are used the
+     * timestamp is advanced by one. Index inserts therefore always land on the rightmost page.
+     */
+    public static UUID timeOrderedUuid() {
+        long now = System.currentTimeMillis() << 12;
+        long next = LAST_TIMESTAMP_AND_SEQUENCE.updateAndGet(last -> Math.max(last + 1, now));
+
+        long timestamp = next >>> 12;
+        long sequence = next & 0xFFFL;
+        long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
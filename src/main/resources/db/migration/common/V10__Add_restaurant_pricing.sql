@@ -0,0 +1,6 @@
+-- Per-restaurant pricing rules used by the order pricing pipeline.
+-- NULL means the platform default (pricing.tax-rate-percent, pricing.delivery-fee, pricing.free-delivery-threshold).
+
+ALTER TABLE restaurants ADD COLUMN tax_rate_percent DECIMAL(5,2);
+ALTER TABLE restaurants ADD COLUMN delivery_fee DECIMAL(10,2);
+ALTER TABLE restaurants ADD COLUMN free_delivery_threshold DECIMAL(10,2);
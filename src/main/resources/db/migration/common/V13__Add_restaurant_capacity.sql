@@ -0,0 +1,4 @@
+-- Per-restaurant limit on concurrently active orders, enforced at order placement.
+-- NULL means the platform default (order.capacity.default-max-active-orders); 0 means no limit.
+
+ALTER TABLE restaurants ADD COLUMN max_active_orders INT;
@@ -0,0 +1,11 @@
+-- Indexes for cross-restaurant meal search and price facets
+
+-- Price range scans across all restaurants; restaurant_id is included so the
+-- active-restaurant join can be resolved from the index
+CREATE INDEX idx_meals_price_restaurant ON meals(price, restaurant_id);
+
+-- Price range scans within a single restaurant
+CREATE INDEX idx_meals_restaurant_price ON meals(restaurant_id, price);
+
+-- Active (non-blocked) restaurant lookups
+CREATE INDEX idx_restaurants_blocked ON restaurants(blocked, id);
@@ -0,0 +1,4 @@
+-- Minutes a restaurant has to accept a PLACED order before it is canceled automatically.
+-- NULL means the platform default (order.timeout.default-minutes).
+
+ALTER TABLE restaurants ADD COLUMN accept_timeout_minutes INT;
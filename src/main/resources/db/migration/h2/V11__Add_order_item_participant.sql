@@ -0,0 +1,12 @@
+-- Group orders: which participant added each item. NULL for regular orders.
+-- The name is a snapshot like meal_name; deleting the participant keeps the item.
+
+ALTER TABLE order_items ADD COLUMN participant_id UUID;
+ALTER TABLE order_items ADD COLUMN participant_name VARCHAR(255);
+ALTER TABLE order_items ADD CONSTRAINT fk_order_items_participant
+    FOREIGN KEY (participant_id) REFERENCES users(id) ON DELETE SET NULL;
+
+ALTER TABLE order_items_archive ADD COLUMN participant_id UUID;
+ALTER TABLE order_items_archive ADD COLUMN participant_name VARCHAR(255);
+ALTER TABLE order_items_archive ADD CONSTRAINT fk_order_items_archive_participant
+    FOREIGN KEY (participant_id) REFERENCES users(id) ON DELETE SET NULL;
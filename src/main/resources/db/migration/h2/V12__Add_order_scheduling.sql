@@ -0,0 +1,22 @@
+-- Scheduled orders: SCHEDULED until the dispatcher releases them to PLACED ahead of
+-- scheduled_for. NULL scheduled_for means an order placed for now.
+
+-- The V1 status check is unnamed and cannot be altered in place, so the column is
+-- rebuilt with a named check (its indexes go and come back with it).
+ALTER TABLE orders ADD COLUMN status_new VARCHAR(20);
+UPDATE orders SET status_new = status;
+DROP INDEX idx_orders_status_date;
+DROP INDEX idx_orders_status;
+ALTER TABLE orders DROP COLUMN status;
+ALTER TABLE orders ALTER COLUMN status_new RENAME TO status;
+ALTER TABLE orders ALTER COLUMN status SET NOT NULL;
+ALTER TABLE orders ADD CONSTRAINT ck_orders_status
+    CHECK (status IN ('SCHEDULED', 'PLACED', 'CANCELED', 'PROCESSING', 'IN_ROUTE', 'DELIVERED', 'RECEIVED'));
+CREATE INDEX idx_orders_status ON orders(status);
+CREATE INDEX idx_orders_status_date ON orders(status, order_date);
+
+ALTER TABLE orders ADD COLUMN scheduled_for TIMESTAMP;
+ALTER TABLE orders_archive ADD COLUMN scheduled_for TIMESTAMP;
+
+-- Lets the dispatcher recover pending timers at startup without scanning orders
+CREATE INDEX idx_orders_status_scheduled_for ON orders(status, scheduled_for);
@@ -0,0 +1,35 @@
+-- Store every primary and foreign key as a 16-byte UUID instead of VARCHAR(36).
+-- H2 converts existing values in place and keeps constraints and indexes; the MySQL
+-- script converts to BINARY(16), Hibernate's mapping for UUID there.
+-- Foreign key columns are converted before the keys they reference.
+
+-- Order items
+ALTER TABLE order_items ALTER COLUMN order_id SET DATA TYPE UUID;
+ALTER TABLE order_items ALTER COLUMN meal_id SET DATA TYPE UUID;
+ALTER TABLE order_items ALTER COLUMN id SET DATA TYPE UUID;
+
+-- Orders
+ALTER TABLE orders ALTER COLUMN customer_id SET DATA TYPE UUID;
+ALTER TABLE orders ALTER COLUMN restaurant_id SET DATA TYPE UUID;
+ALTER TABLE orders ALTER COLUMN coupon_id SET DATA TYPE UUID;
+ALTER TABLE orders ALTER COLUMN id SET DATA TYPE UUID;
+
+-- User restaurant blocks
+ALTER TABLE user_restaurant_blocks ALTER COLUMN user_id SET DATA TYPE UUID;
+ALTER TABLE user_restaurant_blocks ALTER COLUMN restaurant_id SET DATA TYPE UUID;
+ALTER TABLE user_restaurant_blocks ALTER COLUMN blocked_by SET DATA TYPE UUID;
+ALTER TABLE user_restaurant_blocks ALTER COLUMN id SET DATA TYPE UUID;
+
+-- Meals
+ALTER TABLE meals ALTER COLUMN restaurant_id SET DATA TYPE UUID;
+ALTER TABLE meals ALTER COLUMN id SET DATA TYPE UUID;
+
+-- Coupons
+ALTER TABLE coupons ALTER COLUMN id SET DATA TYPE UUID;
+
+-- Restaurants
+ALTER TABLE restaurants ALTER COLUMN owner_id SET DATA TYPE UUID;
+ALTER TABLE restaurants ALTER COLUMN id SET DATA TYPE UUID;
+
+-- Users
+ALTER TABLE users ALTER COLUMN id SET DATA TYPE UUID;
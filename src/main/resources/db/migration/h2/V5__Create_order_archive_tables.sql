@@ -0,0 +1,41 @@
+-- Archive tables for final-state orders older than the archive horizon.
+-- Rows are moved here in batches by the order archiver and never updated afterwards.
+-- Deleting a user, restaurant or meal removes its archived history the same way
+-- JPA cascades remove its live orders; deleting a coupon detaches it.
+
+CREATE TABLE orders_archive (
+    id UUID PRIMARY KEY,
+    customer_id UUID NOT NULL,
+    restaurant_id UUID NOT NULL,
+    order_date TIMESTAMP NOT NULL,
+    total_amount DECIMAL(10,2) NOT NULL,
+    tip_amount DECIMAL(10,2) DEFAULT 0.00 NOT NULL,
+    coupon_id UUID NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('CANCELED', 'RECEIVED')),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    FOREIGN KEY (customer_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (restaurant_id) REFERENCES restaurants(id) ON DELETE CASCADE,
+    FOREIGN KEY (coupon_id) REFERENCES coupons(id) ON DELETE SET NULL
+);
+
+CREATE TABLE order_items_archive (
+    id UUID PRIMARY KEY,
+    order_id UUID NOT NULL,
+    meal_id UUID NOT NULL,
+    quantity INT NOT NULL CHECK (quantity > 0),
+    price_at_order DECIMAL(10,2) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (order_id) REFERENCES orders_archive(id) ON DELETE CASCADE,
+    FOREIGN KEY (meal_id) REFERENCES meals(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_orders_archive_customer_date ON orders_archive(customer_id, order_date);
+CREATE INDEX idx_orders_archive_restaurant_date ON orders_archive(restaurant_id, order_date);
+CREATE INDEX idx_orders_archive_date ON orders_archive(order_date);
+CREATE INDEX idx_order_items_archive_order ON order_items_archive(order_id);
+
+-- Lets the archiver find old final-state orders without scanning every order of that status
+CREATE INDEX idx_orders_status_date ON orders(status, order_date);
@@ -0,0 +1,16 @@
+-- Checkpoint of the in-memory popular-meals summary, one row per tracked meal.
+-- order_count is the Space-Saving estimate and count_error its maximum overestimate.
+-- Rows are rewritten per restaurant on each checkpoint and reloaded at startup.
+
+CREATE TABLE meal_popularity (
+    id UUID PRIMARY KEY,
+    restaurant_id UUID NOT NULL,
+    meal_id UUID NOT NULL,
+    meal_name VARCHAR(255) NOT NULL,
+    order_count BIGINT NOT NULL,
+    count_error BIGINT DEFAULT 0 NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    FOREIGN KEY (restaurant_id) REFERENCES restaurants(id) ON DELETE CASCADE,
+    UNIQUE (restaurant_id, meal_id)
+);
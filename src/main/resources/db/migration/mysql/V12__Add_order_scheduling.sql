@@ -0,0 +1,13 @@
+-- Scheduled orders: SCHEDULED until the dispatcher releases them to PLACED ahead of
+-- scheduled_for. NULL scheduled_for means an order placed for now.
+
+-- MySQL names the V1 status check orders_chk_1, so it is replaced in place with a named one.
+ALTER TABLE orders DROP CHECK orders_chk_1;
+ALTER TABLE orders ADD CONSTRAINT ck_orders_status
+    CHECK (status IN ('SCHEDULED', 'PLACED', 'CANCELED', 'PROCESSING', 'IN_ROUTE', 'DELIVERED', 'RECEIVED'));
+
+ALTER TABLE orders ADD COLUMN scheduled_for TIMESTAMP NULL;
+ALTER TABLE orders_archive ADD COLUMN scheduled_for TIMESTAMP NULL;
+
+-- Lets the dispatcher recover pending timers at startup without scanning orders
+CREATE INDEX idx_orders_status_scheduled_for ON orders(status, scheduled_for);
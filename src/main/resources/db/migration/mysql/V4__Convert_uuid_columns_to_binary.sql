@@ -0,0 +1,68 @@
+-- Store every primary and foreign key as BINARY(16) instead of VARCHAR(36), the type
+-- Hibernate maps UUID to on MySQL. Values are rewritten with UUID_TO_BIN (no byte swap,
+-- matching Hibernate's big-endian layout).
+-- MySQL cannot change the type of a column under a foreign key, so the V1 keys (named
+-- by MySQL as <table>_ibfk_<n>) are dropped first and re-added with explicit names.
+-- Each column goes through VARBINARY(36) so its indexes and the primary keys stay in place.
+
+ALTER TABLE restaurants DROP FOREIGN KEY restaurants_ibfk_1;
+ALTER TABLE meals DROP FOREIGN KEY meals_ibfk_1;
+ALTER TABLE orders DROP FOREIGN KEY orders_ibfk_1, DROP FOREIGN KEY orders_ibfk_2, DROP FOREIGN KEY orders_ibfk_3;
+ALTER TABLE order_items DROP FOREIGN KEY order_items_ibfk_1, DROP FOREIGN KEY order_items_ibfk_2;
+ALTER TABLE user_restaurant_blocks DROP FOREIGN KEY user_restaurant_blocks_ibfk_1,
+    DROP FOREIGN KEY user_restaurant_blocks_ibfk_2, DROP FOREIGN KEY user_restaurant_blocks_ibfk_3;
+
+-- Users
+ALTER TABLE users MODIFY id VARBINARY(36) NOT NULL;
+UPDATE users SET id = UUID_TO_BIN(id);
+ALTER TABLE users MODIFY id BINARY(16) NOT NULL;
+
+-- Restaurants
+ALTER TABLE restaurants MODIFY id VARBINARY(36) NOT NULL, MODIFY owner_id VARBINARY(36) NOT NULL;
+UPDATE restaurants SET id = UUID_TO_BIN(id), owner_id = UUID_TO_BIN(owner_id);
+ALTER TABLE restaurants MODIFY id BINARY(16) NOT NULL, MODIFY owner_id BINARY(16) NOT NULL;
+
+-- Meals
+ALTER TABLE meals MODIFY id VARBINARY(36) NOT NULL, MODIFY restaurant_id VARBINARY(36) NOT NULL;
+UPDATE meals SET id = UUID_TO_BIN(id), restaurant_id = UUID_TO_BIN(restaurant_id);
+ALTER TABLE meals MODIFY id BINARY(16) NOT NULL, MODIFY restaurant_id BINARY(16) NOT NULL;
+
+-- Coupons
+ALTER TABLE coupons MODIFY id VARBINARY(36) NOT NULL;
+UPDATE coupons SET id = UUID_TO_BIN(id);
+ALTER TABLE coupons MODIFY id BINARY(16) NOT NULL;
+
+-- Orders (coupon_id stays nullable; UUID_TO_BIN(NULL) is NULL)
+ALTER TABLE orders MODIFY id VARBINARY(36) NOT NULL, MODIFY customer_id VARBINARY(36) NOT NULL,
+    MODIFY restaurant_id VARBINARY(36) NOT NULL, MODIFY coupon_id VARBINARY(36) NULL;
+UPDATE orders SET id = UUID_TO_BIN(id), customer_id = UUID_TO_BIN(customer_id),
+    restaurant_id = UUID_TO_BIN(restaurant_id), coupon_id = UUID_TO_BIN(coupon_id);
+ALTER TABLE orders MODIFY id BINARY(16) NOT NULL, MODIFY customer_id BINARY(16) NOT NULL,
+    MODIFY restaurant_id BINARY(16) NOT NULL, MODIFY coupon_id BINARY(16) NULL;
+
+-- Order items
+ALTER TABLE order_items MODIFY id VARBINARY(36) NOT NULL, MODIFY order_id VARBINARY(36) NOT NULL,
+    MODIFY meal_id VARBINARY(36) NOT NULL;
+UPDATE order_items SET id = UUID_TO_BIN(id), order_id = UUID_TO_BIN(order_id), meal_id = UUID_TO_BIN(meal_id);
+ALTER TABLE order_items MODIFY id BINARY(16) NOT NULL, MODIFY order_id BINARY(16) NOT NULL,
+    MODIFY meal_id BINARY(16) NOT NULL;
+
+-- User restaurant blocks
+ALTER TABLE user_restaurant_blocks MODIFY id VARBINARY(36) NOT NULL, MODIFY user_id VARBINARY(36) NOT NULL,
+    MODIFY restaurant_id VARBINARY(36) NOT NULL, MODIFY blocked_by VARBINARY(36) NOT NULL;
+UPDATE user_restaurant_blocks SET id = UUID_TO_BIN(id), user_id = UUID_TO_BIN(user_id),
+    restaurant_id = UUID_TO_BIN(restaurant_id), blocked_by = UUID_TO_BIN(blocked_by);
+ALTER TABLE user_restaurant_blocks MODIFY id BINARY(16) NOT NULL, MODIFY user_id BINARY(16) NOT NULL,
+    MODIFY restaurant_id BINARY(16) NOT NULL, MODIFY blocked_by BINARY(16) NOT NULL;
+
+-- Foreign keys, as declared in V1
+ALTER TABLE restaurants ADD CONSTRAINT fk_restaurants_owner FOREIGN KEY (owner_id) REFERENCES users(id);
+ALTER TABLE meals ADD CONSTRAINT fk_meals_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants(id);
+ALTER TABLE orders ADD CONSTRAINT fk_orders_customer FOREIGN KEY (customer_id) REFERENCES users(id),
+    ADD CONSTRAINT fk_orders_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants(id),
+    ADD CONSTRAINT fk_orders_coupon FOREIGN KEY (coupon_id) REFERENCES coupons(id);
+ALTER TABLE order_items ADD CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders(id),
+    ADD CONSTRAINT fk_order_items_meal FOREIGN KEY (meal_id) REFERENCES meals(id);
+ALTER TABLE user_restaurant_blocks ADD CONSTRAINT fk_user_restaurant_blocks_user FOREIGN KEY (user_id) REFERENCES users(id),
+    ADD CONSTRAINT fk_user_restaurant_blocks_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants(id),
+    ADD CONSTRAINT fk_user_restaurant_blocks_blocked_by FOREIGN KEY (blocked_by) REFERENCES users(id);
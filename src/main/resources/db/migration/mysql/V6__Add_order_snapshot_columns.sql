@@ -0,0 +1,35 @@
+-- Snapshot the display fields of an order at placement time, like price_at_order,
+-- so order listings read only orders and order_items instead of joining users,
+-- restaurants, coupons and meals.
+
+ALTER TABLE orders ADD COLUMN customer_name VARCHAR(255);
+ALTER TABLE orders ADD COLUMN restaurant_name VARCHAR(255);
+ALTER TABLE orders ADD COLUMN coupon_code VARCHAR(50);
+ALTER TABLE orders ADD COLUMN discount_percent INT;
+ALTER TABLE order_items ADD COLUMN meal_name VARCHAR(255);
+
+ALTER TABLE orders_archive ADD COLUMN customer_name VARCHAR(255);
+ALTER TABLE orders_archive ADD COLUMN restaurant_name VARCHAR(255);
+ALTER TABLE orders_archive ADD COLUMN coupon_code VARCHAR(50);
+ALTER TABLE orders_archive ADD COLUMN discount_percent INT;
+ALTER TABLE order_items_archive ADD COLUMN meal_name VARCHAR(255);
+
+-- Backfill existing rows from the current names
+UPDATE orders o SET
+    customer_name = (SELECT u.name FROM users u WHERE u.id = o.customer_id),
+    restaurant_name = (SELECT r.name FROM restaurants r WHERE r.id = o.restaurant_id),
+    coupon_code = (SELECT c.code FROM coupons c WHERE c.id = o.coupon_id),
+    discount_percent = (SELECT c.discount_percent FROM coupons c WHERE c.id = o.coupon_id);
+UPDATE order_items oi SET meal_name = (SELECT m.name FROM meals m WHERE m.id = oi.meal_id);
+
+UPDATE orders_archive o SET
+    customer_name = (SELECT u.name FROM users u WHERE u.id = o.customer_id),
+    restaurant_name = (SELECT r.name FROM restaurants r WHERE r.id = o.restaurant_id),
+    coupon_code = (SELECT c.code FROM coupons c WHERE c.id = o.coupon_id),
+    discount_percent = (SELECT c.discount_percent FROM coupons c WHERE c.id = o.coupon_id);
+UPDATE order_items_archive oi SET meal_name = (SELECT m.name FROM meals m WHERE m.id = oi.meal_id);
+
+ALTER TABLE orders MODIFY customer_name VARCHAR(255) NOT NULL, MODIFY restaurant_name VARCHAR(255) NOT NULL;
+ALTER TABLE order_items MODIFY meal_name VARCHAR(255) NOT NULL;
+ALTER TABLE orders_archive MODIFY customer_name VARCHAR(255) NOT NULL, MODIFY restaurant_name VARCHAR(255) NOT NULL;
+ALTER TABLE order_items_archive MODIFY meal_name VARCHAR(255) NOT NULL;
@@ -0,0 +1,34 @@
+-- Per-restaurant daily sales rollups, kept current by the order service and
+-- rebuildable from orders. Days are the local date of order_date.
+-- Meal ids are not foreign keys so top-meal history survives meal deletion.
+
+CREATE TABLE restaurant_daily_sales (
+    id BINARY(16) PRIMARY KEY,
+    restaurant_id BINARY(16) NOT NULL,
+    sales_date DATE NOT NULL,
+    order_count INT DEFAULT 0 NOT NULL,
+    canceled_count INT DEFAULT 0 NOT NULL,
+    revenue DECIMAL(12,2) DEFAULT 0.00 NOT NULL,
+    tip_total DECIMAL(12,2) DEFAULT 0.00 NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    FOREIGN KEY (restaurant_id) REFERENCES restaurants(id) ON DELETE CASCADE,
+    UNIQUE (restaurant_id, sales_date)
+);
+
+CREATE TABLE restaurant_daily_meal_sales (
+    id BINARY(16) PRIMARY KEY,
+    restaurant_id BINARY(16) NOT NULL,
+    sales_date DATE NOT NULL,
+    meal_id BINARY(16) NOT NULL,
+    meal_name VARCHAR(255) NOT NULL,
+    quantity INT DEFAULT 0 NOT NULL,
+    revenue DECIMAL(12,2) DEFAULT 0.00 NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    FOREIGN KEY (restaurant_id) REFERENCES restaurants(id) ON DELETE CASCADE,
+    UNIQUE (restaurant_id, sales_date, meal_id)
+);
+
+CREATE INDEX idx_restaurant_daily_sales_date ON restaurant_daily_sales(sales_date);
+CREATE INDEX idx_restaurant_daily_meal_sales_date ON restaurant_daily_meal_sales(sales_date);
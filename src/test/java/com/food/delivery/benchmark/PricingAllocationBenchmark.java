@@ -0,0 +1,100 @@
+package com.food.delivery.benchmark;
+
+import com.food.delivery.pricing.PricingEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Heap allocation and time per priced order: the former BigDecimal arithmetic versus the
+ * long-cents {@link PricingEngine}. Allocation is read from the per-thread allocation counter.
+ * <p>
+ * Not picked up by the default surefire includes; run with
+ * {@code mvn test -Dtest=PricingAllocationBenchmark -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PricingAllocationBenchmark {
+
+    private static final int ORDERS = 2_000_000;
+    private static final int ITEMS_PER_ORDER = 4;
+
+    private final BigDecimal[] prices = new BigDecimal[64];
+    private final int[] quantities = new int[64];
+
+    @Test
+    void compareAllocation() {
+        Random random = new Random(7);
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = BigDecimal.valueOf(100 + random.nextInt(5_000), 2);
+            quantities[i] = 1 + random.nextInt(5);
+        }
+        BigDecimal tip = new BigDecimal("2.50");
+
+        // Warm up the JIT on a smaller run of each
+        runBigDecimal(tip, ORDERS / 10);
+        runCents(tip, ORDERS / 10);
+
+        Result bigDecimal = runBigDecimal(tip, ORDERS);
+        Result cents = runCents(tip, ORDERS);
+
+        System.out.printf("%-12s %14s %14s%n", "arithmetic", "bytes/order", "ns/order");
+        System.out.printf("%-12s %14.1f %14.1f%n", "BigDecimal", bigDecimal.bytesPerOrder, bigDecimal.nanosPerOrder);
+        System.out.printf("%-12s %14.1f %14.1f%n", "long cents", cents.bytesPerOrder, cents.nanosPerOrder);
+
+        assertEquals(0, bigDecimal.checksum.compareTo(PricingEngine.toAmount(cents.checksumCents)));
+        assertTrue(cents.bytesPerOrder < bigDecimal.bytesPerOrder);
+    }
+
+    private Result runBigDecimal(BigDecimal tip, int orders) {
+        BigDecimal checksum = BigDecimal.ZERO;
+        long allocated = allocatedBytes();
+        long started = System.nanoTime();
+        for (int order = 0; order < orders; order++) {
+            BigDecimal itemsTotal = BigDecimal.ZERO;
+            for (int item = 0; item < ITEMS_PER_ORDER; item++) {
+                int index = (order + item * 17) & (prices.length - 1);
+                itemsTotal = itemsTotal.add(prices[index].multiply(BigDecimal.valueOf(quantities[index])));
+            }
+            BigDecimal discount = itemsTotal.multiply(BigDecimal.valueOf(order % 30))
+                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            BigDecimal total = itemsTotal.subtract(discount).add(tip);
+            checksum = checksum.add(total.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : total);
+        }
+        return new Result(allocatedBytes() - allocated, System.nanoTime() - started, orders, checksum, 0L);
+    }
+
+    private Result runCents(BigDecimal tip, int orders) {
+        long checksum = 0L;
+        long allocated = allocatedBytes();
+        long started = System.nanoTime();
+        long tipCents = PricingEngine.toCents(tip);
+        for (int order = 0; order < orders; order++) {
+            long itemsTotal = 0L;
+            for (int item = 0; item < ITEMS_PER_ORDER; item++) {
+                int index = (order + item * 17) & (prices.length - 1);
+                itemsTotal += PricingEngine.lineTotal(PricingEngine.toCents(prices[index]), quantities[index]);
+            }
+            checksum += PricingEngine.price(itemsTotal, order % 30, tipCents).totalCents();
+        }
+        return new Result(allocatedBytes() - allocated, System.nanoTime() - started, orders, null, checksum);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private record Result(double bytesPerOrder, double nanosPerOrder, BigDecimal checksum, long checksumCents) {
+
+        private Result(long bytes, long nanos, int orders, BigDecimal checksum, long checksumCents) {
+            this((double) bytes / orders, (double) nanos / orders, checksum, checksumCents);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.food.delivery.benchmark;
+
+import com.food.delivery.util.UuidUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Insert throughput into orders/order_items with random v4 ids versus time-ordered v7 ids,
+ * on file-backed H2 with the V4 (16-byte UUID) key layout.
+ * <p>
+ * Not picked up by the default surefire includes; run with
+ * {@code mvn test -Dtest=UuidGeneratorBenchmark -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UuidGeneratorBenchmark {
+
+    private static final int ORDERS = 200_000;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int BATCH_SIZE = 20;
+
+    @Test
+    void compareInsertThroughput() throws SQLException, IOException {
+        // Warm up the JIT and driver on a smaller run of each
+        run(UUID::randomUUID, ORDERS / 10);
+        run(UuidUtil::timeOrderedUuid, ORDERS / 10);
+
+        Result random = run(UUID::randomUUID, ORDERS);
+        Result timeOrdered = run(UuidUtil::timeOrderedUuid, ORDERS);
+
+        System.out.printf("%-10s %14s %14s %14s%n", "id type", "rows/s", "orders bytes", "items bytes");
+        System.out.printf("%-10s %14.0f %14d %14d%n", "v4", random.rowsPerSecond, random.ordersBytes, random.itemsBytes);
+        System.out.printf("%-10s %14.0f %14d %14d%n", "v7", timeOrdered.rowsPerSecond, timeOrdered.ordersBytes, timeOrdered.itemsBytes);
+
+        assertTrue(timeOrdered.rowsPerSecond > random.rowsPerSecond);
+    }
+
+    private Result run(Supplier<UUID> ids, int orders) throws SQLException, IOException {
+        Path directory = Files.createTempDirectory("uuid-gen-bench");
+        String url = "jdbc:h2:file:" + directory.resolve("db") + ";DB_CLOSE_ON_EXIT=FALSE";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            return load(connection, ids, orders);
+        } finally {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    private Result load(Connection connection, Supplier<UUID> ids, int orders) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE orders (id UUID PRIMARY KEY, customer_id UUID NOT NULL, "
+                    + "order_date TIMESTAMP NOT NULL, total_amount DECIMAL(10,2) NOT NULL)");
+            statement.execute("CREATE TABLE order_items (id UUID PRIMARY KEY, order_id UUID NOT NULL, "
+                    + "quantity INT NOT NULL, price_at_order DECIMAL(10,2) NOT NULL, "
+                    + "FOREIGN KEY (order_id) REFERENCES orders(id))");
+            statement.execute("CREATE INDEX idx_order_items_order ON order_items(order_id)");
+        }
+
+        UUID customerId = UUID.randomUUID();
+        BigDecimal amount = new BigDecimal("12.50");
+        connection.setAutoCommit(false);
+        long started = System.nanoTime();
+        try (PreparedStatement insertOrder = connection.prepareStatement("INSERT INTO orders VALUES (?, ?, ?, ?)");
+             PreparedStatement insertItem = connection.prepareStatement("INSERT INTO order_items VALUES (?, ?, ?, ?)")) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < orders; i++) {
+                UUID orderId = ids.get();
+                insertOrder.setObject(1, orderId);
+                insertOrder.setObject(2, customerId);
+                insertOrder.setTimestamp(3, now);
+                insertOrder.setBigDecimal(4, amount);
+                insertOrder.addBatch();
+                for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                    insertItem.setObject(1, ids.get());
+                    insertItem.setObject(2, orderId);
+                    insertItem.setInt(3, 1);
+                    insertItem.setBigDecimal(4, amount);
+                    insertItem.addBatch();
+                }
+                // Same shape as hibernate.jdbc.batch_size=20 with one commit per order batch
+                if (i % BATCH_SIZE == BATCH_SIZE - 1) {
+                    insertOrder.executeBatch();
+                    insertItem.executeBatch();
+                    connection.commit();
+                }
+            }
+            insertOrder.executeBatch();
+            insertItem.executeBatch();
+            connection.commit();
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+        }
+        return new Result(orders * (1 + ITEMS_PER_ORDER) / seconds,
+                diskSpaceUsed(connection, "ORDERS"), diskSpaceUsed(connection, "ORDER_ITEMS"));
+    }
+
+    private static long diskSpaceUsed(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("CALL DISK_SPACE_USED('" + table + "')")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private record Result(double rowsPerSecond, long ordersBytes, long itemsBytes) {
+    }
+}
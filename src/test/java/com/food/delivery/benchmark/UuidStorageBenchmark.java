@@ -0,0 +1,163 @@
+package com.food.delivery.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares VARCHAR(36) keys (V1 schema) with 16-byte UUID keys (V4 schema) on H2:
+ * table + index size of orders/order_items and order-history query latency.
+ * <p>
+ * Not picked up by the default surefire includes; run with
+ * {@code mvn test -Dtest=UuidStorageBenchmark -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UuidStorageBenchmark {
+
+    private static final int CUSTOMERS = 2_000;
+    private static final int ORDERS = 50_000;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int QUERIES = 5_000;
+
+    @Test
+    void compareKeyStorage() throws SQLException, IOException {
+        Result varchar = run("VARCHAR(36)", false);
+        Result binary = run("UUID", true);
+
+        System.out.printf("%-12s %14s %14s %16s%n", "key type", "orders bytes", "items bytes", "history us/query");
+        System.out.printf("%-12s %14d %14d %16.1f%n", "VARCHAR(36)", varchar.ordersBytes, varchar.itemsBytes, varchar.micros);
+        System.out.printf("%-12s %14d %14d %16.1f%n", "UUID(16)", binary.ordersBytes, binary.itemsBytes, binary.micros);
+
+        assertTrue(binary.ordersBytes < varchar.ordersBytes);
+        assertTrue(binary.itemsBytes < varchar.itemsBytes);
+    }
+
+    private Result run(String keyType, boolean binaryKeys) throws SQLException, IOException {
+        // File-backed so DISK_SPACE_USED reports real page usage
+        Path directory = Files.createTempDirectory("uuid-bench");
+        String url = "jdbc:h2:file:" + directory.resolve("db") + ";DB_CLOSE_ON_EXIT=FALSE";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            return load(connection, keyType, binaryKeys);
+        } finally {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    private Result load(Connection connection, String keyType, boolean binaryKeys) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id " + keyType + " PRIMARY KEY, name VARCHAR(255) NOT NULL)");
+            statement.execute("CREATE TABLE orders (id " + keyType + " PRIMARY KEY, customer_id " + keyType + " NOT NULL, "
+                    + "order_date TIMESTAMP NOT NULL, total_amount DECIMAL(10,2) NOT NULL, "
+                    + "FOREIGN KEY (customer_id) REFERENCES users(id))");
+            statement.execute("CREATE TABLE order_items (id " + keyType + " PRIMARY KEY, order_id " + keyType + " NOT NULL, "
+                    + "quantity INT NOT NULL, price_at_order DECIMAL(10,2) NOT NULL, "
+                    + "FOREIGN KEY (order_id) REFERENCES orders(id))");
+            statement.execute("CREATE INDEX idx_orders_customer ON orders(customer_id)");
+            statement.execute("CREATE INDEX idx_orders_date ON orders(order_date)");
+            statement.execute("CREATE INDEX idx_order_items_order ON order_items(order_id)");
+        }
+
+        Random random = new Random(42);
+        List<UUID> customers = new ArrayList<>(CUSTOMERS);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insertUser = connection.prepareStatement("INSERT INTO users VALUES (?, ?)")) {
+            for (int i = 0; i < CUSTOMERS; i++) {
+                UUID id = new UUID(random.nextLong(), random.nextLong());
+                customers.add(id);
+                insertUser.setObject(1, key(id, binaryKeys));
+                insertUser.setString(2, "customer" + i);
+                insertUser.addBatch();
+            }
+            insertUser.executeBatch();
+        }
+        try (PreparedStatement insertOrder = connection.prepareStatement("INSERT INTO orders VALUES (?, ?, ?, ?)");
+             PreparedStatement insertItem = connection.prepareStatement("INSERT INTO order_items VALUES (?, ?, ?, ?)")) {
+            long start = System.currentTimeMillis() - ORDERS * 60_000L;
+            for (int i = 0; i < ORDERS; i++) {
+                UUID orderId = new UUID(random.nextLong(), random.nextLong());
+                insertOrder.setObject(1, key(orderId, binaryKeys));
+                insertOrder.setObject(2, key(customers.get(random.nextInt(CUSTOMERS)), binaryKeys));
+                insertOrder.setTimestamp(3, new Timestamp(start + i * 60_000L));
+                insertOrder.setBigDecimal(4, BigDecimal.valueOf(random.nextInt(10_000), 2));
+                insertOrder.addBatch();
+                for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                    insertItem.setObject(1, key(new UUID(random.nextLong(), random.nextLong()), binaryKeys));
+                    insertItem.setObject(2, key(orderId, binaryKeys));
+                    insertItem.setInt(3, 1 + random.nextInt(3));
+                    insertItem.setBigDecimal(4, BigDecimal.valueOf(random.nextInt(3_000), 2));
+                    insertItem.addBatch();
+                }
+                if (i % 1_000 == 999) {
+                    insertOrder.executeBatch();
+                    insertItem.executeBatch();
+                }
+            }
+            insertOrder.executeBatch();
+            insertItem.executeBatch();
+        }
+        connection.commit();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+        }
+
+        long ordersBytes = diskSpaceUsed(connection, "ORDERS");
+        long itemsBytes = diskSpaceUsed(connection, "ORDER_ITEMS");
+
+        String history = "SELECT o.id, o.order_date, o.total_amount, oi.quantity, oi.price_at_order "
+                + "FROM orders o JOIN order_items oi ON oi.order_id = o.id "
+                + "WHERE o.customer_id = ? ORDER BY o.order_date DESC LIMIT 20";
+        try (PreparedStatement query = connection.prepareStatement(history)) {
+            // Warm up, then measure
+            runQueries(query, customers, binaryKeys, random, QUERIES);
+            long started = System.nanoTime();
+            runQueries(query, customers, binaryKeys, random, QUERIES);
+            double micros = (System.nanoTime() - started) / 1_000.0 / QUERIES;
+            return new Result(ordersBytes, itemsBytes, micros);
+        }
+    }
+
+    private static void runQueries(PreparedStatement query, List<UUID> customers, boolean binaryKeys,
+                                   Random random, int count) throws SQLException {
+        for (int i = 0; i < count; i++) {
+            query.setObject(1, key(customers.get(random.nextInt(customers.size())), binaryKeys));
+            try (ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    rs.getObject(1);
+                }
+            }
+        }
+    }
+
+    private static long diskSpaceUsed(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("CALL DISK_SPACE_USED('" + table + "')")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static Object key(UUID id, boolean binaryKeys) {
+        return binaryKeys ? id : id.toString();
+    }
+
+    private record Result(long ordersBytes, long itemsBytes, double micros) {
+    }
+}
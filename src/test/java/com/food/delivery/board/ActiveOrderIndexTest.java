@@ -0,0 +1,185 @@
+package com.food.delivery.board;
+
+import com.food.delivery.dto.ActiveOrderResponse;
+import com.food.delivery.entity.Meal;
+import com.food.delivery.entity.Order;
+import com.food.delivery.entity.OrderItem;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.UserChangedEvent;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveOrderIndexTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @InjectMocks
+    private ActiveOrderIndex activeOrderIndex;
+
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+
+    @Test
+    void load_OpenOrders_ServedPerOwnerOldestFirst() {
+        // Arrange
+        Order older = order(OrderStatus.PROCESSING, LocalDateTime.now().minusMinutes(20));
+        Order newer = order(OrderStatus.PLACED, LocalDateTime.now().minusMinutes(5));
+        when(orderRepository.findWithItemsByStatusIn(anyList())).thenReturn(List.of(newer, older));
+
+        // Act
+        activeOrderIndex.load();
+
+        // Assert
+        List<ActiveOrderResponse> result = activeOrderIndex.getActiveOrdersForOwner(ownerId);
+        assertEquals(List.of(older.getId(), newer.getId()), result.stream().map(ActiveOrderResponse::getId).toList());
+        assertEquals("Cheeseburger", result.get(0).getItems().get(0).getMealName());
+        assertTrue(activeOrderIndex.getActiveOrdersForOwner(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void onOrderChanged_PlacedThenProgressedThenReceived_LeavesBoard() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+
+        // Act
+        activeOrderIndex.onOrderChanged(event(orderId, null, OrderStatus.PLACED, ChangeType.CREATED));
+        activeOrderIndex.onOrderChanged(event(orderId, OrderStatus.PLACED, OrderStatus.PROCESSING, ChangeType.UPDATED));
+        List<ActiveOrderResponse> processing = activeOrderIndex.getActiveOrders(restaurantId, ownerId);
+        activeOrderIndex.onOrderChanged(event(orderId, OrderStatus.PROCESSING, OrderStatus.CANCELED, ChangeType.UPDATED));
+
+        // Assert
+        assertEquals(OrderStatus.PROCESSING, processing.get(0).getStatus());
+        assertTrue(activeOrderIndex.getActiveOrders(restaurantId, ownerId).isEmpty());
+    }
+
+    @Test
+    void onOrderChanged_ScheduledOrder_JoinsBoardOnRelease() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(true);
+
+        // Act
+        activeOrderIndex.onOrderChanged(event(orderId, null, OrderStatus.SCHEDULED, ChangeType.CREATED));
+        List<ActiveOrderResponse> beforeRelease = activeOrderIndex.getActiveOrders(restaurantId, ownerId);
+        activeOrderIndex.onOrderChanged(event(orderId, OrderStatus.SCHEDULED, OrderStatus.PLACED, ChangeType.UPDATED));
+
+        // Assert
+        assertTrue(beforeRelease.isEmpty());
+        assertEquals(OrderStatus.PLACED, activeOrderIndex.getActiveOrders(restaurantId, ownerId).get(0).getStatus());
+    }
+
+    @Test
+    void onOrderChanged_StaleEvent_Ignored() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        activeOrderIndex.onOrderChanged(event(orderId, null, OrderStatus.PLACED, ChangeType.CREATED));
+        activeOrderIndex.onOrderChanged(event(orderId, OrderStatus.PLACED, OrderStatus.PROCESSING, ChangeType.UPDATED));
+
+        // Act - a late PLACED -> CANCELED must not remove an order that moved on
+        activeOrderIndex.onOrderChanged(event(orderId, OrderStatus.PLACED, OrderStatus.CANCELED, ChangeType.UPDATED));
+
+        // Assert
+        assertEquals(OrderStatus.PROCESSING, activeOrderIndex.getActiveOrders(restaurantId, ownerId).get(0).getStatus());
+    }
+
+    @Test
+    void onUserChanged_OwnerDeleted_DropsTheirBoards() {
+        // Arrange
+        activeOrderIndex.onOrderChanged(event(UUID.randomUUID(), null, OrderStatus.PLACED, ChangeType.CREATED));
+        User owner = new User();
+        owner.setId(ownerId);
+        owner.setRole(UserRole.OWNER);
+
+        // Act
+        activeOrderIndex.onUserChanged(UserChangedEvent.deleted(owner));
+
+        // Assert
+        assertTrue(activeOrderIndex.getActiveOrdersForOwner(ownerId).isEmpty());
+        Map<?, ?> boards = (Map<?, ?>) ReflectionTestUtils.getField(activeOrderIndex, "boards");
+        assertTrue(boards.isEmpty());
+    }
+
+    @Test
+    void getActiveOrders_OtherOwner_ThrowsSecurityException() {
+        // Arrange
+        activeOrderIndex.onOrderChanged(event(UUID.randomUUID(), null, OrderStatus.PLACED, ChangeType.CREATED));
+
+        // Act & Assert
+        assertThrows(SecurityException.class, () -> activeOrderIndex.getActiveOrders(restaurantId, UUID.randomUUID()));
+    }
+
+    @Test
+    void getActiveOrders_NoOpenOrders_ChecksOwnershipInDatabase() {
+        // Arrange
+        UUID otherOwnerId = UUID.randomUUID();
+        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(true);
+        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, otherOwnerId)).thenReturn(false);
+
+        // Act & Assert
+        assertTrue(activeOrderIndex.getActiveOrders(restaurantId, ownerId).isEmpty());
+        assertThrows(SecurityException.class, () -> activeOrderIndex.getActiveOrders(restaurantId, otherOwnerId));
+    }
+
+    private OrderChangedEvent event(UUID orderId, OrderStatus previousStatus, OrderStatus status, ChangeType type) {
+        BigDecimal total = new BigDecimal("9.99");
+        return new OrderChangedEvent(orderId, restaurantId, ownerId, UUID.randomUUID(), "Jane",
+                LocalDateTime.now(), previousStatus, status,
+                type == ChangeType.CREATED ? null : total, total,
+                type == ChangeType.CREATED ? null : BigDecimal.ZERO, BigDecimal.ZERO,
+                List.of(new OrderChangedEvent.Line(UUID.randomUUID(), "Cheeseburger", 1, total)), type);
+    }
+
+    private Order order(OrderStatus status, LocalDateTime orderDate) {
+        User owner = new User();
+        owner.setId(ownerId);
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(restaurantId);
+        restaurant.setOwner(owner);
+        User customer = new User();
+        customer.setId(UUID.randomUUID());
+        Meal meal = new Meal();
+        meal.setId(UUID.randomUUID());
+
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setRestaurant(restaurant);
+        order.setCustomer(customer);
+        order.setCustomerName("Jane");
+        order.setOrderDate(orderDate);
+        order.setStatus(status);
+        order.setTotalAmount(new BigDecimal("9.99"));
+        order.setTipAmount(BigDecimal.ZERO);
+        OrderItem item = new OrderItem();
+        item.setMeal(meal);
+        item.setMealName("Cheeseburger");
+        item.setQuantity(1);
+        order.setOrderItems(List.of(item));
+        return order;
+    }
+}
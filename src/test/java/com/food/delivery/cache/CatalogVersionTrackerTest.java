@@ -0,0 +1,96 @@
+package com.food.delivery.cache;
+
+import com.food.delivery.entity.Meal;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogVersionTrackerTest {
+
+    private CatalogVersionTracker tracker;
+    private Restaurant restaurant;
+    private Meal meal;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new CatalogVersionTracker();
+        ReflectionTestUtils.setField(tracker, "maxAgeSeconds", 60L);
+
+        restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+        restaurant.setName("Diner");
+        restaurant.setBlocked(false);
+
+        meal = new Meal();
+        meal.setId(UUID.randomUUID());
+        meal.setName("Burger");
+        meal.setPrice(new BigDecimal("9.99"));
+        meal.setRestaurant(restaurant);
+    }
+
+    @Test
+    void etags_NoWrites_StableAndDistinctPerResourceAndPage() {
+        // Act
+        String restaurantTag = tracker.restaurantETag(restaurant.getId());
+
+        // Assert
+        assertEquals(restaurantTag, tracker.restaurantETag(restaurant.getId()));
+        assertNotEquals(restaurantTag, tracker.restaurantETag(UUID.randomUUID()));
+        assertNotEquals(tracker.menuETag(restaurant.getId(), 0, 20), tracker.menuETag(restaurant.getId(), 1, 20));
+        assertTrue(restaurantTag.startsWith("\"") && restaurantTag.endsWith("\""));
+    }
+
+    @Test
+    void onMealChanged_BumpsRestaurantAndMenuOnly() {
+        // Arrange
+        String list = tracker.restaurantListETag(0, 20);
+        String own = tracker.restaurantETag(restaurant.getId());
+        String menu = tracker.menuETag(restaurant.getId(), 0, 20);
+
+        // Act
+        tracker.onMealChanged(MealChangedEvent.of(meal, ChangeType.UPDATED));
+
+        // Assert
+        assertEquals(list, tracker.restaurantListETag(0, 20));
+        assertNotEquals(own, tracker.restaurantETag(restaurant.getId()));
+        assertNotEquals(menu, tracker.menuETag(restaurant.getId(), 0, 20));
+        assertEquals(1, tracker.menuVersion(restaurant.getId()));
+    }
+
+    @Test
+    void onRestaurantChanged_BumpsListAndRestaurant() {
+        // Arrange
+        String list = tracker.restaurantListETag(0, 20);
+        String own = tracker.restaurantETag(restaurant.getId());
+
+        // Act
+        tracker.onRestaurantChanged(RestaurantChangedEvent.of(restaurant, ChangeType.UPDATED));
+
+        // Assert
+        assertNotEquals(list, tracker.restaurantListETag(0, 20));
+        assertNotEquals(own, tracker.restaurantETag(restaurant.getId()));
+    }
+
+    @Test
+    void cacheControl_PrivateWithRevalidation() {
+        // Act
+        String header = tracker.cacheControl().getHeaderValue();
+
+        // Assert
+        assertTrue(header.contains("private"));
+        assertTrue(header.contains("must-revalidate"));
+        assertFalse(header.contains("public"));
+    }
+}
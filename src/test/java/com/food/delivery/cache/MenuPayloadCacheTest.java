@@ -0,0 +1,149 @@
+package com.food.delivery.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.delivery.entity.Meal;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.MealChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MenuPayloadCacheTest {
+
+    private final CatalogVersionTracker catalogVersionTracker = new CatalogVersionTracker();
+    private final AtomicInteger loads = new AtomicInteger();
+    private MenuPayloadCache cache;
+    private Meal meal;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache(10, true);
+
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+        meal = new Meal();
+        meal.setId(UUID.randomUUID());
+        meal.setName("Burger");
+        meal.setPrice(new BigDecimal("9.99"));
+        meal.setRestaurant(restaurant);
+    }
+
+    @Test
+    void get_SecondRead_ServedFromMemory() {
+        // Act
+        MenuPayloadCache.MenuPayload first = cache.get(restaurantId(), 0, 20, loader());
+        MenuPayloadCache.MenuPayload second = cache.get(restaurantId(), 0, 20, loader());
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(catalogVersionTracker.menuETag(restaurantId(), 0, 20), first.etag());
+    }
+
+    @Test
+    void get_VersionMovedWithoutEviction_Reloads() {
+        // Arrange
+        MenuPayloadCache.MenuPayload first = cache.get(restaurantId(), 0, 20, loader());
+
+        // Act: the tracker sees the write, the cache's own listener has not run
+        catalogVersionTracker.onMealChanged(MealChangedEvent.of(meal, ChangeType.UPDATED));
+        MenuPayloadCache.MenuPayload second = cache.get(restaurantId(), 0, 20, loader());
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertFalse(first.etag().equals(second.etag()));
+    }
+
+    @Test
+    void onMealChanged_EvictsRestaurantPages() {
+        // Arrange
+        cache.get(restaurantId(), 0, 20, loader());
+        cache.get(restaurantId(), 1, 20, loader());
+
+        // Act
+        cache.onMealChanged(MealChangedEvent.of(meal, ChangeType.DELETED));
+        cache.get(restaurantId(), 0, 20, loader());
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void get_OverBound_EvictsLeastRecentlyUsed() {
+        // Arrange
+        cache = newCache(2, true);
+        cache.get(restaurantId(), 0, 20, loader());
+        cache.get(restaurantId(), 1, 20, loader());
+        cache.get(restaurantId(), 0, 20, loader());
+
+        // Act
+        cache.get(restaurantId(), 2, 20, loader());
+        cache.get(restaurantId(), 0, 20, loader());
+        cache.get(restaurantId(), 1, 20, loader());
+
+        // Assert: page 1 was the eldest when page 2 came in
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void get_GzipBody_InflatesToJsonBody() throws IOException {
+        // Act
+        MenuPayloadCache.MenuPayload payload = cache.get(restaurantId(), 0, 20, loader());
+
+        // Assert
+        assertTrue(payload.hasGzip());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.gzip()))) {
+            assertArrayEquals(payload.json(), in.readAllBytes());
+        }
+        assertTrue(new String(payload.json()).contains("Burger"));
+    }
+
+    @Test
+    void get_GzipDisabled_IdentityOnly() {
+        // Arrange
+        cache = newCache(10, false);
+
+        // Act
+        MenuPayloadCache.MenuPayload payload = cache.get(restaurantId(), 0, 20, loader());
+
+        // Assert
+        assertFalse(payload.hasGzip());
+    }
+
+    private MenuPayloadCache newCache(int maxEntries, boolean gzip) {
+        MenuPayloadCache menuPayloadCache = new MenuPayloadCache(maxEntries);
+        ReflectionTestUtils.setField(menuPayloadCache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(menuPayloadCache, "catalogVersionTracker", catalogVersionTracker);
+        ReflectionTestUtils.setField(menuPayloadCache, "enabled", true);
+        ReflectionTestUtils.setField(menuPayloadCache, "gzipEnabled", gzip);
+        return menuPayloadCache;
+    }
+
+    private UUID restaurantId() {
+        return meal.getRestaurant().getId();
+    }
+
+    private Supplier<?> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(Map.of("name", meal.getName()));
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package com.food.delivery.cache;
+
+import com.food.delivery.entity.Coupon;
+import com.food.delivery.entity.Meal;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.CouponChangedEvent;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.pricing.PricingPipelineRegistry;
+import com.food.delivery.repository.CouponRepository;
+import com.food.delivery.repository.MealRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuoteCatalogCacheTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private MealRepository mealRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private final CatalogVersionTracker catalogVersionTracker = new CatalogVersionTracker();
+    private QuoteCatalogCache cache;
+    private Restaurant restaurant;
+    private Meal meal;
+
+    @BeforeEach
+    void setUp() {
+        cache = new QuoteCatalogCache(10);
+        ReflectionTestUtils.setField(cache, "restaurantRepository", restaurantRepository);
+        ReflectionTestUtils.setField(cache, "mealRepository", mealRepository);
+        ReflectionTestUtils.setField(cache, "couponRepository", couponRepository);
+        ReflectionTestUtils.setField(cache, "pricingPipelineRegistry", new PricingPipelineRegistry());
+        ReflectionTestUtils.setField(cache, "catalogVersionTracker", catalogVersionTracker);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+
+        restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+        restaurant.setBlocked(false);
+
+        meal = new Meal();
+        meal.setId(UUID.randomUUID());
+        meal.setName("Burger");
+        meal.setPrice(new BigDecimal("9.99"));
+        meal.setRestaurant(restaurant);
+    }
+
+    @Test
+    void menu_SecondRead_ServedFromMemory() {
+        // Arrange
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(mealRepository.findByRestaurantId(restaurant.getId())).thenReturn(List.of(meal));
+
+        // Act
+        QuoteCatalogCache.QuoteMenu first = cache.menu(restaurant.getId());
+        QuoteCatalogCache.QuoteMenu second = cache.menu(restaurant.getId());
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(999L, first.meals().get(meal.getId()).priceCents());
+        verify(mealRepository, times(1)).findByRestaurantId(restaurant.getId());
+    }
+
+    @Test
+    void menu_AfterMealChange_Reloads() {
+        // Arrange
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(mealRepository.findByRestaurantId(restaurant.getId())).thenReturn(List.of(meal));
+        cache.menu(restaurant.getId());
+
+        // Act
+        meal.setPrice(new BigDecimal("11.50"));
+        MealChangedEvent event = MealChangedEvent.of(meal, ChangeType.UPDATED);
+        catalogVersionTracker.onMealChanged(event);
+        cache.onMealChanged(event);
+        QuoteCatalogCache.QuoteMenu menu = cache.menu(restaurant.getId());
+
+        // Assert
+        assertEquals(1150L, menu.meals().get(meal.getId()).priceCents());
+        verify(mealRepository, times(2)).findByRestaurantId(restaurant.getId());
+    }
+
+    @Test
+    void coupon_CachedUntilCouponChanges() {
+        // Arrange
+        Coupon coupon = new Coupon();
+        coupon.setCode("SAVE10");
+        coupon.setDiscountPercent(10);
+        when(couponRepository.findByCode("SAVE10")).thenReturn(Optional.of(coupon));
+
+        // Act
+        cache.coupon("SAVE10");
+        cache.coupon("SAVE10");
+        coupon.setActive(false);
+        cache.onCouponChanged(CouponChangedEvent.of(coupon, ChangeType.UPDATED));
+        Optional<QuoteCatalogCache.QuoteCoupon> result = cache.coupon("SAVE10");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertFalse(result.get().isValid());
+        verify(couponRepository, times(2)).findByCode("SAVE10");
+    }
+
+    @Test
+    void coupon_UnknownCode_NotCached() {
+        // Arrange
+        when(couponRepository.findByCode("NOPE")).thenReturn(Optional.empty());
+
+        // Act
+        cache.coupon("NOPE");
+        cache.coupon("NOPE");
+
+        // Assert
+        verify(couponRepository, times(2)).findByCode("NOPE");
+    }
+}
@@ -0,0 +1,187 @@
+package com.food.delivery.capacity;
+
+import com.food.delivery.entity.Order;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.exception.RestaurantAtCapacityException;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantCapacityGateTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private RestaurantCapacityGate gate;
+
+    private UUID restaurantId;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(gate, "enabled", true);
+        ReflectionTestUtils.setField(gate, "defaultMaxActiveOrders", 0);
+        ReflectionTestUtils.setField(gate, "retryAfterSeconds", 60L);
+        ReflectionTestUtils.invokeMethod(gate, "init");
+
+        restaurantId = UUID.randomUUID();
+        User owner = new User();
+        owner.setId(UUID.randomUUID());
+        User customer = new User();
+        customer.setId(UUID.randomUUID());
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(restaurantId);
+        restaurant.setOwner(owner);
+
+        order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setRestaurant(restaurant);
+        order.setCustomer(customer);
+        order.setOrderDate(LocalDateTime.now());
+        order.setTotalAmount(new BigDecimal("10.00"));
+        order.setStatus(OrderStatus.PLACED);
+    }
+
+    @Test
+    void acquire_AtLimit_RejectedWithRetryAfter() {
+        // Arrange
+        gate.onRestaurantChanged(new RestaurantChangedEvent(restaurantId, "R", null, false, 2, ChangeType.UPDATED));
+        gate.acquire(restaurantId);
+        gate.acquire(restaurantId);
+
+        // Act & Assert
+        RestaurantAtCapacityException ex = assertThrows(RestaurantAtCapacityException.class,
+                () -> gate.acquire(restaurantId));
+        assertEquals(60L, ex.getRetryAfterSeconds());
+        assertEquals(2, gate.activeOrders(restaurantId));
+        assertEquals(1.0, meterRegistry.counter("fooddelivery.orders.capacity_rejected").count());
+    }
+
+    @Test
+    void onOrderChanged_FinalStatus_FreesSlot() {
+        // Arrange
+        gate.onRestaurantChanged(new RestaurantChangedEvent(restaurantId, "R", null, false, 1, ChangeType.UPDATED));
+        gate.acquire(restaurantId);
+
+        // Act
+        gate.onOrderChanged(OrderChangedEvent.statusChanged(order, OrderStatus.CANCELED));
+
+        // Assert
+        assertEquals(0, gate.activeOrders(restaurantId));
+        gate.acquire(restaurantId);
+        assertEquals(1, gate.activeOrders(restaurantId));
+    }
+
+    @Test
+    void onOrderChanged_ScheduledRelease_TakesSlotPastLimit() {
+        // Arrange
+        gate.onRestaurantChanged(new RestaurantChangedEvent(restaurantId, "R", null, false, 1, ChangeType.UPDATED));
+        gate.acquire(restaurantId);
+        order.setStatus(OrderStatus.SCHEDULED);
+
+        // Act
+        gate.onOrderChanged(OrderChangedEvent.statusChanged(order, OrderStatus.PLACED));
+
+        // Assert
+        assertEquals(2, gate.activeOrders(restaurantId));
+    }
+
+    @Test
+    void load_CountsActiveOrdersAndLimits() {
+        // Arrange
+        when(restaurantRepository.findIdAndMaxActiveOrders()).thenReturn(List.<Object[]>of(new Object[]{restaurantId, 3}));
+        when(orderRepository.countByStatusInGroupByRestaurantId(anyList()))
+                .thenReturn(List.<Object[]>of(new Object[]{restaurantId, 3L}));
+
+        // Act
+        gate.load();
+
+        // Assert
+        assertEquals(3, gate.limitOf(restaurantId));
+        assertEquals(3, gate.activeOrders(restaurantId));
+        assertThrows(RestaurantAtCapacityException.class, () -> gate.acquire(restaurantId));
+    }
+
+    @Test
+    void acquire_NoLimit_NotCounted() {
+        // Arrange
+        UUID madeUpId = UUID.randomUUID();
+        when(orderRepository.countByRestaurantIdAndStatusIn(eq(madeUpId), anyList())).thenReturn(0L);
+
+        // Act
+        gate.checkCapacity(madeUpId);
+        gate.acquire(madeUpId);
+
+        // Assert
+        assertEquals(0, gate.activeOrders(madeUpId));
+        Map<?, ?> counters = (Map<?, ?>) ReflectionTestUtils.getField(gate, "activeOrders");
+        assertEquals(0, counters.size());
+    }
+
+    @Test
+    void onRestaurantChanged_LimitAdded_SeedsCountFromDatabase() {
+        // Arrange
+        when(orderRepository.countByRestaurantIdAndStatusIn(eq(restaurantId), anyList())).thenReturn(2L);
+
+        // Act
+        gate.onRestaurantChanged(new RestaurantChangedEvent(restaurantId, "R", null, false, 3, ChangeType.UPDATED));
+        gate.acquire(restaurantId);
+
+        // Assert
+        assertEquals(3, gate.activeOrders(restaurantId));
+        assertThrows(RestaurantAtCapacityException.class, () -> gate.checkCapacity(restaurantId));
+    }
+
+    @Test
+    void releaseCustomerOrders_FreesTheirSlots() {
+        // Arrange
+        gate.onRestaurantChanged(new RestaurantChangedEvent(restaurantId, "R", null, false, 2, ChangeType.UPDATED));
+        gate.acquire(restaurantId);
+        gate.acquire(restaurantId);
+        UUID customerId = order.getCustomer().getId();
+        when(orderRepository.countByCustomerIdAndStatusInGroupByRestaurantId(eq(customerId), anyList()))
+                .thenReturn(List.<Object[]>of(new Object[]{restaurantId, 1L}));
+
+        // Act
+        gate.releaseCustomerOrders(customerId);
+
+        // Assert
+        assertEquals(1, gate.activeOrders(restaurantId));
+        assertDoesNotThrow(() -> gate.acquire(restaurantId));
+    }
+}
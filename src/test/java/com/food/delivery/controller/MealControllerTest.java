@@ -0,0 +1,121 @@
+package com.food.delivery.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.delivery.cache.CatalogVersionTracker;
+import com.food.delivery.cache.MenuPayloadCache;
+import com.food.delivery.constants.ValidationConstants;
+import com.food.delivery.dto.MealResponse;
+import com.food.delivery.exception.GlobalExceptionHandler;
+import com.food.delivery.service.MealService;
+import com.food.delivery.util.HttpCacheUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class MealControllerTest {
+
+    @Mock
+    private MealService mealService;
+
+    @Spy
+    private CatalogVersionTracker catalogVersionTracker = new CatalogVersionTracker();
+
+    @Spy
+    private MenuPayloadCache menuPayloadCache = new MenuPayloadCache(10);
+
+    @InjectMocks
+    private MealController mealController;
+
+    private MockMvc mockMvc;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(catalogVersionTracker, "maxAgeSeconds", 60L);
+        ReflectionTestUtils.setField(menuPayloadCache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(menuPayloadCache, "catalogVersionTracker", catalogVersionTracker);
+        ReflectionTestUtils.setField(menuPayloadCache, "enabled", true);
+        ReflectionTestUtils.setField(menuPayloadCache, "gzipEnabled", true);
+        mockMvc = MockMvcBuilders.standaloneSetup(mealController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        restaurantId = UUID.randomUUID();
+    }
+
+    @Test
+    void getMealsByRestaurant_GzipAndIdentity_CarryDifferentETags() throws Exception {
+        // Arrange
+        when(mealService.getMealsByRestaurant(eq(restaurantId), any()))
+                .thenReturn(new PageImpl<>(List.<MealResponse>of(), PageRequest.of(0, 20), 0));
+        String etag = catalogVersionTracker.menuETag(restaurantId, 0, 20);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/meals/get/restaurant/{restaurantId}", restaurantId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get("/api/meals/get/restaurant/{restaurantId}", restaurantId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, HttpCacheUtil.gzipETag(etag)));
+    }
+
+    @Test
+    void getMealsByRestaurant_IdentityETagWithGzip_NotRevalidated() throws Exception {
+        // Arrange
+        when(mealService.getMealsByRestaurant(eq(restaurantId), any()))
+                .thenReturn(new PageImpl<>(List.<MealResponse>of(), PageRequest.of(0, 20), 0));
+        String etag = catalogVersionTracker.menuETag(restaurantId, 0, 20);
+
+        // Act & Assert: the identity tag must not validate a gzip response, and vice versa
+        mockMvc.perform(get("/api/meals/get/restaurant/{restaurantId}", restaurantId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/meals/get/restaurant/{restaurantId}", restaurantId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, HttpCacheUtil.gzipETag(etag)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, HttpCacheUtil.gzipETag(etag)));
+    }
+
+    @Test
+    void getMealsByRestaurant_OversizedPage_ClampedBeforeCaching() throws Exception {
+        // Arrange
+        int maxSize = ValidationConstants.MAX_PAGE_SIZE;
+        when(mealService.getMealsByRestaurant(restaurantId, PageRequest.of(0, maxSize)))
+                .thenReturn(new PageImpl<>(List.<MealResponse>of(), PageRequest.of(0, maxSize), 0));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/meals/get/restaurant/{restaurantId}", restaurantId).param("size", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, catalogVersionTracker.menuETag(restaurantId, 0, maxSize)));
+        mockMvc.perform(get("/api/meals/get/restaurant/{restaurantId}", restaurantId).param("size", "9000"))
+                .andExpect(status().isOk());
+        // Both sizes share the one clamped entry
+        verify(mealService, times(1)).getMealsByRestaurant(eq(restaurantId), any());
+    }
+}
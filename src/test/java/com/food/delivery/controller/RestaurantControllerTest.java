@@ -0,0 +1,113 @@
+package com.food.delivery.controller;
+
+import com.food.delivery.cache.CatalogVersionTracker;
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.dto.RestaurantResponse;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.exception.GlobalExceptionHandler;
+import com.food.delivery.service.RestaurantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantControllerTest {
+
+    @Mock
+    private RestaurantService restaurantService;
+
+    @Spy
+    private CatalogVersionTracker catalogVersionTracker = new CatalogVersionTracker();
+
+    @InjectMocks
+    private RestaurantController restaurantController;
+
+    private MockMvc mockMvc;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(catalogVersionTracker, "maxAgeSeconds", 60L);
+        mockMvc = MockMvcBuilders.standaloneSetup(restaurantController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        restaurantId = UUID.randomUUID();
+    }
+
+    @Test
+    void getRestaurant_NoValidator_ReturnsBodyWithPrivateETag() throws Exception {
+        // Arrange
+        when(restaurantService.getRestaurantById(restaurantId))
+                .thenReturn(RestaurantResponse.builder().id(restaurantId).name("Diner").build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/restaurants/get/{id}", restaurantId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, catalogVersionTracker.restaurantETag(restaurantId)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")));
+    }
+
+    @Test
+    void getRestaurant_MatchingETag_NotModifiedWithoutLoading() throws Exception {
+        // Arrange
+        when(restaurantService.restaurantExists(restaurantId)).thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/restaurants/get/{id}", restaurantId)
+                        .header(HttpHeaders.IF_NONE_MATCH, catalogVersionTracker.restaurantETag(restaurantId)))
+                .andExpect(status().isNotModified());
+        verify(restaurantService, never()).getRestaurantById(restaurantId);
+    }
+
+    @Test
+    void getRestaurant_MatchingETagForMissingRestaurant_NotAnsweredWith304() throws Exception {
+        // Arrange
+        when(restaurantService.restaurantExists(restaurantId)).thenReturn(false);
+        when(restaurantService.getRestaurantById(restaurantId))
+                .thenThrow(new RuntimeException(ErrorConstants.RESTAURANT_NOT_FOUND_MESSAGE + ": " + restaurantId));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/restaurants/get/{id}", restaurantId)
+                        .header(HttpHeaders.IF_NONE_MATCH, catalogVersionTracker.restaurantETag(restaurantId)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAllRestaurants_StaleETag_ReturnsBody() throws Exception {
+        // Arrange
+        String stale = catalogVersionTracker.restaurantListETag(0, 20);
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(restaurantId);
+        catalogVersionTracker.onRestaurantChanged(RestaurantChangedEvent.of(restaurant, ChangeType.UPDATED));
+        when(restaurantService.getAllRestaurants(any())).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/restaurants/get").header(HttpHeaders.IF_NONE_MATCH, stale))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, catalogVersionTracker.restaurantListETag(0, 20)));
+    }
+}
@@ -0,0 +1,149 @@
+package com.food.delivery.group;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupCartStoreTest {
+
+    private GroupCartStore store;
+    private final UUID hostId = UUID.randomUUID();
+    private final UUID restaurantId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        store = new GroupCartStore(4);
+        ReflectionTestUtils.setField(store, "ttlMinutes", 30L);
+        ReflectionTestUtils.setField(store, "maxOpenPerHost", 3);
+        ReflectionTestUtils.setField(store, "maxOpen", 5);
+    }
+
+    @Test
+    void setQuantity_ZeroRemovesLineAndLinesKeepJoinOrder() {
+        // Arrange
+        GroupCart cart = store.create(hostId, "Host", restaurantId);
+        UUID guestId = UUID.randomUUID();
+        UUID burger = UUID.randomUUID();
+        UUID fries = UUID.randomUUID();
+
+        // Act
+        List<GroupCartLine> lines = store.withCart(cart.getId(), c -> {
+            c.addParticipant(guestId, "Guest");
+            c.setQuantity(guestId, burger, 2);
+            c.setQuantity(hostId, fries, 1);
+            c.setQuantity(hostId, burger, 1);
+            c.setQuantity(hostId, fries, 0);
+            return c.lines();
+        });
+
+        // Assert
+        assertEquals(List.of(
+                new GroupCartLine(hostId, "Host", burger, 1),
+                new GroupCartLine(guestId, "Guest", burger, 2)), lines);
+        assertEquals(2, (int) store.withCart(cart.getId(), GroupCart::getLineCount));
+    }
+
+    @Test
+    void withCart_ConcurrentParticipants_NoUpdateLost() throws Exception {
+        // Arrange
+        GroupCart cart = store.create(hostId, "Host", restaurantId);
+        int threads = 8;
+        int mealsPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            UUID participantId = UUID.randomUUID();
+            futures.add(executor.submit(() -> {
+                start.await();
+                store.withCart(cart.getId(), c -> {
+                    c.addParticipant(participantId, "P");
+                    return null;
+                });
+                for (int i = 0; i < mealsPerThread; i++) {
+                    UUID mealId = UUID.randomUUID();
+                    store.withCart(cart.getId(), c -> {
+                        c.setQuantity(participantId, mealId, 1);
+                        return null;
+                    });
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(threads * mealsPerThread, (int) store.withCart(cart.getId(), c -> c.lines().size()));
+        assertEquals(threads * mealsPerThread, (int) store.withCart(cart.getId(), GroupCart::getLineCount));
+        assertEquals(threads + 1, (int) store.withCart(cart.getId(), GroupCart::getParticipantCount));
+    }
+
+    @Test
+    void expireIdleCarts_RemovesOnlyIdleOpenCarts() {
+        // Arrange
+        GroupCart idle = store.create(hostId, "Host", restaurantId);
+        GroupCart checkingOut = store.create(hostId, "Host", restaurantId);
+        GroupCart active = store.create(hostId, "Host", restaurantId);
+        LocalDateTime longAgo = LocalDateTime.now().minusHours(2);
+        store.withCart(idle.getId(), c -> {
+            c.touch(longAgo);
+            return null;
+        });
+        store.withCart(checkingOut.getId(), c -> {
+            c.touch(longAgo);
+            c.setStatus(GroupCart.Status.CHECKING_OUT);
+            return null;
+        });
+
+        // Act
+        store.expireIdleCarts();
+
+        // Assert
+        assertEquals(2, store.size());
+        assertThrows(IllegalArgumentException.class, () -> store.withCart(idle.getId(), GroupCart::getId));
+        assertEquals(active.getId(), store.withCart(active.getId(), GroupCart::getId));
+    }
+
+    @Test
+    void create_HostAtLimit_ThrowsUntilOneIsRemoved() {
+        // Arrange
+        GroupCart first = store.create(hostId, "Host", restaurantId);
+        store.create(hostId, "Host", restaurantId);
+        store.create(hostId, "Host", restaurantId);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> store.create(hostId, "Host", restaurantId));
+        store.remove(first.getId());
+        assertNotNull(store.create(hostId, "Host", restaurantId));
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void create_StoreAtLimit_ThrowsForEveryHost() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            store.create(UUID.randomUUID(), "Host", restaurantId);
+        }
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> store.create(hostId, "Host", restaurantId));
+        assertEquals(5, store.size());
+    }
+}
@@ -0,0 +1,130 @@
+package com.food.delivery.popularity;
+
+import com.food.delivery.dto.PopularMealResponse;
+import com.food.delivery.entity.MealPopularity;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.repository.MealPopularityRepository;
+import com.food.delivery.repository.RestaurantDailyMealSalesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularMealTrackerTest {
+
+    @Mock
+    private MealPopularityRepository mealPopularityRepository;
+
+    @Mock
+    private RestaurantDailyMealSalesRepository dailyMealSalesRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PopularMealTracker tracker;
+
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID burgerId = UUID.randomUUID();
+    private final UUID friesId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tracker, "capacity", 10);
+    }
+
+    @Test
+    void restore_NoCheckpoint_SeedsFromSalesRollups() {
+        // Arrange
+        when(mealPopularityRepository.findAllOfExistingMeals()).thenReturn(List.of());
+        when(dailyMealSalesRepository.sumQuantityByMeal()).thenReturn(List.of(
+                new Object[]{restaurantId, burgerId, "Cheeseburger", 4L},
+                new Object[]{restaurantId, friesId, "Fries", 9L}));
+
+        // Act
+        tracker.restore();
+
+        // Assert
+        List<PopularMealResponse> result = tracker.getPopularMeals(restaurantId, 5);
+        assertEquals(List.of(friesId, burgerId), result.stream().map(PopularMealResponse::getMealId).toList());
+        assertEquals(1, result.get(0).getRank());
+        assertEquals(9, result.get(0).getOrderedQuantity());
+    }
+
+    @Test
+    void onOrderChanged_PlacedOrders_RankByQuantityAndIgnoreUpdates() {
+        // Act
+        tracker.onOrderChanged(order(ChangeType.CREATED, line(burgerId, "Cheeseburger", 2), line(friesId, "Fries", 1)));
+        tracker.onOrderChanged(order(ChangeType.CREATED, line(friesId, "Fries", 3)));
+        tracker.onOrderChanged(order(ChangeType.UPDATED, line(burgerId, "Cheeseburger", 50)));
+
+        // Assert
+        List<PopularMealResponse> result = tracker.getPopularMeals(restaurantId, 1);
+        assertEquals(1, result.size());
+        assertEquals(friesId, result.get(0).getMealId());
+        assertEquals(4, result.get(0).getOrderedQuantity());
+        assertEquals(4, result.get(0).getGuaranteedQuantity());
+    }
+
+    @Test
+    void onMealChanged_DeletedMeal_DropsFromRanking() {
+        // Arrange
+        tracker.onOrderChanged(order(ChangeType.CREATED, line(burgerId, "Cheeseburger", 2), line(friesId, "Fries", 1)));
+
+        // Act
+        tracker.onMealChanged(new MealChangedEvent(burgerId, restaurantId, "Cheeseburger", null,
+                new BigDecimal("9.99"), ChangeType.DELETED));
+        tracker.onMealChanged(new MealChangedEvent(friesId, restaurantId, "Curly Fries", null,
+                new BigDecimal("3.35"), ChangeType.UPDATED));
+
+        // Assert
+        List<PopularMealResponse> result = tracker.getPopularMeals(restaurantId, 5);
+        assertEquals(1, result.size());
+        assertEquals("Curly Fries", result.get(0).getMealName());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void checkpoint_DirtyRestaurant_RewritesItsRowsOnce() {
+        // Arrange
+        tracker.onOrderChanged(order(ChangeType.CREATED, line(burgerId, "Cheeseburger", 2)));
+
+        // Act
+        tracker.checkpoint();
+        tracker.checkpoint();
+
+        // Assert
+        ArgumentCaptor<List<MealPopularity>> rows = ArgumentCaptor.forClass(List.class);
+        verify(mealPopularityRepository).deleteByRestaurantId(restaurantId);
+        verify(mealPopularityRepository).saveAll(rows.capture());
+        assertEquals(1, rows.getValue().size());
+        assertEquals(burgerId, rows.getValue().get(0).getMealId());
+        assertEquals(2, rows.getValue().get(0).getOrderCount());
+    }
+
+    private OrderChangedEvent order(ChangeType type, OrderChangedEvent.Line... lines) {
+        return new OrderChangedEvent(UUID.randomUUID(), restaurantId, UUID.randomUUID(), UUID.randomUUID(), "Jane", LocalDateTime.now(),
+                null, OrderStatus.PLACED, null, BigDecimal.TEN, null, BigDecimal.ZERO, List.of(lines), type);
+    }
+
+    private static OrderChangedEvent.Line line(UUID mealId, String name, int quantity) {
+        return new OrderChangedEvent.Line(mealId, name, quantity, BigDecimal.ONE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.food.delivery.popularity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceSavingTest {
+
+    @Test
+    void offer_BelowCapacity_CountsExactly() {
+        // Arrange
+        SpaceSaving<String> summary = new SpaceSaving<>(3);
+
+        // Act
+        summary.offer("burger", 2);
+        summary.offer("fries", 5);
+        summary.offer("burger", 4);
+
+        // Assert
+        List<SpaceSaving.Counter<String>> top = summary.top(10);
+        assertEquals(List.of(new SpaceSaving.Counter<>("burger", 6, 0), new SpaceSaving.Counter<>("fries", 5, 0)), top);
+    }
+
+    @Test
+    void offer_AtCapacity_EvictsSmallestAndInheritsItsCount() {
+        // Arrange
+        SpaceSaving<String> summary = new SpaceSaving<>(2);
+        summary.offer("burger", 10);
+        summary.offer("fries", 3);
+
+        // Act
+        summary.offer("shake", 1);
+
+        // Assert
+        assertEquals(2, summary.size());
+        assertEquals(List.of(new SpaceSaving.Counter<>("burger", 10, 0), new SpaceSaving.Counter<>("shake", 4, 3)),
+                summary.top(2));
+    }
+
+    @Test
+    void offer_SkewedStream_KeepsHeavyHittersInOrder() {
+        // Arrange
+        SpaceSaving<Integer> summary = new SpaceSaving<>(10);
+        Random random = new Random(42);
+
+        // Act - three heavy keys among a long tail of 1000 rare ones
+        for (int i = 0; i < 20_000; i++) {
+            int roll = random.nextInt(100);
+            int key = roll < 30 ? 1 : roll < 50 ? 2 : roll < 60 ? 3 : 100 + random.nextInt(1000);
+            summary.offer(key, 1);
+        }
+
+        // Assert
+        List<Integer> leaders = summary.top(3).stream().map(SpaceSaving.Counter::key).toList();
+        assertEquals(List.of(1, 2, 3), leaders);
+        summary.top(3).forEach(counter -> assertTrue(counter.count() - counter.error() > 0));
+    }
+
+    @Test
+    void restore_AndRemove_RebuildAndFreeCounters() {
+        // Arrange
+        SpaceSaving<String> summary = new SpaceSaving<>(2);
+
+        // Act
+        summary.restore("burger", 8, 1);
+        summary.restore("fries", 5, 0);
+        summary.restore("shake", 20, 0);
+        summary.remove("fries");
+        summary.offer("salad", 1);
+
+        // Assert
+        assertEquals(List.of(new SpaceSaving.Counter<>("burger", 8, 1), new SpaceSaving.Counter<>("salad", 1, 0)),
+                summary.top(5));
+    }
+}
@@ -0,0 +1,133 @@
+package com.food.delivery.pricing;
+
+import com.food.delivery.entity.Coupon;
+import com.food.delivery.entity.OrderItem;
+import com.food.delivery.util.PriceCalculationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PricingEngineTest {
+
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    void percentOf_RoundsHalfUp() {
+        assertEquals(200L, PricingEngine.percentOf(999L, 20));   // 199.8
+        assertEquals(1L, PricingEngine.percentOf(5L, 10));       // 0.5
+        assertEquals(0L, PricingEngine.percentOf(4L, 10));       // 0.4
+        assertEquals(-1L, PricingEngine.percentOf(-5L, 10));     // -0.5, away from zero
+    }
+
+    @Test
+    void price_CapsDiscountAndClampsTotal() {
+        // Act
+        PriceBreakdown full = PricingEngine.price(1000L, 150, 0L);
+        PriceBreakdown withTip = PricingEngine.price(1000L, 100, 250L);
+
+        // Assert
+        assertEquals(1000L, full.discountCents());
+        assertEquals(0L, full.totalCents());
+        assertEquals(new BigDecimal("2.50"), withTip.total());
+        assertEquals(0L, PricingEngine.total(100L, 500L, 0L));
+    }
+
+    @Test
+    void toCents_RoundsToTheCent() {
+        assertEquals(1000L, PricingEngine.toCents(BigDecimal.valueOf(10.0)));
+        assertEquals(101L, PricingEngine.toCents(new BigDecimal("1.005")));
+        assertEquals(0L, PricingEngine.toCents(null));
+        assertEquals(new BigDecimal("9.99"), PricingEngine.toAmount(999L));
+    }
+
+    @Test
+    void lineTotal_Overflow_Throws() {
+        assertThrows(ArithmeticException.class, () -> PricingEngine.lineTotal(Long.MAX_VALUE / 2, 3));
+    }
+
+    @Test
+    void discount_MatchesBigDecimalRounding() {
+        Random random = new Random(41);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal itemsTotal = randomAmount(random, 10_000_000);
+            int percent = random.nextInt(101);
+
+            BigDecimal expected = referenceDiscount(itemsTotal, percent);
+            long actual = PricingEngine.discount(PricingEngine.toCents(itemsTotal), percent);
+
+            assertEquals(expected, PricingEngine.toAmount(actual), () -> itemsTotal + " at " + percent + "%");
+        }
+    }
+
+    @Test
+    void orderTotal_MatchesBigDecimalRounding() {
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            List<OrderItem> items = randomItems(random);
+            Integer percent = random.nextInt(4) == 0 ? null : random.nextInt(101);
+            BigDecimal tip = random.nextBoolean() ? null : randomAmount(random, 100_000);
+
+            BigDecimal itemsTotal = referenceItemsTotal(items);
+            BigDecimal discount = percent == null ? BigDecimal.ZERO : referenceDiscount(itemsTotal, percent);
+            BigDecimal expected = referenceFinalTotal(itemsTotal, discount, tip);
+
+            assertEquals(0, expected.compareTo(PricingEngine.price(PriceCalculationUtil.itemsTotalCents(items),
+                    percent, PricingEngine.toCents(tip)).total()));
+            assertEquals(0, expected.compareTo(PriceCalculationUtil.calculateOrderTotal(items, coupon(percent), tip)));
+            assertEquals(0, itemsTotal.compareTo(PriceCalculationUtil.calculateItemsTotal(items)));
+        }
+    }
+
+    // BigDecimal reference: the arithmetic PriceCalculationUtil used before the cents engine
+
+    private static BigDecimal referenceItemsTotal(List<OrderItem> items) {
+        return items.stream()
+                .map(item -> item.getPriceAtOrder().multiply(BigDecimal.valueOf(item.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static BigDecimal referenceDiscount(BigDecimal itemsTotal, int percent) {
+        BigDecimal discount = itemsTotal.multiply(BigDecimal.valueOf(percent))
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return discount.compareTo(itemsTotal) > 0 ? itemsTotal : discount;
+    }
+
+    private static BigDecimal referenceFinalTotal(BigDecimal itemsTotal, BigDecimal discount, BigDecimal tip) {
+        BigDecimal total = itemsTotal.subtract(discount).add(tip != null ? tip : BigDecimal.ZERO);
+        return total.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : total;
+    }
+
+    private static BigDecimal randomAmount(Random random, int maxCents) {
+        return BigDecimal.valueOf(random.nextInt(maxCents), 2);
+    }
+
+    private static List<OrderItem> randomItems(Random random) {
+        int count = 1 + random.nextInt(8);
+        List<OrderItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OrderItem item = new OrderItem();
+            item.setPriceAtOrder(randomAmount(random, 1_000_000));
+            item.setQuantity(1 + random.nextInt(20));
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static Coupon coupon(Integer percent) {
+        if (percent == null) {
+            return null;
+        }
+        Coupon coupon = new Coupon();
+        coupon.setDiscountPercent(percent);
+        coupon.setExpiresAt(LocalDateTime.now().plusDays(1));
+        return coupon;
+    }
+}
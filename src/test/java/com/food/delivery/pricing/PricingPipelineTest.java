@@ -0,0 +1,119 @@
+package com.food.delivery.pricing;
+
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.RestaurantChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PricingPipelineTest {
+
+    private PricingPipelineRegistry registry;
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PricingPipelineRegistry();
+        ReflectionTestUtils.setField(registry, "defaultTaxRatePercent", new BigDecimal("5.00"));
+        ReflectionTestUtils.setField(registry, "defaultDeliveryFee", new BigDecimal("2.50"));
+        ReflectionTestUtils.setField(registry, "defaultFreeDeliveryThreshold", new BigDecimal("30.00"));
+
+        restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void compile_AppliesStagesInOrder() {
+        // Arrange: 40.00 items, 25% off -> 30.00 subtotal, 10% tax, fee waived from 30.00
+        PricingPipeline pipeline = PricingPipeline.compile(new PricingRules(1000L, 299L, 3000L));
+        PricingContext context = new PricingContext(25, 150L);
+        context.addLine(1000L, 4);
+
+        // Act
+        PriceBreakdown price = pipeline.price(context);
+
+        // Assert
+        assertEquals(4000L, price.itemsTotalCents());
+        assertEquals(1000L, price.discountCents());
+        assertEquals(300L, price.taxCents());
+        assertEquals(0L, price.deliveryFeeCents());
+        assertEquals(150L, price.tipCents());
+        assertEquals(3450L, price.totalCents());
+    }
+
+    @Test
+    void compile_WithoutRules_MatchesPricingEngine() {
+        // Arrange
+        PricingPipeline pipeline = PricingPipeline.compile(new PricingRules(0L, 0L, null));
+        PricingContext context = new PricingContext(20, 100L);
+        context.addLine(999L, 1);
+
+        // Act
+        PriceBreakdown price = pipeline.price(context);
+
+        // Assert: tax and delivery stages are left out entirely
+        assertEquals(4, pipeline.size());
+        assertEquals(PricingEngine.price(999L, 20, 100L), price);
+    }
+
+    @Test
+    void deliveryFee_BelowThreshold_IsCharged() {
+        // Arrange
+        PricingPipeline pipeline = PricingPipeline.compile(new PricingRules(0L, 299L, 3000L));
+        PricingContext context = new PricingContext(null, 0L);
+        context.addLine(2999L, 1);
+
+        // Act
+        PriceBreakdown price = pipeline.price(context);
+
+        // Assert
+        assertEquals(299L, price.deliveryFeeCents());
+        assertEquals(3298L, price.totalCents());
+    }
+
+    @Test
+    void pipelineFor_FallsBackToDefaultsPerField() {
+        // Arrange
+        restaurant.setDeliveryFee(new BigDecimal("4.00"));
+
+        // Act
+        PricingRules rules = registry.rulesOf(restaurant);
+
+        // Assert
+        assertEquals(new PricingRules(500L, 400L, 3000L), rules);
+    }
+
+    @Test
+    void pipelineFor_ReusesUntilRulesChange() {
+        // Act
+        PricingPipeline first = registry.pipelineFor(restaurant);
+        PricingPipeline again = registry.pipelineFor(restaurant);
+        restaurant.setTaxRatePercent(new BigDecimal("7.00"));
+        PricingPipeline edited = registry.pipelineFor(restaurant);
+
+        // Assert
+        assertSame(first, again);
+        assertNotSame(first, edited);
+        assertSame(edited, registry.pipelineFor(restaurant));
+    }
+
+    @Test
+    void onRestaurantChanged_Deleted_DropsPipeline() {
+        // Arrange
+        PricingPipeline first = registry.pipelineFor(restaurant);
+
+        // Act
+        registry.onRestaurantChanged(new RestaurantChangedEvent(restaurant.getId(), "R", null, false, null, ChangeType.DELETED));
+
+        // Assert
+        assertNotSame(first, registry.pipelineFor(restaurant));
+    }
+}
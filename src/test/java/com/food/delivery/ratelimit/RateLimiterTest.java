@@ -0,0 +1,100 @@
+package com.food.delivery.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(rateLimiter, "stripeCount", 2);
+        ReflectionTestUtils.setField(rateLimiter, "maxClients", 4);
+        ReflectionTestUtils.setField(rateLimiter, "authCapacity", 2);
+        ReflectionTestUtils.setField(rateLimiter, "authPerMinute", 1);
+        ReflectionTestUtils.setField(rateLimiter, "orderCreateCapacity", 1);
+        ReflectionTestUtils.setField(rateLimiter, "orderCreatePerMinute", 1);
+        ReflectionTestUtils.setField(rateLimiter, "readCapacity", 5);
+        ReflectionTestUtils.setField(rateLimiter, "readPerMinute", 1);
+        ReflectionTestUtils.setField(rateLimiter, "writeCapacity", 1);
+        ReflectionTestUtils.setField(rateLimiter, "writePerMinute", 1);
+        ReflectionTestUtils.invokeMethod(rateLimiter, "init");
+    }
+
+    @Test
+    void tryAcquire_OverBudget_ReturnsRetryAfter() {
+        // Act
+        long first = rateLimiter.tryAcquire(RateLimitBudget.AUTH, "ip:10.0.0.1");
+        long second = rateLimiter.tryAcquire(RateLimitBudget.AUTH, "ip:10.0.0.1");
+        long third = rateLimiter.tryAcquire(RateLimitBudget.AUTH, "ip:10.0.0.1");
+
+        // Assert: one token a minute
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertTrue(third > 55 && third <= 60);
+        assertEquals(1.0, meterRegistry.counter("fooddelivery.ratelimit.rejected", "budget", "auth").count());
+    }
+
+    @Test
+    void tryAcquire_BudgetsAndClientsAreSeparate() {
+        // Arrange
+        rateLimiter.tryAcquire(RateLimitBudget.ORDER_CREATE, "user:a@x.com");
+
+        // Act & Assert
+        assertTrue(rateLimiter.tryAcquire(RateLimitBudget.ORDER_CREATE, "user:a@x.com") > 0);
+        assertEquals(0, rateLimiter.tryAcquire(RateLimitBudget.READ, "user:a@x.com"));
+        assertEquals(0, rateLimiter.tryAcquire(RateLimitBudget.ORDER_CREATE, "user:b@x.com"));
+    }
+
+    @Test
+    void tryAcquire_AtClientBound_LetsNewClientsThroughUntracked() {
+        // Act: every client keeps a drained bucket, so nothing can be swept
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.tryAcquire(RateLimitBudget.WRITE, "ip:10.0.0." + i);
+        }
+
+        // Assert
+        assertTrue(rateLimiter.size() <= 4);
+        assertTrue(meterRegistry.counter("fooddelivery.ratelimit.untracked").count() >= 16);
+    }
+
+    @Test
+    void tryAcquire_AtClientBound_NewAuthClientsShareStripeBucket() {
+        // Arrange: fill both stripes with drained buckets
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.tryAcquire(RateLimitBudget.WRITE, "ip:10.0.0." + i);
+        }
+
+        // Act: fresh keys each time, as a client rotating addresses would send
+        int granted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (rateLimiter.tryAcquire(RateLimitBudget.AUTH, "ip:10.0.1." + i) == 0) {
+                granted++;
+            }
+        }
+
+        // Assert: at most one burst per stripe
+        assertTrue(granted <= 2 * 2);
+        assertTrue(rateLimiter.size() <= 4);
+        assertTrue(meterRegistry.counter("fooddelivery.ratelimit.rejected", "budget", "auth").count() >= 16);
+    }
+
+    @Test
+    void classify_SeparatesAuthOrderCreationReadsAndWrites() {
+        assertEquals(RateLimitBudget.AUTH, RateLimitBudget.of("POST", "/api/auth/get"));
+        assertEquals(RateLimitBudget.ORDER_CREATE, RateLimitBudget.of("POST", "/api/orders/create"));
+        assertEquals(RateLimitBudget.ORDER_CREATE, RateLimitBudget.of("POST", "/api/group-orders/create/1/checkout"));
+        assertEquals(RateLimitBudget.READ, RateLimitBudget.of("GET", "/api/orders/get"));
+        assertEquals(RateLimitBudget.WRITE, RateLimitBudget.of("POST", "/api/group-orders/create"));
+    }
+}
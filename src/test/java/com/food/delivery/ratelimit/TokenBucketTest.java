@@ -0,0 +1,40 @@
+package com.food.delivery.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryConsume_BurstThenRefill() {
+        // Arrange: 3 tokens, one back every second
+        TokenBucket.Rate rate = TokenBucket.Rate.perMinute(3, 60);
+        TokenBucket bucket = new TokenBucket(0);
+
+        // Act & Assert
+        assertEquals(0, bucket.tryConsume(rate, 0));
+        assertEquals(0, bucket.tryConsume(rate, 0));
+        assertEquals(0, bucket.tryConsume(rate, 0));
+        assertEquals(SECOND, bucket.tryConsume(rate, 0));
+        assertEquals(SECOND / 2, bucket.tryConsume(rate, SECOND / 2));
+        assertEquals(0, bucket.tryConsume(rate, SECOND));
+    }
+
+    @Test
+    void isFull_OnceEveryTokenIsEarnedBack() {
+        // Arrange
+        TokenBucket.Rate rate = TokenBucket.Rate.perMinute(3, 60);
+        TokenBucket bucket = new TokenBucket(0);
+        bucket.tryConsume(rate, 0);
+        bucket.tryConsume(rate, 0);
+
+        // Act & Assert
+        assertFalse(bucket.isFull(SECOND));
+        assertTrue(bucket.isFull(2 * SECOND));
+    }
+}
@@ -0,0 +1,125 @@
+package com.food.delivery.repository;
+
+import com.food.delivery.entity.ArchivedOrder;
+import com.food.delivery.entity.Order;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OrderHistoryRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+    private User customer;
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        customer = new User();
+        customer.setEmail("history@x.com");
+        customer.setPasswordHash("hash");
+        customer.setName("Jane");
+        customer.setRole(UserRole.CUSTOMER);
+        customer.setId(UUID.randomUUID());
+        entityManager.persist(customer);
+
+        restaurant = new Restaurant();
+        restaurant.setOwner(customer);
+        restaurant.setName("Burger Palace");
+        restaurant.setDescription("Burgers");
+        restaurant.assignId();
+        entityManager.persist(restaurant);
+        orderRepository.refreshArchiveWatermark();
+    }
+
+    @Test
+    void findHistoryByCustomerId_LiveOrderOlderThanArchived_MergedByOrderDate() {
+        // Arrange: a stuck live order predates the archived one
+        UUID recent = liveOrder(now.minusDays(1), OrderStatus.PLACED);
+        UUID archived = archivedOrder(now.minusDays(10));
+        UUID stuck = liveOrder(now.minusDays(20), OrderStatus.IN_ROUTE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Page<Order> first = orderRepository.findHistoryByCustomerId(customer.getId(),
+                now.minusDays(30), now, PageRequest.of(0, 2));
+        Page<Order> second = orderRepository.findHistoryByCustomerId(customer.getId(),
+                now.minusDays(30), now, PageRequest.of(1, 2));
+        Page<Order> ascending = orderRepository.findHistoryByCustomerId(customer.getId(),
+                now.minusDays(30), now, PageRequest.of(0, 10, Sort.by("orderDate").ascending()));
+
+        // Assert
+        assertEquals(List.of(recent, archived), ids(first));
+        assertEquals(List.of(stuck), ids(second));
+        assertEquals(3, first.getTotalElements());
+        assertEquals(List.of(stuck, archived, recent), ids(ascending));
+    }
+
+    @Test
+    void findHistory_OtherSort_Rejected() {
+        // Act
+        InvalidDataAccessApiUsageException ex = assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> orderRepository.findHistory(now.minusDays(1), now, PageRequest.of(0, 10, Sort.by("totalAmount"))));
+
+        // Assert: the repository proxy translates the IllegalArgumentException
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    private UUID liveOrder(LocalDateTime orderDate, OrderStatus status) {
+        Order order = new Order();
+        order.setCustomer(customer);
+        order.setCustomerName(customer.getName());
+        order.setRestaurant(restaurant);
+        order.setRestaurantName(restaurant.getName());
+        order.setOrderDate(orderDate);
+        order.setTotalAmount(new BigDecimal("9.99"));
+        order.setStatus(status);
+        order.assignId();
+        return entityManager.persist(order).getId();
+    }
+
+    private UUID archivedOrder(LocalDateTime orderDate) {
+        ArchivedOrder order = new ArchivedOrder();
+        order.setCustomer(customer);
+        order.setCustomerName(customer.getName());
+        order.setRestaurant(restaurant);
+        order.setRestaurantName(restaurant.getName());
+        order.setOrderDate(orderDate);
+        order.setTotalAmount(new BigDecimal("9.99"));
+        order.setTipAmount(BigDecimal.ZERO);
+        order.setStatus(OrderStatus.RECEIVED);
+        order.setArchivedAt(now);
+        order.assignId();
+        return entityManager.persist(order).getId();
+    }
+
+    private static List<UUID> ids(Page<Order> page) {
+        return page.getContent().stream().map(Order::getId).toList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.food.delivery.schedule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private final List<String> fired = new ArrayList<>();
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        // 100 ms ticks, 8 buckets: one round is 800 ms
+        wheel = new HashedTimingWheel<>(100, 8, START, fired::addAll);
+    }
+
+    @Test
+    void advanceTo_FiresOnDeadlineTickNotBefore() {
+        // Arrange
+        wheel.schedule("a", START + 250);
+
+        // Act
+        wheel.advanceTo(START + 299);
+        List<String> early = List.copyOf(fired);
+        wheel.advanceTo(START + 300);
+
+        // Assert
+        assertTrue(early.isEmpty());
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advanceTo_DeadlineSeveralRoundsOut_WaitsForItsRound() {
+        // Arrange: same bucket as tick 2, three rounds later
+        wheel.schedule("far", START + 2_600);
+        wheel.schedule("near", START + 200);
+
+        // Act
+        wheel.advanceTo(START + 2_500);
+        List<String> beforeRound = List.copyOf(fired);
+        wheel.advanceTo(START + 2_600);
+
+        // Assert
+        assertEquals(List.of("near"), beforeRound);
+        assertEquals(List.of("near", "far"), fired);
+    }
+
+    @Test
+    void cancelAndReschedule_OnlyLatestTimerFires() {
+        // Arrange
+        wheel.schedule("canceled", START + 100);
+        wheel.schedule("moved", START + 100);
+        wheel.cancel("canceled");
+        wheel.schedule("moved", START + 500);
+
+        // Act
+        wheel.advanceTo(START + 400);
+        List<String> beforeMove = List.copyOf(fired);
+        wheel.advanceTo(START + 500);
+
+        // Assert
+        assertTrue(beforeMove.isEmpty());
+        assertEquals(List.of("moved"), fired);
+    }
+
+    @Test
+    void schedule_PastDeadline_FiresOnNextTick() {
+        // Arrange
+        wheel.advanceTo(START + 1_000);
+        wheel.schedule("overdue", START - 5_000);
+
+        // Act
+        wheel.advanceTo(START + 1_100);
+
+        // Assert
+        assertEquals(List.of("overdue"), fired);
+    }
+}
@@ -0,0 +1,160 @@
+package com.food.delivery.schedule;
+
+import com.food.delivery.entity.Order;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.OrderScheduledEvent;
+import com.food.delivery.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledOrderDispatcherTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ScheduledOrderDispatcher dispatcher;
+
+    // The timing wheel runs on the system clock, so schedules must be relative to it
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "releaseLeadMinutes", 30L);
+        ReflectionTestUtils.setField(dispatcher, "tickMillis", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "wheelSize", 64);
+        ReflectionTestUtils.setField(dispatcher, "retryDelayMillis", 30_000L);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 200);
+        ReflectionTestUtils.invokeMethod(dispatcher, "init");
+    }
+
+    @Test
+    void release_StillScheduled_MovesToPlacedAndAnnounces() {
+        // Arrange
+        Order order = scheduledOrder();
+        UUID canceledId = UUID.randomUUID();
+        List<UUID> ids = List.of(order.getId(), canceledId);
+        runTransactionsInline();
+        when(orderRepository.findAndLockByIdInAndStatus(ids, OrderStatus.SCHEDULED)).thenReturn(List.of(order));
+        when(orderRepository.updateStatusByIdIn(List.of(order.getId()), OrderStatus.SCHEDULED, OrderStatus.PLACED, now))
+                .thenReturn(1);
+
+        // Act
+        int released = dispatcher.release(ids, now);
+
+        // Assert
+        assertEquals(1, released);
+        ArgumentCaptor<OrderChangedEvent> event = ArgumentCaptor.forClass(OrderChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(OrderStatus.SCHEDULED, event.getValue().previousStatus());
+        assertEquals(OrderStatus.PLACED, event.getValue().status());
+        assertEquals(1.0, meterRegistry.get("fooddelivery.orders.scheduled_released").counter().count());
+    }
+
+    @Test
+    void release_DatabaseFailure_RearmsTimers() {
+        // Arrange
+        UUID orderId = UUID.randomUUID();
+        when(transactionTemplate.execute(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act
+        int released = dispatcher.release(List.of(orderId), now);
+
+        // Assert
+        assertEquals(0, released);
+        assertEquals(1, dispatcher.pendingCount());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void recover_ArmsOneTimerPerPendingOrder() {
+        // Arrange
+        List<Object[]> pending = List.of(
+                new Object[]{UUID.randomUUID(), now.plusHours(1)},
+                new Object[]{UUID.randomUUID(), now.plusDays(2)});
+        when(orderRepository.findIdAndScheduledForByStatus(OrderStatus.SCHEDULED)).thenReturn(pending);
+
+        // Act
+        dispatcher.recover();
+        dispatcher.shutdown();
+
+        // Assert
+        assertEquals(2, dispatcher.pendingCount());
+    }
+
+    @Test
+    void onOrderChanged_CanceledBeforeRelease_DropsTimer() {
+        // Arrange
+        Order order = scheduledOrder();
+        dispatcher.onOrderScheduled(OrderScheduledEvent.of(order));
+
+        // Act
+        dispatcher.onOrderChanged(OrderChangedEvent.statusChanged(order, OrderStatus.CANCELED));
+
+        // Assert
+        assertEquals(0, dispatcher.pendingCount());
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+    }
+
+    private Order scheduledOrder() {
+        User owner = new User();
+        owner.setId(UUID.randomUUID());
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+        restaurant.setOwner(owner);
+        User customer = new User();
+        customer.setId(UUID.randomUUID());
+
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setRestaurant(restaurant);
+        order.setCustomer(customer);
+        order.setOrderDate(now.minusDays(1));
+        order.setScheduledFor(now.plusMinutes(30));
+        order.setStatus(OrderStatus.SCHEDULED);
+        order.setTotalAmount(new BigDecimal("9.99"));
+        order.setTipAmount(BigDecimal.ZERO);
+        return order;
+    }
+}
@@ -0,0 +1,146 @@
+package com.food.delivery.search;
+
+import com.food.delivery.dto.AutocompleteSuggestion;
+import com.food.delivery.entity.Meal;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.enums.SuggestionType;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.repository.MealRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteIndexTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private MealRepository mealRepository;
+
+    @InjectMocks
+    private AutocompleteIndex autocompleteIndex;
+
+    private Restaurant burgerPalace;
+    private Restaurant goldenDragon;
+    private Meal cheeseburger;
+
+    @BeforeEach
+    void setUp() {
+        burgerPalace = restaurant("Burger Palace");
+        goldenDragon = restaurant("Golden Dragon");
+
+        cheeseburger = new Meal();
+        cheeseburger.setId(UUID.randomUUID());
+        cheeseburger.setName("Classic Cheeseburger");
+        cheeseburger.setPrice(new BigDecimal("9.99"));
+        cheeseburger.setRestaurant(burgerPalace);
+
+        when(restaurantRepository.findAll()).thenReturn(List.of(burgerPalace, goldenDragon));
+        when(mealRepository.findAll()).thenReturn(List.of(cheeseburger));
+        autocompleteIndex.rebuild();
+    }
+
+    @Test
+    void suggest_NamePrefix_ReturnsRestaurant() {
+        // Act
+        List<AutocompleteSuggestion> result = autocompleteIndex.suggest("Bur", 10);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(burgerPalace.getId(), result.get(0).getId());
+        assertEquals(SuggestionType.RESTAURANT, result.get(0).getType());
+    }
+
+    @Test
+    void suggest_WordPrefix_ReturnsMealAndRestaurant() {
+        // Act
+        List<AutocompleteSuggestion> dragon = autocompleteIndex.suggest("drag", 10);
+        List<AutocompleteSuggestion> cheese = autocompleteIndex.suggest("  CHEESE", 10);
+
+        // Assert
+        assertEquals(List.of(goldenDragon.getId()), dragon.stream().map(AutocompleteSuggestion::getId).toList());
+        assertEquals(List.of(cheeseburger.getId()), cheese.stream().map(AutocompleteSuggestion::getId).toList());
+        assertEquals(burgerPalace.getId(), cheese.get(0).getRestaurantId());
+    }
+
+    @Test
+    void suggest_RespectsLimit() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            autocompleteIndex.onRestaurantChanged(RestaurantChangedEvent.of(restaurant("Pizza " + i), ChangeType.CREATED));
+        }
+
+        // Act
+        List<AutocompleteSuggestion> result = autocompleteIndex.suggest("pizza", 3);
+
+        // Assert
+        assertEquals(3, result.size());
+    }
+
+    @Test
+    void onRestaurantChanged_Renamed_ReplacesOldName() {
+        // Arrange
+        burgerPalace.setName("Taco Town");
+
+        // Act
+        autocompleteIndex.onRestaurantChanged(RestaurantChangedEvent.of(burgerPalace, ChangeType.UPDATED));
+
+        // Assert
+        assertTrue(autocompleteIndex.suggest("burger", 10).isEmpty());
+        assertEquals(1, autocompleteIndex.suggest("taco", 10).size());
+    }
+
+    @Test
+    void onRestaurantChanged_Blocked_HidesRestaurantAndMeals() {
+        // Arrange
+        burgerPalace.setBlocked(true);
+
+        // Act
+        autocompleteIndex.onRestaurantChanged(RestaurantChangedEvent.of(burgerPalace, ChangeType.UPDATED));
+
+        // Assert
+        assertTrue(autocompleteIndex.suggest("burger", 10).isEmpty());
+        assertTrue(autocompleteIndex.suggest("cheese", 10).isEmpty());
+    }
+
+    @Test
+    void onRestaurantChanged_Deleted_RemovesMeals() {
+        // Act
+        autocompleteIndex.onRestaurantChanged(RestaurantChangedEvent.of(burgerPalace, ChangeType.DELETED));
+
+        // Assert
+        assertTrue(autocompleteIndex.suggest("cheese", 10).isEmpty());
+    }
+
+    @Test
+    void onMealChanged_Deleted_RemovesMeal() {
+        // Act
+        autocompleteIndex.onMealChanged(MealChangedEvent.of(cheeseburger, ChangeType.DELETED));
+
+        // Assert
+        assertTrue(autocompleteIndex.suggest("classic", 10).isEmpty());
+    }
+
+    private Restaurant restaurant(String name) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+        restaurant.setName(name);
+        restaurant.setBlocked(false);
+        return restaurant;
+    }
+}
@@ -0,0 +1,162 @@
+package com.food.delivery.search;
+
+import com.food.delivery.entity.Meal;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.MealChangedEvent;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.repository.MealRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSearchIndexTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private MealRepository mealRepository;
+
+    @InjectMocks
+    private CatalogSearchIndex catalogSearchIndex;
+
+    private Restaurant burgerPalace;
+    private Restaurant goldenDragon;
+    private Meal cheeseburger;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(catalogSearchIndex, "enabled", true);
+
+        burgerPalace = restaurant("Burger Palace", "Classic American burgers");
+        goldenDragon = restaurant("Golden Dragon Chinese", "Authentic Chinese cuisine");
+
+        cheeseburger = new Meal();
+        cheeseburger.setId(UUID.randomUUID());
+        cheeseburger.setName("Cheeseburger");
+        cheeseburger.setDescription("Beef patty with cheddar");
+        cheeseburger.setPrice(new BigDecimal("9.99"));
+        cheeseburger.setRestaurant(burgerPalace);
+
+        when(restaurantRepository.findAll()).thenReturn(List.of(burgerPalace, goldenDragon));
+        when(mealRepository.findAll()).thenReturn(List.of(cheeseburger));
+        catalogSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogSearchIndex.close();
+    }
+
+    @Test
+    void rebuild_EnablesIndex() {
+        assertTrue(catalogSearchIndex.isEnabled());
+    }
+
+    @Test
+    void searchRestaurants_Prefix_ReturnsMatch() {
+        // Act
+        SearchHits hits = catalogSearchIndex.searchRestaurants("burg", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of(burgerPalace.getId()), hits.ids());
+        assertEquals(1, hits.totalHits());
+    }
+
+    @Test
+    void searchRestaurants_Typo_ReturnsMatch() {
+        // Act
+        SearchHits hits = catalogSearchIndex.searchRestaurants("dargon", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of(goldenDragon.getId()), hits.ids());
+    }
+
+    @Test
+    void searchRestaurants_NameMatchRanksAboveDescriptionMatch() {
+        // Arrange
+        Restaurant chineseExpress = restaurant("Chinese Express", "Fast noodles");
+        catalogSearchIndex.onRestaurantChanged(RestaurantChangedEvent.of(chineseExpress, ChangeType.CREATED));
+        Restaurant noodleBar = restaurant("Noodle Bar", "Chinese noodles");
+        catalogSearchIndex.onRestaurantChanged(RestaurantChangedEvent.of(noodleBar, ChangeType.CREATED));
+
+        // Act
+        SearchHits hits = catalogSearchIndex.searchRestaurants("chinese", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(3, hits.totalHits());
+        assertNotEquals(noodleBar.getId(), hits.ids().get(0));
+    }
+
+    @Test
+    void onRestaurantChanged_Blocked_ExcludesFromResults() {
+        // Arrange
+        burgerPalace.setBlocked(true);
+
+        // Act
+        catalogSearchIndex.onRestaurantChanged(RestaurantChangedEvent.of(burgerPalace, ChangeType.UPDATED));
+
+        // Assert
+        assertTrue(catalogSearchIndex.searchRestaurants("burger", PageRequest.of(0, 10)).ids().isEmpty());
+    }
+
+    @Test
+    void onRestaurantChanged_Deleted_RemovesRestaurantAndMeals() {
+        // Act
+        catalogSearchIndex.onRestaurantChanged(RestaurantChangedEvent.of(burgerPalace, ChangeType.DELETED));
+
+        // Assert
+        assertTrue(catalogSearchIndex.searchRestaurants("burger", PageRequest.of(0, 10)).ids().isEmpty());
+        assertTrue(catalogSearchIndex.searchMeals(burgerPalace.getId(), "cheese", PageRequest.of(0, 10)).ids().isEmpty());
+    }
+
+    @Test
+    void searchMeals_ScopedToRestaurant() {
+        // Act
+        SearchHits own = catalogSearchIndex.searchMeals(burgerPalace.getId(), "cheese", PageRequest.of(0, 10));
+        SearchHits other = catalogSearchIndex.searchMeals(goldenDragon.getId(), "cheese", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of(cheeseburger.getId()), own.ids());
+        assertTrue(other.ids().isEmpty());
+    }
+
+    @Test
+    void onMealChanged_Updated_ReindexesName() {
+        // Arrange
+        cheeseburger.setName("Veggie Wrap");
+
+        // Act
+        catalogSearchIndex.onMealChanged(MealChangedEvent.of(cheeseburger, ChangeType.UPDATED));
+
+        // Assert
+        assertEquals(List.of(cheeseburger.getId()),
+                catalogSearchIndex.searchMeals(burgerPalace.getId(), "wrap", PageRequest.of(0, 10)).ids());
+        assertEquals(1, catalogSearchIndex.searchMeals(burgerPalace.getId(), "wrap", PageRequest.of(0, 10)).totalHits());
+    }
+
+    private Restaurant restaurant(String name, String description) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+        restaurant.setName(name);
+        restaurant.setDescription(description);
+        restaurant.setBlocked(false);
+        return restaurant;
+    }
+}
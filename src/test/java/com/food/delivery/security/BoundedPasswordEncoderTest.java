@@ -0,0 +1,78 @@
+package com.food.delivery.security;
+
+import com.food.delivery.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new BoundedPasswordEncoder(4, 1, 1, 5000, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void encode_ThenMatches_UsesConfiguredStrength() {
+        // Act
+        String hash = encoder.encode("secret123");
+
+        // Assert
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secret123", hash));
+        assertFalse(encoder.matches("wrong", hash));
+    }
+
+    @Test
+    void upgradeEncoding_OtherStrength_ReportsRehash() {
+        // Assert
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret123")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret123")));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void encode_PoolSaturated_ThrowsBusy() throws Exception {
+        // Arrange: occupy the only thread and the only queue slot
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.run(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("queued"));
+        while (meterRegistry.get("fooddelivery.auth.hashing_queue_depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        PasswordHashingBusyException ex = assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("secret123"));
+        assertEquals(1, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("fooddelivery.auth.hashing_rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(encoder.matches("queued", queued.get(5, TimeUnit.SECONDS)));
+    }
+}
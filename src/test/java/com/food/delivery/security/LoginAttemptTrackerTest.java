@@ -0,0 +1,74 @@
+package com.food.delivery.security;
+
+import com.food.delivery.exception.LoginLockedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginAttemptTrackerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoginAttemptTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new LoginAttemptTracker();
+        ReflectionTestUtils.setField(tracker, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(tracker, "enabled", true);
+        ReflectionTestUtils.setField(tracker, "windowMinutes", 15L);
+        ReflectionTestUtils.setField(tracker, "durationMinutes", 15L);
+        ReflectionTestUtils.setField(tracker, "emailMaxFailures", 3);
+        ReflectionTestUtils.setField(tracker, "addressMaxFailures", 5);
+        ReflectionTestUtils.setField(tracker, "maxEntries", 100);
+        ReflectionTestUtils.invokeMethod(tracker, "init");
+    }
+
+    @Test
+    void recordFailure_EmailOverLimit_LocksEmailOnly() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure("Victim@x.com", "10.0.0.1");
+        }
+
+        // Assert: same email from another address is locked, other emails are not
+        LoginLockedException ex = assertThrows(LoginLockedException.class,
+                () -> tracker.checkAllowed("victim@x.com", "10.0.0.2"));
+        assertTrue(ex.getRetryAfterSeconds() > 890 && ex.getRetryAfterSeconds() <= 900);
+        assertDoesNotThrow(() -> tracker.checkAllowed("other@x.com", "10.0.0.1"));
+        assertEquals(1.0, meterRegistry.counter("fooddelivery.auth.lockouts", "scope", "email").count());
+        assertEquals(1.0, meterRegistry.counter("fooddelivery.auth.login_rejected_locked").count());
+    }
+
+    @Test
+    void recordFailure_AddressSprayingEmails_LocksAddress() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure("user" + i + "@x.com", "10.0.0.1");
+        }
+
+        // Assert
+        assertThrows(LoginLockedException.class, () -> tracker.checkAllowed("new@x.com", "10.0.0.1"));
+        assertEquals(1.0, meterRegistry.counter("fooddelivery.auth.lockouts", "scope", "address").count());
+    }
+
+    @Test
+    void recordSuccess_ClearsEmailFailures() {
+        // Arrange
+        tracker.recordFailure("user@x.com", "10.0.0.1");
+        tracker.recordFailure("user@x.com", "10.0.0.1");
+
+        // Act
+        tracker.recordSuccess("user@x.com");
+        tracker.recordFailure("user@x.com", "10.0.0.1");
+
+        // Assert
+        assertDoesNotThrow(() -> tracker.checkAllowed("user@x.com", "10.0.0.1"));
+    }
+}
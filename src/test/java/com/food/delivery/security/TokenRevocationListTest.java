@@ -0,0 +1,81 @@
+package com.food.delivery.security;
+
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationListTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList();
+        ReflectionTestUtils.setField(revocationList, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(revocationList, "accessTokenMillis", 900000L);
+        ReflectionTestUtils.invokeMethod(revocationList, "init");
+    }
+
+    @Test
+    void revokeToken_OnlyThatTokenRejected_UntilExpiry() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        UUID revoked = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        revocationList.revokeToken(revoked, now + 60000);
+
+        // Assert
+        assertTrue(revocationList.isRevoked(revoked, userId, now));
+        assertFalse(revocationList.isRevoked(UUID.randomUUID(), userId, now));
+        revocationList.sweep(now + 60000);
+        assertEquals(0, revocationList.size());
+    }
+
+    @Test
+    void onUserChanged_Blocked_RejectsTokensIssuedBefore() {
+        // Arrange
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole(UserRole.CUSTOMER);
+        user.setBlocked(true);
+        long issuedEarlier = System.currentTimeMillis() - 5000;
+
+        // Act
+        revocationList.onUserChanged(UserChangedEvent.updated(user, UserRole.CUSTOMER, false));
+
+        // Assert
+        assertTrue(revocationList.isRevoked(UUID.randomUUID(), user.getId(), issuedEarlier));
+        assertFalse(revocationList.isRevoked(UUID.randomUUID(), user.getId(), System.currentTimeMillis() + 2000));
+        assertFalse(revocationList.isRevoked(UUID.randomUUID(), UUID.randomUUID(), issuedEarlier));
+        assertEquals(1.0, meterRegistry.get("fooddelivery.auth.revoked_token_rejected").counter().count(), 0.0);
+    }
+
+    @Test
+    void onUserChanged_Unblocked_RevokesNothing() {
+        // Arrange
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole(UserRole.CUSTOMER);
+        user.setBlocked(false);
+
+        // Act
+        revocationList.onUserChanged(UserChangedEvent.updated(user, UserRole.CUSTOMER, true));
+
+        // Assert
+        assertEquals(0, revocationList.size());
+    }
+}
@@ -3,11 +3,16 @@ package com.food.delivery.service;
 import com.food.delivery.dto.AuthRequest;
 import com.food.delivery.dto.AuthResponse;
 import com.food.delivery.dto.LoginRequest;
+import com.food.delivery.dto.RefreshTokenRequest;
 import com.food.delivery.entity.User;
 import com.food.delivery.enums.UserRole;
+import com.food.delivery.exception.LoginLockedException;
 import com.food.delivery.security.JwtUtil;
+import com.food.delivery.security.LoginAttemptTracker;
+import com.food.delivery.security.TokenRevocationList;
 import com.food.delivery.service.impl.AuthServiceImpl;
 import com.food.delivery.constants.ErrorConstants;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,10 +20,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.Date;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -35,6 +44,15 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private LoginAttemptTracker loginAttemptTracker;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     @Mock
     private Authentication authentication;
 
@@ -102,7 +120,7 @@ class AuthServiceTest {
         when(jwtUtil.generateToken(any(UserDetails.class))).thenReturn(expectedToken);
 
         // Act
-        AuthResponse response = authService.login(loginRequest);
+        AuthResponse response = authService.login(loginRequest, "127.0.0.1");
 
         // Assert
         assertNotNull(response);
@@ -116,4 +134,66 @@ class AuthServiceTest {
         verify(userService).getUserById(any());
         verify(jwtUtil).generateToken(testUser);
     }
+
+    @Test
+    void login_LockedOut_RejectedBeforePasswordCheck() {
+        // Arrange
+        doThrow(new LoginLockedException(900)).when(loginAttemptTracker).checkAllowed("test@example.com", "127.0.0.1");
+
+        // Act & Assert
+        assertThrows(LoginLockedException.class, () -> authService.login(loginRequest, "127.0.0.1"));
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    void login_BadCredentials_RecordsFailure() {
+        // Arrange
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> authService.login(loginRequest, "127.0.0.1"));
+        verify(loginAttemptTracker).recordFailure("test@example.com", "127.0.0.1");
+        verify(loginAttemptTracker, never()).recordSuccess(anyString());
+    }
+
+    @Test
+    void refresh_ValidToken_ReturnsRotatedTokens() {
+        // Arrange
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("old-refresh");
+        when(refreshTokenService.rotate("old-refresh"))
+                .thenReturn(new RefreshTokenService.Rotation(testUser, "new-refresh"));
+        when(jwtUtil.generateToken(testUser)).thenReturn("jwt-token");
+        when(jwtUtil.getExpirationMillis()).thenReturn(900000L);
+
+        // Act
+        AuthResponse response = authService.refresh(request);
+
+        // Assert
+        assertEquals("jwt-token", response.getToken());
+        assertEquals("new-refresh", response.getRefreshToken());
+        assertEquals(900, response.getExpiresIn());
+        assertEquals(ErrorConstants.TOKEN_REFRESH_SUCCESS_MESSAGE, response.getMessage());
+    }
+
+    @Test
+    void logout_WithAccessToken_RevokesBoth() {
+        // Arrange
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("refresh");
+        UUID tokenId = UUID.randomUUID();
+        Date expiresAt = new Date(System.currentTimeMillis() + 60000);
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn(tokenId.toString());
+        when(claims.getExpiration()).thenReturn(expiresAt);
+        when(jwtUtil.extractAllClaims("access")).thenReturn(claims);
+
+        // Act
+        authService.logout(request, "access");
+
+        // Assert
+        verify(refreshTokenService).revoke("refresh");
+        verify(tokenRevocationList).revokeToken(tokenId, expiresAt.getTime());
+    }
 }
@@ -0,0 +1,180 @@
+package com.food.delivery.service;
+
+import com.food.delivery.cache.QuoteCatalogCache;
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.dto.GroupCartItemRequest;
+import com.food.delivery.dto.GroupCartRequest;
+import com.food.delivery.dto.GroupCartResponse;
+import com.food.delivery.dto.GroupCheckoutRequest;
+import com.food.delivery.dto.OrderResponse;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.UserRole;
+import com.food.delivery.group.GroupCartLine;
+import com.food.delivery.group.GroupCartStore;
+import com.food.delivery.pricing.PricingPipeline;
+import com.food.delivery.pricing.PricingRules;
+import com.food.delivery.repository.UserRestaurantBlockRepository;
+import com.food.delivery.service.impl.GroupOrderServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupOrderServiceTest {
+
+    @Spy
+    private GroupCartStore groupCartStore = new GroupCartStore(4);
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserRestaurantBlockRepository userRestaurantBlockRepository;
+
+    @Mock
+    private QuoteCatalogCache quoteCatalogCache;
+
+    @InjectMocks
+    private GroupOrderServiceImpl groupOrderService;
+
+    private User host;
+    private User guest;
+    private UUID restaurantId;
+    private UUID mealId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(groupOrderService, "maxParticipants", 2);
+        ReflectionTestUtils.setField(groupOrderService, "maxLines", 10);
+        ReflectionTestUtils.setField(groupCartStore, "maxOpenPerHost", 3);
+        ReflectionTestUtils.setField(groupCartStore, "maxOpen", 100);
+
+        host = user("Host");
+        guest = user("Guest");
+        restaurantId = UUID.randomUUID();
+        mealId = UUID.randomUUID();
+
+        QuoteCatalogCache.QuoteMeal meal = new QuoteCatalogCache.QuoteMeal(mealId, "Burger", new BigDecimal("9.99"), 999L);
+        QuoteCatalogCache.QuoteMenu menu = new QuoteCatalogCache.QuoteMenu(restaurantId, false,
+                PricingPipeline.compile(new PricingRules(0L, 0L, null)), Map.of(mealId, meal));
+        when(quoteCatalogCache.menu(restaurantId)).thenReturn(menu);
+        when(userService.getUserEntityById(host.getId())).thenReturn(host);
+    }
+
+    @Test
+    void checkout_PlacesAttributedLinesAndDropsCart() {
+        // Arrange
+        when(userService.getUserEntityById(guest.getId())).thenReturn(guest);
+        UUID cartId = openCartWithItems();
+        OrderResponse placed = OrderResponse.builder().id(UUID.randomUUID()).build();
+        when(orderService.placeGroupOrder(eq(host.getId()), eq(restaurantId), anyList(), any(), isNull()))
+                .thenReturn(placed);
+        GroupCheckoutRequest request = new GroupCheckoutRequest();
+        request.setTipAmount(BigDecimal.ONE);
+
+        // Act
+        OrderResponse result = groupOrderService.checkout(cartId, request, host.getId());
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GroupCartLine>> lines = ArgumentCaptor.forClass(List.class);
+        verify(orderService).placeGroupOrder(eq(host.getId()), eq(restaurantId), lines.capture(), eq(BigDecimal.ONE), isNull());
+        assertSame(placed, result);
+        assertEquals(List.of(
+                new GroupCartLine(host.getId(), "Host", mealId, 1),
+                new GroupCartLine(guest.getId(), "Guest", mealId, 2)), lines.getValue());
+        assertEquals(0, groupCartStore.size());
+    }
+
+    @Test
+    void checkout_OrderFails_ReopensCart() {
+        // Arrange
+        when(userService.getUserEntityById(guest.getId())).thenReturn(guest);
+        UUID cartId = openCartWithItems();
+        when(orderService.placeGroupOrder(any(), any(), anyList(), any(), any()))
+                .thenThrow(new IllegalArgumentException(ErrorConstants.COUPON_EXPIRED_MESSAGE));
+
+        // Act
+        assertThrows(IllegalArgumentException.class,
+                () -> groupOrderService.checkout(cartId, new GroupCheckoutRequest(), host.getId()));
+
+        // Assert
+        GroupCartResponse cart = groupOrderService.setItem(cartId, item(mealId, 3), guest.getId());
+        assertEquals("OPEN", cart.getStatus());
+        assertEquals(new BigDecimal("39.96"), cart.getItemsTotal());
+    }
+
+    @Test
+    void checkout_ByParticipant_ThrowsSecurityException() {
+        // Arrange
+        when(userService.getUserEntityById(guest.getId())).thenReturn(guest);
+        UUID cartId = openCartWithItems();
+
+        // Act & Assert
+        assertThrows(SecurityException.class,
+                () -> groupOrderService.checkout(cartId, new GroupCheckoutRequest(), guest.getId()));
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void setItem_CartFull_RejectsNewParticipant() {
+        // Arrange
+        when(userService.getUserEntityById(guest.getId())).thenReturn(guest);
+        UUID cartId = openCartWithItems();
+        User late = user("Late");
+        when(userService.getUserEntityById(late.getId())).thenReturn(late);
+
+        // Act & Assert
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> groupOrderService.setItem(cartId, item(mealId, 1), late.getId()));
+        assertEquals(ErrorConstants.GROUP_CART_FULL_MESSAGE, ex.getMessage());
+    }
+
+    private UUID openCartWithItems() {
+        GroupCartRequest request = new GroupCartRequest();
+        request.setRestaurantId(restaurantId);
+        UUID cartId = groupOrderService.createCart(request, host.getId()).getId();
+        groupOrderService.setItem(cartId, item(mealId, 1), host.getId());
+        GroupCartResponse cart = groupOrderService.setItem(cartId, item(mealId, 2), guest.getId());
+        assertEquals(new BigDecimal("29.97"), cart.getItemsTotal());
+        assertEquals(new BigDecimal("19.98"), cart.getParticipants().get(1).getSubtotal());
+        return cartId;
+    }
+
+    private GroupCartItemRequest item(UUID mealId, int quantity) {
+        GroupCartItemRequest request = new GroupCartItemRequest();
+        request.setMealId(mealId);
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    private User user(String name) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName(name);
+        user.setRole(UserRole.CUSTOMER);
+        user.setBlocked(false);
+        return user;
+    }
+}
@@ -2,11 +2,14 @@ package com.food.delivery.service;
 
 import com.food.delivery.dto.MealRequest;
 import com.food.delivery.dto.MealResponse;
+import com.food.delivery.dto.MealSearchResponse;
 import com.food.delivery.entity.Meal;
 import com.food.delivery.entity.Restaurant;
 import com.food.delivery.entity.User;
 import com.food.delivery.enums.UserRole;
+import com.food.delivery.popularity.PopularMealTracker;
 import com.food.delivery.repository.MealRepository;
+import com.food.delivery.search.CatalogSearchIndex;
 import com.food.delivery.service.impl.MealServiceImpl;
 import com.food.delivery.constants.ErrorConstants;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -27,6 +31,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import org.springframework.data.jpa.domain.Specification;
@@ -43,6 +48,15 @@ class MealServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Mock
+    private PopularMealTracker popularMealTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MealServiceImpl mealService;
 
@@ -207,6 +221,38 @@ class MealServiceTest {
         verify(mealRepository).findAll(any(Specification.class), eq(pageable));
     }
 
+    @Test
+    void searchMeals_ValidRequest_ReturnsMealsAndPriceBuckets() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Meal> mealPage = new PageImpl<>(List.of(meal), pageable, 1);
+
+        when(mealRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(mealPage);
+        when(mealRepository.countByPriceBuckets(any(Specification.class), anyList()))
+                .thenReturn(new long[]{0, 1, 3, 0, 2});
+
+        // Act
+        MealSearchResponse result = mealService.searchMeals("test", BigDecimal.valueOf(5), BigDecimal.valueOf(10), pageable);
+
+        // Assert
+        assertEquals(1, result.getMeals().getContent().size());
+        assertEquals(5, result.getPriceBuckets().size());
+        assertNull(result.getPriceBuckets().get(0).getMinPrice());
+        assertEquals(new BigDecimal("5"), result.getPriceBuckets().get(1).getMinPrice());
+        assertEquals(1, result.getPriceBuckets().get(1).getCount());
+        assertNull(result.getPriceBuckets().get(4).getMaxPrice());
+        assertEquals(2, result.getPriceBuckets().get(4).getCount());
+    }
+
+    @Test
+    void searchMeals_MinAboveMax_ThrowsException() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                mealService.searchMeals(null, BigDecimal.valueOf(20), BigDecimal.valueOf(10), PageRequest.of(0, 10)));
+        assertEquals(ErrorConstants.INVALID_MEAL_PRICE_FILTER_MESSAGE, exception.getMessage());
+        verifyNoInteractions(mealRepository);
+    }
+
     @Test
     void updateMeal_ValidRequest_ReturnsUpdatedMeal() {
         // Arrange
@@ -0,0 +1,85 @@
+package com.food.delivery.service;
+
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.service.impl.OrderArchiveServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiveServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OrderArchiveServiceImpl orderArchiveService;
+
+    private final LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderArchiveService, "batchSize", 2);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void archiveOrdersPlacedBefore_MovesBatchesUntilExhausted() {
+        // Arrange
+        List<UUID> firstBatch = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> lastBatch = List.of(UUID.randomUUID());
+        List<OrderStatus> finalStatuses = List.of(OrderStatus.RECEIVED, OrderStatus.CANCELED);
+        when(orderRepository.findIdsByStatusInAndOrderDateBefore(eq(finalStatuses), eq(cutoff), any(Pageable.class)))
+                .thenReturn(firstBatch, lastBatch);
+
+        // Act
+        int archived = orderArchiveService.archiveOrdersPlacedBefore(cutoff);
+
+        // Assert
+        assertEquals(3, archived);
+        verify(orderRepository).copyToArchive(firstBatch);
+        verify(orderRepository).copyItemsToArchive(firstBatch);
+        verify(orderRepository).deleteItemsByOrderIdIn(firstBatch);
+        verify(orderRepository).deleteByIdIn(firstBatch);
+        verify(orderRepository).deleteByIdIn(lastBatch);
+        verify(orderRepository, times(2)).refreshArchiveWatermark();
+    }
+
+    @Test
+    void archiveOrdersPlacedBefore_NothingToArchive_LeavesTablesUntouched() {
+        // Arrange
+        when(orderRepository.findIdsByStatusInAndOrderDateBefore(anyList(), eq(cutoff), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // Act
+        int archived = orderArchiveService.archiveOrdersPlacedBefore(cutoff);
+
+        // Assert
+        assertEquals(0, archived);
+        verify(orderRepository, never()).copyToArchive(anyList());
+        verify(orderRepository, never()).deleteByIdIn(anyList());
+        verify(orderRepository, never()).refreshArchiveWatermark();
+    }
+}
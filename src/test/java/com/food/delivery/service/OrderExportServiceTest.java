@@ -0,0 +1,161 @@
+package com.food.delivery.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.entity.Order;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.ExportFormat;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.enums.UserRole;
+import com.food.delivery.repository.ArchivedOrderRepository;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.service.impl.OrderExportServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private OrderExportServiceImpl orderExportService;
+
+    private final LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private final LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    private User admin;
+    private User owner;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        admin = new User();
+        admin.setId(UUID.randomUUID());
+        admin.setRole(UserRole.ADMIN);
+
+        owner = new User();
+        owner.setId(UUID.randomUUID());
+        owner.setRole(UserRole.OWNER);
+
+        User customer = new User();
+        customer.setId(UUID.randomUUID());
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+
+        order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setCustomer(customer);
+        order.setCustomerName("Smith, \"Jo\"");
+        order.setRestaurant(restaurant);
+        order.setRestaurantName("=Burger Palace");
+        order.setOrderDate(LocalDateTime.of(2025, 1, 15, 12, 30));
+        order.setStatus(OrderStatus.RECEIVED);
+        order.setTipAmount(BigDecimal.valueOf(2.00));
+        order.setTotalAmount(new BigDecimal("21.98"));
+    }
+
+    @Test
+    void exportOrders_Csv_WritesHeaderAndEscapedRows() throws Exception {
+        // Arrange
+        when(userService.getUserEntityById(admin.getId())).thenReturn(admin);
+        when(orderRepository.findArchivedThrough()).thenReturn(Optional.empty());
+        when(orderRepository.streamByOrderDateBetween(from, to)).thenReturn(Stream.of(order));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = orderExportService.exportOrders(admin.getId(), from, to, ExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, rows);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,orderDate,status"));
+        assertTrue(lines[1].contains(",\"Smith, \"\"Jo\"\"\","));
+        assertTrue(lines[1].contains(",'=Burger Palace,"));
+        assertTrue(lines[1].endsWith(",2.0,21.98"));
+        verifyNoInteractions(archivedOrderRepository);
+    }
+
+    @Test
+    void exportOrders_NdjsonForOwner_StreamsOwnerScopedRows() throws Exception {
+        // Arrange
+        when(userService.getUserEntityById(owner.getId())).thenReturn(owner);
+        when(orderRepository.findArchivedThrough()).thenReturn(Optional.of(from.plusDays(1)));
+        when(archivedOrderRepository.streamByRestaurantOwnerIdAndOrderDateBetween(owner.getId(), from, to))
+                .thenReturn(Stream.empty());
+        when(orderRepository.streamByRestaurantOwnerIdAndOrderDateBetween(owner.getId(), from, to))
+                .thenReturn(Stream.of(order, order));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = orderExportService.exportOrders(owner.getId(), from, to, ExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        assertEquals(order.getId().toString(), objectMapper.readTree(lines[0]).get("id").asText());
+        verify(orderRepository, never()).streamByOrderDateBetween(any(), any());
+    }
+
+    @Test
+    void validateExport_Customer_ThrowsSecurityException() {
+        // Arrange
+        User customer = new User();
+        customer.setId(UUID.randomUUID());
+        customer.setRole(UserRole.CUSTOMER);
+        when(userService.getUserEntityById(customer.getId())).thenReturn(customer);
+
+        // Act & Assert
+        SecurityException exception = assertThrows(SecurityException.class,
+                () -> orderExportService.validateExport(customer.getId(), from, to));
+        assertEquals(ErrorConstants.INSUFFICIENT_PERMISSIONS_MESSAGE, exception.getMessage());
+    }
+
+    @Test
+    void validateExport_InvertedRange_ThrowsException() {
+        // Arrange
+        when(userService.getUserEntityById(admin.getId())).thenReturn(admin);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> orderExportService.validateExport(admin.getId(), to, from));
+        assertEquals(ErrorConstants.INVALID_DATE_RANGE_MESSAGE, exception.getMessage());
+    }
+}
@@ -1,11 +1,20 @@
 package com.food.delivery.service;
 
+import com.food.delivery.board.ActiveOrderIndex;
+import com.food.delivery.cache.QuoteCatalogCache;
+import com.food.delivery.capacity.RestaurantCapacityGate;
 import com.food.delivery.dto.OrderRequest;
 import com.food.delivery.dto.OrderResponse;
 import com.food.delivery.dto.OrderStatusUpdateRequest;
+import com.food.delivery.dto.PriceQuoteResponse;
 import com.food.delivery.entity.*;
 import com.food.delivery.enums.OrderStatus;
 import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.OrderScheduledEvent;
+import com.food.delivery.exception.RestaurantAtCapacityException;
+import com.food.delivery.group.GroupCartLine;
+import com.food.delivery.pricing.PricingEngine;
+import com.food.delivery.pricing.PricingPipelineRegistry;
 import com.food.delivery.repository.*;
 import com.food.delivery.service.impl.OrderServiceImpl;
 import com.food.delivery.constants.ErrorConstants;
@@ -14,15 +23,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -52,6 +65,21 @@ class OrderServiceTest {
     @Mock
     private UserRestaurantBlockRepository userRestaurantBlockRepository;
 
+    @Mock
+    private ActiveOrderIndex activeOrderIndex;
+
+    @Spy
+    private PricingPipelineRegistry pricingPipelineRegistry = new PricingPipelineRegistry();
+
+    @Mock
+    private QuoteCatalogCache quoteCatalogCache;
+
+    @Mock
+    private RestaurantCapacityGate restaurantCapacityGate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -135,6 +163,211 @@ class OrderServiceTest {
         verify(orderRepository).save(any(Order.class));
     }
 
+    @Test
+    void placeOrder_ScheduledSlot_HeldAsScheduled() {
+        // Arrange
+        ReflectionTestUtils.setField(orderService, "scheduleReleaseLeadMinutes", 30L);
+        ReflectionTestUtils.setField(orderService, "scheduleMaxDaysAhead", 7L);
+        LocalDateTime slot = LocalDateTime.now().plusHours(3);
+        OrderRequest request = OrderRequest.builder()
+                .restaurantId(restaurantId)
+                .items(List.of(OrderRequest.OrderItemRequest.builder()
+                        .mealId(mealId)
+                        .quantity(1)
+                        .build()))
+                .scheduledFor(slot)
+                .build();
+        when(userService.getUserEntityById(customerId)).thenReturn(customer);
+        when(restaurantService.getRestaurantEntityById(restaurantId)).thenReturn(restaurant);
+        when(userRestaurantBlockRepository.existsByUserIdAndRestaurantId(customerId, restaurantId)).thenReturn(false);
+        when(mealRepository.findAllById(any())).thenReturn(List.of(meal));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        OrderResponse result = orderService.placeOrder(request, customerId);
+
+        // Assert
+        assertEquals(OrderStatus.SCHEDULED, result.getStatus());
+        assertEquals(slot, result.getScheduledFor());
+        verify(eventPublisher).publishEvent(any(OrderScheduledEvent.class));
+        verify(restaurantCapacityGate, never()).acquire(any());
+    }
+
+    @Test
+    void placeOrder_SlotInsideReleaseLead_ThrowsException() {
+        // Arrange
+        ReflectionTestUtils.setField(orderService, "scheduleReleaseLeadMinutes", 30L);
+        ReflectionTestUtils.setField(orderService, "scheduleMaxDaysAhead", 7L);
+        OrderRequest request = OrderRequest.builder()
+                .restaurantId(restaurantId)
+                .items(List.of(OrderRequest.OrderItemRequest.builder()
+                        .mealId(mealId)
+                        .quantity(1)
+                        .build()))
+                .scheduledFor(LocalDateTime.now().plusMinutes(10))
+                .build();
+        when(userService.getUserEntityById(customerId)).thenReturn(customer);
+        when(restaurantService.getRestaurantEntityById(restaurantId)).thenReturn(restaurant);
+        when(userRestaurantBlockRepository.existsByUserIdAndRestaurantId(customerId, restaurantId)).thenReturn(false);
+        when(mealRepository.findAllById(any())).thenReturn(List.of(meal));
+
+        // Act & Assert
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> orderService.placeOrder(request, customerId));
+        assertEquals(ErrorConstants.SCHEDULE_TOO_SOON_MESSAGE, ex.getMessage());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void placeOrder_RestaurantAtCapacity_RejectedBeforeAnyLookup() {
+        // Arrange
+        OrderRequest request = OrderRequest.builder()
+                .restaurantId(restaurantId)
+                .items(List.of(OrderRequest.OrderItemRequest.builder()
+                        .mealId(mealId)
+                        .quantity(1)
+                        .build()))
+                .build();
+        doThrow(new RestaurantAtCapacityException(60)).when(restaurantCapacityGate).checkCapacity(restaurantId);
+
+        // Act & Assert
+        RestaurantAtCapacityException ex = assertThrows(RestaurantAtCapacityException.class,
+                () -> orderService.placeOrder(request, customerId));
+        assertEquals(60, ex.getRetryAfterSeconds());
+        verifyNoInteractions(userService, restaurantService, mealRepository, orderRepository);
+    }
+
+    @Test
+    void updateStatus_ScheduledOrderByOwner_CannotSkipRelease() {
+        // Arrange
+        order.setStatus(OrderStatus.SCHEDULED);
+        OrderStatusUpdateRequest request = new OrderStatusUpdateRequest();
+        request.setStatus(OrderStatus.PROCESSING);
+        when(userService.getUserEntityById(owner.getId())).thenReturn(owner);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        // Act & Assert
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> orderService.updateStatus(orderId, request, owner.getId()));
+        assertEquals(ErrorConstants.SCHEDULED_ORDER_NOT_RELEASED_MESSAGE, ex.getMessage());
+    }
+
+    @Test
+    void placeGroupOrder_KeepsParticipantLinesInOneSave() {
+        // Arrange
+        UUID guestId = UUID.randomUUID();
+        List<GroupCartLine> lines = List.of(
+                new GroupCartLine(customerId, "Customer", mealId, 1),
+                new GroupCartLine(guestId, "Guest", mealId, 2));
+        when(userService.getUserEntityById(customerId)).thenReturn(customer);
+        when(restaurantService.getRestaurantEntityById(restaurantId)).thenReturn(restaurant);
+        when(userRestaurantBlockRepository.existsByUserIdAndRestaurantId(customerId, restaurantId)).thenReturn(false);
+        when(mealRepository.findAllById(any())).thenReturn(List.of(meal));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        OrderResponse result = orderService.placeGroupOrder(customerId, restaurantId, lines, BigDecimal.ONE, null);
+
+        // Assert
+        assertEquals(new BigDecimal("31.00"), result.getTotalAmount());
+        assertEquals(2, result.getItems().size());
+        assertEquals(guestId, result.getItems().get(1).getParticipantId());
+        assertEquals("Guest", result.getItems().get(1).getParticipantName());
+        assertEquals(2, result.getItems().get(1).getQuantity());
+        verify(orderRepository, times(1)).save(any(Order.class));
+    }
+
+    @Test
+    void quoteOrder_AppliesRestaurantPricingWithoutSaving() {
+        // Arrange
+        restaurant.setTaxRatePercent(new BigDecimal("8.25"));
+        restaurant.setDeliveryFee(new BigDecimal("3.00"));
+        restaurant.setFreeDeliveryThreshold(new BigDecimal("50.00"));
+        OrderRequest request = OrderRequest.builder()
+                .restaurantId(restaurantId)
+                .items(List.of(OrderRequest.OrderItemRequest.builder()
+                        .mealId(mealId)
+                        .quantity(2)
+                        .build()))
+                .tipAmount(BigDecimal.valueOf(2.00))
+                .couponCode("SAVE10")
+                .build();
+
+        QuoteCatalogCache.QuoteMenu menu = quoteMenu();
+        when(userService.getUserEntityById(customerId)).thenReturn(customer);
+        when(quoteCatalogCache.menu(restaurantId)).thenReturn(menu);
+        when(userRestaurantBlockRepository.existsByUserIdAndRestaurantId(customerId, restaurantId)).thenReturn(false);
+        when(quoteCatalogCache.coupon("SAVE10"))
+                .thenReturn(Optional.of(new QuoteCatalogCache.QuoteCoupon("SAVE10", 10, true, null)));
+
+        // Act
+        PriceQuoteResponse result = orderService.quoteOrder(request, customerId);
+
+        // Assert: 20.00 - 2.00 + 1.49 tax + 3.00 delivery + 2.00 tip
+        assertEquals(new BigDecimal("20.00"), result.getItemsTotal());
+        assertEquals(new BigDecimal("2.00"), result.getDiscountAmount());
+        assertEquals(new BigDecimal("1.49"), result.getTaxAmount());
+        assertEquals(new BigDecimal("3.00"), result.getDeliveryFee());
+        assertEquals(new BigDecimal("24.49"), result.getTotalAmount());
+        assertEquals(new BigDecimal("20.00"), result.getItems().get(0).getLineTotal());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(mealRepository, never()).findAllById(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void quoteOrder_BlockedRestaurant_ThrowsException() {
+        // Arrange
+        restaurant.setBlocked(true);
+        OrderRequest request = OrderRequest.builder()
+                .restaurantId(restaurantId)
+                .items(List.of(OrderRequest.OrderItemRequest.builder()
+                        .mealId(mealId)
+                        .quantity(1)
+                        .build()))
+                .build();
+
+        QuoteCatalogCache.QuoteMenu menu = quoteMenu();
+        when(userService.getUserEntityById(customerId)).thenReturn(customer);
+        when(quoteCatalogCache.menu(restaurantId)).thenReturn(menu);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> orderService.quoteOrder(request, customerId));
+        assertEquals(ErrorConstants.RESTAURANT_BLOCKED_MESSAGE, exception.getMessage());
+    }
+
+    @Test
+    void quoteOrder_MealFromOtherRestaurant_ThrowsException() {
+        // Arrange
+        UUID otherMealId = UUID.randomUUID();
+        OrderRequest request = OrderRequest.builder()
+                .restaurantId(restaurantId)
+                .items(List.of(OrderRequest.OrderItemRequest.builder()
+                        .mealId(otherMealId)
+                        .quantity(1)
+                        .build()))
+                .build();
+
+        QuoteCatalogCache.QuoteMenu menu = quoteMenu();
+        when(userService.getUserEntityById(customerId)).thenReturn(customer);
+        when(quoteCatalogCache.menu(restaurantId)).thenReturn(menu);
+        when(userRestaurantBlockRepository.existsByUserIdAndRestaurantId(customerId, restaurantId)).thenReturn(false);
+        when(mealRepository.findAllById(List.of(otherMealId))).thenReturn(List.of(new Meal()));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> orderService.quoteOrder(request, customerId));
+        assertEquals("All items must be from the same restaurant", exception.getMessage());
+    }
+
+    private QuoteCatalogCache.QuoteMenu quoteMenu() {
+        return new QuoteCatalogCache.QuoteMenu(restaurantId, restaurant.getBlocked(),
+                pricingPipelineRegistry.pipelineFor(restaurant),
+                Map.of(mealId, new QuoteCatalogCache.QuoteMeal(mealId, meal.getName(), meal.getPrice(),
+                        PricingEngine.toCents(meal.getPrice()))));
+    }
+
     @Test
     void placeOrder_BlockedCustomer_ThrowsException() {
         // Arrange
@@ -237,6 +470,38 @@ class OrderServiceTest {
         verify(orderRepository).findByCustomerId(customerId, pageable);
     }
 
+    @Test
+    void findOrdersForCurrentUser_UsesSnapshottedNames() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        OrderItem item = new OrderItem();
+        item.setMeal(meal);
+        item.setMealName("Meal At Order Time");
+        item.setQuantity(1);
+        item.setPriceAtOrder(BigDecimal.valueOf(10.00));
+        order.setCustomerName("Customer At Order Time");
+        order.setRestaurantName("Restaurant At Order Time");
+        order.setCouponCode("SAVE10");
+        order.setDiscountPercent(10);
+        order.setOrderItems(List.of(item));
+        Page<Order> orderPage = new PageImpl<>(List.of(order), pageable, 1);
+
+        when(userService.getUserEntityById(customerId)).thenReturn(customer);
+        when(orderRepository.findByCustomerId(customerId, pageable)).thenReturn(orderPage);
+
+        // Act
+        OrderResponse result = orderService.findOrdersForCurrentUser(pageable, customerId, Optional.empty(), Optional.empty(), Optional.empty())
+                .getContent().get(0);
+
+        // Assert
+        assertEquals("Customer At Order Time", result.getCustomerName());
+        assertEquals("Restaurant At Order Time", result.getRestaurantName());
+        assertEquals("SAVE10", result.getCouponCode());
+        assertEquals(10, result.getDiscountPercent());
+        assertEquals("Meal At Order Time", result.getItems().get(0).getMealName());
+        assertEquals(mealId, result.getItems().get(0).getMealId());
+    }
+
     @Test
     void findOrdersForCurrentUser_Owner_ReturnsOwnerOrders() {
         // Arrange
@@ -0,0 +1,144 @@
+package com.food.delivery.service;
+
+import com.food.delivery.entity.Order;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.repository.RestaurantRepository;
+import com.food.delivery.service.impl.OrderTimeoutServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderTimeoutServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private OrderTimeoutServiceImpl orderTimeoutService;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderTimeoutService, "defaultMinutes", 30);
+        ReflectionTestUtils.setField(orderTimeoutService, "batchSize", 2);
+        ReflectionTestUtils.invokeMethod(orderTimeoutService, "registerMeters");
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<int[]>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void cancelStaleOrders_DefaultAndCustomTimeouts_CancelsEachGroupInBatches() {
+        // Arrange
+        Order first = placedOrder();
+        Order second = placedOrder();
+        Order third = placedOrder();
+        when(orderRepository.findIdsByStatusAndOrderDateBeforeAndDefaultAcceptTimeout(
+                eq(OrderStatus.PLACED), eq(now.minusMinutes(30)), any(Pageable.class)))
+                .thenReturn(List.of(first.getId(), second.getId()), List.of());
+        when(restaurantRepository.findDistinctAcceptTimeoutMinutes()).thenReturn(List.of(10));
+        when(orderRepository.findIdsByStatusAndOrderDateBeforeAndAcceptTimeout(
+                eq(OrderStatus.PLACED), eq(now.minusMinutes(10)), eq(10), any(Pageable.class)))
+                .thenReturn(List.of(third.getId()));
+        when(orderRepository.findAndLockByIdInAndStatus(List.of(first.getId(), second.getId()), OrderStatus.PLACED))
+                .thenReturn(List.of(first, second));
+        when(orderRepository.findAndLockByIdInAndStatus(List.of(third.getId()), OrderStatus.PLACED))
+                .thenReturn(List.of(third));
+        when(orderRepository.updateStatusByIdIn(any(), eq(OrderStatus.PLACED), eq(OrderStatus.CANCELED), eq(now)))
+                .thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0).size());
+
+        // Act
+        int canceled = orderTimeoutService.cancelStaleOrders(now);
+
+        // Assert
+        assertEquals(3, canceled);
+        ArgumentCaptor<OrderChangedEvent> events = ArgumentCaptor.forClass(OrderChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        events.getAllValues().forEach(event -> {
+            assertEquals(OrderStatus.PLACED, event.previousStatus());
+            assertEquals(OrderStatus.CANCELED, event.status());
+            assertTrue(event.isStatusChange());
+        });
+        assertEquals(3.0, meterRegistry.get("fooddelivery.orders.auto_canceled").counter().count());
+    }
+
+    @Test
+    void cancelStaleOrders_AcceptedMeanwhile_NothingCanceled() {
+        // Arrange
+        UUID acceptedId = UUID.randomUUID();
+        when(orderRepository.findIdsByStatusAndOrderDateBeforeAndDefaultAcceptTimeout(
+                eq(OrderStatus.PLACED), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(acceptedId));
+        when(restaurantRepository.findDistinctAcceptTimeoutMinutes()).thenReturn(new ArrayList<>());
+        when(orderRepository.findAndLockByIdInAndStatus(List.of(acceptedId), OrderStatus.PLACED)).thenReturn(List.of());
+
+        // Act
+        int canceled = orderTimeoutService.cancelStaleOrders(now);
+
+        // Assert
+        assertEquals(0, canceled);
+        verify(orderRepository, never()).updateStatusByIdIn(any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private Order placedOrder() {
+        User owner = new User();
+        owner.setId(UUID.randomUUID());
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(UUID.randomUUID());
+        restaurant.setOwner(owner);
+        User customer = new User();
+        customer.setId(UUID.randomUUID());
+
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setRestaurant(restaurant);
+        order.setCustomer(customer);
+        order.setOrderDate(now.minusHours(2));
+        order.setStatus(OrderStatus.PLACED);
+        order.setTotalAmount(new BigDecimal("9.99"));
+        order.setTipAmount(BigDecimal.ZERO);
+        order.setOrderItems(List.of());
+        return order;
+    }
+}
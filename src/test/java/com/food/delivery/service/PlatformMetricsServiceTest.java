@@ -0,0 +1,130 @@
+package com.food.delivery.service;
+
+import com.food.delivery.dto.PlatformDashboard;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.event.UserChangedEvent;
+import com.food.delivery.repository.ArchivedOrderRepository;
+import com.food.delivery.repository.OrderRepository;
+import com.food.delivery.repository.UserRepository;
+import com.food.delivery.service.impl.PlatformMetricsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PlatformMetricsServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private PlatformMetricsServiceImpl platformMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.invokeMethod(platformMetricsService, "registerGauges");
+    }
+
+    @Test
+    void reconcile_CombinesLiveAndArchivedOrders() {
+        // Arrange
+        when(orderRepository.countAndSumByStatus()).thenReturn(List.<Object[]>of(
+                new Object[]{OrderStatus.PLACED, 2L, new BigDecimal("30.00")},
+                new Object[]{OrderStatus.CANCELED, 1L, new BigDecimal("12.50")}));
+        when(archivedOrderRepository.countAndSumByStatus()).thenReturn(List.<Object[]>of(
+                new Object[]{OrderStatus.RECEIVED, 3L, new BigDecimal("45.25")},
+                new Object[]{OrderStatus.CANCELED, 1L, new BigDecimal("5.00")}));
+        when(userRepository.countByRoleAndBlocked()).thenReturn(List.<Object[]>of(
+                new Object[]{UserRole.CUSTOMER, false, 5L},
+                new Object[]{UserRole.CUSTOMER, true, 2L},
+                new Object[]{UserRole.ADMIN, false, 1L}));
+
+        // Act
+        PlatformDashboard result = platformMetricsService.reconcile();
+
+        // Assert
+        assertEquals(7, result.getTotalOrders());
+        assertEquals(2L, result.getOrdersByStatus().get(OrderStatus.CANCELED));
+        assertEquals(new BigDecimal("75.25"), result.getGrossMerchandiseValue());
+        assertEquals(7L, result.getUsersByRole().get(UserRole.CUSTOMER));
+        assertEquals(0L, result.getUsersByRole().get(UserRole.OWNER));
+        assertEquals(2, result.getBlockedUsers());
+        assertNotNull(result.getReconciledAt());
+        assertEquals(75.25, meterRegistry.get("fooddelivery.orders.gmv").gauge().value());
+    }
+
+    @Test
+    void onOrderChanged_PlacedThenCanceled_MovesCountAndRevenue() {
+        // Act
+        platformMetricsService.onOrderChanged(order(null, OrderStatus.PLACED, null, "20.00", ChangeType.CREATED));
+        PlatformDashboard placed = platformMetricsService.getDashboard();
+        platformMetricsService.onOrderChanged(order(OrderStatus.PLACED, OrderStatus.CANCELED, "20.00", "20.00", ChangeType.UPDATED));
+        PlatformDashboard canceled = platformMetricsService.getDashboard();
+
+        // Assert
+        assertEquals(1L, placed.getOrdersByStatus().get(OrderStatus.PLACED));
+        assertEquals(new BigDecimal("20.00"), placed.getGrossMerchandiseValue());
+        assertEquals(0L, canceled.getOrdersByStatus().get(OrderStatus.PLACED));
+        assertEquals(1L, canceled.getOrdersByStatus().get(OrderStatus.CANCELED));
+        assertEquals(0, canceled.getGrossMerchandiseValue().signum());
+        assertEquals(1.0, meterRegistry.get("fooddelivery.orders").tag("status", "CANCELED").gauge().value());
+    }
+
+    @Test
+    void onUserChanged_CreateBlockAndDelete_AdjustsRoleAndBlockedCounts() {
+        // Arrange
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole(UserRole.OWNER);
+        user.setBlocked(false);
+
+        // Act
+        platformMetricsService.onUserChanged(UserChangedEvent.created(user));
+        user.setBlocked(true);
+        platformMetricsService.onUserChanged(UserChangedEvent.updated(user, UserRole.OWNER, false));
+        PlatformDashboard blocked = platformMetricsService.getDashboard();
+        platformMetricsService.onUserChanged(UserChangedEvent.deleted(user));
+        PlatformDashboard deleted = platformMetricsService.getDashboard();
+
+        // Assert
+        assertEquals(1L, blocked.getUsersByRole().get(UserRole.OWNER));
+        assertEquals(1, blocked.getBlockedUsers());
+        assertEquals(0, deleted.getTotalUsers());
+        assertEquals(0, deleted.getBlockedUsers());
+    }
+
+    private static OrderChangedEvent order(OrderStatus previousStatus, OrderStatus status,
+                                           String previousTotal, String total, ChangeType type) {
+        return new OrderChangedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Jane",
+                LocalDateTime.now(), previousStatus, status, previousTotal != null ? new BigDecimal(previousTotal) : null,
+                new BigDecimal(total), null, BigDecimal.ZERO, List.of(), type);
+    }
+}
@@ -0,0 +1,101 @@
+package com.food.delivery.service;
+
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.entity.RefreshToken;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.UserRole;
+import com.food.delivery.repository.RefreshTokenRepository;
+import com.food.delivery.repository.UserRepository;
+import com.food.delivery.service.impl.RefreshTokenServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpirationMillis", 1209600000L);
+        ReflectionTestUtils.invokeMethod(refreshTokenService, "registerMeters");
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("test@example.com");
+        user.setRole(UserRole.CUSTOMER);
+    }
+
+    @Test
+    void rotate_ActiveToken_IssuesSuccessorInSameFamily() {
+        // Arrange
+        String raw = refreshTokenService.issue(user);
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        RefreshToken stored = saved.getValue();
+        stored.setId(UUID.randomUUID());
+        assertNotEquals(raw, stored.getTokenHash());
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revokeIfActive(eq(stored.getId()), any())).thenReturn(1);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        // Act
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(raw);
+
+        // Assert
+        assertSame(user, rotation.user());
+        assertNotEquals(raw, rotation.refreshToken());
+        verify(refreshTokenRepository, times(2)).save(saved.capture());
+        assertEquals(stored.getFamilyId(), saved.getValue().getFamilyId());
+    }
+
+    @Test
+    void rotate_AlreadyRotatedToken_RevokesFamily() {
+        // Arrange
+        RefreshToken stored = new RefreshToken();
+        stored.setId(UUID.randomUUID());
+        stored.setUserId(user.getId());
+        stored.setFamilyId(UUID.randomUUID());
+        stored.setExpiresAt(LocalDateTime.now().plusDays(1));
+        stored.setRevokedAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+
+        // Act & Assert
+        SecurityException ex = assertThrows(SecurityException.class, () -> refreshTokenService.rotate("stolen"));
+        assertEquals(ErrorConstants.INVALID_REFRESH_TOKEN_MESSAGE, ex.getMessage());
+        verify(refreshTokenRepository).revokeFamily(eq(stored.getFamilyId()), any());
+        verify(refreshTokenRepository, never()).save(any());
+        assertEquals(1.0, meterRegistry.get("fooddelivery.auth.refresh_token_reuse").counter().count(), 0.0);
+    }
+}
@@ -1,11 +1,17 @@
 package com.food.delivery.service;
 
+import com.food.delivery.capacity.RestaurantCapacityGate;
+import com.food.delivery.dto.RestaurantCapacityRequest;
+import com.food.delivery.dto.RestaurantCapacityResponse;
 import com.food.delivery.dto.RestaurantRequest;
 import com.food.delivery.dto.RestaurantResponse;
 import com.food.delivery.entity.Restaurant;
 import com.food.delivery.entity.User;
 import com.food.delivery.enums.UserRole;
 import com.food.delivery.repository.RestaurantRepository;
+import com.food.delivery.search.AutocompleteIndex;
+import com.food.delivery.search.CatalogSearchIndex;
+import com.food.delivery.search.SearchHits;
 import com.food.delivery.service.impl.RestaurantServiceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -37,6 +44,18 @@ class RestaurantServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Mock
+    private AutocompleteIndex autocompleteIndex;
+
+    @Mock
+    private RestaurantCapacityGate restaurantCapacityGate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RestaurantServiceImpl restaurantService;
 
@@ -227,6 +246,24 @@ class RestaurantServiceTest {
         verify(restaurantRepository).findAll((Specification<Restaurant>) any(), eq(pageable));
     }
 
+    @Test
+    void searchRestaurants_IndexEnabled_ReturnsRankedResultsFromIndex() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(catalogSearchIndex.isEnabled()).thenReturn(true);
+        when(catalogSearchIndex.searchRestaurants("tset", pageable))
+                .thenReturn(new SearchHits(List.of(restaurantId), 1));
+        when(restaurantRepository.findAllById(List.of(restaurantId))).thenReturn(List.of(testRestaurant));
+
+        // Act
+        Page<RestaurantResponse> result = restaurantService.searchRestaurants("tset", pageable);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals(restaurantId, result.getContent().get(0).getId());
+        verify(restaurantRepository, never()).findAll((Specification<Restaurant>) any(), any(Pageable.class));
+    }
+
     @Test
     void getRestaurantsByOwner_ReturnsOwnerRestaurants() {
         // Arrange
@@ -385,6 +422,41 @@ class RestaurantServiceTest {
         verify(restaurantRepository, never()).delete(any(Restaurant.class));
     }
 
+    @Test
+    void updateCapacity_OwnerUser_SetsLimit() {
+        // Arrange
+        RestaurantCapacityRequest request = new RestaurantCapacityRequest();
+        request.setMaxActiveOrders(25);
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(testRestaurant));
+        when(userService.getUserEntityById(ownerId)).thenReturn(ownerUser);
+        when(restaurantRepository.save(testRestaurant)).thenReturn(testRestaurant);
+        when(restaurantCapacityGate.activeOrders(restaurantId)).thenReturn(7);
+
+        // Act
+        RestaurantCapacityResponse result = restaurantService.updateCapacity(restaurantId, request, ownerId);
+
+        // Assert
+        assertEquals(25, testRestaurant.getMaxActiveOrders());
+        assertEquals(25, result.getMaxActiveOrders());
+        assertEquals(25, result.getEffectiveMaxActiveOrders());
+        assertEquals(7, result.getActiveOrders());
+        verify(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void updateCapacity_UnauthorizedUser_ThrowsException() {
+        // Arrange
+        RestaurantCapacityRequest request = new RestaurantCapacityRequest();
+        request.setMaxActiveOrders(25);
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(testRestaurant));
+        when(userService.getUserEntityById(customerId)).thenReturn(customerUser);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () ->
+            restaurantService.updateCapacity(restaurantId, request, customerId));
+        verify(restaurantRepository, never()).save(any(Restaurant.class));
+    }
+
     @Test
     void blockRestaurant_AdminUser_BlocksSuccessfully() {
         // Arrange
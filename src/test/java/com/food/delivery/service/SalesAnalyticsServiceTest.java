@@ -0,0 +1,202 @@
+package com.food.delivery.service;
+
+import com.food.delivery.constants.ErrorConstants;
+import com.food.delivery.dto.RestaurantSalesReport;
+import com.food.delivery.entity.Restaurant;
+import com.food.delivery.entity.RestaurantDailyMealSales;
+import com.food.delivery.entity.RestaurantDailySales;
+import com.food.delivery.entity.User;
+import com.food.delivery.enums.OrderStatus;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.OrderChangedEvent;
+import com.food.delivery.repository.RestaurantDailyMealSalesRepository;
+import com.food.delivery.repository.RestaurantDailySalesRepository;
+import com.food.delivery.service.impl.SalesAnalyticsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesAnalyticsServiceTest {
+
+    @Mock
+    private RestaurantDailySalesRepository dailySalesRepository;
+
+    @Mock
+    private RestaurantDailyMealSalesRepository mealSalesRepository;
+
+    @Mock
+    private RestaurantService restaurantService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private SalesAnalyticsServiceImpl salesAnalyticsService;
+
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID mealId = UUID.randomUUID();
+    private final LocalDate day = LocalDate.of(2025, 3, 10);
+
+    private OrderChangedEvent.Line line;
+
+    @BeforeEach
+    void setUp() {
+        line = new OrderChangedEvent.Line(mealId, "Burger", 2, new BigDecimal("19.98"));
+    }
+
+    @Test
+    void onOrderChanged_Placed_CreatesMissingRowsAndAddsSales() {
+        // Arrange
+        OrderChangedEvent event = event(null, OrderStatus.PLACED, ChangeType.CREATED);
+        when(dailySalesRepository.addSales(eq(restaurantId), eq(day), eq(1), eq(0), any(), any(), any()))
+                .thenReturn(0, 1);
+        when(mealSalesRepository.addSales(eq(restaurantId), eq(day), eq(mealId), eq("Burger"), eq(2), any(), any()))
+                .thenReturn(1);
+
+        // Act
+        salesAnalyticsService.onOrderChanged(event);
+
+        // Assert
+        verify(dailySalesRepository).save(any(RestaurantDailySales.class));
+        verify(dailySalesRepository, times(2)).addSales(eq(restaurantId), eq(day), eq(1), eq(0),
+                eq(new BigDecimal("21.98")), eq(new BigDecimal("2.00")), any(LocalDateTime.class));
+        verify(mealSalesRepository, never()).save(any());
+    }
+
+    @Test
+    void onOrderChanged_Canceled_SubtractsRevenueAndQuantity() {
+        // Arrange
+        OrderChangedEvent event = event(OrderStatus.PLACED, OrderStatus.CANCELED, ChangeType.UPDATED);
+        when(dailySalesRepository.addSales(any(), any(), anyInt(), anyInt(), any(), any(), any())).thenReturn(1);
+        when(mealSalesRepository.addSales(any(), any(), any(), any(), anyInt(), any(), any())).thenReturn(1);
+
+        // Act
+        salesAnalyticsService.onOrderChanged(event);
+
+        // Assert
+        verify(dailySalesRepository).addSales(eq(restaurantId), eq(day), eq(0), eq(1),
+                eq(new BigDecimal("-21.98")), eq(new BigDecimal("-2.00")), any());
+        verify(mealSalesRepository).addSales(eq(restaurantId), eq(day), eq(mealId), eq("Burger"),
+                eq(-2), eq(new BigDecimal("-19.98")), any());
+    }
+
+    @Test
+    void onOrderChanged_StatusProgression_LeavesRollupsUntouched() {
+        // Arrange
+        OrderChangedEvent event = event(OrderStatus.PLACED, OrderStatus.PROCESSING, ChangeType.UPDATED);
+
+        // Act
+        salesAnalyticsService.onOrderChanged(event);
+
+        // Assert
+        verifyNoInteractions(dailySalesRepository, mealSalesRepository);
+    }
+
+    @Test
+    void getRestaurantSales_ComputesTotalsAverageTicketAndTopMeals() {
+        // Arrange
+        when(restaurantService.getRestaurantEntityById(restaurantId)).thenReturn(restaurant(ownerId));
+        when(dailySalesRepository.findByRestaurantIdAndSalesDateBetweenOrderBySalesDate(restaurantId, day, day.plusDays(1)))
+                .thenReturn(List.of(dailySales(day, 3, 1, "40.00"), dailySales(day.plusDays(1), 2, 0, "20.00")));
+        UUID friesId = UUID.randomUUID();
+        when(mealSalesRepository.findByRestaurantIdAndSalesDateBetween(restaurantId, day, day.plusDays(1)))
+                .thenReturn(List.of(mealSales(day, mealId, "Burger", 3, "29.97"),
+                        mealSales(day, friesId, "Fries", 5, "15.00"),
+                        mealSales(day.plusDays(1), mealId, "Burger", 4, "39.96")));
+
+        // Act
+        RestaurantSalesReport report = salesAnalyticsService.getRestaurantSales(restaurantId, day, day.plusDays(1), 1, ownerId);
+
+        // Assert
+        assertEquals(5, report.getOrderCount());
+        assertEquals(1, report.getCanceledCount());
+        assertEquals(new BigDecimal("60.00"), report.getRevenue());
+        assertEquals(new BigDecimal("15.00"), report.getAverageTicket());
+        assertEquals(2, report.getDays().size());
+        assertEquals(new BigDecimal("20.00"), report.getDays().get(0).getAverageTicket());
+        assertEquals("Fries", report.getDays().get(0).getTopMeals().get(0).getMealName());
+        assertEquals(1, report.getTopMeals().size());
+        assertEquals("Burger", report.getTopMeals().get(0).getMealName());
+        assertEquals(7, report.getTopMeals().get(0).getQuantity());
+    }
+
+    @Test
+    void getRestaurantSales_NotOwner_ThrowsSecurityException() {
+        // Arrange
+        when(restaurantService.getRestaurantEntityById(restaurantId)).thenReturn(restaurant(UUID.randomUUID()));
+
+        // Act & Assert
+        SecurityException exception = assertThrows(SecurityException.class,
+                () -> salesAnalyticsService.getRestaurantSales(restaurantId, day, day, 5, ownerId));
+        assertEquals(ErrorConstants.INSUFFICIENT_PERMISSIONS_MESSAGE, exception.getMessage());
+    }
+
+    @Test
+    void getRestaurantSales_RangeTooLarge_ThrowsException() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> salesAnalyticsService.getRestaurantSales(restaurantId, day, day.plusDays(400), 5, ownerId));
+        assertEquals(ErrorConstants.ANALYTICS_RANGE_TOO_LARGE_MESSAGE, exception.getMessage());
+        verifyNoInteractions(restaurantService);
+    }
+
+    private OrderChangedEvent event(OrderStatus previousStatus, OrderStatus status, ChangeType type) {
+        BigDecimal total = new BigDecimal("21.98");
+        BigDecimal tip = new BigDecimal("2.00");
+        return new OrderChangedEvent(UUID.randomUUID(), restaurantId, UUID.randomUUID(), UUID.randomUUID(), "Jane",
+                day.atTime(12, 0),
+                previousStatus, status,
+                type == ChangeType.CREATED ? null : total, total,
+                type == ChangeType.CREATED ? null : tip, tip,
+                List.of(line), type);
+    }
+
+    private Restaurant restaurant(UUID owner) {
+        User user = new User();
+        user.setId(owner);
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(restaurantId);
+        restaurant.setOwner(user);
+        return restaurant;
+    }
+
+    private RestaurantDailySales dailySales(LocalDate date, int orders, int canceled, String revenue) {
+        RestaurantDailySales sales = new RestaurantDailySales();
+        sales.setRestaurantId(restaurantId);
+        sales.setSalesDate(date);
+        sales.setOrderCount(orders);
+        sales.setCanceledCount(canceled);
+        sales.setRevenue(new BigDecimal(revenue));
+        sales.setTipTotal(BigDecimal.ZERO);
+        return sales;
+    }
+
+    private RestaurantDailyMealSales mealSales(LocalDate date, UUID meal, String name, int quantity, String revenue) {
+        RestaurantDailyMealSales sales = new RestaurantDailyMealSales();
+        sales.setRestaurantId(restaurantId);
+        sales.setSalesDate(date);
+        sales.setMealId(meal);
+        sales.setMealName(name);
+        sales.setQuantity(quantity);
+        sales.setRevenue(new BigDecimal(revenue));
+        return sales;
+    }
+}
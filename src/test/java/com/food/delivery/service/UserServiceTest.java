@@ -1,9 +1,15 @@
 package com.food.delivery.service;
 
+import com.food.delivery.capacity.RestaurantCapacityGate;
 import com.food.delivery.dto.UserResponse;
 import com.food.delivery.dto.UserUpdateRequest;
+import com.food.delivery.entity.Restaurant;
 import com.food.delivery.entity.User;
 import com.food.delivery.enums.UserRole;
+import com.food.delivery.event.ChangeType;
+import com.food.delivery.event.RestaurantChangedEvent;
+import com.food.delivery.event.UserChangedEvent;
+import com.food.delivery.repository.RestaurantRepository;
 import com.food.delivery.repository.UserRepository;
 import com.food.delivery.service.impl.UserServiceImpl;
 import com.food.delivery.constants.ErrorConstants;
@@ -13,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -35,9 +42,18 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RestaurantCapacityGate restaurantCapacityGate;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -207,6 +223,29 @@ class UserServiceTest {
         verify(userRepository).deleteById(userId);
     }
 
+    @Test
+    void deleteUser_Owner_PublishesRestaurantDeletedEvents() {
+        // Arrange
+        testUser.setRole(UserRole.OWNER);
+        Restaurant first = new Restaurant();
+        first.setId(UUID.randomUUID());
+        first.setName("First");
+        Restaurant second = new Restaurant();
+        second.setId(UUID.randomUUID());
+        second.setName("Second");
+        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        when(restaurantRepository.findByOwnerId(userId)).thenReturn(List.of(first, second));
+
+        // Act
+        userService.deleteUser(userId);
+
+        // Assert
+        verify(eventPublisher).publishEvent(RestaurantChangedEvent.of(first, ChangeType.DELETED));
+        verify(eventPublisher).publishEvent(RestaurantChangedEvent.of(second, ChangeType.DELETED));
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+        verify(userRepository).deleteById(userId);
+    }
+
     @Test
     void blockUser_ExistingUser_BlocksUser() {
         // Arrange
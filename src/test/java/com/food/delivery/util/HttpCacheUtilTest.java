@@ -0,0 +1,53 @@
+package com.food.delivery.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpCacheUtilTest {
+
+    private static final String ETAG = "\"r-1.abc.3\"";
+
+    @Test
+    void isNotModified_MatchingValidators_True() {
+        assertTrue(HttpCacheUtil.isNotModified(ETAG, ETAG));
+        assertTrue(HttpCacheUtil.isNotModified("W/" + ETAG, ETAG));
+        assertTrue(HttpCacheUtil.isNotModified("\"other\", " + ETAG, ETAG));
+        assertTrue(HttpCacheUtil.isNotModified("*", ETAG));
+    }
+
+    @Test
+    void isNotModified_MissingOrDifferentValidator_False() {
+        assertFalse(HttpCacheUtil.isNotModified(null, ETAG));
+        assertFalse(HttpCacheUtil.isNotModified("", ETAG));
+        assertFalse(HttpCacheUtil.isNotModified("\"r-1.abc.2\"", ETAG));
+        assertFalse(HttpCacheUtil.isNotModified(ETAG, null));
+    }
+
+    @Test
+    void acceptsGzip_PositiveWeight_True() {
+        assertTrue(HttpCacheUtil.acceptsGzip("gzip"));
+        assertTrue(HttpCacheUtil.acceptsGzip("br, GZIP;q=0.5"));
+        assertTrue(HttpCacheUtil.acceptsGzip("identity, *;q=0.1"));
+    }
+
+    @Test
+    void acceptsGzip_ZeroWeightOrAbsent_False() {
+        assertFalse(HttpCacheUtil.acceptsGzip(null));
+        assertFalse(HttpCacheUtil.acceptsGzip("gzip;q=0"));
+        assertFalse(HttpCacheUtil.acceptsGzip("*, gzip;q=0.0"));
+        assertFalse(HttpCacheUtil.acceptsGzip("br, deflate"));
+    }
+
+    @Test
+    void gzipETag_DiffersFromIdentityAndDoesNotMatchIt() {
+        String gzipETag = HttpCacheUtil.gzipETag(ETAG);
+
+        assertEquals("\"r-1.abc.3-gz\"", gzipETag);
+        assertFalse(HttpCacheUtil.isNotModified(ETAG, gzipETag));
+        assertFalse(HttpCacheUtil.isNotModified(gzipETag, ETAG));
+        assertTrue(HttpCacheUtil.isNotModified("W/" + gzipETag, gzipETag));
+    }
+}
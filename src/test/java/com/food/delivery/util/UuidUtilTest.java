@@ -0,0 +1,49 @@
+package com.food.delivery.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidUtilTest {
+
+    @Test
+    void timeOrderedUuid_IsVersion7WithRfcVariant() {
+        // Act
+        UUID uuid = UuidUtil.timeOrderedUuid();
+
+        // Assert
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void timeOrderedUuid_EmbedsCurrentTimestamp() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = UuidUtil.timeOrderedUuid();
+
+        // Assert
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before);
+        assertTrue(timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void timeOrderedUuid_StrictlyIncreasingWithinSameMillisecond() {
+        // Arrange
+        UUID previous = UuidUtil.timeOrderedUuid();
+
+        // Act & Assert - far more than 4096 ids, so the sequence overflows into the timestamp
+        for (int i = 0; i < 20_000; i++) {
+            UUID next = UuidUtil.timeOrderedUuid();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0,
+                    "ids must increase: " + previous + " -> " + next);
+            assertEquals(7, next.version());
+            previous = next;
+        }
+    }
+}